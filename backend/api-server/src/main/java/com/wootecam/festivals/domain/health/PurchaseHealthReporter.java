@@ -0,0 +1,74 @@
+package com.wootecam.festivals.domain.health;
+
+import com.wootecam.festivals.domain.ticket.entity.PurchaseHealth;
+import com.wootecam.festivals.domain.ticket.repository.PurchaseHealthRedisRepository;
+import com.wootecam.festivals.global.queue.service.QueueService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구매 경로 부하 지표를 주기적으로 Redis 에 보고하는 클래스
+ * <p>
+ * queue-server 는 모든 api-server 의 지표 중 가장 나쁜 값을 기준으로 대기열 입장 속도를 조절합니다.
+ */
+@Slf4j
+@Component
+public class PurchaseHealthReporter {
+
+    private final String serverId = UUID.randomUUID().toString();
+    private final PurchaseHealthRedisRepository purchaseHealthRedisRepository;
+    private final PurchasePathMonitor purchasePathMonitor;
+    private final QueueService queueService;
+    private final DataSource dataSource;
+
+    public PurchaseHealthReporter(PurchaseHealthRedisRepository purchaseHealthRedisRepository,
+                                  PurchasePathMonitor purchasePathMonitor, QueueService queueService,
+                                  DataSource dataSource) {
+        this.purchaseHealthRedisRepository = purchaseHealthRedisRepository;
+        this.purchasePathMonitor = purchasePathMonitor;
+        this.queueService = queueService;
+        this.dataSource = dataSource;
+    }
+
+    @Scheduled(fixedRateString = "${purchase.health.report-interval-ms:1000}")
+    public void report() {
+        try {
+            purchaseHealthRedisRepository.report(serverId, collect(), System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("구매 경로 부하 지표 보고 실패", e);
+        }
+    }
+
+    PurchaseHealth collect() {
+        return new PurchaseHealth(
+                purchasePathMonitor.getP95LatencyMs(),
+                purchasePathMonitor.getInFlight(),
+                queueService.getQueueDepth(),
+                hikariPending(),
+                cpuPercent());
+    }
+
+    private long hikariPending() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+        }
+        return 0;
+    }
+
+    private long cpuPercent() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            double load = sunOs.getCpuLoad();
+            return load < 0 ? 0 : Math.round(load * 100);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.wootecam.festivals.domain.health;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 구매 경로 (구매 가능 여부 확인, 구매 시작) 요청의 처리 중인 수와 최근 p95 응답 시간을 측정하는 인터셉터
+ * <p>
+ * p95 는 최근 약 10초 동안의 요청으로 계산되어, queue-server 가 입장 속도를 조절하는 근거로 사용됩니다.
+ */
+@Component
+public class PurchasePathMonitor implements HandlerInterceptor {
+
+    private static final String START_TIME_ATTRIBUTE = PurchasePathMonitor.class.getName() + ".startTime";
+    private static final double P95 = 0.95;
+
+    private final AtomicLong inFlight = new AtomicLong();
+    private final Timer latencyTimer;
+
+    public PurchasePathMonitor(MeterRegistry meterRegistry) {
+        this.latencyTimer = Timer.builder("purchase.path.latency")
+                .description("구매 경로 요청 처리 시간")
+                .publishPercentiles(P95)
+                .distributionStatisticExpiry(Duration.ofSeconds(10))
+                .distributionStatisticBufferLength(2)
+                .register(meterRegistry);
+        Gauge.builder("purchase.path.in_flight", inFlight, AtomicLong::get)
+                .description("처리 중인 구매 경로 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+        inFlight.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(START_TIME_ATTRIBUTE) instanceof Long startTime) {
+            inFlight.decrementAndGet();
+            latencyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public long getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getP95LatencyMs() {
+        for (ValueAtPercentile value : latencyTimer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == P95) {
+                return (long) value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
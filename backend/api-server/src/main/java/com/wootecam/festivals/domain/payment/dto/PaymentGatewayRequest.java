@@ -0,0 +1,7 @@
+package com.wootecam.festivals.domain.payment.dto;
+
+public record PaymentGatewayRequest(String paymentId,
+                                    Long memberId,
+                                    Long ticketId) {
+
+}
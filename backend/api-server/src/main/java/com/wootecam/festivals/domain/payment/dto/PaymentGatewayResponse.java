@@ -0,0 +1,8 @@
+package com.wootecam.festivals.domain.payment.dto;
+
+import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatus;
+
+public record PaymentGatewayResponse(String paymentId,
+                                     PaymentStatus status) {
+
+}
@@ -0,0 +1,109 @@
+package com.wootecam.festivals.domain.payment.gateway;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootecam.festivals.domain.payment.dto.PaymentGatewayRequest;
+import com.wootecam.festivals.domain.payment.dto.PaymentGatewayResponse;
+import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatus;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP 로 결제 서버에 결제를 요청하는 {@link PaymentGateway} 구현체
+ * <p>
+ * JDK HttpClient 의 sendAsync 로 요청하므로 응답을 기다리는 동안 스레드를 잡지 않습니다. 동시에 진행하는 요청은 maxConcurrency 개로 제한하고 (bulkhead), 넘는
+ * 요청과 서킷 브레이커가 차단한 요청은 결제 서버에 보내지 않고 바로 실패시켜 결제 서버의 지연이 구매 요청 처리로 번지지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class HttpPaymentGateway implements PaymentGateway {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI paymentUri;
+    private final Duration requestTimeout;
+    private final Semaphore bulkhead;
+    private final PaymentCircuitBreaker circuitBreaker;
+
+    public HttpPaymentGateway(ObjectMapper objectMapper,
+                              @Value("${payment.gateway.base-url}") String baseUrl,
+                              @Value("${payment.gateway.connect-timeout-ms:1000}") long connectTimeoutMs,
+                              @Value("${payment.gateway.request-timeout-ms:3000}") long requestTimeoutMs,
+                              @Value("${payment.gateway.max-concurrency:200}") int maxConcurrency,
+                              @Value("${payment.gateway.circuit-breaker.failure-threshold:20}") int failureThreshold,
+                              @Value("${payment.gateway.circuit-breaker.open-ms:10000}") long openMs) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        this.objectMapper = objectMapper;
+        this.paymentUri = URI.create(baseUrl + "/payments");
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.bulkhead = new Semaphore(maxConcurrency);
+        this.circuitBreaker = new PaymentCircuitBreaker(failureThreshold, openMs);
+    }
+
+    @Override
+    public CompletableFuture<PaymentStatus> requestPayment(String paymentId, Long memberId, Long ticketId) {
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(new PaymentGatewayException("결제 요청 동시 처리 수 초과"));
+        }
+        if (!circuitBreaker.tryAcquire(System.currentTimeMillis())) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(new PaymentGatewayException("결제 서버 호출 차단 중"));
+        }
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(paymentUri)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(new PaymentGatewayRequest(paymentId, memberId, ticketId))))
+                    .build();
+        } catch (JsonProcessingException e) {
+            circuitBreaker.onCancel();
+            bulkhead.release();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(this::toPaymentStatus)
+                .whenComplete((status, e) -> {
+                    bulkhead.release();
+                    if (e == null) {
+                        circuitBreaker.onSuccess();
+                    } else {
+                        circuitBreaker.onFailure(System.currentTimeMillis());
+                        log.warn("결제 요청 실패 - 결제 ID: {}, 원인: {}", paymentId, e.toString());
+                    }
+                });
+    }
+
+    private PaymentStatus toPaymentStatus(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new PaymentGatewayException("결제 서버 오류 응답 - status: " + response.statusCode());
+        }
+        try {
+            return objectMapper.readValue(response.body(), PaymentGatewayResponse.class).status();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int availableConcurrency() {
+        return bulkhead.availablePermits();
+    }
+
+    PaymentCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+}
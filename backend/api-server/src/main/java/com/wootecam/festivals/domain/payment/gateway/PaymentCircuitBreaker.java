@@ -0,0 +1,76 @@
+package com.wootecam.festivals.domain.payment.gateway;
+
+/**
+ * 결제 서버 호출을 차단하는 서킷 브레이커
+ * <p>
+ * 연속 실패가 failureThreshold 에 닿으면 openMs 동안 호출을 바로 거절해, 응답하지 않는 결제 서버를 기다리느라 동시 요청 수를 모두 쓰지 않도록 합니다. openMs 가 지나면 한
+ * 건만 보내 보고, 성공하면 다시 호출을 허용하고 실패하면 다시 차단합니다.
+ */
+public class PaymentCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probing;
+
+    public PaymentCircuitBreaker(int failureThreshold, long openMs) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("실패 기준은 0보다 커야합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    /**
+     * 호출해도 되는지 확인합니다. true 를 받았다면 결과를 {@link #onSuccess()} 나 {@link #onFailure(long)} 로 알려야 합니다.
+     */
+    public synchronized boolean tryAcquire(long nowMillis) {
+        if (state == State.OPEN) {
+            if (nowMillis - openedAt < openMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                return false;
+            }
+            probing = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probing = false;
+    }
+
+    public synchronized void onFailure(long nowMillis) {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nowMillis;
+            consecutiveFailures = 0;
+            probing = false;
+        }
+    }
+
+    /**
+     * 허용받았지만 호출하지 않은 경우 알립니다. (회복 확인 중이라면 다른 요청이 확인할 수 있도록 함)
+     */
+    public synchronized void onCancel() {
+        probing = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
@@ -0,0 +1,15 @@
+package com.wootecam.festivals.domain.payment.gateway;
+
+import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatus;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 결제 서버에 결제를 요청하는 인터페이스
+ * <p>
+ * 결제 결과를 기다리는 동안 호출 스레드를 잡지 않도록 CompletableFuture 로 결과를 반환합니다. 결제 서버에 요청하지 못했다면 {@link PaymentGatewayException} 으로,
+ * 응답을 받지 못했다면 {@link java.net.http.HttpTimeoutException} 으로 실패합니다.
+ */
+public interface PaymentGateway {
+
+    CompletableFuture<PaymentStatus> requestPayment(String paymentId, Long memberId, Long ticketId);
+}
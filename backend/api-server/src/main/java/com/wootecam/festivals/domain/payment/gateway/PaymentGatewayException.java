@@ -0,0 +1,11 @@
+package com.wootecam.festivals.domain.payment.gateway;
+
+/**
+ * 결제 서버에 요청하지 못했거나 (호출 차단, 동시 요청 수 초과) 결제 서버가 오류로 응답한 경우 발생하는 예외
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+}
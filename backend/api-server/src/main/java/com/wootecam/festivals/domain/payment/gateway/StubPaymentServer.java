@@ -0,0 +1,139 @@
+package com.wootecam.festivals.domain.payment.gateway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wootecam.festivals.domain.payment.dto.PaymentGatewayRequest;
+import com.wootecam.festivals.domain.payment.dto.PaymentGatewayResponse;
+import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 결제 서버 대신 같은 프로세스에서 결제 요청에 응답하는 HTTP 서버
+ * <p>
+ * 결제 구간만 따로 측정하고 조절할 수 있도록 응답 지연과 실패 비율을 설정으로 바꿀 수 있습니다. 지연은 latencyMs ± latencyJitterMs 의 균등 분포를 따르고, slowRate
+ * 비율의 요청은 slowLatencyMs 만큼 지연되어 꼬리 지연을 흉내냅니다. 지연은 스케줄러로 응답을 미루는 방식이라 요청마다 스레드를 잡지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.stub-server.enabled", havingValue = "true")
+public class StubPaymentServer {
+
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double slowRate;
+    private final long slowLatencyMs;
+    private final double failureRate;
+    private final double errorRate;
+
+    private HttpServer server;
+    private ExecutorService requestExecutor;
+    private ScheduledExecutorService responseScheduler;
+
+    public StubPaymentServer(ObjectMapper objectMapper,
+                             @Value("${payment.stub-server.port:18080}") int port,
+                             @Value("${payment.stub-server.latency-ms:500}") long latencyMs,
+                             @Value("${payment.stub-server.latency-jitter-ms:0}") long latencyJitterMs,
+                             @Value("${payment.stub-server.slow-rate:0.0}") double slowRate,
+                             @Value("${payment.stub-server.slow-latency-ms:3000}") long slowLatencyMs,
+                             @Value("${payment.stub-server.failure-rate:0.0}") double failureRate,
+                             @Value("${payment.stub-server.error-rate:0.0}") double errorRate) {
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.slowRate = slowRate;
+        this.slowLatencyMs = slowLatencyMs;
+        this.failureRate = failureRate;
+        this.errorRate = errorRate;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        requestExecutor = Executors.newFixedThreadPool(2);
+        responseScheduler = Executors.newScheduledThreadPool(2);
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/payments", this::handle);
+        server.setExecutor(requestExecutor);
+        server.start();
+        log.info("결제 스텁 서버 시작 - port: {}, 지연: {}±{}ms, 실패 비율: {}, 오류 비율: {}", getPort(), latencyMs,
+                latencyJitterMs, failureRate, errorRate);
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+        responseScheduler.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, new byte[0]);
+            return;
+        }
+
+        PaymentGatewayRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = objectMapper.readValue(body, PaymentGatewayRequest.class);
+        } catch (IOException e) {
+            respond(exchange, 400, new byte[0]);
+            return;
+        }
+
+        String paymentId = request.paymentId();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean error = random.nextDouble() < errorRate;
+        PaymentStatus status = random.nextDouble() < failureRate ? PaymentStatus.FAILED : PaymentStatus.SUCCESS;
+        responseScheduler.schedule(() -> respondLater(exchange, paymentId, error, status),
+                nextDelayMs(random), TimeUnit.MILLISECONDS);
+    }
+
+    private long nextDelayMs(ThreadLocalRandom random) {
+        if (random.nextDouble() < slowRate) {
+            return slowLatencyMs;
+        }
+        long jitter = latencyJitterMs > 0 ? random.nextLong(-latencyJitterMs, latencyJitterMs + 1) : 0;
+        return Math.max(0, latencyMs + jitter);
+    }
+
+    private void respondLater(HttpExchange exchange, String paymentId, boolean error, PaymentStatus status) {
+        try {
+            if (error) {
+                respond(exchange, 500, new byte[0]);
+            } else {
+                respond(exchange, 200, objectMapper.writeValueAsBytes(new PaymentGatewayResponse(paymentId, status)));
+            }
+        } catch (IOException e) {
+            log.debug("결제 스텁 서버 응답 실패 - 결제 ID: {}", paymentId, e);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
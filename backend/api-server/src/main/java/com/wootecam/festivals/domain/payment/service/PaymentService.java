@@ -5,9 +5,12 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.wootecam.festivals.domain.payment.dto.PaymentInfo;
 import com.wootecam.festivals.domain.payment.excpetion.PaymentErrorCode;
+import com.wootecam.festivals.domain.payment.gateway.PaymentGateway;
 import com.wootecam.festivals.domain.purchase.service.CompensationService;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import java.net.http.HttpTimeoutException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,11 +20,13 @@ import org.springframework.stereotype.Service;
 public class PaymentService {
 
     private final CompensationService compensationService;
+    private final PaymentGateway paymentGateway;
     // 결제 ID와 상태를 저장하는 인메모리 캐시
     private final Cache<String, PaymentInfo> paymentStatusCache;
 
-    public PaymentService(CompensationService compensationService) {
+    public PaymentService(CompensationService compensationService, PaymentGateway paymentGateway) {
         this.compensationService = compensationService;
+        this.paymentGateway = paymentGateway;
         // Caffeine 캐시 설정: 5분 후 만료되는 캐시 생성
         this.paymentStatusCache = Caffeine.newBuilder()
                 .expireAfterWrite(5, TimeUnit.MINUTES)
@@ -33,37 +38,31 @@ public class PaymentService {
                 .build();
     }
 
-    // 결제 프로세스를 시작하는 메서드
+    /**
+     * 결제 서버에 결제를 요청하고 결과를 캐시에 저장합니다. 결제 서버에 요청하지 못했거나 오류로 응답했다면 FAILED, 응답 시간이 지나 결과를 알 수 없다면 PENDING 으로 두어
+     * 캐시 만료 시 보상합니다.
+     */
     public CompletableFuture<PaymentStatus> initiatePayment(String paymentId, Long memberId, Long ticketId) {
         paymentStatusCache.put(paymentId, new PaymentInfo(paymentId, memberId, ticketId, null, PaymentStatus.PENDING));
-        return CompletableFuture.supplyAsync(() -> processPayment(paymentId, memberId, ticketId));
-    }
-
-    // 실제 결제 처리를 수행하는 private 메서드
-    private PaymentStatus processPayment(String paymentId, Long memberId, Long ticketId) {
         log.debug("결제 처리 중 - 결제 ID: {}, 회원 ID: {}, 티켓 ID: {}", paymentId, memberId, ticketId);
-        try {
-            // 결제 처리 시뮬레이션
-            Thread.sleep(500); // 5초 대기
+        return paymentGateway.requestPayment(paymentId, memberId, ticketId)
+                .handle((status, e) -> {
+                    PaymentStatus result = e == null ? status : toPaymentStatus(paymentId, e);
+                    paymentStatusCache.put(paymentId, new PaymentInfo(paymentId, memberId, ticketId, null, result));
+                    log.debug("결제 완료 - 결제 ID: {}, 회원 ID: {}, 티켓 ID: {}, 상태: {}", paymentId, memberId, ticketId,
+                            result);
+                    return result;
+                });
+    }
 
-            // 결제 결과 시뮬레이션
-            PaymentStatus result = simulateExternalPaymentApi();
-            // 결제 결과를 캐시에 저장
-            paymentStatusCache.put(paymentId, new PaymentInfo(paymentId, memberId, ticketId, null, result));
-            log.debug("결제 완료 - 결제 ID: {}, 회원 ID: {}, 티켓 ID: {}, 상태: {}", paymentId, memberId, ticketId, result);
-            return result;
-        } catch (InterruptedException e) {
-            log.error("결제 처리 중 인터럽트 발생", e);
-            Thread.currentThread().interrupt();
-            paymentStatusCache.put(paymentId,
-                    new PaymentInfo(paymentId, memberId, ticketId, null, PaymentStatus.FAILED));
-            return PaymentStatus.FAILED;
-        } catch (Exception e) {
-            log.error("결제 처리 중 오류 발생", e);
-            paymentStatusCache.put(paymentId,
-                    new PaymentInfo(paymentId, memberId, ticketId, null, PaymentStatus.FAILED));
-            return PaymentStatus.FAILED;
+    private PaymentStatus toPaymentStatus(String paymentId, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof HttpTimeoutException) {
+            log.warn("결제 서버 응답 시간 초과 - 결제 ID: {}", paymentId);
+            return PaymentStatus.PENDING;
         }
+        log.error("결제 처리 중 오류 발생 - 결제 ID: {}", paymentId, cause);
+        return PaymentStatus.FAILED;
     }
 
     public void updatePaymentStatus(String paymentId, Long memberId, Long ticketId, Long ticketStockId,
@@ -81,18 +80,6 @@ public class PaymentService {
         return result.status();
     }
 
-    // 외부 결제 API 호출을 시뮬레이션하는 메서드
-    private PaymentStatus simulateExternalPaymentApi() {
-        // 랜덤으로 결제 결과 생성 (실제 구현에서는 제거됨)
-//        double random = Math.random();
-//        if (random < 0.9) {
-//            return PaymentStatus.SUCCESS;
-//        } else {
-//            return PaymentStatus.FAILED;
-//        }
-        return PaymentStatus.SUCCESS;
-    }
-
     private void handleExpiredPendingPayment(PaymentInfo paymentInfo) {
         log.warn("Payment {} expired in PENDING state", paymentInfo);
         compensationService.compensateFailedPurchase(paymentInfo.paymentId(), paymentInfo.ticketId(),
@@ -12,6 +12,7 @@ import com.wootecam.festivals.global.api.ApiResponse;
 import com.wootecam.festivals.global.auth.AuthUser;
 import com.wootecam.festivals.global.auth.Authentication;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
+import com.wootecam.festivals.global.auth.wait.WaitTokenProvider;
 import com.wootecam.festivals.global.queue.dto.PurchaseData;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -36,6 +38,7 @@ public class PurchaseController {
     private final PurchaseFacadeService purchaseFacadeService;
     private final PurchaseService purchaseService;
     private final PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    private final WaitTokenProvider waitTokenProvider;
 
     /**
      * 티켓 구매 가능 여부 확인 API
@@ -43,14 +46,18 @@ public class PurchaseController {
      * @param festivalId
      * @param ticketId
      * @param authentication
+     * @param waitToken      대기열 서버가 통과 시 발급한 토큰
      * @return 티켓 구매 가능 여부 응답
      */
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/check")
     public ApiResponse<PurchasableResponse> checkPurchasable(@PathVariable Long festivalId,
                                                              @PathVariable Long ticketId,
-                                                             @AuthUser Authentication authentication) {
+                                                             @AuthUser Authentication authentication,
+                                                             @RequestParam(required = false) String waitToken) {
         Long requestMemberId = authentication.memberId();
+        // 대기열을 거치지 않았거나 다른 사용자, 티켓의 토큰이면 재고를 점유하기 전에 거절
+        waitTokenProvider.verifyPassed(waitToken, requestMemberId, ticketId);
         log.debug("티켓 구매 가능 여부 확인 - 유저 ID: {}, 축제 ID: {}, 티켓 ID: {}", requestMemberId, festivalId, ticketId);
         PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticketId, requestMemberId,
                 LocalDateTime.now());
@@ -0,0 +1,41 @@
+package com.wootecam.festivals.domain.purchase.controller;
+
+import com.wootecam.festivals.domain.purchase.dto.PurchaseDeadLetterReplayResponse;
+import com.wootecam.festivals.domain.purchase.service.PurchaseDeadLetterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구매 재시도 실패 데이터(dead letter) 를 구매 큐에 다시 넣는 운영용 actuator 엔드포인트
+ * <p>
+ * 사용자 API 와 같은 포트로 열면 로그인한 모든 사용자가 호출할 수 있으므로, 외부에 공개하지 않는 관리 포트 (management.server.port) 로만 노출합니다.
+ * <p>
+ * POST /actuator/purchaseDeadLetters {"limit": 100}
+ */
+@Slf4j
+@Component
+@Endpoint(id = "purchaseDeadLetters")
+@RequiredArgsConstructor
+public class PurchaseDeadLetterEndpoint {
+
+    private static final int DEFAULT_REPLAY_LIMIT = 100;
+
+    private final PurchaseDeadLetterService purchaseDeadLetterService;
+
+    /**
+     * 보관된 구매 데이터를 구매 큐에 다시 넣습니다.
+     *
+     * @param limit 한 번에 다시 넣을 최대 개수 (1 ~ 1000), 없으면 100
+     * @return 다시 넣은 개수와 남은 개수
+     */
+    @WriteOperation
+    public PurchaseDeadLetterReplayResponse replay(@Nullable Integer limit) {
+        int replayLimit = limit == null ? DEFAULT_REPLAY_LIMIT : limit;
+        log.info("구매 dead letter 재처리 요청 - 최대 개수: {}", replayLimit);
+        return purchaseDeadLetterService.replay(replayLimit);
+    }
+}
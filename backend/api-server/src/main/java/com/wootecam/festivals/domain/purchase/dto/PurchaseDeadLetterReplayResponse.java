@@ -0,0 +1,4 @@
+package com.wootecam.festivals.domain.purchase.dto;
+
+public record PurchaseDeadLetterReplayResponse(int replayedCount, long remainingCount) {
+}
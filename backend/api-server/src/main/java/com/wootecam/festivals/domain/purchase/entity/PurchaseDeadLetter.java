@@ -0,0 +1,63 @@
+package com.wootecam.festivals.domain.purchase.entity;
+
+import com.wootecam.festivals.global.audit.BaseEntity;
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최대 재시도 횟수를 넘겨 DB 에 반영하지 못한 구매 데이터
+ */
+@Entity
+@Table(name = "purchase_dead_letter")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PurchaseDeadLetter extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "purchase_dead_letter_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "ticket_id", nullable = false)
+    private Long ticketId;
+
+    @Column(name = "ticket_stock_id", nullable = false)
+    private Long ticketStockId;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "last_error", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String lastError;
+
+    @Builder
+    private PurchaseDeadLetter(Long memberId, Long ticketId, Long ticketStockId, int attemptCount,
+                               String lastError) {
+        this.memberId = Objects.requireNonNull(memberId, "회원 정보는 필수입니다.");
+        this.ticketId = Objects.requireNonNull(ticketId, "티켓 정보는 필수입니다.");
+        this.ticketStockId = Objects.requireNonNull(ticketStockId, "티켓 재고 정보는 필수입니다.");
+        this.attemptCount = attemptCount;
+        this.lastError = lastError == null || lastError.length() <= MAX_ERROR_MESSAGE_LENGTH
+                ? lastError
+                : lastError.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+
+    public PurchaseData toPurchaseData() {
+        return new PurchaseData(memberId, ticketId, ticketStockId);
+    }
+}
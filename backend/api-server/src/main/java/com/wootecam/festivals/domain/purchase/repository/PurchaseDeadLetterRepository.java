@@ -0,0 +1,11 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import com.wootecam.festivals.domain.purchase.entity.PurchaseDeadLetter;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PurchaseDeadLetterRepository extends JpaRepository<PurchaseDeadLetter, Long> {
+
+    List<PurchaseDeadLetter> findAllByOrderByIdAsc(Pageable pageable);
+}
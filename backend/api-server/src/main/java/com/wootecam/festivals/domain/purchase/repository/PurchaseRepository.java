@@ -17,6 +17,11 @@ public interface PurchaseRepository extends JpaRepository<Purchase, Long> {
 
     boolean existsByTicketAndMember(Ticket ticket, Member member);
 
+    boolean existsByTicketIdAndMemberId(Long ticketId, Long memberId);
+
+    @Query("SELECT p.member.id FROM Purchase p WHERE p.ticket.id = :ticketId")
+    List<Long> findMemberIdsByTicketId(@Param("ticketId") Long ticketId);
+
     @Query("""
             SELECT new com.wootecam.festivals.domain.my.dto.MyPurchasedTicketResponse(
                 p.id, p.purchaseTime, p.purchaseStatus,  
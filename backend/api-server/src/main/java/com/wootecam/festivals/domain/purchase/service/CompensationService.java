@@ -1,6 +1,7 @@
 package com.wootecam.festivals.domain.purchase.service;
 
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -16,6 +17,7 @@ public class CompensationService {
     private final RedisTemplate<String, String> redisTemplate;
     private final JdbcTemplate jdbcTemplate;
     private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
 
     @Transactional
     public void compensateFailedPurchase(String paymentId, Long ticketId, Long ticketStockId) {
@@ -25,6 +27,8 @@ public class CompensationService {
             // MySQL의 TicketStock 점유 해제
             jdbcTemplate.update("UPDATE ticket_stock SET ticket_stock_member_id = NULL WHERE ticket_stock_id = ?",
                     ticketStockId);
+            // 점유 해제가 MySQL 에 반영된 뒤 다른 회원이 점유할 수 있도록 Redis 재고 ID 복구
+            ticketStockPoolRedisRepository.release(ticketId, ticketStockId);
 
         } catch (Exception e) {
             log.error("Compensation failed for paymentId: {}", paymentId, e);
@@ -0,0 +1,44 @@
+package com.wootecam.festivals.domain.purchase.service;
+
+import com.wootecam.festivals.domain.purchase.dto.PurchaseDeadLetterReplayResponse;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseDeadLetter;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseDeadLetterRepository;
+import com.wootecam.festivals.global.queue.service.QueueService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재시도에 실패해 보관된 구매 데이터를 다시 구매 큐에 넣는 서비스
+ * <p>
+ * 원인을 확인한 운영자가 관리 포트의 {@link com.wootecam.festivals.domain.purchase.controller.PurchaseDeadLetterEndpoint} 로 호출합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseDeadLetterService {
+
+    private static final int MAX_REPLAY_LIMIT = 1000;
+
+    private final PurchaseDeadLetterRepository purchaseDeadLetterRepository;
+    private final QueueService queueService;
+
+    /**
+     * 오래된 순서로 최대 limit 개의 구매 데이터를 구매 큐에 다시 넣고 보관소에서 삭제합니다.
+     */
+    @Transactional
+    public PurchaseDeadLetterReplayResponse replay(int limit) {
+        List<PurchaseDeadLetter> deadLetters = purchaseDeadLetterRepository.findAllByOrderByIdAsc(
+                PageRequest.of(0, Math.max(1, Math.min(limit, MAX_REPLAY_LIMIT))));
+        for (PurchaseDeadLetter deadLetter : deadLetters) {
+            queueService.addPurchase(deadLetter.toPurchaseData());
+        }
+        purchaseDeadLetterRepository.deleteAllInBatch(deadLetters);
+        log.warn("DEAD_LETTER_REPLAY,count={}", deadLetters.size());
+
+        return new PurchaseDeadLetterReplayResponse(deadLetters.size(), purchaseDeadLetterRepository.count());
+    }
+}
@@ -5,12 +5,17 @@ import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatu
 import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.service.TicketCacheService;
+import com.wootecam.festivals.domain.ticket.service.TicketStockReservationSweeper;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.global.queue.dto.PurchaseData;
 import com.wootecam.festivals.global.queue.service.QueueService;
 import com.wootecam.festivals.global.utils.TimeProvider;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,24 +30,53 @@ public class PurchaseFacadeService {
     private final QueueService queueService;
     private final TimeProvider timeProvider;
     private final CompensationService compensationService;
+    private final PurchaserIndexService purchaserIndexService;
+    private final TicketStockReservationSweeper ticketStockReservationSweeper;
+
+    // 결제 결과 처리 (Redis 기록, 실패 시 MySQL 보상) 는 블로킹 호출이므로 공용 ForkJoinPool 이 아닌 크기가 제한된 스레드 풀에서 실행
+    private final ThreadPoolExecutor paymentResultExecutor = new ThreadPoolExecutor(
+            2, // 코어 스레드 수
+            Runtime.getRuntime().availableProcessors(), // 최대 스레드 수
+            60L, TimeUnit.SECONDS, // 유휴 스레드 대기 시간
+            new LinkedBlockingQueue<Runnable>(1000), // 작업 큐
+            new ThreadPoolExecutor.CallerRunsPolicy() // 밀리면 결제 응답을 받은 스레드에서 처리
+    );
 
     public String processPurchase(PurchaseData purchaseData) {
         validatePurchase(purchaseData);
+        // 만료된 점유는 이미 다른 회원이 점유할 수 있도록 해제되었으므로 결제하지 않음
+        if (!ticketStockReservationSweeper.cancelExpiry(purchaseData.ticketId(), purchaseData.ticketStockId(),
+                purchaseData.memberId())) {
+            log.warn("만료된 재고 점유로 결제 요청 - 티켓 ID: {}, 회원 ID: {}", purchaseData.ticketId(), purchaseData.memberId());
+            throw new ApiException(PurchaseErrorCode.PURCHASE_SESSION_EXPIRED);
+        }
         String paymentId = UUID.randomUUID().toString();
 
         paymentService.initiatePayment(paymentId, purchaseData.memberId(), purchaseData.ticketId())
-                .thenAcceptAsync(status -> handlePaymentResult(paymentId, status, purchaseData))
-                .exceptionally(e -> {
+                .thenAcceptAsync(status -> handlePaymentResult(paymentId, status, purchaseData),
+                        paymentResultExecutor)
+                .exceptionallyAsync(e -> {
                             log.error("결제 서버에 장애가 발생하였습니다 paymentId : {}", paymentId);
                             // 점유 해제, 레디스 롤백
                             compensationService.compensateFailedPurchase(paymentId, purchaseData.ticketId(),
                                     purchaseData.ticketStockId());
                             return null;
-                        }
+                        }, paymentResultExecutor
                 );
         return paymentId;
     }
 
+    // 종료 전 받은 결제 결과를 처리하도록 남은 작업을 기다림
+    @PreDestroy
+    public void shutdown() {
+        paymentResultExecutor.shutdown();
+        try {
+            paymentResultExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public PaymentService.PaymentStatus getPaymentStatus(String paymentId) {
         return paymentService.getPaymentStatus(paymentId);
     }
@@ -50,6 +84,8 @@ public class PurchaseFacadeService {
     private void handlePaymentResult(String paymentId, PaymentStatus status, PurchaseData purchaseData) {
         switch (status) {
             case SUCCESS:
+                // MySQL 에 반영되기 전에도 같은 티켓을 다시 구매하지 못하도록 먼저 기록
+                purchaserIndexService.markPurchased(purchaseData.ticketId(), purchaseData.memberId());
                 queueService.addPurchase(purchaseData);
                 break;
             case FAILED:
@@ -5,27 +5,26 @@ import com.wootecam.festivals.domain.member.repository.MemberRepository;
 import com.wootecam.festivals.domain.purchase.dto.PurchasableResponse;
 import com.wootecam.festivals.domain.purchase.dto.PurchasePreviewInfoResponse;
 import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
-import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.entity.TicketStock;
 import com.wootecam.festivals.domain.ticket.exception.TicketErrorCode;
 import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockRepository;
+import com.wootecam.festivals.domain.ticket.service.TicketStockAllocator;
+import com.wootecam.festivals.domain.ticket.service.TicketStockReservationSweeper;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.global.utils.TimeProvider;
 import com.wootecam.festivals.global.utils.UuidProvider;
-import jakarta.persistence.PersistenceException;
-import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 티켓 결제 관련 비즈니스 로직을 처리하는 서비스
@@ -38,7 +37,6 @@ public class PurchaseService {
     @Value("${purchase.session.ttl:5}")
     private Long purchaseSessionTtl;
 
-    private final PurchaseRepository purchaseRepository;
     private final TicketStockRepository ticketStockRepository;
     private final MemberRepository memberRepository;
     private final TicketRepository ticketRepository;
@@ -46,6 +44,9 @@ public class PurchaseService {
     private final UuidProvider uuidProvider;
     private final RedisTemplate<String, String> redisTemplate;
     private final PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    private final TicketStockAllocator ticketStockAllocator;
+    private final PurchaserIndexService purchaserIndexService;
+    private final TicketStockReservationSweeper ticketStockReservationSweeper;
 
     /**
      * 티켓 구매 권한이 유효한지 확인합니다.
@@ -68,13 +69,14 @@ public class PurchaseService {
     /**
      * 티켓을 결제할 수 있는지 확인합니다. 티켓을 재고가 없다면 false인 PurchasableResponse을, 티켓 재고가 있다면 true인 PurchasableResponse을 반환합니다. 티켓 구매
      * 시각이 아니거나, 이미 티켓을 구매했다면 예외를 발생시킵니다. 티켓을 구매할 수 있다면 티켓 재고를 차감하고, 구매 가능한 세션을 발급하고 저장합니다.
+     * <p>
+     * 재고 점유는 Redis 에 적재된 재고 ID 를 꺼내는 것으로 끝나고 MySQL 에는 비동기로 반영되므로, 트랜잭션 없이 행 잠금과 DB 커넥션을 잡지 않습니다.
      *
      * @param ticketId
      * @param loginMemberId
      * @param now
      * @return 구매 가능 여부 응답
      */
-    @Transactional
     public PurchasableResponse checkPurchasable(Long ticketId, Long loginMemberId, LocalDateTime now) {
         Ticket ticket = findTicketById(ticketId);
         validTicketPurchasableTime(now, ticket);
@@ -82,20 +84,20 @@ public class PurchaseService {
         Member member = memberRepository.getReferenceById(loginMemberId);
         validFirstTicketPurchase(ticket, member);
 
-        validFirstTicketStockReservation(ticket, member);
-
-        Optional<TicketStock> optionalTicketStock = getTicketStockForUpdate(ticket);
-
-        if (optionalTicketStock.isEmpty() || optionalTicketStock.get().isReserved()) {
+        // 이미 점유한 재고가 있다면 예외 (중복 점유 막음)
+        Optional<Long> ticketStockId = ticketStockAllocator.allocate(ticketId, member.getId());
+        if (ticketStockId.isEmpty()) {
             return new PurchasableResponse(false, null);
         }
 
-        TicketStock ticketStock = optionalTicketStock.get();
-        reserveTicket(ticketStock, member.getId());
-
         String sessionId = uuidProvider.getUuid();
-        purchaseSessionRedisRepository.addPurchaseSession(ticketId, loginMemberId, sessionId, ticketStock.getId(),
+        purchaseSessionRedisRepository.addPurchaseSession(ticketId, loginMemberId, sessionId, ticketStockId.get(),
                 purchaseSessionTtl);
+        // 구매 세션이 끝날 때까지 결제를 시작하지 않으면 점유 해제
+        ticketStockReservationSweeper.scheduleExpiry(ticketId, ticketStockId.get(), loginMemberId,
+                TimeUnit.MINUTES.toMillis(purchaseSessionTtl));
+        // 반영 중 충돌하면 구매 세션을 무효화할 수 있도록 세션을 만든 뒤 MySQL 반영을 넘김
+        ticketStockAllocator.persist(ticketId, ticketStockId.get(), loginMemberId, sessionId);
 
         return new PurchasableResponse(true, sessionId);
     }
@@ -126,13 +128,11 @@ public class PurchaseService {
                 ticket.getEndSaleTime());
     }
 
-    private Optional<TicketStock> getTicketStockForUpdate(Ticket ticket) {
-        return ticketStockRepository.findByTicketForUpdate(ticket.getId());
-    }
-
     private TicketStock getTicketStock(Long festivalId, Ticket ticket, Long ticketStockId, Long memberId) {
         TicketStock ticketStock = ticketStockRepository.findByIdAndTicketIdAndMemberId(ticketStockId, ticket.getId(),
                         memberId)
+                // 점유 직후라 아직 MySQL 에 반영되지 않은 경우
+                .or(() -> findReservedTicketStock(ticket.getId(), ticketStockId, memberId))
                 .orElseThrow(() -> {
                     log.warn("티켓 재고를 찾을 수 없습니다. 티켓 ID: {}, 페스티벌 ID: {}, 티켓 재고 ID: {}", ticket.getId(), festivalId,
                             ticketStockId);
@@ -147,20 +147,11 @@ public class PurchaseService {
         return ticketStock;
     }
 
-    private void reserveTicket(TicketStock ticketStock, Long buyerId) {
-        try {
-            ticketStock.reserveTicket(buyerId);
-            ticketStockRepository.flush();
-        } catch (PersistenceException e) {
-            if (e.getCause() instanceof SQLIntegrityConstraintViolationException) {
-                log.warn("이미 티켓 재고를 예약한 회원입니다. - 티켓 ID: {}", ticketStock.getTicket().getId());
-                throw new ApiException(TicketErrorCode.ALREADY_RESERVED_TICKET_STOCK);
-            }
-            throw e;
-        } catch (IllegalStateException e) {
-            log.warn("티켓 재고 부족 - 티켓 ID: {}", ticketStock.getTicket().getId());
-            throw new ApiException(TicketErrorCode.TICKET_STOCK_EMPTY);
+    private Optional<TicketStock> findReservedTicketStock(Long ticketId, Long ticketStockId, Long memberId) {
+        if (!ticketStockAllocator.isReservedBy(ticketId, ticketStockId, memberId)) {
+            return Optional.empty();
         }
+        return ticketStockRepository.findById(ticketStockId);
     }
 
     private void validTicketPurchasableTime(LocalDateTime now, Ticket ticket) {
@@ -171,7 +162,7 @@ public class PurchaseService {
     }
 
     private void validFirstTicketPurchase(Ticket ticket, Member member) {
-        if (purchaseRepository.existsByTicketAndMember(ticket, member)) {
+        if (purchaserIndexService.isPurchased(ticket.getId(), member.getId())) {
             log.warn("이미 구매한 티켓 - 티켓 ID: {}, 회원 ID: {}", ticket.getId(), member.getId());
             throw new ApiException(PurchaseErrorCode.ALREADY_PURCHASED_TICKET);
         }
@@ -202,12 +193,4 @@ public class PurchaseService {
                     return new ApiException(TicketErrorCode.TICKET_NOT_FOUND);
                 });
     }
-
-    // 해당 유저가 이미 티켓 재고를 예약했는지 확인하는 로직 -> 있으면 에러(중복 점유 막음)
-    private void validFirstTicketStockReservation(Ticket ticket, Member member) {
-        if (ticketStockRepository.existsByTicketAndMember(ticket, member.getId())) {
-            log.warn("이미 티켓 재고를 예약한 회원입니다. 티켓 ID: {}, 회원 ID: {}", ticket.getId(), member.getId());
-            throw new ApiException(TicketErrorCode.ALREADY_RESERVED_TICKET_STOCK);
-        }
-    }
 }
@@ -0,0 +1,68 @@
+package com.wootecam.festivals.domain.purchase.service;
+
+import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
+import com.wootecam.festivals.domain.ticket.repository.PurchaserIndexRedisRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 티켓별 구매한 회원 여부를 Redis 비트맵으로 확인하는 서비스
+ * <p>
+ * 구매 가능 여부 확인과 결제창 조회마다 실행되던 구매 여부 SQL 을 GETBIT 한 번으로 대신합니다. 비트맵은 판매 전이나 처음 조회할 때 MySQL 의 구매 정보로 적재하고, 결제에 성공한
+ * 구매는 큐에 넣기 전에 기록하므로 MySQL 에 반영되기 전에도 구매로 판단합니다. Redis 를 사용할 수 없거나 비트맵으로 표현할 수 없는 회원 id 는 MySQL 로 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaserIndexService {
+
+    private final PurchaserIndexRedisRepository purchaserIndexRedisRepository;
+    private final PurchaseRepository purchaseRepository;
+
+    /**
+     * MySQL 의 구매한 회원을 Redis 에 적재합니다. 이미 적재되었다면 아무것도 하지 않습니다.
+     */
+    public void preload(Long ticketId) {
+        List<Long> memberIds = purchaseRepository.findMemberIdsByTicketId(ticketId);
+        if (purchaserIndexRedisRepository.load(ticketId, memberIds)) {
+            log.debug("구매한 회원 적재 완료 - 티켓 ID: {}, 구매한 회원: {}", ticketId, memberIds.size());
+        }
+    }
+
+    public boolean isPurchased(Long ticketId, Long memberId) {
+        if (memberId > PurchaserIndexRedisRepository.MAX_MEMBER_ID) {
+            return purchaseRepository.existsByTicketIdAndMemberId(ticketId, memberId);
+        }
+
+        try {
+            long result = purchaserIndexRedisRepository.contains(ticketId, memberId);
+            if (result == PurchaserIndexRedisRepository.NOT_LOADED) {
+                preload(ticketId);
+                result = purchaserIndexRedisRepository.contains(ticketId, memberId);
+            }
+            if (result != PurchaserIndexRedisRepository.NOT_LOADED) {
+                return result == 1;
+            }
+        } catch (Exception e) {
+            log.warn("구매한 회원 조회 실패, MySQL 로 확인 - 티켓 ID: {}, 회원 ID: {}", ticketId, memberId, e);
+        }
+        return purchaseRepository.existsByTicketIdAndMemberId(ticketId, memberId);
+    }
+
+    /**
+     * 결제에 성공한 회원을 기록합니다. 기록하지 못해도 MySQL 의 (티켓, 회원) 유니크 키가 중복 구매 행을 막습니다.
+     */
+    public void markPurchased(Long ticketId, Long memberId) {
+        if (memberId > PurchaserIndexRedisRepository.MAX_MEMBER_ID) {
+            return;
+        }
+
+        try {
+            purchaserIndexRedisRepository.add(ticketId, memberId);
+        } catch (Exception e) {
+            log.warn("구매한 회원 기록 실패 - 티켓 ID: {}, 회원 ID: {}", ticketId, memberId, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.wootecam.festivals.domain.ticket.dto;
+
+/**
+ * MySQL 반영을 기다리는 티켓 재고 점유 정보
+ * <p>
+ * 반영 중 다른 회원이 이미 점유한 재고로 확인되면 Redis 점유를 되돌리고 구매 세션을 무효화해야 하므로, 티켓 ID 와 구매 세션 ID 를 함께 가집니다.
+ */
+public record PendingTicketStockReservation(Long ticketId, Long ticketStockId, Long memberId,
+                                            String purchaseSessionId) {
+
+    public TicketStockReservation toReservation() {
+        return new TicketStockReservation(ticketStockId, memberId);
+    }
+}
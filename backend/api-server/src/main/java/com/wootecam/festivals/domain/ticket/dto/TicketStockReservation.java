@@ -0,0 +1,7 @@
+package com.wootecam.festivals.domain.ticket.dto;
+
+/**
+ * Redis 에서 점유한 티켓 재고를 MySQL 에 반영하기 위한 정보
+ */
+public record TicketStockReservation(Long ticketStockId, Long memberId) {
+}
@@ -1,10 +1,15 @@
 package com.wootecam.festivals.domain.ticket.repository;
 
+import com.wootecam.festivals.domain.ticket.dto.TicketStockReservation;
 import com.wootecam.festivals.domain.ticket.entity.TicketStock;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,4 +40,119 @@ public class TicketStockJdbcRepository {
             }
         });
     }
+
+    /**
+     * 티켓별로 아직 점유되지 않은 재고 수를 한 번의 집계 쿼리로 조회합니다. 남은 재고가 없는 티켓도 0으로 포함됩니다.
+     */
+    public Map<Long, Long> countRemainingStocks(Collection<Long> ticketIds) {
+        Map<Long, Long> remaining = new HashMap<>();
+        if (ticketIds.isEmpty()) {
+            return remaining;
+        }
+        ticketIds.forEach(ticketId -> remaining.put(ticketId, 0L));
+
+        String sql = "SELECT ticket_id, COUNT(*) AS remain_stock FROM ticket_stock "
+                + "WHERE ticket_id IN (" + "?, ".repeat(ticketIds.size() - 1) + "?) "
+                + "AND ticket_stock_member_id IS NULL GROUP BY ticket_id";
+        jdbcTemplate.query(sql, rs -> {
+            remaining.put(rs.getLong("ticket_id"), rs.getLong("remain_stock"));
+        }, ticketIds.toArray());
+        return remaining;
+    }
+
+    /**
+     * 여러 재고의 점유를 한 번의 배치로 해제합니다. 재고를 주어진 회원이 점유하고 있을 때만 해제합니다.
+     *
+     * @return 해제한 재고 점유 정보
+     */
+    public List<TicketStockReservation> releaseTicketStocks(List<TicketStockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = "UPDATE ticket_stock SET ticket_stock_member_id = NULL, updated_at = ? "
+                + "WHERE ticket_stock_id = ? AND ticket_stock_member_id = ?";
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        int[] updated = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int index) throws SQLException {
+                TicketStockReservation reservation = reservations.get(index);
+                ps.setTimestamp(1, now);
+                ps.setLong(2, reservation.ticketStockId());
+                ps.setLong(3, reservation.memberId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reservations.size();
+            }
+        });
+
+        List<TicketStockReservation> released = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 0) {
+                released.add(reservations.get(i));
+            }
+        }
+        return released;
+    }
+
+    /**
+     * 티켓의 점유되지 않은 재고 ID 를 조회합니다.
+     */
+    public List<Long> findUnreservedStockIds(Long ticketId) {
+        return jdbcTemplate.queryForList("SELECT ticket_stock_id FROM ticket_stock "
+                        + "WHERE ticket_id = ? AND ticket_stock_member_id IS NULL ORDER BY ticket_stock_id",
+                Long.class, ticketId);
+    }
+
+    /**
+     * 티켓의 재고를 점유한 회원별 재고 ID 를 조회합니다.
+     */
+    public Map<Long, Long> findReservedStockIdsByMemberId(Long ticketId) {
+        Map<Long, Long> reserved = new HashMap<>();
+        jdbcTemplate.query("SELECT ticket_stock_id, ticket_stock_member_id FROM ticket_stock "
+                + "WHERE ticket_id = ? AND ticket_stock_member_id IS NOT NULL", rs -> {
+            reserved.put(rs.getLong("ticket_stock_member_id"), rs.getLong("ticket_stock_id"));
+        }, ticketId);
+        return reserved;
+    }
+
+    /**
+     * Redis 에서 점유한 재고를 한 번의 배치로 반영합니다. 이미 다른 회원이 점유한 재고는 바꾸지 않습니다.
+     * <p>
+     * 배치는 트랜잭션 없이 실행되므로 실패 후 다시 반영할 때 일부 행은 이미 같은 회원으로 반영되어 있을 수 있습니다. 이 경우는 충돌이 아닌 반영된 것으로 봅니다.
+     *
+     * @return 반영하지 못한 (이미 점유된) 재고 점유 정보
+     */
+    public List<TicketStockReservation> reserveTicketStocks(List<TicketStockReservation> reservations) {
+        String sql = "UPDATE ticket_stock SET ticket_stock_member_id = ?, updated_at = ? "
+                + "WHERE ticket_stock_id = ? AND (ticket_stock_member_id IS NULL OR ticket_stock_member_id = ?)";
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        int[] updated = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int index) throws SQLException {
+                TicketStockReservation reservation = reservations.get(index);
+                ps.setLong(1, reservation.memberId());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, reservation.ticketStockId());
+                ps.setLong(4, reservation.memberId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reservations.size();
+            }
+        });
+
+        List<TicketStockReservation> conflicts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                conflicts.add(reservations.get(i));
+            }
+        }
+        return conflicts;
+    }
 }
@@ -11,12 +11,6 @@ import org.springframework.data.repository.query.Param;
 
 public interface TicketStockRepository extends JpaRepository<TicketStock, Long> {
 
-    @Query(value = """
-            SELECT * FROM ticket_stock ts  WHERE ts.ticket_id = :#{#ticketId} AND ts.ticket_stock_member_id IS NULL
-             LIMIT 1 FOR UPDATE SKIP LOCKED;
-            """, nativeQuery = true)
-    Optional<TicketStock> findByTicketForUpdate(@Param("ticketId") Long ticketId);
-
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ts FROM TicketStock ts WHERE ts.id = :id")
     Optional<TicketStock> findByIdForUpdate(Long id);
@@ -0,0 +1,57 @@
+package com.wootecam.festivals.domain.ticket.repository;
+
+import com.wootecam.festivals.domain.ticket.dto.PendingTicketStockReservation;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 종료 시 MySQL 에 반영하지 못한 티켓 재고 점유를 실행 중인 인스턴스에 넘기기 위한 Redis 리스트
+ * <p>
+ * 항목은 "ticketId:ticketStockId:memberId:purchaseSessionId" 문자열로 저장되며, LPOP 으로 하나씩 가져가므로 한 항목은 한 인스턴스만 가져갑니다.
+ */
+@Slf4j
+@Repository
+public class TicketStockReservationSpillStore {
+
+    private static final String DELIMITER = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+
+    public TicketStockReservationSpillStore(RedisTemplate<String, String> redisTemplate,
+                                            @Value("${ticket.stock.pool.spill-key:ticketStocks:reservations:spill}")
+                                            String key) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+    }
+
+    public void spill(List<PendingTicketStockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        List<String> values = reservations.stream()
+                .map(reservation -> reservation.ticketId() + DELIMITER + reservation.ticketStockId() + DELIMITER
+                        + reservation.memberId() + DELIMITER + reservation.purchaseSessionId())
+                .toList();
+        redisTemplate.opsForList().rightPushAll(key, values);
+        log.warn("티켓 재고 점유 넘김 - {}건", values.size());
+    }
+
+    /**
+     * 넘겨받은 점유 정보를 최대 maxItems 개까지 꺼냅니다.
+     */
+    public List<PendingTicketStockReservation> take(int maxItems) {
+        List<PendingTicketStockReservation> reservations = new ArrayList<>();
+        String value;
+        while (reservations.size() < maxItems && (value = redisTemplate.opsForList().leftPop(key)) != null) {
+            String[] fields = value.split(DELIMITER, 4);
+            reservations.add(new PendingTicketStockReservation(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2]), fields[3]));
+        }
+        return reservations;
+    }
+}
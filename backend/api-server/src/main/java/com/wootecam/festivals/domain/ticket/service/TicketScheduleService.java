@@ -1,5 +1,6 @@
 package com.wootecam.festivals.domain.ticket.service;
 
+import com.wootecam.festivals.domain.purchase.service.PurchaserIndexService;
 import com.wootecam.festivals.domain.ticket.dto.TicketResponse;
 import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
@@ -25,9 +26,11 @@ public class TicketScheduleService {
     private final ThreadPoolTaskScheduler taskScheduler;
     private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
     private final CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    private final TicketStockAllocator ticketStockAllocator;
+    private final PurchaserIndexService purchaserIndexService;
 
     /**
-     * 판매 진행중이거나 앞으로 판매될 티켓의 메타 정보와 재고를 Redis에 저장 - Ticket 의 startSaleTime, endSaleTime, remainStock
+     * 판매 진행중이거나 앞으로 판매될 티켓의 메타 정보와 재고를 Redis에 저장 - Ticket 의 startSaleTime, endSaleTime, remainStock, 점유 가능한 재고 ID
      */
     @EventListener(ContextRefreshedEvent.class)
     public void scheduleRedisTicketInfoUpdate() {
@@ -70,6 +73,10 @@ public class TicketScheduleService {
     private void updateRedisTicketStockCount(TicketResponse ticket) {
         // Redis 에 남은 티켓 재고 업데이트 (tickets:ticketId:ticketStocks:count)
         ticketStockCountRedisRepository.setTicketStockCount(ticket.id(), ticket.remainStock());
+        // 구매 가능 여부 확인 시 점유할 재고 ID 적재 (tickets:ticketId:ticketStocks:pool)
+        ticketStockAllocator.preload(ticket.id());
+        // 구매 여부 확인 시 조회할 구매한 회원 적재 (tickets:ticketId:purchasers)
+        purchaserIndexService.preload(ticket.id());
 
         log.debug("Redis에 저장된 티켓 남은 재고 count 업데이트 - 티켓 ID: {}, 남은 재고: {}", ticket.id(), ticket.remainStock());
     }
@@ -0,0 +1,78 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import com.wootecam.festivals.domain.ticket.exception.TicketErrorCode;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 티켓 재고 점유를 담당하는 서비스
+ * <p>
+ * 판매 전에 점유되지 않은 재고 ID 를 Redis 에 적재해 두고, 점유는 Lua script 한 번으로 재고 ID 를 꺼내고 회원의 점유 정보를 기록합니다. 구매 세션을 만든 뒤
+ * {@link #persist} 로 넘긴 점유를 {@link TicketStockReservationWriter} 가 MySQL 에 비동기로 반영하므로 점유 요청이 행 잠금과 DB 커넥션을 잡지 않습니다.
+ * 적재되지 않은 티켓은 처음 점유할 때 적재합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketStockAllocator {
+
+    private final TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
+    private final TicketStockJdbcRepository ticketStockJdbcRepository;
+    private final TicketStockReservationWriter ticketStockReservationWriter;
+
+    /**
+     * MySQL 의 재고 점유 상태를 Redis 에 적재합니다. 이미 적재되었다면 아무것도 하지 않습니다.
+     */
+    public void preload(Long ticketId) {
+        if (ticketStockPoolRedisRepository.isLoaded(ticketId)) {
+            return;
+        }
+        List<Long> unreservedStockIds = ticketStockJdbcRepository.findUnreservedStockIds(ticketId);
+        Map<Long, Long> reservedStockIds = ticketStockJdbcRepository.findReservedStockIdsByMemberId(ticketId);
+        if (ticketStockPoolRedisRepository.load(ticketId, unreservedStockIds, reservedStockIds)) {
+            log.debug("티켓 재고 적재 완료 - 티켓 ID: {}, 점유 가능한 재고: {}", ticketId, unreservedStockIds.size());
+        }
+    }
+
+    /**
+     * 회원에게 재고 하나를 Redis 에서 점유시키고 재고 ID 를 반환합니다. 남은 재고가 없다면 빈 값을 반환합니다.
+     */
+    public Optional<Long> allocate(Long ticketId, Long memberId) {
+        long result = ticketStockPoolRedisRepository.claim(ticketId, memberId);
+        if (result == TicketStockPoolRedisRepository.NOT_LOADED) {
+            preload(ticketId);
+            result = ticketStockPoolRedisRepository.claim(ticketId, memberId);
+        }
+
+        if (result == TicketStockPoolRedisRepository.ALREADY_RESERVED) {
+            log.warn("이미 티켓 재고를 예약한 회원입니다. 티켓 ID: {}, 회원 ID: {}", ticketId, memberId);
+            throw new ApiException(TicketErrorCode.ALREADY_RESERVED_TICKET_STOCK);
+        }
+        if (result < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(result);
+    }
+
+    /**
+     * 점유한 재고를 MySQL 에 반영하도록 넘깁니다. 반영 중 이미 다른 회원이 점유한 재고로 확인되면 점유를 되돌리고 구매 세션을 무효화합니다.
+     */
+    public void persist(Long ticketId, Long ticketStockId, Long memberId, String purchaseSessionId) {
+        ticketStockReservationWriter.add(ticketId, ticketStockId, memberId, purchaseSessionId);
+    }
+
+    /**
+     * 아직 MySQL 에 반영되지 않았을 수 있는 점유 정보를 포함해, 회원이 해당 재고를 점유했는지 확인합니다.
+     */
+    public boolean isReservedBy(Long ticketId, Long ticketStockId, Long memberId) {
+        return ticketStockId.equals(ticketStockPoolRedisRepository.getReservedStockId(ticketId, memberId));
+    }
+}
@@ -0,0 +1,138 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 재고 카운터를 MySQL 의 남은 재고와 맞추는 서비스
+ * <p>
+ * Redis 카운터는 대기열 통과 시 먼저 차감되고 MySQL 재고는 구매 페이지 진입 시 점유되므로, 정상 상태에서도 Redis 값이 MySQL 의 남은 재고보다 작을 수 있습니다.
+ * 따라서 Redis 값이 더 크면 (팔 수 없는 재고로 사용자를 입장시키는 상태) 바로 낮추고, 더 작으면 같은 차이가 raiseAfterMs 이상 변하지 않았을 때만 (진행 중인 구매가
+ * 없다고 볼 수 있을 때) 올립니다. 보정은 Lua compare-and-set 으로 조회한 값이 그대로일 때만 반영되어 그 사이의 차감, 복구를 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Service
+public class TicketStockReconciler {
+
+    private final CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final TicketStockJdbcRepository ticketStockJdbcRepository;
+    private final long minIntervalMs;
+    private final long raiseAfterMs;
+
+    // 티켓별 마지막 보정 시각 (배치마다 호출될 때 같은 티켓을 너무 자주 조회하지 않도록 함)
+    private final ConcurrentMap<Long, Long> lastReconciledAt = new ConcurrentHashMap<>();
+    // 티켓별로 Redis 값이 MySQL 보다 작은 상태가 처음 관측된 시각과 그때의 값
+    private final ConcurrentMap<Long, Shortage> shortages = new ConcurrentHashMap<>();
+
+    public TicketStockReconciler(CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository,
+                                 TicketStockCountRedisRepository ticketStockCountRedisRepository,
+                                 TicketStockJdbcRepository ticketStockJdbcRepository,
+                                 @Value("${ticket.stock.reconcile.min-interval-ms:1000}") long minIntervalMs,
+                                 @Value("${ticket.stock.reconcile.raise-after-ms:360000}") long raiseAfterMs) {
+        this.currentTicketWaitRedisRepository = currentTicketWaitRedisRepository;
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+        this.ticketStockJdbcRepository = ticketStockJdbcRepository;
+        this.minIntervalMs = minIntervalMs;
+        this.raiseAfterMs = raiseAfterMs;
+    }
+
+    /**
+     * 구매 배치 반영 후 호출되며, 최근 minIntervalMs 안에 보정한 티켓은 건너뜁니다.
+     */
+    public void reconcileRecently(Collection<Long> ticketIds) {
+        long now = System.currentTimeMillis();
+        List<Long> targets = new ArrayList<>(ticketIds.size());
+        for (Long ticketId : ticketIds) {
+            if (isDue(ticketId, now)) {
+                targets.add(ticketId);
+            }
+        }
+        reconcile(targets, now);
+    }
+
+    // 여러 배치 스레드가 동시에 호출해도 한 스레드만 보정하도록 마지막 보정 시각을 CAS 로 갱신
+    private boolean isDue(Long ticketId, long now) {
+        Long last = lastReconciledAt.get(ticketId);
+        if (last == null) {
+            return lastReconciledAt.putIfAbsent(ticketId, now) == null;
+        }
+        return now - last >= minIntervalMs && lastReconciledAt.replace(ticketId, last, now);
+    }
+
+    /**
+     * 판매 진행 중인 모든 티켓의 재고를 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${ticket.stock.reconcile.interval-ms:10000}")
+    public void reconcileActiveTickets() {
+        try {
+            List<Long> ticketIds = currentTicketWaitRedisRepository.getCurrentTicketWait();
+            long now = System.currentTimeMillis();
+            ticketIds.forEach(ticketId -> lastReconciledAt.put(ticketId, now));
+            reconcile(ticketIds, now);
+            // 판매가 끝난 티켓의 상태는 정리
+            lastReconciledAt.keySet().retainAll(ticketIds);
+            shortages.keySet().retainAll(ticketIds);
+        } catch (Exception e) {
+            log.error("재고 보정 실패", e);
+        }
+    }
+
+    void reconcile(Collection<Long> ticketIds, long now) {
+        if (ticketIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> remainingStocks = ticketStockJdbcRepository.countRemainingStocks(ticketIds);
+        for (Map.Entry<Long, Long> entry : remainingStocks.entrySet()) {
+            Long ticketId = entry.getKey();
+            long remainStock = entry.getValue();
+            Long redisCount = ticketStockCountRedisRepository.getTicketStockCount(ticketId);
+            if (redisCount == null) {
+                // 아직 판매 준비 전인 티켓
+                continue;
+            }
+
+            if (redisCount > remainStock) {
+                shortages.remove(ticketId);
+                correct(ticketId, redisCount, remainStock);
+            } else if (redisCount < remainStock) {
+                Shortage observed = new Shortage(redisCount, remainStock, now);
+                Shortage shortage = shortages.merge(ticketId, observed,
+                        (previous, current) -> previous.isSameAs(current) ? previous : current);
+                if (now - shortage.since() >= raiseAfterMs) {
+                    shortages.remove(ticketId);
+                    correct(ticketId, redisCount, remainStock);
+                }
+            } else {
+                shortages.remove(ticketId);
+            }
+        }
+    }
+
+    private void correct(Long ticketId, long redisCount, long remainStock) {
+        if (ticketStockCountRedisRepository.compareAndSetTicketStockCount(ticketId, redisCount, remainStock)) {
+            log.warn("재고 보정 - 티켓 ID: {}, Redis 재고: {} -> {}", ticketId, redisCount, remainStock);
+        } else {
+            log.debug("재고 보정 중 Redis 재고가 변경되어 다음 주기로 미룸 - 티켓 ID: {}", ticketId);
+        }
+    }
+
+    private record Shortage(long redisCount, long remainStock, long since) {
+
+        boolean isSameAs(Shortage other) {
+            return redisCount == other.redisCount && remainStock == other.remainStock;
+        }
+    }
+}
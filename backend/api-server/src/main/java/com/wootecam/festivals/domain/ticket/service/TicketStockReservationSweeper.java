@@ -0,0 +1,124 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import com.wootecam.festivals.domain.ticket.dto.TicketStockReservation;
+import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.ReservationExpiryRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.ReservationExpiryRedisRepository.ExpiredReservation;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 구매 세션이 끝날 때까지 결제를 시작하지 않은 재고 점유를 해제하는 서비스
+ * <p>
+ * 구매 가능 여부 확인에서 재고를 점유하면 구매 세션 만료 시각에 graceMs 를 더한 시각을 티켓별 Sorted Set 에 등록하고, 결제를 시작하면 등록을 지웁니다. 주기마다 만료된
+ * 점유를 batchSize 개씩 꺼내 MySQL 은 한 번의 배치 UPDATE 로, Redis 재고 ID 와 재고 수는 티켓별로 한 번씩 되돌립니다. 꺼내기와 지우기가 모두 원자적이므로 같은
+ * 점유를 결제 시작과 만료 해제가 함께 처리하지 않으며, 그 사이 다른 회원이 점유한 재고는 MySQL 과 Redis 모두 회원을 확인해 해제하지 않습니다.
+ */
+@Slf4j
+@Service
+public class TicketStockReservationSweeper {
+
+    private final ReservationExpiryRedisRepository reservationExpiryRedisRepository;
+    private final CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    private final TicketStockJdbcRepository ticketStockJdbcRepository;
+    private final TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final long graceMs;
+    private final int batchSize;
+
+    public TicketStockReservationSweeper(ReservationExpiryRedisRepository reservationExpiryRedisRepository,
+                                         CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository,
+                                         TicketStockJdbcRepository ticketStockJdbcRepository,
+                                         TicketStockPoolRedisRepository ticketStockPoolRedisRepository,
+                                         TicketStockCountRedisRepository ticketStockCountRedisRepository,
+                                         @Value("${ticket.stock.expiry.grace-ms:60000}") long graceMs,
+                                         @Value("${ticket.stock.expiry.batch-size:500}") int batchSize) {
+        this.reservationExpiryRedisRepository = reservationExpiryRedisRepository;
+        this.currentTicketWaitRedisRepository = currentTicketWaitRedisRepository;
+        this.ticketStockJdbcRepository = ticketStockJdbcRepository;
+        this.ticketStockPoolRedisRepository = ticketStockPoolRedisRepository;
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+        this.graceMs = graceMs;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 구매 세션이 만료되고 graceMs 가 지나면 점유를 해제하도록 등록합니다.
+     */
+    public void scheduleExpiry(Long ticketId, Long ticketStockId, Long memberId, long sessionTtlMs) {
+        reservationExpiryRedisRepository.schedule(ticketId, ticketStockId, memberId,
+                System.currentTimeMillis() + sessionTtlMs + graceMs);
+    }
+
+    /**
+     * 결제를 시작한 점유를 만료 대상에서 지웁니다.
+     *
+     * @return 이미 만료되어 해제 중이거나 해제되었다면 false
+     */
+    public boolean cancelExpiry(Long ticketId, Long ticketStockId, Long memberId) {
+        return reservationExpiryRedisRepository.cancel(ticketId, ticketStockId, memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.stock.expiry.sweep-interval-ms:1000}")
+    public void sweepExpiredReservations() {
+        try {
+            long now = System.currentTimeMillis();
+            for (Long ticketId : currentTicketWaitRedisRepository.getCurrentTicketWait()) {
+                sweep(ticketId, now);
+            }
+        } catch (Exception e) {
+            log.error("만료된 재고 점유 해제 실패", e);
+        }
+    }
+
+    void sweep(Long ticketId, long nowMillis) {
+        List<ExpiredReservation> expired;
+        do {
+            expired = reservationExpiryRedisRepository.pollExpired(ticketId, nowMillis, batchSize);
+            if (expired.isEmpty()) {
+                return;
+            }
+            release(ticketId, expired, nowMillis);
+        } while (expired.size() == batchSize);
+    }
+
+    private void release(Long ticketId, List<ExpiredReservation> expired, long nowMillis) {
+        List<TicketStockReservation> reservations = expired.stream()
+                .map(reservation -> new TicketStockReservation(reservation.ticketStockId(), reservation.memberId()))
+                .toList();
+        List<TicketStockReservation> releasedInDb;
+        try {
+            releasedInDb = ticketStockJdbcRepository.releaseTicketStocks(reservations);
+        } catch (Exception e) {
+            // 꺼낸 점유를 다시 등록해 다음 주기에 해제
+            expired.forEach(reservation -> reservationExpiryRedisRepository.schedule(ticketId,
+                    reservation.ticketStockId(), reservation.memberId(), nowMillis));
+            throw e;
+        }
+        if (releasedInDb.size() < reservations.size()) {
+            // 다른 회원이 점유한 재고는 MySQL 과 Redis 모두 그대로 둠
+            log.warn("만료된 점유 중 다른 회원이 점유한 재고 제외 - 티켓 ID: {}, 제외: {}", ticketId,
+                    reservations.size() - releasedInDb.size());
+        }
+        if (releasedInDb.isEmpty()) {
+            return;
+        }
+
+        // MySQL 에서 해제한 재고 중 보상 처리 등으로 이미 되돌린 재고는 제외하고 되돌린 만큼만 재고 수를 올림
+        Map<Long, Long> memberIdByTicketStockId = releasedInDb.stream()
+                .collect(Collectors.toMap(TicketStockReservation::ticketStockId, TicketStockReservation::memberId));
+        long released = ticketStockPoolRedisRepository.releaseAll(ticketId, memberIdByTicketStockId);
+        if (released > 0) {
+            ticketStockCountRedisRepository.returnStock(ticketId, released);
+        }
+        log.info("만료된 재고 점유 해제 - 티켓 ID: {}, 해제: {}, 재고 복구: {}", ticketId, releasedInDb.size(), released);
+    }
+}
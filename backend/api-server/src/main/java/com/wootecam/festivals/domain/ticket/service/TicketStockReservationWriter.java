@@ -0,0 +1,142 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import com.wootecam.festivals.domain.ticket.dto.PendingTicketStockReservation;
+import com.wootecam.festivals.domain.ticket.dto.TicketStockReservation;
+import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockReservationSpillStore;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 에서 점유한 티켓 재고를 모아 MySQL 에 배치로 반영하는 클래스
+ * <p>
+ * 점유 요청마다 행 잠금과 커넥션을 잡지 않도록 flushIntervalMs 마다 모인 점유 정보를 한 번의 batch UPDATE 로 반영합니다. 반영에 실패한 묶음은 다음 주기에 다시
+ * 시도합니다. MySQL 에서 이미 다른 회원이 점유한 재고로 확인되면 Redis 점유를 되돌리고 구매 세션을 무효화합니다. 종료 시 반영하지 못한 점유는 Redis 리스트로
+ * 넘기고, 실행 중인 인스턴스가 주기적으로 가져가 반영합니다.
+ */
+@Slf4j
+@Component
+public class TicketStockReservationWriter {
+
+    private final TicketStockJdbcRepository ticketStockJdbcRepository;
+    private final TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
+    private final PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    private final TicketStockReservationSpillStore ticketStockReservationSpillStore;
+    private final int batchSize;
+    private final BlockingQueue<PendingTicketStockReservation> pending = new LinkedBlockingQueue<>();
+    private volatile boolean shuttingDown;
+
+    public TicketStockReservationWriter(TicketStockJdbcRepository ticketStockJdbcRepository,
+                                        TicketStockPoolRedisRepository ticketStockPoolRedisRepository,
+                                        PurchaseSessionRedisRepository purchaseSessionRedisRepository,
+                                        TicketStockReservationSpillStore ticketStockReservationSpillStore,
+                                        @Value("${ticket.stock.pool.write-batch-size:500}") int batchSize) {
+        this.ticketStockJdbcRepository = ticketStockJdbcRepository;
+        this.ticketStockPoolRedisRepository = ticketStockPoolRedisRepository;
+        this.purchaseSessionRedisRepository = purchaseSessionRedisRepository;
+        this.ticketStockReservationSpillStore = ticketStockReservationSpillStore;
+        this.batchSize = batchSize;
+    }
+
+    public void add(Long ticketId, Long ticketStockId, Long memberId, String purchaseSessionId) {
+        pending.offer(new PendingTicketStockReservation(ticketId, ticketStockId, memberId, purchaseSessionId));
+    }
+
+    /**
+     * 모인 점유 정보를 batchSize 단위로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${ticket.stock.pool.flush-interval-ms:100}")
+    public void flush() {
+        List<PendingTicketStockReservation> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            List<TicketStockReservation> conflicts;
+            try {
+                conflicts = ticketStockJdbcRepository.reserveTicketStocks(batch.stream()
+                        .map(PendingTicketStockReservation::toReservation)
+                        .toList());
+            } catch (Exception e) {
+                log.error("티켓 재고 점유 반영 실패, 다음 주기에 다시 시도 - {}건", batch.size(), e);
+                pending.addAll(batch);
+                return;
+            }
+            if (!conflicts.isEmpty()) {
+                revokeConflicts(batch, conflicts);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 종료하면서 넘긴 점유 정보를 가져와 다음 반영에 포함합니다.
+     */
+    @Scheduled(fixedDelayString = "${ticket.stock.pool.spill-poll-interval-ms:5000}")
+    public void pollSpilledReservations() {
+        if (shuttingDown) {
+            return;
+        }
+        try {
+            List<PendingTicketStockReservation> spilled;
+            while (!(spilled = ticketStockReservationSpillStore.take(batchSize)).isEmpty()) {
+                pending.addAll(spilled);
+            }
+        } catch (Exception e) {
+            log.error("넘겨받은 티켓 재고 점유 가져오기 실패", e);
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        shuttingDown = true;
+        flush();
+
+        List<PendingTicketStockReservation> leftovers = new ArrayList<>();
+        pending.drainTo(leftovers);
+        if (leftovers.isEmpty()) {
+            return;
+        }
+        try {
+            ticketStockReservationSpillStore.spill(leftovers);
+        } catch (Exception e) {
+            // Redis 도 사용할 수 없다면 복구할 수 있도록 남은 점유를 로그로 남김
+            log.error("종료 전 반영하지 못한 티켓 재고 점유를 넘기지 못함 - {}", leftovers, e);
+        }
+    }
+
+    // Redis 가 초기화되어 이미 점유된 재고를 다시 적재한 경우에만 발생, 점유를 되돌리고 결제로 진행하지 않도록 구매 세션을 지움
+    private void revokeConflicts(List<PendingTicketStockReservation> batch, List<TicketStockReservation> conflicts) {
+        Set<TicketStockReservation> conflictSet = new HashSet<>(conflicts);
+        List<PendingTicketStockReservation> revoked = batch.stream()
+                .filter(reservation -> conflictSet.contains(reservation.toReservation()))
+                .toList();
+        log.error("이미 점유된 티켓 재고, 점유 취소 - {}", revoked);
+
+        try {
+            revoked.forEach(reservation -> purchaseSessionRedisRepository.removePurchaseSession(
+                    reservation.ticketId(), reservation.purchaseSessionId(), reservation.memberId()));
+            Map<Long, Map<Long, Long>> memberIdByTicketStockIdByTicketId = revoked.stream()
+                    .collect(Collectors.groupingBy(PendingTicketStockReservation::ticketId,
+                            Collectors.toMap(PendingTicketStockReservation::ticketStockId,
+                                    PendingTicketStockReservation::memberId)));
+            memberIdByTicketStockIdByTicketId.forEach(ticketStockPoolRedisRepository::releaseAll);
+        } catch (Exception e) {
+            log.error("이미 점유된 티켓 재고의 점유 취소 실패 - {}", revoked, e);
+        }
+    }
+}
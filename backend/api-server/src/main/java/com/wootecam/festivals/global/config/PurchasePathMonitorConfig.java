@@ -0,0 +1,21 @@
+package com.wootecam.festivals.global.config;
+
+import com.wootecam.festivals.domain.health.PurchasePathMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class PurchasePathMonitorConfig implements WebMvcConfigurer {
+
+    private final PurchasePathMonitor purchasePathMonitor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(purchasePathMonitor)
+                .addPathPatterns("/api/v1/festivals/*/tickets/*/purchase/**")
+                .excludePathPatterns("/api/v1/festivals/*/tickets/*/purchase/*/status");
+    }
+}
@@ -0,0 +1,96 @@
+package com.wootecam.festivals.global.config;
+
+import com.wootecam.festivals.global.queue.CustomQueue;
+import com.wootecam.festivals.global.queue.InMemoryQueue;
+import com.wootecam.festivals.global.queue.RedisStreamQueue;
+import com.wootecam.festivals.global.queue.RingBufferQueue;
+import com.wootecam.festivals.global.queue.ShardedPurchaseQueue;
+import com.wootecam.festivals.global.queue.WaitStrategy;
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.journal.MappedPurchaseJournal;
+import com.wootecam.festivals.global.queue.journal.NoOpPurchaseJournal;
+import com.wootecam.festivals.global.queue.journal.PurchaseJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@Configuration
+public class QueueConfig {
+
+    private static final String IN_MEMORY = "in-memory";
+    private static final String REDIS_STREAM = "redis-stream";
+    private static final String SHARDED = "sharded";
+
+    @Value("${queue.purchase.type:ring-buffer}")
+    private String queueType;
+
+    @Value("${queue.purchase.capacity:4096}")
+    private int capacity;
+
+    // sharded 사용 시 샤드 수 (capacity 는 샤드 하나의 용량)
+    @Value("${queue.purchase.shard-count:8}")
+    private int shardCount;
+
+    @Value("${queue.purchase.wait-strategy:YIELD}")
+    private WaitStrategy waitStrategy;
+
+    @Value("${queue.purchase.offer-timeout-ms:10}")
+    private long offerTimeoutMs;
+
+    @Value("${queue.purchase.stream.key:purchases:stream}")
+    private String streamKey;
+
+    @Value("${queue.purchase.stream.group:purchase-writers}")
+    private String streamGroup;
+
+    // 비어있으면 프로세스 이름(pid@host)을 컨슈머 이름으로 사용
+    @Value("${queue.purchase.stream.consumer:}")
+    private String streamConsumer;
+
+    @Value("${queue.purchase.stream.claim-min-idle-ms:60000}")
+    private long streamClaimMinIdleMs;
+
+    @Value("${queue.journal.enabled:false}")
+    private boolean journalEnabled;
+
+    @Value("${queue.journal.dir:./journal}")
+    private String journalDir;
+
+    @Value("${queue.journal.segment-size-mb:64}")
+    private int journalSegmentSizeMb;
+
+    @Bean
+    public CustomQueue<PurchaseData> purchaseQueue(RedisTemplate<String, String> redisTemplate,
+                                                   MeterRegistry meterRegistry) {
+        if (IN_MEMORY.equals(queueType)) {
+            return new InMemoryQueue<>(capacity);
+        }
+        if (REDIS_STREAM.equals(queueType)) {
+            String consumer = streamConsumer.isBlank()
+                    ? ManagementFactory.getRuntimeMXBean().getName()
+                    : streamConsumer;
+            return new RedisStreamQueue(redisTemplate, streamKey, streamGroup, consumer,
+                    Duration.ofMillis(streamClaimMinIdleMs));
+        }
+        if (SHARDED.equals(queueType)) {
+            return new ShardedPurchaseQueue(shardCount, capacity, waitStrategy, offerTimeoutMs, TimeUnit.MILLISECONDS,
+                    meterRegistry);
+        }
+        return new RingBufferQueue<>(capacity, waitStrategy, offerTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Bean
+    public PurchaseJournal purchaseJournal() {
+        // 스트림은 그 자체로 Redis 에 보존되므로 저널을 사용하지 않음
+        if (!journalEnabled || REDIS_STREAM.equals(queueType)) {
+            return new NoOpPurchaseJournal();
+        }
+        return new MappedPurchaseJournal(Path.of(journalDir), journalSegmentSizeMb * 1024 * 1024);
+    }
+}
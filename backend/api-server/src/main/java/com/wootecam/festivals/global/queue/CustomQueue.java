@@ -1,6 +1,8 @@
 package com.wootecam.festivals.global.queue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CustomQueue<T> {
     void offer(T item);
@@ -8,5 +10,23 @@ public interface CustomQueue<T> {
     boolean isEmpty();
     int size();
     List<T> pollBatch(int batchSize);
+    // 중간 리스트 할당 없이 최대 maxItems 개의 항목을 consumer 에 전달하고, 전달한 개수를 반환
+    int drainTo(Consumer<? super T> consumer, int maxItems);
     void clear();
+    // 따로 처리할 수 있는 묶음 단위로 최대 maxItems 개를 꺼내 batchConsumer 에 전달하고, 전달한 항목 수를 반환 (기본은 하나의 묶음)
+    default int drainPartitionsTo(Consumer<List<T>> batchConsumer, int maxItems) {
+        List<T> batch = new ArrayList<>();
+        int drained = drainTo(batch::add, maxItems);
+        if (drained > 0) {
+            batchConsumer.accept(batch);
+        }
+        return drained;
+    }
+    // DB 반영이 끝난 항목을 큐에서 확정 (외부 저장소 기반 구현체에서 사용)
+    default void acknowledge(List<T> items) {
+    }
+    // 여러 노드가 함께 읽는 외부 저장소 기반 큐인지 여부 (남은 항목은 다른 노드가 처리하므로 종료 시 넘기지 않음)
+    default boolean isShared() {
+        return false;
+    }
 }
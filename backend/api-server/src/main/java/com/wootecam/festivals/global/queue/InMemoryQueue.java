@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class InMemoryQueue<T> implements CustomQueue<T> {
 
@@ -103,6 +104,24 @@ public class InMemoryQueue<T> implements CustomQueue<T> {
         return batch;
     }
 
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxItems) {
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("배치 사이즈는 0보다 커야합니다.");
+        }
+
+        int drained = 0;
+        while (drained < maxItems) {
+            T item = poll();
+            if (item == null) {
+                break;
+            }
+            consumer.accept(item);
+            drained++;
+        }
+        return drained;
+    }
+
     @Override
     public void clear() {
         queue.clear();
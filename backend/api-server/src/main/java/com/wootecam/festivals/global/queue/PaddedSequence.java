@@ -0,0 +1,54 @@
+package com.wootecam.festivals.global.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 캐시 라인 패딩이 적용된 시퀀스
+ * <p>
+ * 생산자가 갱신하는 tail 과 소비자가 갱신하는 head 가 같은 캐시 라인에 놓이면 서로의 캐시를 무효화하는 false sharing 이 발생합니다. JVM 이 한 클래스 안의 필드
+ * 순서를 재배치할 수 있으므로 상속 계층을 이용해 value 앞뒤로 56 바이트씩 패딩을 둡니다.
+ */
+final class PaddedSequence extends SequenceRhsPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    PaddedSequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    void set(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+}
+
+abstract class SequenceLhsPadding {
+
+    protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+abstract class SequenceValue extends SequenceLhsPadding {
+
+    protected volatile long value;
+}
+
+abstract class SequenceRhsPadding extends SequenceValue {
+
+    protected long p9, p10, p11, p12, p13, p14, p15;
+}
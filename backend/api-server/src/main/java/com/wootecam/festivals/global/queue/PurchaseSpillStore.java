@@ -0,0 +1,57 @@
+package com.wootecam.festivals.global.queue;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 시 DB 에 반영하지 못한 구매 데이터를 다음 인스턴스에 넘기기 위한 Redis 리스트
+ * <p>
+ * 항목은 "memberId:ticketId:ticketStockId" 문자열로 저장되며, 시작하는 인스턴스가 LPOP 으로 하나씩 가져가므로 여러 인스턴스가 동시에 시작해도 한 항목은 한
+ * 인스턴스만 가져갑니다.
+ */
+@Slf4j
+@Component
+public class PurchaseSpillStore {
+
+    private static final String DELIMITER = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+
+    public PurchaseSpillStore(RedisTemplate<String, String> redisTemplate,
+                              @Value("${queue.shutdown.spill-key:purchases:spill}") String key) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+    }
+
+    public void spill(List<PurchaseData> purchases) {
+        if (purchases.isEmpty()) {
+            return;
+        }
+        List<String> values = purchases.stream()
+                .map(purchase -> purchase.memberId() + DELIMITER + purchase.ticketId() + DELIMITER
+                        + purchase.ticketStockId())
+                .toList();
+        redisTemplate.opsForList().rightPushAll(key, values);
+        log.warn("SPILL,size={}", values.size());
+    }
+
+    /**
+     * 넘겨받은 구매 데이터를 최대 maxItems 개까지 꺼냅니다.
+     */
+    public List<PurchaseData> take(int maxItems) {
+        List<PurchaseData> purchases = new ArrayList<>();
+        String value;
+        while (purchases.size() < maxItems && (value = redisTemplate.opsForList().leftPop(key)) != null) {
+            String[] fields = value.split(DELIMITER);
+            purchases.add(new PurchaseData(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2])));
+        }
+        return purchases;
+    }
+}
@@ -0,0 +1,280 @@
+package com.wootecam.festivals.global.queue;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.exception.QueueOperationException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+/**
+ * Redis Streams 기반 구매 큐
+ * <p>
+ * 구매 데이터는 XADD 로 스트림에 기록되고, 각 api-server 노드는 같은 컨슈머 그룹의 서로 다른 컨슈머로 XREADGROUP 하여 나눠서 처리합니다. 꺼낸 항목은 DB 반영이 끝난
+ * 뒤 {@link #acknowledge(List)} 로 XACK, XDEL 되기 전까지 그룹의 pending 목록에 남으므로, 노드가 죽으면 다른 노드가 일정 시간 이상 방치된 항목을 XCLAIM 으로
+ * 가져와 처리합니다.
+ * <p>
+ * 비어있는지는 스트림 전체 길이 (다른 노드가 꺼낸 항목 포함) 가 아니라 이 노드가 새로 읽을 항목이 있는지로 판단합니다. {@link #isEmpty()} 는 최대
+ * {@value #PREFETCH_COUNT} 개를 미리 읽어 두고, {@link #size()} 는 미리 읽어 두었지만 아직 꺼내지 않은 항목 수를 반환합니다.
+ */
+@Slf4j
+public class RedisStreamQueue implements CustomQueue<PurchaseData> {
+
+    private static final String MEMBER_ID = "memberId";
+    private static final String TICKET_ID = "ticketId";
+    private static final String TICKET_STOCK_ID = "ticketStockId";
+    // 비어있는지 확인할 때 미리 읽어 두는 최대 항목 수
+    private static final int PREFETCH_COUNT = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StreamOperations<String, String, String> streamOperations;
+    private final String streamKey;
+    private final String group;
+    private final String consumerName;
+    private final Duration claimMinIdle;
+
+    // 이 노드가 꺼냈지만 아직 ack 하지 않은 항목
+    private final Map<PurchaseData, Deque<RecordId>> inflight = new HashMap<>();
+    private final Set<RecordId> inflightIds = new HashSet<>();
+    // 이 노드가 미리 읽었지만 아직 꺼내지 않은 항목
+    private final Deque<PurchaseData> prefetched = new ArrayDeque<>();
+    private volatile long lastClaimAt;
+
+    public RedisStreamQueue(RedisTemplate<String, String> redisTemplate, String streamKey, String group,
+                            String consumerName, Duration claimMinIdle) {
+        this.redisTemplate = redisTemplate;
+        this.streamOperations = redisTemplate.opsForStream();
+        this.streamKey = streamKey;
+        this.group = group;
+        this.consumerName = consumerName;
+        this.claimMinIdle = claimMinIdle;
+        createGroupIfAbsent();
+    }
+
+    @Override
+    public void offer(PurchaseData item) {
+        if (item == null) {
+            throw new IllegalArgumentException("큐에 null을 넣을 수 없습니다.");
+        }
+        try {
+            streamOperations.add(streamKey, Map.of(
+                    MEMBER_ID, String.valueOf(item.memberId()),
+                    TICKET_ID, String.valueOf(item.ticketId()),
+                    TICKET_STOCK_ID, String.valueOf(item.ticketStockId())));
+        } catch (DataAccessException e) {
+            throw new QueueOperationException("구매 스트림에 추가하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public PurchaseData poll() {
+        List<PurchaseData> items = pollBatch(1);
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    @Override
+    public int drainTo(Consumer<? super PurchaseData> consumer, int maxItems) {
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("배치 사이즈는 0보다 커야합니다.");
+        }
+
+        int drained = 0;
+        synchronized (prefetched) {
+            PurchaseData item;
+            while (drained < maxItems && (item = prefetched.pollFirst()) != null) {
+                consumer.accept(item);
+                drained++;
+            }
+        }
+        if (drained >= maxItems) {
+            return drained;
+        }
+
+        for (MapRecord<String, String, String> record : claimStuckRecords(maxItems - drained)) {
+            consumer.accept(track(record));
+            drained++;
+        }
+        if (drained >= maxItems) {
+            return drained;
+        }
+
+        for (MapRecord<String, String, String> record : readNewRecords(maxItems - drained)) {
+            consumer.accept(track(record));
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public void acknowledge(List<PurchaseData> items) {
+        List<RecordId> ids = new ArrayList<>(items.size());
+        synchronized (inflight) {
+            for (PurchaseData item : items) {
+                Deque<RecordId> recordIds = inflight.get(item);
+                if (recordIds == null) {
+                    // 스트림을 거치지 않은 항목 (큐가 가득 차 에러 큐로 바로 간 경우 등)
+                    continue;
+                }
+                RecordId id = recordIds.pollFirst();
+                if (recordIds.isEmpty()) {
+                    inflight.remove(item);
+                }
+                inflightIds.remove(id);
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        RecordId[] recordIds = ids.toArray(RecordId[]::new);
+        streamOperations.acknowledge(streamKey, group, recordIds);
+        streamOperations.delete(streamKey, recordIds);
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    /**
+     * 미리 읽어 둔 항목이 없다면 이 노드가 처리할 항목 (오래 방치된 다른 노드의 항목 포함) 을 한 번 읽어 두고, 읽은 항목이 없는지 반환합니다.
+     */
+    @Override
+    public boolean isEmpty() {
+        synchronized (prefetched) {
+            if (!prefetched.isEmpty()) {
+                return false;
+            }
+        }
+        return prefetch() == 0;
+    }
+
+    /**
+     * 미리 읽어 두었지만 아직 꺼내지 않은 항목 수를 반환합니다. Redis 를 조회하지 않습니다.
+     */
+    @Override
+    public int size() {
+        synchronized (prefetched) {
+            return prefetched.size();
+        }
+    }
+
+    @Override
+    public List<PurchaseData> pollBatch(int batchSize) {
+        List<PurchaseData> batch = new ArrayList<>();
+        drainTo(batch::add, batchSize);
+        return batch;
+    }
+
+    @Override
+    public void clear() {
+        redisTemplate.delete(streamKey);
+        synchronized (inflight) {
+            inflight.clear();
+            inflightIds.clear();
+        }
+        synchronized (prefetched) {
+            prefetched.clear();
+        }
+        createGroupIfAbsent();
+    }
+
+    private int prefetch() {
+        List<MapRecord<String, String, String>> records = new ArrayList<>(claimStuckRecords(PREFETCH_COUNT));
+        if (records.size() < PREFETCH_COUNT) {
+            records.addAll(readNewRecords(PREFETCH_COUNT - records.size()));
+        }
+        synchronized (prefetched) {
+            for (MapRecord<String, String, String> record : records) {
+                prefetched.addLast(track(record));
+            }
+        }
+        return records.size();
+    }
+
+    // 그룹의 다른 컨슈머가 아직 읽지 않은 항목을 최대 count 개 읽음
+    private List<MapRecord<String, String, String>> readNewRecords(int count) {
+        List<MapRecord<String, String, String>> records = streamOperations.read(
+                org.springframework.data.redis.connection.stream.Consumer.from(group, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+        return records == null ? List.of() : records;
+    }
+
+    // 다른 컨슈머가 꺼낸 뒤 claimMinIdle 이상 ack 하지 않은 항목을 가져옴
+    private List<MapRecord<String, String, String>> claimStuckRecords(int maxItems) {
+        long now = System.currentTimeMillis();
+        if (now - lastClaimAt < claimMinIdle.toMillis()) {
+            return List.of();
+        }
+        lastClaimAt = now;
+
+        PendingMessages pendingMessages = streamOperations.pending(streamKey, group, Range.unbounded(), maxItems);
+        List<RecordId> stuckIds = new ArrayList<>();
+        synchronized (inflight) {
+            for (PendingMessage message : pendingMessages) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) >= 0
+                        && !inflightIds.contains(message.getId())) {
+                    stuckIds.add(message.getId());
+                }
+            }
+        }
+        if (stuckIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<MapRecord<String, String, String>> claimed = streamOperations.claim(streamKey, group, consumerName,
+                claimMinIdle, stuckIds.toArray(RecordId[]::new));
+        log.warn("STREAM_CLAIM,count={}", claimed.size());
+        return claimed;
+    }
+
+    private PurchaseData track(MapRecord<String, String, String> record) {
+        Map<String, String> value = record.getValue();
+        PurchaseData data = new PurchaseData(
+                Long.parseLong(value.get(MEMBER_ID)),
+                Long.parseLong(value.get(TICKET_ID)),
+                Long.parseLong(value.get(TICKET_STOCK_ID)));
+        synchronized (inflight) {
+            inflight.computeIfAbsent(data, k -> new ArrayDeque<>()).addLast(record.getId());
+            inflightIds.add(record.getId());
+        }
+        return data;
+    }
+
+    private void createGroupIfAbsent() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.streamCommands().xGroupCreate(streamKey.getBytes(StandardCharsets.UTF_8), group,
+                        ReadOffset.from("0"), true);
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 이미 그룹이 존재하는 경우
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+}
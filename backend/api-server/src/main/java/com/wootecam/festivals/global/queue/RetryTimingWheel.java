@@ -0,0 +1,115 @@
+package com.wootecam.festivals.global.queue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재시도 항목을 지연 시간 뒤에 꺼내기 위한 해시 타이밍 휠
+ * <p>
+ * 시간을 tick 단위로 나눈 고정 크기 버킷 배열에 항목을 (만료 tick % 휠 크기) 위치로 넣고, 휠을 한 바퀴 이상 기다려야 하는 항목은 남은 바퀴 수를 함께 저장합니다. 등록과
+ * 만료 확인이 항목 수와 무관하게 O(1) 이므로 많은 재시도 항목을 정렬 없이 관리할 수 있습니다.
+ * <p>
+ * 별도 스레드 없이 호출자가 {@link #advance(long)} 를 주기적으로 호출해 시간을 진행합니다.
+ */
+public class RetryTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Entry<T>>[] buckets;
+    private final long startNanos;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public RetryTimingWheel(long tickDuration, TimeUnit unit, int wheelSize, long startNanos) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick 간격은 0보다 커야합니다.");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("휠 크기는 2의 거듭제곱이어야 합니다.");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = wheelSize - 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.startNanos = startNanos;
+    }
+
+    public RetryTimingWheel(long tickDuration, TimeUnit unit, int wheelSize) {
+        this(tickDuration, unit, wheelSize, System.nanoTime());
+    }
+
+    /**
+     * 항목을 지연 시간 뒤에 꺼낼 수 있도록 등록합니다.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     */
+    public synchronized void schedule(T item, long delay, TimeUnit unit, long nowNanos) {
+        long deadlineTick = Math.max((nowNanos - startNanos + unit.toNanos(delay)) / tickNanos, currentTick);
+        long ticksToWait = deadlineTick - currentTick;
+        buckets[(int) (deadlineTick & mask)].add(new Entry<>(item, ticksToWait / buckets.length));
+        size++;
+    }
+
+    public void schedule(T item, long delay, TimeUnit unit) {
+        schedule(item, delay, unit, System.nanoTime());
+    }
+
+    /**
+     * 현재 시각까지 tick 을 진행하고 만료된 항목을 반환합니다.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     */
+    public synchronized List<T> advance(long nowNanos) {
+        long nowTick = (nowNanos - startNanos) / tickNanos;
+        List<T> expired = new ArrayList<>();
+        while (currentTick <= nowTick) {
+            Iterator<Entry<T>> iterator = buckets[(int) (currentTick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if (entry.remainingRounds <= 0) {
+                    expired.add(entry.item);
+                    iterator.remove();
+                } else {
+                    entry.remainingRounds--;
+                }
+            }
+            currentTick++;
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * 만료 여부와 관계없이 등록된 모든 항목을 꺼냅니다.
+     */
+    public synchronized List<T> drainAll() {
+        List<T> items = new ArrayList<>(size);
+        for (List<Entry<T>> bucket : buckets) {
+            bucket.forEach(entry -> items.add(entry.item));
+            bucket.clear();
+        }
+        size = 0;
+        return items;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private long remainingRounds;
+
+        private Entry(T item, long remainingRounds) {
+            this.item = item;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
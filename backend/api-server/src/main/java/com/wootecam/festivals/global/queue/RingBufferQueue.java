@@ -0,0 +1,215 @@
+package com.wootecam.festivals.global.queue;
+
+import com.wootecam.festivals.global.queue.exception.QueueFullException;
+import com.wootecam.festivals.global.queue.exception.QueueOperationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 미리 할당된 배열 기반의 다중 생산자 / 단일 소비자 링 버퍼 큐
+ * <p>
+ * 각 슬롯은 자신의 시퀀스를 가지고 있어 생산자는 tail 에 대한 CAS 한 번으로 슬롯을 선점하고, 데이터를 쓴 뒤 슬롯 시퀀스를 발행합니다. 소비자는 슬롯 시퀀스로 발행 여부를
+ * 확인하므로 노드 할당 없이 항목을 주고받습니다.
+ * <p>
+ * 큐가 가득 차면 생산자는 {@link WaitStrategy} 에 따라 빈 슬롯을 기다리고, offerTimeout 이 지나도 자리가 나지 않을 때만 {@link QueueFullException} 을
+ * 던집니다.
+ */
+public class RingBufferQueue<T> implements CustomQueue<T> {
+
+    private static final int DEFAULT_QUEUE_SIZE = 1024;
+    private static final long DEFAULT_OFFER_TIMEOUT_MS = 10;
+
+    private final Object[] buffer;
+    // 슬롯별 시퀀스: 값이 슬롯 위치와 같으면 쓰기 가능, 위치 + 1 이면 읽기 가능
+    private final AtomicLongArray slotSequences;
+    private final int mask;
+    private final int capacity;
+
+    private final PaddedSequence tail = new PaddedSequence(0);
+    private final PaddedSequence head = new PaddedSequence(0);
+    // 소비 측은 단일 스레드를 가정하지만 여러 스케줄러가 동시에 꺼내는 경우를 대비해 락으로 보호
+    private final ReentrantLock consumerLock = new ReentrantLock();
+
+    private final WaitStrategy waitStrategy;
+    private final long offerTimeoutNanos;
+
+    public RingBufferQueue(int capacity, WaitStrategy waitStrategy, long offerTimeout, TimeUnit unit) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("큐 용량은 0보다 커야합니다.");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("대기 전략은 null일 수 없습니다.");
+        }
+        this.capacity = ceilingPowerOfTwo(capacity);
+        this.mask = this.capacity - 1;
+        this.buffer = new Object[this.capacity];
+        this.slotSequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            slotSequences.set(i, i);
+        }
+        this.waitStrategy = waitStrategy;
+        this.offerTimeoutNanos = unit.toNanos(offerTimeout);
+    }
+
+    public RingBufferQueue(int capacity) {
+        this(capacity, WaitStrategy.YIELD, DEFAULT_OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public RingBufferQueue() {
+        this(DEFAULT_QUEUE_SIZE);
+    }
+
+    @Override
+    public void offer(T item) throws QueueFullException, QueueOperationException {
+        if (item == null) {
+            throw new IllegalArgumentException("큐에 null을 넣을 수 없습니다.");
+        }
+        if (tryOffer(item)) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        int attempts = 0;
+        while (!tryOffer(item)) {
+            if (System.nanoTime() - deadline >= 0) {
+                throw new QueueFullException("큐가 가득 찼습니다. 대기 시간을 초과했습니다.");
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new QueueOperationException("큐 작업 중 인터럽트가 발생했습니다.");
+            }
+            waitStrategy.idle(attempts++);
+        }
+    }
+
+    /**
+     * 대기 없이 한 번만 삽입을 시도합니다.
+     *
+     * @return 큐가 가득 차 삽입하지 못했다면 false
+     */
+    public boolean tryOffer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("큐에 null을 넣을 수 없습니다.");
+        }
+
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = slotSequences.get(index) - position;
+            if (diff == 0) {
+                // 슬롯이 비어있으므로 CAS 로 tail 을 선점
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = item;
+                    slotSequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // 소비자가 아직 한 바퀴 전 항목을 꺼내지 않음
+                return false;
+            } else {
+                // 다른 생산자가 먼저 선점함
+                position = tail.get();
+            }
+        }
+    }
+
+    @Override
+    public T poll() {
+        consumerLock.lock();
+        try {
+            return pollInternal();
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxItems) {
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("배치 사이즈는 0보다 커야합니다.");
+        }
+
+        consumerLock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxItems) {
+                T item = pollInternal();
+                if (item == null) {
+                    break;
+                }
+                consumer.accept(item);
+                drained++;
+            }
+            return drained;
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T pollInternal() {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (slotSequences.get(index) != position + 1) {
+            // 아직 발행되지 않은 슬롯
+            return null;
+        }
+
+        T item = (T) buffer[index];
+        buffer[index] = null;
+        head.set(position + 1);
+        // 다음 바퀴의 생산자가 사용할 수 있도록 슬롯 반환
+        slotSequences.set(index, position + capacity);
+        return item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        long consumed = head.get();
+        long produced = tail.get();
+        return (int) Math.max(0, Math.min(produced - consumed, capacity));
+    }
+
+    @Override
+    public List<T> pollBatch(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 사이즈는 0보다 커야합니다.");
+        }
+
+        List<T> batch = new ArrayList<>(Math.min(batchSize, capacity));
+        drainTo(batch::add, batchSize);
+        return batch;
+    }
+
+    @Override
+    public void clear() {
+        consumerLock.lock();
+        try {
+            while (pollInternal() != null) {
+                // 발행된 항목을 모두 버림
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        if (value > (1 << 30)) {
+            throw new IllegalArgumentException("큐 용량이 너무 큽니다.");
+        }
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,190 @@
+package com.wootecam.festivals.global.queue;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.exception.QueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 티켓 ID 로 샤드를 나눈 구매 큐
+ * <p>
+ * 구매 데이터는 티켓 ID 해시로 정해진 샤드의 {@link RingBufferQueue} 에 들어가므로, 한 티켓의 판매가 몰려 샤드가 가득 차도 다른 샤드의 티켓 구매는 영향을 받지
+ * 않습니다. 꺼낼 때는 deficit round-robin 으로 샤드마다 같은 몫을 나눠 주어 한 샤드가 배치를 독차지하지 않도록 하고, 이번에 다 쓰지 못한 몫은 다음 드레인으로 넘어갑니다.
+ * <p>
+ * {@link #drainPartitionsTo(Consumer, int)} 는 샤드별 묶음을 따로 넘겨 여러 샤드를 병렬로 반영할 수 있게 합니다.
+ */
+public class ShardedPurchaseQueue implements CustomQueue<PurchaseData> {
+
+    private final RingBufferQueue<PurchaseData>[] shards;
+    private final int mask;
+    private final Counter[] rejectedCounters;
+
+    // 샤드별로 아직 사용하지 않은 드레인 몫
+    private final int[] deficits;
+    private int cursor;
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    @SuppressWarnings("unchecked")
+    public ShardedPurchaseQueue(int shardCount, int shardCapacity, WaitStrategy waitStrategy, long offerTimeout,
+                                TimeUnit unit, MeterRegistry meterRegistry) {
+        if (shardCount <= 0 || Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("샤드 수는 2의 거듭제곱이어야 합니다.");
+        }
+        this.shards = new RingBufferQueue[shardCount];
+        this.rejectedCounters = new Counter[shardCount];
+        this.deficits = new int[shardCount];
+        this.mask = shardCount - 1;
+        for (int i = 0; i < shardCount; i++) {
+            RingBufferQueue<PurchaseData> shard = new RingBufferQueue<>(shardCapacity, waitStrategy, offerTimeout, unit);
+            shards[i] = shard;
+            String shardTag = String.valueOf(i);
+            Gauge.builder("purchase.queue.shard.size", shard, RingBufferQueue::size)
+                    .description("구매 큐 샤드에 쌓인 항목 수")
+                    .tag("shard", shardTag)
+                    .register(meterRegistry);
+            rejectedCounters[i] = Counter.builder("purchase.queue.shard.rejected")
+                    .description("샤드가 가득 차 거절된 구매 수")
+                    .tag("shard", shardTag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void offer(PurchaseData item) {
+        if (item == null) {
+            throw new IllegalArgumentException("큐에 null을 넣을 수 없습니다.");
+        }
+        int index = shardIndex(item.ticketId());
+        try {
+            shards[index].offer(item);
+        } catch (QueueFullException e) {
+            rejectedCounters[index].increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public PurchaseData poll() {
+        List<PurchaseData> items = pollBatch(1);
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    @Override
+    public int drainTo(Consumer<? super PurchaseData> consumer, int maxItems) {
+        return drainPartitionsTo(batch -> batch.forEach(consumer), maxItems);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainPartitionsTo(Consumer<List<PurchaseData>> batchConsumer, int maxItems) {
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("배치 사이즈는 0보다 커야합니다.");
+        }
+
+        List<List<PurchaseData>> batches = new ArrayList<>(shards.length);
+        int drained;
+        drainLock.lock();
+        try {
+            int quantum = Math.max(1, maxItems / shards.length);
+            List<PurchaseData>[] shardBatches = new List[shards.length];
+            drained = 0;
+            boolean progressed = true;
+            while (drained < maxItems && progressed) {
+                progressed = false;
+                for (int n = 0; n < shards.length && drained < maxItems; n++) {
+                    int index = (cursor + n) & mask;
+                    RingBufferQueue<PurchaseData> shard = shards[index];
+                    if (shard.isEmpty()) {
+                        // 빈 샤드는 몫을 쌓아두지 않음
+                        deficits[index] = 0;
+                        continue;
+                    }
+
+                    deficits[index] += quantum;
+                    if (shardBatches[index] == null) {
+                        shardBatches[index] = new ArrayList<>();
+                    }
+                    int count = shard.drainTo(shardBatches[index]::add, Math.min(deficits[index], maxItems - drained));
+                    deficits[index] = shard.isEmpty() ? 0 : deficits[index] - count;
+                    drained += count;
+                    progressed |= count > 0;
+                }
+            }
+            // 매 드레인마다 시작 샤드를 바꿔 앞 번호 샤드에 유리하지 않도록 함
+            cursor = (cursor + 1) & mask;
+
+            for (List<PurchaseData> batch : shardBatches) {
+                if (batch != null && !batch.isEmpty()) {
+                    batches.add(batch);
+                }
+            }
+        } finally {
+            drainLock.unlock();
+        }
+
+        batches.forEach(batchConsumer);
+        return drained;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (RingBufferQueue<PurchaseData> shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (RingBufferQueue<PurchaseData> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    @Override
+    public List<PurchaseData> pollBatch(int batchSize) {
+        List<PurchaseData> batch = new ArrayList<>();
+        drainTo(batch::add, batchSize);
+        return batch;
+    }
+
+    @Override
+    public void clear() {
+        drainLock.lock();
+        try {
+            for (int i = 0; i < shards.length; i++) {
+                shards[i].clear();
+                deficits[i] = 0;
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    int shardSize(int index) {
+        return shards[index].size();
+    }
+
+    int shardIndex(Long ticketId) {
+        if (ticketId == null) {
+            return 0;
+        }
+        // 연속된 티켓 ID 가 고르게 퍼지도록 섞음
+        long hash = ticketId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
@@ -0,0 +1,56 @@
+package com.wootecam.festivals.global.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼가 가득 찼을 때 생산자가 빈 슬롯을 기다리는 방식
+ * <p>
+ * SPIN: CPU를 점유하며 바쁜 대기, 지연이 가장 짧지만 코어를 소모합니다.
+ * <p>
+ * YIELD: 일정 횟수 스핀 후 다른 스레드에게 CPU를 양보합니다.
+ * <p>
+ * PARK: 일정 횟수 스핀 후 마이크로초 단위로 스레드를 park 합니다. 밀리초 단위로 잠드는 sleep 기반 백오프보다 훨씬 짧게 대기합니다.
+ */
+public enum WaitStrategy {
+
+    SPIN {
+        @Override
+        public void idle(int attempts) {
+            Thread.onSpinWait();
+        }
+    },
+    YIELD {
+        @Override
+        public void idle(int attempts) {
+            if (attempts < SPIN_TRIES) {
+                Thread.onSpinWait();
+                return;
+            }
+            Thread.yield();
+        }
+    },
+    PARK {
+        @Override
+        public void idle(int attempts) {
+            if (attempts < SPIN_TRIES) {
+                Thread.onSpinWait();
+                return;
+            }
+            // 대기가 길어질수록 park 시간을 늘리되 최대 MAX_PARK_NANOS 까지만 대기
+            int shift = Math.min(attempts - SPIN_TRIES, 10);
+            LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << shift, MAX_PARK_NANOS));
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    /**
+     * 한 번의 대기를 수행합니다.
+     *
+     * @param attempts 지금까지 대기한 횟수
+     */
+    public abstract void idle(int attempts);
+}
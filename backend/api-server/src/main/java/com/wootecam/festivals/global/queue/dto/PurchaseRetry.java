@@ -0,0 +1,14 @@
+package com.wootecam.festivals.global.queue.dto;
+
+/**
+ * 재시도 대기 중인 구매 데이터
+ *
+ * @param purchaseData 구매 데이터
+ * @param attempt      지금까지 실패한 횟수
+ */
+public record PurchaseRetry(PurchaseData purchaseData, int attempt) {
+
+    public PurchaseRetry nextAttempt() {
+        return new PurchaseRetry(purchaseData, attempt + 1);
+    }
+}
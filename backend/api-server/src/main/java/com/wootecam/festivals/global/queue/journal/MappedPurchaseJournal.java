@@ -0,0 +1,284 @@
+package com.wootecam.festivals.global.queue.journal;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.exception.QueueOperationException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 맵 세그먼트 파일 기반의 구매 저널
+ * <p>
+ * 레코드는 40 바이트 고정 크기이며 [seq][memberId][ticketId][ticketStockId][type] 순서로 기록합니다. type 을 가장 마지막에 쓰기 때문에 기록 도중 프로세스가
+ * 종료되더라도 type 이 0 인 레코드는 쓰이지 않은 것으로 간주할 수 있습니다. ADD 레코드의 seq 는 자신의 순번이고, COMMIT 레코드의 seq 는 확정한 ADD 레코드의
+ * 순번입니다.
+ * <p>
+ * 세그먼트가 가득 차면 다음 세그먼트를 만들고, 가장 오래된 세그먼트부터 모든 ADD 가 확정되었다면 파일을 삭제합니다. 따라서 재시작 시 읽는 양은 확정되지 않은 레코드가 남아
+ * 있는 세그먼트 수에 비례합니다.
+ */
+@Slf4j
+public class MappedPurchaseJournal implements PurchaseJournal {
+
+    static final int RECORD_SIZE = 40;
+    private static final int MEMBER_ID_OFFSET = 8;
+    private static final int TICKET_ID_OFFSET = 16;
+    private static final int TICKET_STOCK_ID_OFFSET = 24;
+    private static final int TYPE_OFFSET = 32;
+
+    private static final int TYPE_END = 0;
+    private static final int TYPE_ADD = 1;
+    private static final int TYPE_COMMIT = 2;
+
+    private static final String SEGMENT_PREFIX = "purchase-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 오래된 순서로 정렬된 세그먼트 목록, 마지막 세그먼트가 쓰기 중인 세그먼트
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    // 확정되지 않은 ADD 레코드, 같은 구매 데이터가 여러 번 들어온 경우 먼저 들어온 순서대로 확정
+    private final Map<PurchaseData, Deque<PendingRecord>> pendingRecords = new HashMap<>();
+    private final List<PurchaseData> recovered;
+
+    private Segment active;
+    private long nextSeq;
+
+    public MappedPurchaseJournal(Path directory, int segmentSizeBytes) {
+        if (segmentSizeBytes < RECORD_SIZE) {
+            throw new IllegalArgumentException("세그먼트 크기는 레코드 크기보다 커야합니다.");
+        }
+        this.directory = directory;
+        this.recordsPerSegment = segmentSizeBytes / RECORD_SIZE;
+
+        try {
+            Files.createDirectories(directory);
+            this.recovered = replay();
+            this.active = createSegment(segments.isEmpty() ? 0 : segments.getLast().id + 1);
+        } catch (IOException e) {
+            throw new QueueOperationException("구매 저널을 열 수 없습니다.", e);
+        }
+        truncateCommittedSegments();
+        log.info("JOURNAL_OPEN,dir={},pending={}", directory, recovered.size());
+    }
+
+    @Override
+    public void append(PurchaseData purchaseData) {
+        lock.lock();
+        try {
+            long seq = nextSeq++;
+            Segment segment = write(TYPE_ADD, seq, purchaseData);
+            segment.pending++;
+            pendingRecords.computeIfAbsent(purchaseData, k -> new ArrayDeque<>())
+                    .addLast(new PendingRecord(seq, segment));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void commit(Collection<PurchaseData> purchaseData) {
+        if (purchaseData.isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            for (PurchaseData data : purchaseData) {
+                Deque<PendingRecord> records = pendingRecords.get(data);
+                if (records == null) {
+                    log.warn("JOURNAL_COMMIT_UNKNOWN,{}", data);
+                    continue;
+                }
+                PendingRecord record = records.pollFirst();
+                if (records.isEmpty()) {
+                    pendingRecords.remove(data);
+                }
+                write(TYPE_COMMIT, record.seq(), data);
+                record.segment().pending--;
+            }
+            truncateCommittedSegments();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PurchaseData> recover() {
+        return recovered;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (active != null) {
+                active.seal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 모든 세그먼트를 순서대로 한 번 읽어 확정되지 않은 ADD 레코드를 복원
+    private List<PurchaseData> replay() throws IOException {
+        Map<Long, PendingRecord> pendingBySeq = new LinkedHashMap<>();
+        Map<Long, PurchaseData> dataBySeq = new HashMap<>();
+        long maxSeq = -1;
+
+        for (Path path : listSegmentFiles()) {
+            Segment segment = new Segment(parseSegmentId(path), path);
+            segments.addLast(segment);
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                long records = channel.size() / RECORD_SIZE;
+                for (int i = 0; i < records; i++) {
+                    int offset = i * RECORD_SIZE;
+                    int type = buffer.getInt(offset + TYPE_OFFSET);
+                    if (type == TYPE_END) {
+                        break;
+                    }
+
+                    long seq = buffer.getLong(offset);
+                    maxSeq = Math.max(maxSeq, seq);
+                    if (type == TYPE_ADD) {
+                        PurchaseData data = new PurchaseData(
+                                buffer.getLong(offset + MEMBER_ID_OFFSET),
+                                buffer.getLong(offset + TICKET_ID_OFFSET),
+                                buffer.getLong(offset + TICKET_STOCK_ID_OFFSET));
+                        pendingBySeq.put(seq, new PendingRecord(seq, segment));
+                        dataBySeq.put(seq, data);
+                        segment.pending++;
+                    } else if (type == TYPE_COMMIT) {
+                        // 이미 삭제된 세그먼트의 ADD 를 확정한 레코드는 무시
+                        PendingRecord committed = pendingBySeq.remove(seq);
+                        if (committed != null) {
+                            committed.segment().pending--;
+                            dataBySeq.remove(seq);
+                        }
+                    }
+                }
+            }
+        }
+        nextSeq = maxSeq + 1;
+
+        List<PurchaseData> unprocessed = new ArrayList<>(pendingBySeq.size());
+        for (PendingRecord record : pendingBySeq.values()) {
+            PurchaseData data = dataBySeq.get(record.seq());
+            pendingRecords.computeIfAbsent(data, k -> new ArrayDeque<>()).addLast(record);
+            unprocessed.add(data);
+        }
+        return List.copyOf(unprocessed);
+    }
+
+    private Segment write(int type, long seq, PurchaseData data) {
+        if (active.writeIndex >= recordsPerSegment) {
+            roll();
+        }
+
+        MappedByteBuffer buffer = active.buffer;
+        int offset = active.writeIndex * RECORD_SIZE;
+        buffer.putLong(offset, seq);
+        buffer.putLong(offset + MEMBER_ID_OFFSET, data.memberId());
+        buffer.putLong(offset + TICKET_ID_OFFSET, data.ticketId());
+        buffer.putLong(offset + TICKET_STOCK_ID_OFFSET, data.ticketStockId());
+        // type 을 마지막에 기록해 레코드가 완전히 쓰였음을 표시
+        buffer.putInt(offset + TYPE_OFFSET, type);
+        active.writeIndex++;
+        return active;
+    }
+
+    private void roll() {
+        active.seal();
+        try {
+            active = createSegment(active.id + 1);
+        } catch (IOException e) {
+            throw new QueueOperationException("구매 저널 세그먼트를 생성할 수 없습니다.", e);
+        }
+        log.debug("JOURNAL_ROLL,segment={}", active.id);
+    }
+
+    // 가장 오래된 세그먼트부터 모든 ADD 가 확정된 세그먼트를 삭제
+    private void truncateCommittedSegments() {
+        while (segments.size() > 1 && segments.getFirst().pending == 0) {
+            Segment segment = segments.removeFirst();
+            try {
+                Files.deleteIfExists(segment.path);
+                log.debug("JOURNAL_TRUNCATE,segment={}", segment.id);
+            } catch (IOException e) {
+                log.warn("JOURNAL_TRUNCATE_FAIL,segment={}", segment.id, e);
+            }
+        }
+    }
+
+    private Segment createSegment(long id) throws IOException {
+        Path path = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        Segment segment = new Segment(id, path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // 새 파일은 0 으로 채워지므로 쓰이지 않은 레코드는 TYPE_END 로 읽힘
+            segment.buffer = channel.map(MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        }
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(MappedPurchaseJournal::parseSegmentId))
+                    .toList();
+        }
+    }
+
+    private static long parseSegmentId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private record PendingRecord(long seq, Segment segment) {
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private MappedByteBuffer buffer;
+        private int writeIndex;
+        // 이 세그먼트에 기록된 ADD 중 아직 확정되지 않은 개수
+        private int pending;
+
+        private Segment(long id, Path path) {
+            this.id = id;
+            this.path = path;
+        }
+
+        private void seal() {
+            if (buffer != null) {
+                buffer.force();
+                buffer = null;
+            }
+        }
+    }
+}
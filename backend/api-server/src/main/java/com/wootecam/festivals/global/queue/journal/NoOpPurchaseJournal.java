@@ -0,0 +1,28 @@
+package com.wootecam.festivals.global.queue.journal;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 저널을 사용하지 않는 환경(테스트 등)에서 사용하는 구현체
+ */
+public class NoOpPurchaseJournal implements PurchaseJournal {
+
+    @Override
+    public void append(PurchaseData purchaseData) {
+    }
+
+    @Override
+    public void commit(Collection<PurchaseData> purchaseData) {
+    }
+
+    @Override
+    public List<PurchaseData> recover() {
+        return List.of();
+    }
+
+    @Override
+    public void close() {
+    }
+}
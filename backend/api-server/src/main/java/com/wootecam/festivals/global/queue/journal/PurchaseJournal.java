@@ -0,0 +1,23 @@
+package com.wootecam.festivals.global.queue.journal;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 큐에 들어갔지만 아직 DB 에 반영되지 않은 구매 데이터를 보존하는 선행 기록(write-ahead) 저널
+ */
+public interface PurchaseJournal extends AutoCloseable {
+
+    // 큐에 넣기 전에 구매 데이터를 기록
+    void append(PurchaseData purchaseData);
+
+    // DB 반영이 끝났거나 폐기된 구매 데이터를 확정
+    void commit(Collection<PurchaseData> purchaseData);
+
+    // 서버 시작 시점에 확정되지 않은 구매 데이터를 기록 순서대로 반환
+    List<PurchaseData> recover();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,55 @@
+package com.wootecam.festivals.global.queue.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 벌크 인서트 지연 시간에 따라 배치 크기를 조절하는 AIMD 컨트롤러
+ * <p>
+ * 꽉 찬 배치가 목표 지연 시간 안에 반영되면 배치 크기를 일정량씩 늘리고, 목표를 넘기면 절반으로 줄입니다. 배치 크기보다 적은 항목으로 처리된 배치는 DB 여유를 판단할 근거가
+ * 되지 않으므로 크기를 늘리지 않습니다.
+ */
+public class AdaptiveBatchSizeController {
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int increaseStep;
+    private final long targetLatencyNanos;
+    private final AtomicInteger batchSize;
+
+    public AdaptiveBatchSizeController(int minBatchSize, int maxBatchSize, int initialBatchSize, int increaseStep,
+                                       long targetLatency, TimeUnit unit) {
+        if (minBatchSize <= 0 || minBatchSize > maxBatchSize) {
+            throw new IllegalArgumentException("배치 크기 범위가 올바르지 않습니다.");
+        }
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.increaseStep = increaseStep;
+        this.targetLatencyNanos = unit.toNanos(targetLatency);
+        this.batchSize = new AtomicInteger(clamp(initialBatchSize));
+    }
+
+    public int currentBatchSize() {
+        return batchSize.get();
+    }
+
+    /**
+     * 배치 처리 결과를 반영합니다.
+     *
+     * @param processedCount 배치에 포함된 항목 수
+     * @param elapsedNanos   벌크 인서트에 걸린 시간
+     */
+    public void record(int processedCount, long elapsedNanos) {
+        if (elapsedNanos > targetLatencyNanos) {
+            batchSize.updateAndGet(size -> clamp(size / 2));
+            return;
+        }
+        if (processedCount >= batchSize.get()) {
+            batchSize.updateAndGet(size -> clamp(size + increaseStep));
+        }
+    }
+
+    private int clamp(int size) {
+        return Math.max(minBatchSize, Math.min(size, maxBatchSize));
+    }
+}
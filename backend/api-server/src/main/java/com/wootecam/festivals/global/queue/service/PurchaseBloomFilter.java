@@ -0,0 +1,76 @@
+package com.wootecam.festivals.global.queue.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 한 티켓의 구매 회원 ID 를 담는 블룸 필터
+ * <p>
+ * {@link #mightContain(long)} 가 false 면 해당 회원의 구매는 확실히 기록되지 않았고, true 면 오탐일 수 있으므로 DB 에서 한 번 더 확인해야 합니다. 비트는
+ * AtomicLongArray 에 CAS 로 설정하므로 여러 스레드에서 잠금 없이 사용할 수 있습니다.
+ */
+class PurchaseBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    PurchaseBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 원소 수는 0보다 커야합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) >>> 6));
+        this.bitSize = (long) bits.length() << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    void put(long memberId) {
+        long hash = mix(memberId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    boolean mightContain(long memberId) {
+        long hash = mix(memberId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        while (((current = bits.get(word)) & mask) == 0) {
+            if (bits.compareAndSet(word, current, current | mask)) {
+                return;
+            }
+        }
+    }
+
+    // 연속된 회원 ID 가 고르게 퍼지도록 섞음 (MurmurHash3 fmix64)
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,138 @@
+package com.wootecam.festivals.global.queue.service;
+
+import com.wootecam.festivals.domain.purchase.entity.Purchase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 구매, 체크인 정보를 multi-row INSERT 로 벌크 인서트하는 클래스
+ * <p>
+ * 한 행당 한 번씩 왕복하는 batchUpdate 대신 `INSERT ... VALUES (...), (...)` 한 문장에 여러 행을 담아 보냅니다. 한 문장의 크기가 max_allowed_packet 을
+ * 넘지 않도록 패킷 예산에 맞춰 청크를 나누고, 같은 청크의 구매와 체크인은 하나의 트랜잭션으로 반영합니다.
+ * <p>
+ * 구매 데이터는 최소 한 번 이상 전달되므로 두 인서트 모두 ON DUPLICATE KEY 로 이미 반영된 행을 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class PurchaseBulkWriter {
+
+    private static final String PURCHASE_INSERT_PREFIX =
+            "INSERT INTO purchase (ticket_id, member_id, purchase_time, purchase_status, created_at, updated_at) VALUES ";
+    private static final String PURCHASE_ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final String CHECKIN_INSERT_PREFIX =
+            "INSERT INTO checkin (member_id, ticket_id, festival_id, checkin_time, is_checked, created_at, updated_at) VALUES ";
+    private static final String CHECKIN_ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+    // (ticket_id, member_id) 유니크 키에 걸리는 행은 기존 행을 그대로 두어 같은 구매가 다시 들어와도 중복 행이 생기지 않음
+    private static final String PURCHASE_ON_DUPLICATE_KEY = " ON DUPLICATE KEY UPDATE purchase_id = purchase_id";
+    private static final String CHECKIN_ON_DUPLICATE_KEY = " ON DUPLICATE KEY UPDATE checkin_id = checkin_id";
+
+    // 드라이버가 파라미터를 문장에 채워 넣었을 때 한 행이 차지하는 대략적인 크기 (체크인 행 기준)
+    private static final int ESTIMATED_ROW_BYTES = 160;
+    // 한 문장에 바인딩할 수 있는 파라미터 수 제한 (체크인 행 기준)
+    private static final int MAX_ROWS_PER_STATEMENT = 65_535 / 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer chunkTimer;
+    private final int rowsPerChunk;
+
+    public PurchaseBulkWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${queue.bulk-insert.max-packet-bytes:1048576}") int maxPacketBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTimer = Timer.builder("purchase.bulk_insert.chunk")
+                .description("구매, 체크인 벌크 인서트 청크 처리 시간")
+                .register(meterRegistry);
+        this.rowsPerChunk = Math.max(1, Math.min(maxPacketBytes / ESTIMATED_ROW_BYTES, MAX_ROWS_PER_STATEMENT));
+    }
+
+    /**
+     * 구매 정보와 체크인 정보를 청크 단위로 인서트합니다. 청크 하나가 실패하면 해당 청크의 트랜잭션만 롤백되고 예외가 전파됩니다.
+     */
+    public void write(List<Purchase> purchases) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int from = 0; from < purchases.size(); from += rowsPerChunk) {
+            List<Purchase> chunk = purchases.subList(from, Math.min(from + rowsPerChunk, purchases.size()));
+
+            long startTime = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                insertPurchases(chunk, now);
+                insertCheckins(chunk, now);
+            });
+            long elapsedNanos = System.nanoTime() - startTime;
+
+            chunkTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.debug("BULK_INSERT_CHUNK,rows={},elapsedMs={}", chunk.size(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    int getRowsPerChunk() {
+        return rowsPerChunk;
+    }
+
+    // 구매 정보 벌크 인서트
+    private void insertPurchases(List<Purchase> purchases, Timestamp now) {
+        jdbcTemplate.update(buildSql(PURCHASE_INSERT_PREFIX, PURCHASE_ROW_PLACEHOLDER, PURCHASE_ON_DUPLICATE_KEY,
+                purchases.size()), ps -> {
+            int index = 1;
+            for (Purchase purchase : purchases) {
+                ps.setLong(index++, purchase.getTicket().getId());
+                ps.setLong(index++, purchase.getMember().getId());
+                ps.setTimestamp(index++, Timestamp.valueOf(purchase.getPurchaseTime()));
+                ps.setString(index++, purchase.getPurchaseStatus().name());
+                ps.setTimestamp(index++, now);
+                ps.setTimestamp(index++, now);
+            }
+        });
+    }
+
+    // 체크인 정보 벌크 인서트
+    private void insertCheckins(List<Purchase> purchases, Timestamp now) {
+        jdbcTemplate.update(buildSql(CHECKIN_INSERT_PREFIX, CHECKIN_ROW_PLACEHOLDER, CHECKIN_ON_DUPLICATE_KEY,
+                purchases.size()), ps -> {
+            int index = 1;
+            for (Purchase purchase : purchases) {
+                setCheckinValues(ps, index, purchase, now);
+                index += 7;
+            }
+        });
+    }
+
+    private void setCheckinValues(PreparedStatement ps, int index, Purchase purchase, Timestamp now)
+            throws SQLException {
+        ps.setLong(index, purchase.getMember().getId());
+        ps.setLong(index + 1, purchase.getTicket().getId());
+        ps.setLong(index + 2, purchase.getTicket().getFestival().getId());
+        ps.setTimestamp(index + 3, null);  // 초기에는 체크인 시간이 없음
+        ps.setBoolean(index + 4, false);   // 초기에는 체크인되지 않은 상태
+        ps.setTimestamp(index + 5, now);
+        ps.setTimestamp(index + 6, now);
+    }
+
+    private String buildSql(String prefix, String rowPlaceholder, String suffix, int rows) {
+        StringBuilder sql = new StringBuilder(
+                prefix.length() + (rowPlaceholder.length() + 2) * rows + suffix.length());
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+        sql.append(suffix);
+        return sql.toString();
+    }
+}
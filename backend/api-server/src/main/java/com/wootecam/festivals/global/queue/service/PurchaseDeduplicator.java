@@ -0,0 +1,142 @@
+package com.wootecam.festivals.global.queue.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 DB 에 반영된 (회원, 티켓) 구매를 걸러내는 클래스
+ * <p>
+ * 저널 복구, 재시도, 스트림 재전달로 같은 구매 데이터가 여러 번 들어올 수 있으므로 벌크 인서트 전에 중복을 제거합니다. 티켓마다 구매 회원 ID 블룸 필터를 두어 대부분의
+ * 새 구매는 DB 조회 없이 통과시키고, 필터가 "있을 수도 있다" 고 답한 항목만 티켓별로 한 번의 SELECT 로 확인합니다. 티켓의 필터는 처음 사용할 때 해당 티켓의 기존 구매로
+ * 채워집니다. 필터는 최대 maxTickets 개까지만 두고 expireAfterAccessMs 동안 쓰이지 않은 티켓의 필터는 버리며, 다시 쓰일 때 DB 에서 다시 채웁니다.
+ * <p>
+ * 다른 노드가 같은 구매를 동시에 반영하는 경우까지 막지는 못하므로 purchase, checkin 테이블의 (ticket_id, member_id) 유니크 키와 ON DUPLICATE KEY 인서트가
+ * 최종 안전장치 역할을 합니다.
+ */
+@Slf4j
+@Component
+public class PurchaseDeduplicator {
+
+    private static final String FIND_MEMBER_IDS_BY_TICKET_SQL = "SELECT member_id FROM purchase WHERE ticket_id = ?";
+    private static final String FIND_PURCHASED_MEMBER_IDS_PREFIX =
+            "SELECT member_id FROM purchase WHERE ticket_id = ? AND member_id IN (";
+    // IN 절 하나에 담을 최대 회원 수
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int expectedPurchasesPerTicket;
+    private final double falsePositiveRate;
+    private final Cache<Long, PurchaseBloomFilter> filters;
+
+    public PurchaseDeduplicator(JdbcTemplate jdbcTemplate,
+                                @Value("${queue.dedup.enabled:true}") boolean enabled,
+                                @Value("${queue.dedup.expected-purchases-per-ticket:100000}") int expectedPurchasesPerTicket,
+                                @Value("${queue.dedup.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${queue.dedup.max-tickets:64}") long maxTickets,
+                                @Value("${queue.dedup.expire-after-access-ms:600000}") long expireAfterAccessMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.expectedPurchasesPerTicket = expectedPurchasesPerTicket;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filters = Caffeine.newBuilder()
+                .maximumSize(maxTickets)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMs))
+                .build();
+    }
+
+    /**
+     * 배치 안의 중복과 이미 DB 에 반영된 구매를 제외한 항목을 순서대로 반환합니다.
+     */
+    public List<PurchaseData> filterNew(List<PurchaseData> purchases) {
+        if (!enabled || purchases.isEmpty()) {
+            return purchases;
+        }
+
+        // 배치 안에서 같은 (회원, 티켓) 은 첫 항목만 남김
+        Map<PurchaseKey, PurchaseData> unique = new LinkedHashMap<>();
+        for (PurchaseData purchase : purchases) {
+            unique.putIfAbsent(new PurchaseKey(purchase.memberId(), purchase.ticketId()), purchase);
+        }
+
+        // 필터가 있을 수도 있다고 답한 회원만 티켓별로 모아 DB 에서 확인
+        Map<Long, List<Long>> suspects = new LinkedHashMap<>();
+        for (PurchaseKey key : unique.keySet()) {
+            if (filterOf(key.ticketId()).mightContain(key.memberId())) {
+                suspects.computeIfAbsent(key.ticketId(), k -> new ArrayList<>()).add(key.memberId());
+            }
+        }
+        for (Map.Entry<Long, List<Long>> entry : suspects.entrySet()) {
+            Long ticketId = entry.getKey();
+            for (Long memberId : findPurchasedMemberIds(ticketId, entry.getValue())) {
+                unique.remove(new PurchaseKey(memberId, ticketId));
+            }
+        }
+
+        int skipped = purchases.size() - unique.size();
+        if (skipped > 0) {
+            log.warn("DUPLICATE_PURCHASE_SKIPPED,count={}", skipped);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    /**
+     * DB 에 반영된 구매를 필터에 기록합니다.
+     */
+    public void markPersisted(List<PurchaseData> purchases) {
+        if (!enabled) {
+            return;
+        }
+        for (PurchaseData purchase : purchases) {
+            filterOf(purchase.ticketId()).put(purchase.memberId());
+        }
+    }
+
+    private PurchaseBloomFilter filterOf(Long ticketId) {
+        return filters.get(ticketId, this::loadFilter);
+    }
+
+    // 티켓의 기존 구매 회원으로 필터를 채움
+    private PurchaseBloomFilter loadFilter(Long ticketId) {
+        List<Long> memberIds = jdbcTemplate.queryForList(FIND_MEMBER_IDS_BY_TICKET_SQL, Long.class, ticketId);
+        PurchaseBloomFilter filter = new PurchaseBloomFilter(
+                Math.max(expectedPurchasesPerTicket, memberIds.size() * 2), falsePositiveRate);
+        memberIds.forEach(filter::put);
+        log.debug("DEDUP_FILTER_LOADED,ticketId={},size={}", ticketId, memberIds.size());
+        return filter;
+    }
+
+    private Set<Long> findPurchasedMemberIds(Long ticketId, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> purchased = new HashSet<>();
+        for (int from = 0; from < memberIds.size(); from += MAX_IN_CLAUSE_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, memberIds.size()));
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = ticketId;
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = chunk.get(i);
+            }
+            purchased.addAll(jdbcTemplate.queryForList(
+                    FIND_PURCHASED_MEMBER_IDS_PREFIX + "?, ".repeat(chunk.size() - 1) + "?)", Long.class, args));
+        }
+        return purchased;
+    }
+
+    private record PurchaseKey(Long memberId, Long ticketId) {
+    }
+}
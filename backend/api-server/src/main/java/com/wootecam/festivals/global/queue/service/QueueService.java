@@ -1,73 +1,115 @@
 package com.wootecam.festivals.global.queue.service;
 
-import com.wootecam.festivals.domain.checkin.entity.Checkin;
 import com.wootecam.festivals.domain.member.entity.Member;
 import com.wootecam.festivals.domain.member.repository.MemberRepository;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseDeadLetter;
 import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
-import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseDeadLetterRepository;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
 import com.wootecam.festivals.domain.ticket.service.TicketCacheService;
+import com.wootecam.festivals.domain.ticket.service.TicketStockReconciler;
 import com.wootecam.festivals.global.queue.CustomQueue;
-import com.wootecam.festivals.global.queue.InMemoryQueue;
+import com.wootecam.festivals.global.queue.PurchaseSpillStore;
+import com.wootecam.festivals.global.queue.RetryTimingWheel;
 import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.dto.PurchaseRetry;
 import com.wootecam.festivals.global.queue.exception.QueueFullException;
+import com.wootecam.festivals.global.queue.journal.PurchaseJournal;
 import com.wootecam.festivals.global.utils.TimeProvider;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 구매 데이터를 큐에 모아 배치로 DB 에 반영하는 서비스
+ * <p>
+ * 웹 서버보다 먼저 시작하고 늦게 종료되는 {@link SmartLifecycle} 로, 시작 시 저널과 이전 인스턴스가 넘긴 구매 데이터를 큐에 다시 넣고, 종료 시 새 구매를 받지 않은
+ * 채 남은 큐를 제한 시간 안에 반영한 뒤 반영하지 못한 항목을 {@link PurchaseSpillStore} 로 넘깁니다. 넘겨진 항목은 실행 중인 인스턴스가 주기적으로 가져갑니다.
+ * 여러 노드가 함께 읽는 공유 큐는 남은 항목을 다른 노드가 처리하므로 넘기지 않습니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class QueueService {
+public class QueueService implements SmartLifecycle {
 
-    // 큐 사이즈 지정 안할시 1000이 기본
-    private static final int QUEUE_SIZE = 3000;
     // 최대 재시도 횟수
     private static final int MAX_RETRY_COUNT = 3;
+    // 재시도 지연 시간: 500ms 부터 두 배씩 늘리되 30초를 넘지 않음
+    private static final long RETRY_BASE_DELAY_MS = 500;
+    private static final long RETRY_MAX_DELAY_MS = 30_000;
+    // 재시도 휠의 tick 간격과 버킷 수 (한 바퀴 약 51초)
+    private static final long RETRY_TICK_MS = 100;
+    private static final int RETRY_WHEEL_SIZE = 512;
     // 배치 사이즈
     private static final int MAX_BATCH_SIZE = 2000;
     private static final int MIN_BATCH_SIZE = 100;
-
-    // 주 큐: 처리할 구매 데이터를 저장
-    private final CustomQueue<PurchaseData> queue = new InMemoryQueue<>(QUEUE_SIZE);
-    // 에러 큐: 처리 실패한 구매 데이터를 저장
-    private final ConcurrentLinkedQueue<PurchaseData> errorQueue = new ConcurrentLinkedQueue<>();
-    // 재시도 횟수를 추적하는 맵
-    private final ConcurrentMap<PurchaseData, Integer> retryCount = new ConcurrentHashMap<>();
-
-    private final PurchaseRepository purchaseRepository;
+    private static final int INITIAL_BATCH_SIZE = 500;
+    private static final int BATCH_SIZE_INCREASE_STEP = 100;
+    // 벌크 인서트 목표 지연 시간
+    private static final long TARGET_BATCH_LATENCY_MS = 200;
+    // 큐가 비어있을 때 드레인 루프가 깨어나 상태를 확인하는 최대 주기
+    private static final long DRAIN_IDLE_PARK_MS = 100;
+    // 웹 서버(graceful shutdown) 보다 늦게 종료되도록 더 낮은 phase 사용
+    private static final int LIFECYCLE_PHASE = Integer.MAX_VALUE - 4096;
+
+    // 드레인 루프 상태: 새 항목 대기 / 배치가 모이기를 대기 / 처리 중
+    private static final int DRAIN_IDLE = 0;
+    private static final int DRAIN_LINGER = 1;
+    private static final int DRAIN_RUNNING = 2;
+
+    // 재시도 휠: 처리 실패한 구매 데이터를 백오프 시간 뒤에 다시 꺼냄
+    private final RetryTimingWheel<PurchaseRetry> retryWheel = new RetryTimingWheel<>(
+            RETRY_TICK_MS, TimeUnit.MILLISECONDS, RETRY_WHEEL_SIZE);
+
+    // 주 큐: 처리할 구매 데이터를 저장 (QueueConfig 에서 구현체 선택)
+    private final CustomQueue<PurchaseData> queue;
+    // 큐에 들어간 구매 데이터의 선행 기록
+    private final PurchaseJournal purchaseJournal;
+    private final PurchaseDeadLetterRepository purchaseDeadLetterRepository;
     private final TicketRepository ticketRepository;
     private final MemberRepository memberRepository;
     private final TimeProvider timeProvider;
-    private final JdbcTemplate jdbcTemplate;
+    private final PurchaseBulkWriter purchaseBulkWriter;
+    private final PurchaseDeduplicator purchaseDeduplicator;
     private final TicketCacheService ticketCacheService;
+    private final TicketStockReconciler ticketStockReconciler;
+    // 종료 시 반영하지 못한 구매 데이터를 다음 인스턴스에 넘기는 저장소
+    private final PurchaseSpillStore purchaseSpillStore;
+
+    // 벌크 인서트 지연 시간에 따라 배치 크기를 조절
+    private final AdaptiveBatchSizeController batchSizeController = new AdaptiveBatchSizeController(
+            MIN_BATCH_SIZE, MAX_BATCH_SIZE, INITIAL_BATCH_SIZE, BATCH_SIZE_INCREASE_STEP,
+            TARGET_BATCH_LATENCY_MS, TimeUnit.MILLISECONDS);
+
+    @Value("${queue.drain.enabled:true}")
+    private boolean drainEnabled = true;
+    // 첫 항목이 들어온 뒤 배치가 모이기를 기다리는 최대 시간
+    @Value("${queue.drain.linger-ms:20}")
+    private long drainLingerMs = 20;
+
+    // 종료 시 남은 큐를 반영하는 최대 시간
+    @Value("${queue.shutdown.drain-timeout-ms:20000}")
+    private long shutdownDrainTimeoutMs = 20_000;
+
+    private volatile boolean running;
+    private volatile boolean shuttingDown;
+    private volatile Thread drainThread;
+    private volatile boolean draining;
+    private volatile int drainState = DRAIN_RUNNING;
 
     // 동적으로 스레드풀을 생성하도록 변경
     private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
@@ -83,39 +125,50 @@ public class QueueService {
         if (purchaseData == null) {
             throw new IllegalArgumentException("Purchase data cannot be null");
         }
+        if (shuttingDown && !queue.isShared()) {
+            // 종료 중에 들어온 구매는 큐에 넣지 않고 다음 인스턴스에 넘김
+            purchaseSpillStore.spill(List.of(purchaseData));
+            return;
+        }
+        purchaseJournal.append(purchaseData);
         try {
             queue.offer(purchaseData);
             log.debug("ADD,{}", purchaseData);
+            signalDrainLoop();
         } catch (QueueFullException e) {
             log.error("QUEUE_FULL,{}", purchaseData, e);
-            errorQueue.offer(purchaseData);
-            log.warn("ERROR_QUEUE_ADD,{}", purchaseData);
+            scheduleRetries(List.of(new PurchaseRetry(purchaseData, 1)), e);
         }
     }
 
-    // 주기적으로 큐의 구매 데이터를 처리하는 메서드
-    @Scheduled(fixedRate = 3000) // 3초마다 실행
+    // 큐에서 한 배치를 꺼내 비동기로 처리하는 메서드 (샤드 큐는 샤드별 묶음을 병렬로 처리)
     public void processPurchases() {
-        int batchSize = calculateOptimalBatchSize();
-        List<PurchaseData> batch = queue.pollBatch(batchSize);
-        if (!batch.isEmpty()) {
-            CompletableFuture.runAsync(() -> processBatch(batch), executor)
-                    .exceptionally(e -> {
-                        log.error("BATCH_PROCESS_FAIL,size={}", batch.size(), e);
-                        handleFailedBatch(batch);
-                        return null;
-                    });
-        }
+        queue.drainPartitionsTo(batch ->
+                CompletableFuture.runAsync(() -> processBatch(batch), executor)
+                        .exceptionally(e -> {
+                            log.error("BATCH_PROCESS_FAIL,size={}", batch.size(), e);
+                            handleFailedBatch(batch, e);
+                            return null;
+                        }), batchSizeController.currentBatchSize());
+    }
+
+    // DB 반영을 기다리는 구매 데이터 수
+    public int getQueueDepth() {
+        return queue.size();
     }
 
     // 배치로 구매 데이터를 처리하는 메서드
     @Transactional
     protected void processBatch(List<PurchaseData> purchases) {
-        List<Purchase> successfulPurchases = new ArrayList<>();
-        for (PurchaseData purchase : purchases) {
+        // 재전달 등으로 이미 DB 에 반영된 구매는 제외
+        List<PurchaseData> newPurchases = purchaseDeduplicator.filterNew(purchases);
+        List<Purchase> successfulPurchases = new ArrayList<>(newPurchases.size());
+        List<PurchaseData> successfulData = new ArrayList<>(newPurchases.size());
+        for (PurchaseData purchase : newPurchases) {
             try {
                 Purchase newPurchase = createPurchase(purchase);
                 successfulPurchases.add(newPurchase);
+                successfulData.add(purchase);
                 log.debug("PURCHASE_SUCCESS,{}", purchase);
             } catch (Exception e) {
                 log.error("PURCHASE_FAIL,{}", purchase, e);
@@ -123,32 +176,38 @@ public class QueueService {
         }
 
         if (!successfulPurchases.isEmpty()) {
-            batchInsertPurchases(successfulPurchases);
-            batchInsertCheckins(successfulPurchases);
-            synchronizeTicketStock();
+            long startTime = System.nanoTime();
+            purchaseBulkWriter.write(successfulPurchases);
+            batchSizeController.record(purchases.size(), System.nanoTime() - startTime);
+            purchaseDeduplicator.markPersisted(successfulData);
+            synchronizeTicketStock(successfulData);
             log.debug("BATCH_INSERT_SUCCESS,size={}", successfulPurchases.size());
         }
+        // DB 에 반영되었거나 중복, 생성 실패로 버려진 항목을 확정
+        complete(purchases);
     }
 
-    // 주기적으로 에러 큐의 항목들을 처리하는 메서드
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
-    public void processErrorQueue() {
-        List<PurchaseData> errorBatch = new ArrayList<>();
-        PurchaseData errorData;
-        while ((errorData = errorQueue.poll()) != null && errorBatch.size() < 100) {
-            errorBatch.add(errorData);
+    // 재시도 휠을 진행시켜 백오프 시간이 지난 항목들을 배치로 다시 처리하는 메서드
+    @Scheduled(fixedRate = RETRY_TICK_MS)
+    public void processRetries() {
+        if (shuttingDown) {
+            // 종료 중에는 남은 재시도 항목을 stop 에서 한 번에 넘김
+            return;
         }
-
-        if (!errorBatch.isEmpty()) {
-            log.debug("Processing {} items from error queue", errorBatch.size());
-            for (PurchaseData data : errorBatch) {
-                try {
-                    processSinglePurchase(data);
-                    log.debug("Successfully processed error item: {}", data);
-                } catch (Exception e) {
-                    handleRetry(data);
-                }
+        List<PurchaseRetry> dueRetries = retryWheel.advance(System.nanoTime());
+        for (int from = 0; from < dueRetries.size(); from += MAX_BATCH_SIZE) {
+            List<PurchaseRetry> chunk = dueRetries.subList(from, Math.min(from + MAX_BATCH_SIZE, dueRetries.size()));
+            List<PurchaseData> batch = chunk.stream()
+                    .map(PurchaseRetry::purchaseData)
+                    .toList();
+            try {
+                processBatch(batch);
+                log.debug("RETRY_SUCCESS,size={}", batch.size());
+            } catch (Exception e) {
+                log.error("RETRY_FAIL,size={}", batch.size(), e);
+                scheduleRetries(chunk.stream()
+                        .map(PurchaseRetry::nextAttempt)
+                        .toList(), e);
             }
         }
     }
@@ -166,13 +225,6 @@ public class QueueService {
     }
 
 
-    private Checkin createCheckin(Purchase purchase) {
-        return Checkin.builder()
-                .member(purchase.getMember())
-                .ticket(purchase.getTicket())
-                .build();
-    }
-
     private Ticket getTicketFromDatabase(Long ticketId) {
         return ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new RuntimeException("Ticket not found"));
@@ -182,162 +234,284 @@ public class QueueService {
         return memberRepository.getReferenceById(memberId);
     }
 
-    // 구매 정보 벌크 인서트
-    private void batchInsertPurchases(List<Purchase> purchases) {
-
-        Timestamp now = new Timestamp(System.currentTimeMillis());
-
-        jdbcTemplate.batchUpdate(
-                "INSERT INTO purchase (ticket_id, member_id, purchase_time, purchase_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
-                new BatchPreparedStatementSetter() {
-                    @Override
-                    public void setValues(PreparedStatement ps, int i) throws SQLException {
-                        Purchase purchase = purchases.get(i);
-                        ps.setLong(1, purchase.getTicket().getId());
-                        ps.setLong(2, purchase.getMember().getId());
-                        ps.setTimestamp(3, Timestamp.valueOf(purchase.getPurchaseTime()));
-                        ps.setString(4, purchase.getPurchaseStatus().name());
-                        ps.setTimestamp(5, now);
-                        ps.setTimestamp(6, now);
-                    }
+    // 실패한 배치를 처리하는 메서드
+    private void handleFailedBatch(List<PurchaseData> failedBatch, Throwable cause) {
+        scheduleRetries(failedBatch.stream()
+                .map(purchase -> new PurchaseRetry(purchase, 1))
+                .toList(), cause);
+        log.warn("{} purchase data items scheduled for retry", failedBatch.size());
+    }
 
-                    @Override
-                    public int getBatchSize() {
-                        return purchases.size();
-                    }
-                }
-        );
-        log.debug("Batch inserted {} purchases", purchases.size());
+    // 최대 재시도 횟수 이내의 항목은 재시도 휠에 등록하고, 넘긴 항목은 dead letter 로 보관하는 메서드
+    private void scheduleRetries(List<PurchaseRetry> retries, Throwable cause) {
+        List<PurchaseRetry> exhausted = new ArrayList<>();
+        long now = System.nanoTime();
+        for (PurchaseRetry retry : retries) {
+            if (retry.attempt() > MAX_RETRY_COUNT) {
+                exhausted.add(retry);
+                continue;
+            }
+            long delayMs = backoffDelayMs(retry.attempt());
+            retryWheel.schedule(retry, delayMs, TimeUnit.MILLISECONDS, now);
+            log.warn("RETRY,attempt={},delayMs={},data={}", retry.attempt(), delayMs, retry.purchaseData());
+        }
+        if (!exhausted.isEmpty()) {
+            saveDeadLetters(exhausted, cause);
+        }
     }
 
-    // 체크인 정보 벌크 인서트
-    private void batchInsertCheckins(List<Purchase> purchases) {
-        Timestamp now = new Timestamp(System.currentTimeMillis());
-        List<Checkin> checkins = purchases.stream()
-                .map(this::createCheckin)
+    // 최대 재시도 횟수를 넘긴 항목을 dead letter 테이블에 저장한 뒤 큐에서 확정하는 메서드
+    private void saveDeadLetters(List<PurchaseRetry> exhausted, Throwable cause) {
+        String lastError = cause == null ? null : cause.toString();
+        List<PurchaseDeadLetter> deadLetters = exhausted.stream()
+                .map(retry -> PurchaseDeadLetter.builder()
+                        .memberId(retry.purchaseData().memberId())
+                        .ticketId(retry.purchaseData().ticketId())
+                        .ticketStockId(retry.purchaseData().ticketStockId())
+                        .attemptCount(retry.attempt())
+                        .lastError(lastError)
+                        .build())
                 .toList();
+        try {
+            purchaseDeadLetterRepository.saveAll(deadLetters);
+        } catch (Exception e) {
+            // 보관에 실패하면 저널과 큐에서 확정하지 않고 최대 지연 시간 뒤 다시 시도
+            log.error("DEAD_LETTER_SAVE_FAIL,size={}", exhausted.size(), e);
+            long now = System.nanoTime();
+            exhausted.forEach(retry -> retryWheel.schedule(retry, RETRY_MAX_DELAY_MS, TimeUnit.MILLISECONDS, now));
+            return;
+        }
 
-        jdbcTemplate.batchUpdate(
-                "INSERT INTO checkin (member_id, ticket_id, festival_id, checkin_time, is_checked, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
-                new BatchPreparedStatementSetter() {
-                    @Override
-                    public void setValues(PreparedStatement ps, int i) throws SQLException {
-                        Checkin checkin = checkins.get(i);
-                        ps.setLong(1, checkin.getMember().getId());
-                        ps.setLong(2, checkin.getTicket().getId());
-                        ps.setLong(3, checkin.getFestival().getId());
-                        ps.setTimestamp(4, null);  // 초기에는 체크인 시간이 없음
-                        ps.setBoolean(5, false);   // 초기에는 체크인되지 않은 상태
-                        ps.setTimestamp(6, now);
-                        ps.setTimestamp(7, now);
-                    }
+        List<PurchaseData> purchases = exhausted.stream()
+                .map(PurchaseRetry::purchaseData)
+                .toList();
+        complete(purchases);
+        log.error("MAX_RETRY_REACHED,size={},data={}", purchases.size(), purchases);
+    }
 
-                    @Override
-                    public int getBatchSize() {
-                        return checkins.size();
-                    }
-                }
-        );
-        log.debug("Batch inserted {} checkins", checkins.size());
+    // equal jitter 를 적용한 지수 백오프 지연 시간 (여러 항목의 재시도가 같은 시각에 몰리지 않도록 분산)
+    static long backoffDelayMs(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        long exponential = Math.min(RETRY_BASE_DELAY_MS << shift, RETRY_MAX_DELAY_MS);
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
     }
 
-    // 큐의 크기에 따라 최적의 배치 크기를 계산하는 메서드
-    private int calculateOptimalBatchSize() {
-        int queueSize = queue.size();
-        return Math.max(MIN_BATCH_SIZE, Math.min(queueSize, MAX_BATCH_SIZE));
+    // 처리가 끝난 항목을 저널과 큐에서 확정하는 메서드
+    private void complete(List<PurchaseData> purchases) {
+        purchaseJournal.commit(purchases);
+        queue.acknowledge(purchases);
     }
 
-    // 실패한 배치를 처리하는 메서드
-    private void handleFailedBatch(List<PurchaseData> failedBatch) {
-        errorQueue.addAll(failedBatch);
-        log.warn("{} purchase data items added to error queue", failedBatch.size());
+    // 배치에 포함된 티켓의 Redis 재고를 MySQL 과 맞추는 메서드 (실패해도 배치 처리 결과에는 영향 없음)
+    private void synchronizeTicketStock(List<PurchaseData> purchases) {
+        try {
+            ticketStockReconciler.reconcileRecently(purchases.stream()
+                    .map(PurchaseData::ticketId)
+                    .distinct()
+                    .toList());
+        } catch (Exception e) {
+            log.error("STOCK_SYNC_FAIL", e);
+        }
     }
 
-    // 단일 구매 데이터를 처리하는 메서드
-    private void processSinglePurchase(PurchaseData data) {
-        Purchase purchase = createPurchase(data);
-        purchaseRepository.save(purchase);
+    // 저널 복구, 이전 인스턴스가 넘긴 구매 데이터 적재 후 드레인 루프를 시작
+    @Override
+    public void start() {
+        shuttingDown = false;
+        recoverQueue();
+        ingestSpilledPurchases();
+        if (drainEnabled) {
+            startDrainLoop();
+        }
+        running = true;
     }
 
-    // 재시도 로직을 처리하는 메서드
-    private void handleRetry(PurchaseData data) {
-        int count = retryCount.compute(data, (k, v) -> v == null ? 1 : v + 1);
-        if (count <= MAX_RETRY_COUNT) {
-            log.warn("RETRY,attempt={},data={}", count, data);
-            errorQueue.offer(data);
-        } else {
-            log.error("MAX_RETRY_REACHED,data={}", data);
-            retryCount.remove(data);
+    /**
+     * 새 구매를 받지 않고 드레인 루프를 멈춘 뒤, 남은 큐를 제한 시간 안에 반영하고 반영하지 못한 항목을 다음 인스턴스에 넘깁니다.
+     * <p>
+     * 공유 큐는 남은 항목을 꺼내지 않습니다. 아직 읽지 않은 항목은 다른 노드가 읽고, 이 노드가 꺼낸 뒤 확정하지 못한 항목은 다른 노드가 일정 시간 뒤 가져갑니다.
+     */
+    @Override
+    public void stop() {
+        shuttingDown = true;
+        stopDrainLoop();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownDrainTimeoutMs);
+        boolean shared = queue.isShared();
+        List<PurchaseData> leftovers = shared ? new ArrayList<>() : new ArrayList<>(flushQueue(deadline));
+
+        // 드레인 루프가 넘긴 비동기 배치가 끝나기를 기다림 (실패한 배치는 재시도 휠로 들어감)
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PurchaseRetry> pendingRetries = retryWheel.drainAll();
+        if (shared) {
+            log.warn("SHARED_QUEUE_STOP,pendingRetries={}", pendingRetries.size());
+            running = false;
+            return;
         }
+        queue.drainTo(leftovers::add, Integer.MAX_VALUE);
+        pendingRetries.forEach(retry -> leftovers.add(retry.purchaseData()));
+        handOff(leftovers);
+        running = false;
     }
 
-    //TODO: redis와 재고 동기화
-    private void synchronizeTicketStock() {
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
 
+    @Override
+    public int getPhase() {
+        return LIFECYCLE_PHASE;
     }
 
-    //    @PostConstruct
-    public void recoverQueue() {
-        log.debug("Starting queue recovery process");
-        Set<PurchaseData> addedPurchases = new HashSet<>();
-        Set<PurchaseData> completedPurchases = new HashSet<>();
+    // 마감 시각까지 큐를 배치 단위로 동기 처리하고, 처리에 실패한 항목을 반환
+    private List<PurchaseData> flushQueue(long deadline) {
+        List<PurchaseData> failed = new ArrayList<>();
+        int drained;
+        do {
+            drained = queue.drainPartitionsTo(batch -> {
+                try {
+                    processBatch(batch);
+                } catch (Exception e) {
+                    log.error("SHUTDOWN_FLUSH_FAIL,size={}", batch.size(), e);
+                    failed.addAll(batch);
+                }
+            }, MAX_BATCH_SIZE);
+        } while (drained > 0 && System.nanoTime() < deadline);
+        return failed;
+    }
 
+    // 반영하지 못한 항목을 다음 인스턴스에 넘기고, 넘긴 항목은 저널과 큐에서 확정
+    private void handOff(List<PurchaseData> leftovers) {
+        if (leftovers.isEmpty()) {
+            return;
+        }
         try {
-            File logDir = new File("logs");
-            File[] logFiles = logDir.listFiles(
-                    (dir, name) -> name.startsWith("queue-service") && name.endsWith(".log"));
-            if (logFiles != null) {
-                Arrays.sort(logFiles, Comparator.comparing(File::lastModified).reversed());
-
-                for (File logFile : logFiles) {
-                    processLogFile(logFile, addedPurchases, completedPurchases);
-                    if (addedPurchases.size() > completedPurchases.size()) {
-                        break; // 모든 미처리 구매를 찾았으므로 중단
-                    }
-                }
-            }
+            purchaseSpillStore.spill(leftovers);
         } catch (Exception e) {
-            log.error("Error during queue recovery", e);
+            // 넘기지 못한 항목은 저널에 남아 이 노드가 다시 시작할 때 복구됨
+            log.error("SPILL_FAIL,size={}", leftovers.size(), e);
+            return;
         }
+        complete(leftovers);
+    }
 
-        // 미처리 구매 요청을 다시 큐에 추가
-        addedPurchases.removeAll(completedPurchases);
-        for (PurchaseData purchase : addedPurchases) {
-            try {
-                queue.offer(purchase);
-                log.debug("Recovered purchase added to queue: {}", purchase);
-            } catch (QueueFullException e) {
-                log.error("Failed to recover purchase, queue is full: {}", purchase);
+    // 다른 인스턴스가 종료하면서 넘긴 구매 데이터를 주기적으로 가져옴 (다시 시작하는 인스턴스가 없어도 처리되도록)
+    @Scheduled(fixedDelayString = "${queue.shutdown.spill-poll-interval-ms:5000}")
+    public void pollSpilledPurchases() {
+        if (!running || shuttingDown) {
+            return;
+        }
+        ingestSpilledPurchases();
+    }
+
+    // 이전 인스턴스가 종료하면서 넘긴 구매 데이터를 큐에 넣음
+    private void ingestSpilledPurchases() {
+        try {
+            List<PurchaseData> spilled;
+            int ingested = 0;
+            while (!(spilled = purchaseSpillStore.take(MAX_BATCH_SIZE)).isEmpty()) {
+                spilled.forEach(this::addPurchase);
+                ingested += spilled.size();
             }
+            if (ingested > 0) {
+                log.warn("SPILL_INGESTED,size={}", ingested);
+            }
+        } catch (Exception e) {
+            log.error("SPILL_INGEST_FAIL", e);
         }
+    }
 
-        log.debug("Queue recovery process completed. Recovered {} purchases", addedPurchases.size());
+    public void stopDrainLoop() {
+        draining = false;
+        Thread thread = drainThread;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainThread = null;
+    }
+
+    private void startDrainLoop() {
+        draining = true;
+        Thread thread = new Thread(this::runDrainLoop, "purchase-drain");
+        thread.setDaemon(true);
+        drainThread = thread;
+        thread.start();
     }
 
-    private void processLogFile(File logFile, Set<PurchaseData> addedPurchases, Set<PurchaseData> completedPurchases) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(logFile))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.contains("ADD,")) {
-                    PurchaseData purchase = parsePurchaseData(line);
-                    addedPurchases.add(purchase);
-                } else if (line.contains("PURCHASE_SUCCESS,")) {
-                    PurchaseData purchase = parsePurchaseData(line);
-                    completedPurchases.add(purchase);
+    /**
+     * 큐에 항목이 들어오면 깨어나 배치 크기만큼 모이거나 linger 시간이 지나면 한 배치를 처리합니다.
+     */
+    private void runDrainLoop() {
+        long lingerNanos = TimeUnit.MILLISECONDS.toNanos(drainLingerMs);
+        while (draining) {
+            try {
+                if (queue.isEmpty()) {
+                    drainState = DRAIN_IDLE;
+                    // 상태를 바꾼 뒤 다시 확인해 그 사이 들어온 항목의 신호를 놓치지 않음
+                    if (queue.isEmpty()) {
+                        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(DRAIN_IDLE_PARK_MS));
+                    }
+                    drainState = DRAIN_RUNNING;
+                    continue;
+                }
+
+                long deadline = System.nanoTime() + lingerNanos;
+                drainState = DRAIN_LINGER;
+                long remaining;
+                while (draining && queue.size() < batchSizeController.currentBatchSize()
+                        && (remaining = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(this, remaining);
                 }
+                drainState = DRAIN_RUNNING;
+
+                processPurchases();
+            } catch (Exception e) {
+                log.error("DRAIN_LOOP_FAIL", e);
             }
-        } catch (IOException e) {
-            log.error("Error reading log file: {}", logFile.getName(), e);
         }
     }
 
-    private PurchaseData parsePurchaseData(String logLine) {
-        // 로그 라인에서 PurchaseData 정보 추출
-        String[] parts = logLine.split("PurchaseData\\[")[1].split("\\]")[0].split(", ");
-        long memberId = Long.parseLong(parts[0].split("=")[1]);
-        long ticketId = Long.parseLong(parts[1].split("=")[1]);
-        long ticketStockId = Long.parseLong(parts[2].split("=")[1]);
-        return new PurchaseData(memberId, ticketId, ticketStockId);
+    // 드레인 루프가 새 항목을 기다리고 있거나 배치가 다 모였다면 깨움
+    private void signalDrainLoop() {
+        Thread thread = drainThread;
+        if (thread == null) {
+            return;
+        }
+        int state = drainState;
+        if (state == DRAIN_IDLE
+                || (state == DRAIN_LINGER && queue.size() >= batchSizeController.currentBatchSize())) {
+            LockSupport.unpark(thread);
+        }
     }
 
+    // 서버 시작 시 저널에서 DB 에 반영되지 않은 구매 데이터를 복구
+    public void recoverQueue() {
+        List<PurchaseData> unprocessed = purchaseJournal.recover();
+        if (unprocessed.isEmpty()) {
+            return;
+        }
+
+        for (PurchaseData purchase : unprocessed) {
+            try {
+                queue.offer(purchase);
+            } catch (QueueFullException e) {
+                scheduleRetries(List.of(new PurchaseRetry(purchase, 1)), e);
+            }
+        }
+        log.warn("QUEUE_RECOVERED,size={}", unprocessed.size());
+    }
 }
\ No newline at end of file
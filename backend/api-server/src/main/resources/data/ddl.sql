@@ -17,6 +17,9 @@ create index checkin_festival_id_index
 create index checkin_member_id_index
     on twodari.checkin (member_id);
 
+create unique index checkin_ticket_id_member_id_uindex
+    on twodari.checkin (ticket_id, member_id);
+
 create index checkin_ticket_id_index
     on twodari.checkin (ticket_id);
 
@@ -72,6 +75,9 @@ create index purchase_member_id_index
 create index purchase_ticket_id_index
     on twodari.purchase (ticket_id);
 
+create unique index purchase_ticket_id_member_id_uindex
+    on twodari.purchase (ticket_id, member_id);
+
 create table if not exists twodari.ticket
 (
     is_deleted      bit          not null,
@@ -105,3 +111,16 @@ create table if not exists twodari.ticket_stock
 create unique index ticket_stock_ticket_id_ticket_stock_member_id_index
     on twodari.ticket_stock (ticket_id, ticket_stock_member_id);
 
+
+create table if not exists twodari.purchase_dead_letter
+(
+    purchase_dead_letter_id bigint auto_increment
+        primary key,
+    member_id               bigint       not null,
+    ticket_id               bigint       not null,
+    ticket_stock_id         bigint       not null,
+    attempt_count           int          not null,
+    last_error              varchar(500) null,
+    created_at              datetime(6)  not null,
+    updated_at              datetime(6)  not null
+);
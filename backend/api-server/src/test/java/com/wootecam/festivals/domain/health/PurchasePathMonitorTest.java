@@ -0,0 +1,55 @@
+package com.wootecam.festivals.domain.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("PurchasePathMonitor 클래스")
+class PurchasePathMonitorTest {
+
+    private PurchasePathMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new PurchasePathMonitor(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("요청이 시작되면 처리 중인 수가 늘고, 끝나면 줄어든다")
+    void testInFlight() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        monitor.preHandle(request, response, null);
+        assertThat(monitor.getInFlight()).isEqualTo(1);
+
+        monitor.afterCompletion(request, response, null, null);
+        assertThat(monitor.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 요청의 응답 시간으로 p95 를 계산한다")
+    void testP95Latency() throws InterruptedException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        monitor.preHandle(request, response, null);
+        Thread.sleep(50);
+        monitor.afterCompletion(request, response, null, null);
+
+        assertThat(monitor.getP95LatencyMs()).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("preHandle 을 거치지 않은 요청은 무시한다")
+    void testIgnoreRequestWithoutStartTime() {
+        monitor.afterCompletion(new MockHttpServletRequest(), new MockHttpServletResponse(), null, null);
+
+        assertThat(monitor.getInFlight()).isZero();
+    }
+}
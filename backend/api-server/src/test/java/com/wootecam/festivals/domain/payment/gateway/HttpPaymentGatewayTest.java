@@ -0,0 +1,98 @@
+package com.wootecam.festivals.domain.payment.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatus;
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HttpPaymentGateway 클래스")
+class HttpPaymentGatewayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StubPaymentServer stubServer;
+
+    @AfterEach
+    void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("결제 서버의 응답으로 결제 상태를 반환한다")
+    void it_returns_payment_status() throws IOException {
+        HttpPaymentGateway gateway = createGateway(startStubServer(10, 0.0, 0.0), 1_000, 10, 5);
+
+        assertThat(gateway.requestPayment("payment-1", 1L, 1L).join()).isEqualTo(PaymentStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("결제 실패 응답은 FAILED 로 반환한다")
+    void it_returns_failed_status() throws IOException {
+        HttpPaymentGateway gateway = createGateway(startStubServer(10, 1.0, 0.0), 1_000, 10, 5);
+
+        assertThat(gateway.requestPayment("payment-1", 1L, 1L).join()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(gateway.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("응답 시간 안에 응답하지 않으면 HttpTimeoutException 으로 실패한다")
+    void it_times_out() throws IOException {
+        HttpPaymentGateway gateway = createGateway(startStubServer(1_000, 0.0, 0.0), 100, 10, 5);
+
+        assertThatThrownBy(() -> gateway.requestPayment("payment-1", 1L, 1L).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수를 넘는 요청은 보내지 않고 바로 실패한다")
+    void it_rejects_over_concurrency() throws IOException {
+        HttpPaymentGateway gateway = createGateway(startStubServer(300, 0.0, 0.0), 1_000, 1, 5);
+
+        CompletableFuture<PaymentStatus> first = gateway.requestPayment("payment-1", 1L, 1L);
+        CompletableFuture<PaymentStatus> second = gateway.requestPayment("payment-2", 2L, 1L);
+
+        assertThatThrownBy(second::join).hasCauseInstanceOf(PaymentGatewayException.class);
+        assertThat(first.join()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(gateway.availableConcurrency()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오류 응답이 이어지면 결제 서버 호출을 차단한다")
+    void it_opens_circuit_after_consecutive_errors() throws IOException {
+        HttpPaymentGateway gateway = createGateway(startStubServer(0, 0.0, 1.0), 1_000, 10, 2);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(gateway.requestPayment("payment-" + i, 1L, 1L)::join)
+                    .hasCauseInstanceOf(PaymentGatewayException.class);
+        }
+
+        assertThat(gateway.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThatThrownBy(gateway.requestPayment("payment-3", 1L, 1L)::join)
+                .hasCauseInstanceOf(PaymentGatewayException.class)
+                .hasMessageContaining("차단");
+    }
+
+    private StubPaymentServer startStubServer(long latencyMs, double failureRate, double errorRate)
+            throws IOException {
+        stubServer = new StubPaymentServer(objectMapper, 0, latencyMs, 0, 0.0, 0, failureRate, errorRate);
+        stubServer.start();
+        return stubServer;
+    }
+
+    private HttpPaymentGateway createGateway(StubPaymentServer server, long requestTimeoutMs, int maxConcurrency,
+                                             int failureThreshold) {
+        return new HttpPaymentGateway(objectMapper, "http://localhost:" + server.getPort(), 1_000,
+                requestTimeoutMs, maxConcurrency, failureThreshold, 60_000);
+    }
+}
@@ -0,0 +1,73 @@
+package com.wootecam.festivals.domain.payment.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.payment.gateway.PaymentCircuitBreaker.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PaymentCircuitBreaker 클래스")
+class PaymentCircuitBreakerTest {
+
+    private static final long OPEN_MS = 1_000;
+
+    private PaymentCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new PaymentCircuitBreaker(3, OPEN_MS);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 닿으면 호출을 차단한다")
+    void it_opens_after_consecutive_failures() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(circuitBreaker.tryAcquire(0)).isTrue();
+            circuitBreaker.onFailure(0);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire(OPEN_MS - 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 연속 실패를 다시 센다")
+    void it_resets_failures_on_success() {
+        circuitBreaker.onFailure(0);
+        circuitBreaker.onFailure(0);
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure(0);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 건만 보내 보고, 성공하면 호출을 허용한다")
+    void it_closes_after_successful_probe() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure(0);
+        }
+
+        assertThat(circuitBreaker.tryAcquire(OPEN_MS)).isTrue();
+        assertThat(circuitBreaker.tryAcquire(OPEN_MS)).isFalse();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire(OPEN_MS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("회복 확인 요청이 실패하면 다시 차단한다")
+    void it_reopens_after_failed_probe() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure(0);
+        }
+
+        assertThat(circuitBreaker.tryAcquire(OPEN_MS)).isTrue();
+        circuitBreaker.onFailure(OPEN_MS);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire(OPEN_MS * 2 - 1)).isFalse();
+    }
+}
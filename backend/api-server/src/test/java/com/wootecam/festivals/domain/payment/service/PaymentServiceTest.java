@@ -3,11 +3,15 @@ package com.wootecam.festivals.domain.payment.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.when;
 
 import com.wootecam.festivals.domain.payment.excpetion.PaymentErrorCode;
+import com.wootecam.festivals.domain.payment.gateway.PaymentGateway;
+import com.wootecam.festivals.domain.payment.gateway.PaymentGatewayException;
 import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatus;
 import com.wootecam.festivals.domain.purchase.service.CompensationService;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import java.net.http.HttpTimeoutException;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -27,10 +31,12 @@ class PaymentServiceTest {
 
     @Mock
     CompensationService compensationService;
+    @Mock
+    PaymentGateway paymentGateway;
 
     @BeforeEach
     void setUp() {
-        paymentService = new PaymentService(compensationService);
+        paymentService = new PaymentService(compensationService, paymentGateway);
     }
 
     @Nested
@@ -46,6 +52,8 @@ class PaymentServiceTest {
             void it_returns_completable_future_of_payment_status() {
                 // Given
                 String paymentId = UUID.randomUUID().toString();
+                when(paymentGateway.requestPayment(paymentId, 1L, 1L))
+                        .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
 
                 // When
                 CompletableFuture<PaymentStatus> future = paymentService.initiatePayment(paymentId, 1L, 1L);
@@ -59,6 +67,42 @@ class PaymentServiceTest {
                 });
             }
         }
+
+        @Nested
+        @DisplayName("결제 서버가 응답 시간 안에 응답하지 않았을 때")
+        class Context_with_gateway_timeout {
+
+            @Test
+            @DisplayName("결과를 알 수 없으므로 PENDING 으로 둔다")
+            void it_keeps_pending() {
+                String paymentId = UUID.randomUUID().toString();
+                when(paymentGateway.requestPayment(paymentId, 1L, 1L))
+                        .thenReturn(CompletableFuture.failedFuture(new HttpTimeoutException("request timed out")));
+
+                PaymentStatus status = paymentService.initiatePayment(paymentId, 1L, 1L).join();
+
+                assertThat(status).isEqualTo(PaymentStatus.PENDING);
+                assertThat(paymentService.getPaymentStatus(paymentId)).isEqualTo(PaymentStatus.PENDING);
+            }
+        }
+
+        @Nested
+        @DisplayName("결제 서버에 요청하지 못했을 때")
+        class Context_with_gateway_rejected {
+
+            @Test
+            @DisplayName("FAILED 로 저장한다")
+            void it_fails() {
+                String paymentId = UUID.randomUUID().toString();
+                when(paymentGateway.requestPayment(paymentId, 1L, 1L))
+                        .thenReturn(CompletableFuture.failedFuture(new PaymentGatewayException("결제 서버 호출 차단 중")));
+
+                PaymentStatus status = paymentService.initiatePayment(paymentId, 1L, 1L).join();
+
+                assertThat(status).isEqualTo(PaymentStatus.FAILED);
+                assertThat(paymentService.getPaymentStatus(paymentId)).isEqualTo(PaymentStatus.FAILED);
+            }
+        }
     }
 
     @Nested
@@ -75,6 +119,8 @@ class PaymentServiceTest {
             @BeforeEach
             void setUp() {
                 paymentId = UUID.randomUUID().toString();
+                when(paymentGateway.requestPayment(paymentId, 1L, 1L))
+                        .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
                 // PENDING 상태로 초기화
                 paymentService.updatePaymentStatus(paymentId, 1L, 1L, 1L, PaymentStatus.PENDING);
                 // CompletableFuture 완료 대기
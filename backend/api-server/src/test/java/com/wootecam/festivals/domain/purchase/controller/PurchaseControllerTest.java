@@ -2,11 +2,16 @@ package com.wootecam.festivals.domain.purchase.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.beneathPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -22,6 +27,7 @@ import com.wootecam.festivals.domain.ticket.exception.TicketErrorCode;
 import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
 import com.wootecam.festivals.global.auth.AuthErrorCode;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
+import com.wootecam.festivals.global.auth.wait.WaitTokenProvider;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
@@ -54,6 +60,9 @@ public class PurchaseControllerTest extends RestDocsSupport {
     @MockBean
     private PurchaseSessionRedisRepository purchaseSessionRedisRepository;
 
+    @MockBean
+    private WaitTokenProvider waitTokenProvider;
+
     static Stream<Arguments> provideException() {
         return Stream.of(
                 Arguments.of(new ApiException(PurchaseErrorCode.INVALID_TICKET_PURCHASE_TIME)),
@@ -70,7 +79,8 @@ public class PurchaseControllerTest extends RestDocsSupport {
 
     @Override
     protected Object initController() {
-        return new PurchaseController(purchaseFacadeService, purchaseService, purchaseSessionRedisRepository);
+        return new PurchaseController(purchaseFacadeService, purchaseService, purchaseSessionRedisRepository,
+                waitTokenProvider);
     }
 
     @Test
@@ -81,10 +91,14 @@ public class PurchaseControllerTest extends RestDocsSupport {
                 .willReturn(new PurchasableResponse(true, "session1"));
 
         //when then
-        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L))
+        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L)
+                        .param("waitToken", "passedWaitToken"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.purchasable").value(true))
                 .andDo(restDocs.document(
+                        queryParameters(
+                                parameterWithName("waitToken").description("대기열 서버가 통과 시 발급한 토큰")
+                        ),
                         responseFields(
                                 beneathPath("data").withSubsectionId("data"),
                                 fieldWithPath("purchasable").type(JsonFieldType.BOOLEAN)
@@ -113,7 +127,8 @@ public class PurchaseControllerTest extends RestDocsSupport {
         given(purchaseService.checkPurchasable(any(), any(), any())).willThrow(exception);
 
         //when then
-        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L))
+        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L)
+                        .param("waitToken", "passedWaitToken"))
                 .andExpect(status().is(exception.getErrorCode().getHttpStatus().value()))
                 .andDo(restDocs.document(
                         responseFields(
@@ -123,6 +138,27 @@ public class PurchaseControllerTest extends RestDocsSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("티켓 구매 가능 여부 확인 API - 대기열 통과 토큰 검증 실패")
+    void fail_checkPurchasable_without_passed_wait_token() throws Exception {
+        //given
+        willThrow(new ApiException(AuthErrorCode.WAIT_QUEUE_NOT_PASSED))
+                .given(waitTokenProvider).verifyPassed(any(), any(), any());
+
+        //when then
+        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L)
+                        .param("waitToken", "notPassedWaitToken"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value(AuthErrorCode.WAIT_QUEUE_NOT_PASSED.getCode()))
+                .andDo(restDocs.document(
+                        responseFields(
+                                fieldWithPath("errorCode").type(JsonFieldType.STRING).description("에러 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("에러 메시지")
+                        )
+                ));
+        verify(purchaseService, never()).checkPurchasable(any(), any(), any());
+    }
+
     @Test
     @DisplayName("티켓 구매 미리보기 정보 조회 API")
     void getPurchasePreviewInfo() throws Exception {
@@ -0,0 +1,49 @@
+package com.wootecam.festivals.domain.purchase.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.wootecam.festivals.domain.purchase.dto.PurchaseDeadLetterReplayResponse;
+import com.wootecam.festivals.domain.purchase.service.PurchaseDeadLetterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PurchaseDeadLetterEndpoint 클래스")
+class PurchaseDeadLetterEndpointTest {
+
+    @Mock
+    private PurchaseDeadLetterService purchaseDeadLetterService;
+
+    private PurchaseDeadLetterEndpoint purchaseDeadLetterEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        purchaseDeadLetterEndpoint = new PurchaseDeadLetterEndpoint(purchaseDeadLetterService);
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼 보관된 구매 데이터를 다시 넣는다")
+    void it_replays_requested_limit() {
+        given(purchaseDeadLetterService.replay(10)).willReturn(new PurchaseDeadLetterReplayResponse(10, 5L));
+
+        PurchaseDeadLetterReplayResponse response = purchaseDeadLetterEndpoint.replay(10);
+
+        assertThat(response).isEqualTo(new PurchaseDeadLetterReplayResponse(10, 5L));
+    }
+
+    @Test
+    @DisplayName("개수를 보내지 않으면 최대 100 개를 다시 넣는다")
+    void it_replays_default_limit_without_limit() {
+        given(purchaseDeadLetterService.replay(100)).willReturn(new PurchaseDeadLetterReplayResponse(0, 0L));
+
+        purchaseDeadLetterEndpoint.replay(null);
+
+        verify(purchaseDeadLetterService).replay(100);
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,9 @@ class CompensationServiceTest {
     @Mock
     private TicketStockCountRedisRepository ticketStockCountRedisRepository;
 
+    @Mock
+    private TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
+
     @InjectMocks
     private CompensationService compensationService;
 
@@ -60,6 +64,7 @@ class CompensationServiceTest {
                 eq("UPDATE ticket_stock SET ticket_stock_member_id = NULL WHERE ticket_stock_id = ?"),
                 eq(ticketStockId)
         );
+        verify(ticketStockPoolRedisRepository).release(ticketId, ticketStockId);
     }
 
     @Test
@@ -105,6 +110,7 @@ class CompensationServiceTest {
                 eq("UPDATE ticket_stock SET ticket_stock_member_id = NULL WHERE ticket_stock_id = ?"),
                 eq(ticketStockId)
         );
+        verify(ticketStockPoolRedisRepository, never()).release(any(Long.class), any(Long.class));
     }
 
     @Test
@@ -0,0 +1,65 @@
+package com.wootecam.festivals.domain.purchase.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.wootecam.festivals.domain.purchase.dto.PurchaseDeadLetterReplayResponse;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseDeadLetter;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseDeadLetterRepository;
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.service.QueueService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PurchaseDeadLetterService 클래스")
+class PurchaseDeadLetterServiceTest {
+
+    @Mock
+    private PurchaseDeadLetterRepository purchaseDeadLetterRepository;
+    @Mock
+    private QueueService queueService;
+
+    private PurchaseDeadLetterService purchaseDeadLetterService;
+
+    @BeforeEach
+    void setUp() {
+        purchaseDeadLetterService = new PurchaseDeadLetterService(purchaseDeadLetterRepository, queueService);
+    }
+
+    @Test
+    @DisplayName("보관된 구매 데이터를 구매 큐에 다시 넣고 보관소에서 삭제한다")
+    void it_replays_dead_letters() {
+        List<PurchaseDeadLetter> deadLetters = List.of(PurchaseDeadLetter.builder()
+                .memberId(1L)
+                .ticketId(2L)
+                .ticketStockId(3L)
+                .attemptCount(5)
+                .build());
+        given(purchaseDeadLetterRepository.findAllByOrderByIdAsc(PageRequest.of(0, 100))).willReturn(deadLetters);
+        given(purchaseDeadLetterRepository.count()).willReturn(20L);
+
+        PurchaseDeadLetterReplayResponse response = purchaseDeadLetterService.replay(100);
+
+        verify(queueService).addPurchase(new PurchaseData(1L, 2L, 3L));
+        verify(purchaseDeadLetterRepository).deleteAllInBatch(deadLetters);
+        assertThat(response).isEqualTo(new PurchaseDeadLetterReplayResponse(1, 20L));
+    }
+
+    @Test
+    @DisplayName("한 번에 다시 넣는 개수는 최대 1000 개로 제한한다")
+    void it_limits_replay_size() {
+        given(purchaseDeadLetterRepository.findAllByOrderByIdAsc(PageRequest.of(0, 1000))).willReturn(List.of());
+
+        purchaseDeadLetterService.replay(5000);
+
+        verify(purchaseDeadLetterRepository).findAllByOrderByIdAsc(PageRequest.of(0, 1000));
+    }
+}
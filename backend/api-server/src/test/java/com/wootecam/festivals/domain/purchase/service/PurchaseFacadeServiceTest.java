@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -17,6 +18,7 @@ import com.wootecam.festivals.domain.payment.service.PaymentService;
 import com.wootecam.festivals.domain.payment.service.PaymentService.PaymentStatus;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.service.TicketCacheService;
+import com.wootecam.festivals.domain.ticket.service.TicketStockReservationSweeper;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.global.queue.dto.PurchaseData;
 import com.wootecam.festivals.global.queue.service.QueueService;
@@ -24,6 +26,10 @@ import com.wootecam.festivals.global.utils.TimeProvider;
 import com.wootecam.festivals.utils.Fixture;
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -49,6 +55,12 @@ class PurchaseFacadeServiceTest {
     private QueueService queueService;
     @Mock
     private TimeProvider timeProvider;
+    @Mock
+    private PurchaserIndexService purchaserIndexService;
+    @Mock
+    private CompensationService compensationService;
+    @Mock
+    private TicketStockReservationSweeper ticketStockReservationSweeper;
 
     @InjectMocks
     private PurchaseFacadeService purchaseFacadeService;
@@ -68,6 +80,7 @@ class PurchaseFacadeServiceTest {
                         LocalDateTime.now().plusDays(1));
                 when(ticketCacheService.getTicket(ticketId)).thenReturn(ticket);
                 when(timeProvider.getCurrentTime()).thenReturn(LocalDateTime.now());
+                when(ticketStockReservationSweeper.cancelExpiry(ticketId, ticketStockId, memberId)).thenReturn(true);
                 when(paymentService.initiatePayment(anyString(), anyLong(), anyLong())).thenReturn(
                         CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
             }
@@ -82,6 +95,29 @@ class PurchaseFacadeServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("재고 점유가 이미 만료되었을 때")
+        class Context_with_expired_reservation {
+
+            @BeforeEach
+            void setUp() {
+                Festival festival = FestivalStub.createValidFestival(festivalId);
+                Ticket ticket = Fixture.createTicket(festival, 1000L, 100, LocalDateTime.now().minusDays(1),
+                        LocalDateTime.now().plusDays(1));
+                when(ticketCacheService.getTicket(ticketId)).thenReturn(ticket);
+                when(timeProvider.getCurrentTime()).thenReturn(LocalDateTime.now());
+                when(ticketStockReservationSweeper.cancelExpiry(ticketId, ticketStockId, memberId)).thenReturn(false);
+            }
+
+            @Test
+            @DisplayName("결제하지 않고 예외를 던진다")
+            void it_throws_exception() {
+                assertThrows(ApiException.class, () ->
+                        purchaseFacadeService.processPurchase(new PurchaseData(memberId, ticketId, ticketStockId)));
+                verify(paymentService, never()).initiatePayment(anyString(), anyLong(), anyLong());
+            }
+        }
+
         @Nested
         @DisplayName("유효하지 않은 구매 시간에")
         class Context_with_invalid_purchase_time {
@@ -158,6 +194,26 @@ class PurchaseFacadeServiceTest {
             when(mockTicket.getEndSaleTime()).thenReturn(LocalDateTime.now().plusDays(1));
             when(ticketCacheService.getTicket(anyLong())).thenReturn(mockTicket);
             when(timeProvider.getCurrentTime()).thenReturn(LocalDateTime.now());
+            when(ticketStockReservationSweeper.cancelExpiry(anyLong(), anyLong(), anyLong())).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("결제 결과는 공용 ForkJoinPool 이 아닌 전용 스레드 풀에서 처리한다")
+        void it_handles_payment_result_off_common_pool() throws Exception {
+            when(paymentService.initiatePayment(anyString(), anyLong(), anyLong())).thenReturn(
+                    CompletableFuture.completedFuture(PaymentStatus.FAILED));
+            AtomicReference<Thread> handledThread = new AtomicReference<>();
+            CountDownLatch handled = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                handledThread.set(Thread.currentThread());
+                handled.countDown();
+                return null;
+            }).when(compensationService).compensateFailedPurchase(anyString(), anyLong(), anyLong());
+
+            purchaseFacadeService.processPurchase(new PurchaseData(memberId, ticketId, ticketStockId));
+
+            assertThat(handled.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(handledThread.get()).isNotInstanceOf(ForkJoinWorkerThread.class);
         }
 
         @Test
@@ -26,6 +26,7 @@ import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepos
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockRepository;
+import com.wootecam.festivals.domain.ticket.service.TicketStockReservationWriter;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
@@ -50,6 +51,7 @@ class PurchaseServiceTest extends SpringBootTestConfig {
     private final PurchaseRepository purchaseRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    private final TicketStockReservationWriter ticketStockReservationWriter;
 
     private LocalDateTime ticketSaleStartTime = LocalDateTime.now();
     private Festival festival;
@@ -62,7 +64,8 @@ class PurchaseServiceTest extends SpringBootTestConfig {
                                PurchaseRepository purchaseRepository, CheckinRepository checkinRepository,
                                TicketStockJdbcRepository ticketStockJdbcRepository,
                                RedisTemplate<String, String> redisTemplate,
-                               PurchaseSessionRedisRepository purchaseSessionRedisRepository) {
+                               PurchaseSessionRedisRepository purchaseSessionRedisRepository,
+                               TicketStockReservationWriter ticketStockReservationWriter) {
         this.purchaseService = purchaseService;
         this.memberRepository = memberRepository;
         this.festivalRepository = festivalRepository;
@@ -72,6 +75,7 @@ class PurchaseServiceTest extends SpringBootTestConfig {
         this.ticketStockJdbcRepository = ticketStockJdbcRepository;
         this.redisTemplate = redisTemplate;
         this.purchaseSessionRedisRepository = purchaseSessionRedisRepository;
+        this.ticketStockReservationWriter = ticketStockReservationWriter;
     }
 
     @BeforeEach
@@ -115,6 +119,17 @@ class PurchaseServiceTest extends SpringBootTestConfig {
             assertAll(() -> assertThat(purchasableResponse.purchasable()).isTrue());
         }
 
+        @Test
+        @DisplayName("점유한 재고를 MySQL 에 반영한다")
+        void It_writes_reservation() {
+            purchaseService.checkPurchasable(ticket.getId(), member.getId(), LocalDateTime.now());
+
+            ticketStockReservationWriter.flush();
+
+            assertThat(ticketStockRepository.findAll())
+                    .allSatisfy(ticketStock -> assertThat(ticketStock.isReserved()).isTrue());
+        }
+
         @Nested
         @DisplayName("티켓 재고가 없으면")
         class Context_with_no_stock {
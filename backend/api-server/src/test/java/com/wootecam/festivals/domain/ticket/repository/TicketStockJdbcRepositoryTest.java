@@ -8,16 +8,19 @@ import com.wootecam.festivals.domain.festival.entity.Festival;
 import com.wootecam.festivals.domain.festival.repository.FestivalRepository;
 import com.wootecam.festivals.domain.member.entity.Member;
 import com.wootecam.festivals.domain.member.repository.MemberRepository;
+import com.wootecam.festivals.domain.ticket.dto.TicketStockReservation;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.entity.TicketStock;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @SpringBootTest
 class TicketStockJdbcRepositoryTest extends SpringBootTestConfig {
@@ -31,6 +34,9 @@ class TicketStockJdbcRepositoryTest extends SpringBootTestConfig {
     private Festival festival;
     private Member admin;
     private LocalDateTime ticketSaleStartTime = LocalDateTime.now();
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     TicketStockJdbcRepositoryTest(TicketStockJdbcRepository ticketStockJdbcRepository,
                                   MemberRepository memberRepository, FestivalRepository festivalRepository,
@@ -76,4 +82,66 @@ class TicketStockJdbcRepositoryTest extends SpringBootTestConfig {
         assertThat(ticketStocks).hasSize(100);
     }
 
+    @Test
+    @DisplayName("티켓별 남은 재고 수 집계")
+    void countRemainingStocks() {
+        // given
+        Ticket ticket = ticketRepository.save(Ticket.builder()
+                .name("Test Ticket")
+                .detail("Test Ticket Detail")
+                .price(10000L)
+                .quantity(10)
+                .startSaleTime(ticketSaleStartTime)
+                .endSaleTime(ticketSaleStartTime.plusDays(2))
+                .refundEndTime(ticketSaleStartTime.plusDays(2))
+                .festival(festival)
+                .build());
+        ticketStockJdbcRepository.saveTicketStocks(ticket.createTicketStock());
+        // 3개의 재고를 점유
+        ticketStockRepository.findAll().stream()
+                .limit(3)
+                .forEach(ticketStock -> jdbcTemplate.update(
+                        "UPDATE ticket_stock SET ticket_stock_member_id = ? WHERE ticket_stock_id = ?",
+                        admin.getId(), ticketStock.getId()));
+
+        // when
+        Map<Long, Long> remaining = ticketStockJdbcRepository.countRemainingStocks(List.of(ticket.getId(), 999L));
+
+        // then
+        assertThat(remaining).containsEntry(ticket.getId(), 7L)
+                .containsEntry(999L, 0L);
+    }
+
+    @Test
+    @DisplayName("일부만 반영된 배치를 다시 반영하면 같은 회원이 점유한 재고는 충돌로 보지 않는다")
+    void reserveTicketStocksRetriedAfterPartialApply() {
+        // given
+        Ticket ticket = ticketRepository.save(Ticket.builder()
+                .name("Test Ticket")
+                .detail("Test Ticket Detail")
+                .price(10000L)
+                .quantity(3)
+                .startSaleTime(ticketSaleStartTime)
+                .endSaleTime(ticketSaleStartTime.plusDays(2))
+                .refundEndTime(ticketSaleStartTime.plusDays(2))
+                .festival(festival)
+                .build());
+        ticketStockJdbcRepository.saveTicketStocks(ticket.createTicketStock());
+        List<Long> stockIds = ticketStockRepository.findAll().stream().map(TicketStock::getId).toList();
+        Member member = memberRepository.save(createMember("member", "member@test.com"));
+        Member other = memberRepository.save(createMember("other", "other@test.com"));
+        TicketStockReservation applied = new TicketStockReservation(stockIds.get(0), member.getId());
+        TicketStockReservation notApplied = new TicketStockReservation(stockIds.get(1), member.getId());
+        TicketStockReservation taken = new TicketStockReservation(stockIds.get(2), member.getId());
+        ticketStockJdbcRepository.reserveTicketStocks(List.of(applied,
+                new TicketStockReservation(stockIds.get(2), other.getId())));
+
+        // when
+        List<TicketStockReservation> conflicts = ticketStockJdbcRepository.reserveTicketStocks(
+                List.of(applied, notApplied, taken));
+
+        // then
+        assertThat(conflicts).containsExactly(taken);
+    }
+
 }
@@ -0,0 +1,125 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TicketStockReconcilerTest {
+
+    private static final long RAISE_AFTER_MS = 60_000;
+
+    @Mock
+    private CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    @Mock
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    @Mock
+    private TicketStockJdbcRepository ticketStockJdbcRepository;
+
+    private TicketStockReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new TicketStockReconciler(currentTicketWaitRedisRepository, ticketStockCountRedisRepository,
+                ticketStockJdbcRepository, 1_000, RAISE_AFTER_MS);
+    }
+
+    @Nested
+    @DisplayName("reconcile 메소드는")
+    class Describe_reconcile {
+
+        @Test
+        @DisplayName("Redis 재고가 MySQL 남은 재고보다 많으면 바로 낮춘다")
+        void it_clamps_down_immediately() {
+            given(ticketStockJdbcRepository.countRemainingStocks(List.of(1L))).willReturn(Map.of(1L, 5L));
+            given(ticketStockCountRedisRepository.getTicketStockCount(1L)).willReturn(8L);
+
+            reconciler.reconcile(List.of(1L), 0);
+
+            verify(ticketStockCountRedisRepository).compareAndSetTicketStockCount(1L, 8L, 5L);
+        }
+
+        @Test
+        @DisplayName("Redis 재고가 더 적어도 같은 차이가 일정 시간 유지되기 전에는 올리지 않는다")
+        void it_does_not_raise_before_quiescent() {
+            given(ticketStockJdbcRepository.countRemainingStocks(List.of(1L))).willReturn(Map.of(1L, 5L));
+            given(ticketStockCountRedisRepository.getTicketStockCount(1L)).willReturn(3L);
+
+            reconciler.reconcile(List.of(1L), 0);
+            reconciler.reconcile(List.of(1L), RAISE_AFTER_MS - 1);
+
+            verify(ticketStockCountRedisRepository, never()).compareAndSetTicketStockCount(anyLong(), anyLong(),
+                    anyLong());
+        }
+
+        @Test
+        @DisplayName("같은 차이가 일정 시간 유지되면 MySQL 남은 재고로 올린다")
+        void it_raises_after_quiescent() {
+            given(ticketStockJdbcRepository.countRemainingStocks(List.of(1L))).willReturn(Map.of(1L, 5L));
+            given(ticketStockCountRedisRepository.getTicketStockCount(1L)).willReturn(3L);
+
+            reconciler.reconcile(List.of(1L), 0);
+            reconciler.reconcile(List.of(1L), RAISE_AFTER_MS);
+
+            verify(ticketStockCountRedisRepository).compareAndSetTicketStockCount(1L, 3L, 5L);
+        }
+
+        @Test
+        @DisplayName("중간에 재고가 움직이면 대기 시간을 다시 센다")
+        void it_restarts_quiescent_window_when_counts_change() {
+            given(ticketStockJdbcRepository.countRemainingStocks(List.of(1L))).willReturn(Map.of(1L, 5L));
+            given(ticketStockCountRedisRepository.getTicketStockCount(1L)).willReturn(3L, 2L, 2L);
+
+            reconciler.reconcile(List.of(1L), 0);
+            reconciler.reconcile(List.of(1L), RAISE_AFTER_MS / 2);
+            reconciler.reconcile(List.of(1L), RAISE_AFTER_MS);
+
+            verify(ticketStockCountRedisRepository, never()).compareAndSetTicketStockCount(anyLong(), anyLong(),
+                    anyLong());
+        }
+
+        @Test
+        @DisplayName("Redis 에 재고 키가 없는 티켓은 건너뛴다")
+        void it_skips_ticket_without_redis_count() {
+            given(ticketStockJdbcRepository.countRemainingStocks(List.of(1L))).willReturn(Map.of(1L, 5L));
+            given(ticketStockCountRedisRepository.getTicketStockCount(1L)).willReturn(null);
+
+            reconciler.reconcile(List.of(1L), 0);
+
+            verify(ticketStockCountRedisRepository, never()).compareAndSetTicketStockCount(anyLong(), anyLong(),
+                    anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcileRecently 메소드는")
+    class Describe_reconcileRecently {
+
+        @Test
+        @DisplayName("최근에 보정한 티켓은 다시 조회하지 않는다")
+        void it_throttles_per_ticket() {
+            given(ticketStockJdbcRepository.countRemainingStocks(anyCollection())).willReturn(Map.of());
+
+            reconciler.reconcileRecently(List.of(1L));
+            reconciler.reconcileRecently(List.of(1L));
+
+            verify(ticketStockJdbcRepository, times(1)).countRemainingStocks(anyCollection());
+        }
+    }
+}
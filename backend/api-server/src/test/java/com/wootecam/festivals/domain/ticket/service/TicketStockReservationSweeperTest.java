@@ -0,0 +1,151 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.wootecam.festivals.domain.ticket.dto.TicketStockReservation;
+import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.ReservationExpiryRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.ReservationExpiryRedisRepository.ExpiredReservation;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class TicketStockReservationSweeperTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final Long ticketId = 1L;
+
+    @Mock
+    private ReservationExpiryRedisRepository reservationExpiryRedisRepository;
+    @Mock
+    private CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    @Mock
+    private TicketStockJdbcRepository ticketStockJdbcRepository;
+    @Mock
+    private TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
+    @Mock
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    private TicketStockReservationSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new TicketStockReservationSweeper(reservationExpiryRedisRepository,
+                currentTicketWaitRedisRepository, ticketStockJdbcRepository, ticketStockPoolRedisRepository,
+                ticketStockCountRedisRepository, 60_000, BATCH_SIZE);
+    }
+
+    @Nested
+    @DisplayName("sweep 메소드는")
+    class Describe_sweep {
+
+        @Test
+        @DisplayName("만료된 점유를 한 번의 UPDATE 로 해제하고 되돌린 만큼 재고 수를 올린다")
+        void it_releases_expired_reservations() {
+            given(reservationExpiryRedisRepository.pollExpired(ticketId, 0, BATCH_SIZE))
+                    .willReturn(List.of(new ExpiredReservation(10L, 100L)));
+            given(ticketStockJdbcRepository.releaseTicketStocks(List.of(new TicketStockReservation(10L, 100L))))
+                    .willReturn(List.of(new TicketStockReservation(10L, 100L)));
+            given(ticketStockPoolRedisRepository.releaseAll(ticketId, Map.of(10L, 100L))).willReturn(1L);
+
+            sweeper.sweep(ticketId, 0);
+
+            verify(ticketStockCountRedisRepository).returnStock(ticketId, 1L);
+        }
+
+        @Test
+        @DisplayName("꺼낸 점유가 batchSize 만큼이면 남은 점유를 이어서 해제한다")
+        void it_sweeps_until_drained() {
+            given(reservationExpiryRedisRepository.pollExpired(ticketId, 0, BATCH_SIZE))
+                    .willReturn(List.of(new ExpiredReservation(10L, 100L), new ExpiredReservation(11L, 101L)),
+                            List.of(new ExpiredReservation(12L, 102L)));
+            given(ticketStockJdbcRepository.releaseTicketStocks(anyList()))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(ticketStockPoolRedisRepository.releaseAll(ticketId, Map.of(10L, 100L, 11L, 101L))).willReturn(2L);
+            given(ticketStockPoolRedisRepository.releaseAll(ticketId, Map.of(12L, 102L))).willReturn(1L);
+
+            sweeper.sweep(ticketId, 0);
+
+            verify(reservationExpiryRedisRepository, times(2)).pollExpired(ticketId, 0, BATCH_SIZE);
+            verify(ticketStockCountRedisRepository).returnStock(ticketId, 2L);
+            verify(ticketStockCountRedisRepository).returnStock(ticketId, 1L);
+        }
+
+        @Test
+        @DisplayName("이미 되돌린 재고는 재고 수를 올리지 않는다")
+        void it_does_not_return_already_released_stock() {
+            given(reservationExpiryRedisRepository.pollExpired(ticketId, 0, BATCH_SIZE))
+                    .willReturn(List.of(new ExpiredReservation(10L, 100L)));
+            given(ticketStockJdbcRepository.releaseTicketStocks(anyList()))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(ticketStockPoolRedisRepository.releaseAll(ticketId, Map.of(10L, 100L))).willReturn(0L);
+
+            sweeper.sweep(ticketId, 0);
+
+            verify(ticketStockCountRedisRepository, never()).returnStock(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("MySQL 에서 다른 회원이 점유한 재고는 Redis 에서도 되돌리지 않는다")
+        void it_skips_stock_reserved_by_other_member() {
+            given(reservationExpiryRedisRepository.pollExpired(ticketId, 0, BATCH_SIZE))
+                    .willReturn(List.of(new ExpiredReservation(10L, 100L), new ExpiredReservation(11L, 101L)),
+                            List.of());
+            given(ticketStockJdbcRepository.releaseTicketStocks(anyList()))
+                    .willReturn(List.of(new TicketStockReservation(11L, 101L)));
+            given(ticketStockPoolRedisRepository.releaseAll(ticketId, Map.of(11L, 101L))).willReturn(1L);
+
+            sweeper.sweep(ticketId, 0);
+
+            verify(ticketStockPoolRedisRepository).releaseAll(ticketId, Map.of(11L, 101L));
+            verify(ticketStockCountRedisRepository).returnStock(ticketId, 1L);
+        }
+
+        @Test
+        @DisplayName("MySQL 에서 해제한 재고가 없다면 Redis 를 바꾸지 않는다")
+        void it_does_not_touch_redis_when_nothing_released() {
+            given(reservationExpiryRedisRepository.pollExpired(ticketId, 0, BATCH_SIZE))
+                    .willReturn(List.of(new ExpiredReservation(10L, 100L)));
+            given(ticketStockJdbcRepository.releaseTicketStocks(anyList())).willReturn(List.of());
+
+            sweeper.sweep(ticketId, 0);
+
+            verify(ticketStockPoolRedisRepository, never()).releaseAll(anyLong(), anyMap());
+            verify(ticketStockCountRedisRepository, never()).returnStock(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("MySQL 반영에 실패하면 꺼낸 점유를 다시 등록한다")
+        void it_reschedules_when_update_fails() {
+            given(reservationExpiryRedisRepository.pollExpired(ticketId, 0, BATCH_SIZE))
+                    .willReturn(List.of(new ExpiredReservation(10L, 100L)));
+            given(ticketStockJdbcRepository.releaseTicketStocks(anyList()))
+                    .willThrow(new DataAccessResourceFailureException("db down"));
+
+            assertThatThrownBy(() -> sweeper.sweep(ticketId, 0))
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+
+            verify(reservationExpiryRedisRepository).schedule(ticketId, 10L, 100L, 0);
+            verify(ticketStockPoolRedisRepository, never()).releaseAll(anyLong(), anyMap());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.wootecam.festivals.domain.ticket.dto.PendingTicketStockReservation;
+import com.wootecam.festivals.domain.ticket.dto.TicketStockReservation;
+import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockReservationSpillStore;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class TicketStockReservationWriterTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final Long ticketId = 1L;
+
+    @Mock
+    private TicketStockJdbcRepository ticketStockJdbcRepository;
+    @Mock
+    private TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
+    @Mock
+    private PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    @Mock
+    private TicketStockReservationSpillStore ticketStockReservationSpillStore;
+
+    private TicketStockReservationWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new TicketStockReservationWriter(ticketStockJdbcRepository, ticketStockPoolRedisRepository,
+                purchaseSessionRedisRepository, ticketStockReservationSpillStore, BATCH_SIZE);
+    }
+
+    @Nested
+    @DisplayName("flush 메소드는")
+    class Describe_flush {
+
+        @Test
+        @DisplayName("모인 점유를 MySQL 에 반영한다")
+        void it_writes_reservations() {
+            writer.add(ticketId, 10L, 100L, "session-100");
+            given(ticketStockJdbcRepository.reserveTicketStocks(List.of(new TicketStockReservation(10L, 100L))))
+                    .willReturn(List.of());
+
+            writer.flush();
+
+            assertThat(writer.pendingCount()).isZero();
+            verify(ticketStockPoolRedisRepository, never()).releaseAll(anyLong(), anyMap());
+        }
+
+        @Test
+        @DisplayName("이미 다른 회원이 점유한 재고라면 Redis 점유를 되돌리고 구매 세션을 지운다")
+        void it_revokes_conflicts() {
+            writer.add(ticketId, 10L, 100L, "session-100");
+            writer.add(ticketId, 11L, 101L, "session-101");
+            given(ticketStockJdbcRepository.reserveTicketStocks(anyList()))
+                    .willReturn(List.of(new TicketStockReservation(11L, 101L)));
+
+            writer.flush();
+
+            verify(purchaseSessionRedisRepository).removePurchaseSession(ticketId, "session-101", 101L);
+            verify(purchaseSessionRedisRepository, never()).removePurchaseSession(ticketId, "session-100", 100L);
+            verify(ticketStockPoolRedisRepository).releaseAll(ticketId, Map.of(11L, 101L));
+        }
+
+        @Test
+        @DisplayName("일부만 반영되고 실패한 배치를 다시 반영할 때 이미 반영된 점유는 취소하지 않는다")
+        void it_does_not_revoke_partially_applied_batch_on_retry() {
+            writer.add(ticketId, 10L, 100L, "session-100");
+            writer.add(ticketId, 11L, 101L, "session-101");
+            // 첫 시도에서 10 번 재고만 반영된 뒤 실패, 다시 시도하면 같은 회원의 점유는 반영된 것으로 응답
+            given(ticketStockJdbcRepository.reserveTicketStocks(anyList()))
+                    .willThrow(new DataAccessResourceFailureException("connection reset"))
+                    .willReturn(List.of());
+
+            writer.flush();
+            writer.flush();
+
+            assertThat(writer.pendingCount()).isZero();
+            verify(purchaseSessionRedisRepository, never()).removePurchaseSession(anyLong(), anyString(),
+                    anyLong());
+            verify(ticketStockPoolRedisRepository, never()).releaseAll(anyLong(), anyMap());
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 다음 주기에 다시 시도하도록 남겨 둔다")
+        void it_keeps_batch_when_write_fails() {
+            writer.add(ticketId, 10L, 100L, "session-100");
+            given(ticketStockJdbcRepository.reserveTicketStocks(anyList()))
+                    .willThrow(new DataAccessResourceFailureException("db down"));
+
+            writer.flush();
+
+            assertThat(writer.pendingCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("flushOnShutdown 메소드는")
+    class Describe_flushOnShutdown {
+
+        @Test
+        @DisplayName("반영하지 못한 점유를 Redis 리스트로 넘긴다")
+        void it_spills_leftovers() {
+            writer.add(ticketId, 10L, 100L, "session-100");
+            given(ticketStockJdbcRepository.reserveTicketStocks(anyList()))
+                    .willThrow(new DataAccessResourceFailureException("db down"));
+
+            writer.flushOnShutdown();
+
+            verify(ticketStockReservationSpillStore).spill(
+                    List.of(new PendingTicketStockReservation(ticketId, 10L, 100L, "session-100")));
+            assertThat(writer.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("종료 중에는 넘겨진 점유를 가져오지 않는다")
+        void it_does_not_poll_while_shutting_down() {
+            writer.flushOnShutdown();
+
+            writer.pollSpilledReservations();
+
+            verify(ticketStockReservationSpillStore, never()).take(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("pollSpilledReservations 메소드는")
+    class Describe_pollSpilledReservations {
+
+        @Test
+        @DisplayName("넘겨진 점유를 가져와 다음 반영에 포함한다")
+        void it_ingests_spilled_reservations() {
+            given(ticketStockReservationSpillStore.take(BATCH_SIZE))
+                    .willReturn(List.of(new PendingTicketStockReservation(ticketId, 10L, 100L, "session-100")),
+                            List.of());
+
+            writer.pollSpilledReservations();
+
+            assertThat(writer.pendingCount()).isEqualTo(1);
+            verify(purchaseSessionRedisRepository, never()).removePurchaseSession(anyLong(), anyString(),
+                    anyLong());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.wootecam.festivals.global.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("RedisStreamQueue 테스트")
+class RedisStreamQueueTest extends SpringBootTestConfig {
+
+    private static final String STREAM_KEY = "test:purchases:stream";
+    private static final String GROUP = "test-writers";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RedisStreamQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(STREAM_KEY);
+        queue = new RedisStreamQueue(redisTemplate, STREAM_KEY, GROUP, "node-1", Duration.ofMinutes(1));
+    }
+
+    @Nested
+    @DisplayName("drainTo 메서드는")
+    class Describe_drainTo {
+
+        @Test
+        @DisplayName("스트림에 추가된 순서대로 구매 데이터를 전달한다")
+        void it_delivers_purchases_in_order() {
+            PurchaseData first = new PurchaseData(1L, 1L, 1L);
+            PurchaseData second = new PurchaseData(2L, 1L, 2L);
+            queue.offer(first);
+            queue.offer(second);
+
+            List<PurchaseData> drained = new ArrayList<>();
+            int count = queue.drainTo(drained::add, 10);
+
+            assertThat(count).isEqualTo(2);
+            assertThat(drained).containsExactly(first, second);
+            assertThat(queue.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 노드가 오래 ack 하지 않은 항목을 가져와 전달한다")
+        void it_claims_stuck_entries_from_other_consumers() throws InterruptedException {
+            RedisStreamQueue crashedNode = new RedisStreamQueue(redisTemplate, STREAM_KEY, GROUP, "node-crashed",
+                    Duration.ofMillis(50));
+            RedisStreamQueue survivingNode = new RedisStreamQueue(redisTemplate, STREAM_KEY, GROUP, "node-2",
+                    Duration.ofMillis(50));
+            PurchaseData data = new PurchaseData(1L, 1L, 1L);
+            crashedNode.offer(data);
+            assertThat(crashedNode.pollBatch(10)).containsExactly(data);
+
+            Thread.sleep(100);
+
+            assertThat(survivingNode.pollBatch(10)).containsExactly(data);
+        }
+    }
+
+    @Nested
+    @DisplayName("isEmpty 메서드는")
+    class Describe_isEmpty {
+
+        @Test
+        @DisplayName("다른 노드가 꺼내 처리 중인 항목은 세지 않는다")
+        void it_ignores_entries_pending_on_other_consumers() {
+            RedisStreamQueue otherNode = new RedisStreamQueue(redisTemplate, STREAM_KEY, GROUP, "node-2",
+                    Duration.ofMinutes(1));
+            otherNode.offer(new PurchaseData(1L, 1L, 1L));
+            assertThat(otherNode.pollBatch(10)).hasSize(1);
+
+            assertThat(queue.isEmpty()).isTrue();
+            assertThat(queue.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("새 항목을 미리 읽어 두고 drainTo 로 전달한다")
+        void it_prefetches_new_entries() {
+            PurchaseData data = new PurchaseData(1L, 1L, 1L);
+            queue.offer(data);
+
+            assertThat(queue.isEmpty()).isFalse();
+            assertThat(queue.size()).isEqualTo(1);
+            assertThat(queue.pollBatch(10)).containsExactly(data);
+            assertThat(queue.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("acknowledge 메서드는")
+    class Describe_acknowledge {
+
+        @Test
+        @DisplayName("처리가 끝난 항목을 스트림에서 제거한다")
+        void it_removes_acknowledged_entries() {
+            PurchaseData data = new PurchaseData(1L, 1L, 1L);
+            queue.offer(data);
+            List<PurchaseData> batch = queue.pollBatch(10);
+
+            queue.acknowledge(batch);
+
+            assertThat(redisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+            assertThat(redisTemplate.opsForStream().pending(STREAM_KEY, GROUP).getTotalPendingMessages()).isZero();
+        }
+
+        @Test
+        @DisplayName("ack 하지 않은 항목은 pending 목록에 남는다")
+        void it_keeps_unacknowledged_entries_pending() {
+            queue.offer(new PurchaseData(1L, 1L, 1L));
+            queue.offer(new PurchaseData(2L, 1L, 2L));
+            List<PurchaseData> batch = queue.pollBatch(10);
+
+            queue.acknowledge(batch.subList(0, 1));
+
+            assertThat(redisTemplate.opsForStream().pending(STREAM_KEY, GROUP).getTotalPendingMessages()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.wootecam.festivals.global.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RetryTimingWheelTest {
+
+    private static final long TICK_MS = 100;
+    private static final long START = 0;
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+
+    @Test
+    @DisplayName("휠 크기가 2의 거듭제곱이 아니면 예외가 발생한다")
+    void testInvalidWheelSize() {
+        assertThatThrownBy(() -> new RetryTimingWheel<String>(TICK_MS, TimeUnit.MILLISECONDS, 100, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("만료 테스트")
+    class ExpireTest {
+
+        @Test
+        @DisplayName("지연 시간이 지나기 전에는 항목을 꺼내지 않는다")
+        void testNotExpiredBeforeDelay() {
+            RetryTimingWheel<String> wheel = new RetryTimingWheel<>(TICK_MS, TimeUnit.MILLISECONDS, 8, START);
+            wheel.schedule("a", 500, TimeUnit.MILLISECONDS, START);
+
+            assertThat(wheel.advance(millis(400))).isEmpty();
+            assertThat(wheel.advance(millis(500))).containsExactly("a");
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("휠을 한 바퀴 이상 기다려야 하는 항목은 남은 바퀴 수만큼 지난 뒤 꺼낸다")
+        void testExpireAfterMultipleRounds() {
+            RetryTimingWheel<String> wheel = new RetryTimingWheel<>(TICK_MS, TimeUnit.MILLISECONDS, 4, START);
+            wheel.schedule("late", 1_000, TimeUnit.MILLISECONDS, START);
+            wheel.schedule("early", 200, TimeUnit.MILLISECONDS, START);
+
+            assertThat(wheel.advance(millis(300))).containsExactly("early");
+            assertThat(wheel.advance(millis(900))).isEmpty();
+            assertThat(wheel.advance(millis(1_000))).containsExactly("late");
+        }
+
+        @Test
+        @DisplayName("이미 지난 tick 에 해당하는 항목은 다음 tick 에 꺼낸다")
+        void testZeroDelayAfterAdvance() {
+            RetryTimingWheel<String> wheel = new RetryTimingWheel<>(TICK_MS, TimeUnit.MILLISECONDS, 8, START);
+            wheel.advance(millis(250));
+            wheel.schedule("now", 0, TimeUnit.MILLISECONDS, millis(250));
+
+            assertThat(wheel.advance(millis(250))).isEmpty();
+            assertThat(wheel.advance(millis(300))).containsExactly("now");
+        }
+
+        @Test
+        @DisplayName("advance 호출이 늦어져도 그 사이 만료된 항목을 모두 꺼낸다")
+        void testCatchUpMissedTicks() {
+            RetryTimingWheel<Integer> wheel = new RetryTimingWheel<>(TICK_MS, TimeUnit.MILLISECONDS, 16, START);
+            for (int i = 1; i <= 10; i++) {
+                wheel.schedule(i, i * TICK_MS, TimeUnit.MILLISECONDS, START);
+            }
+
+            List<Integer> expired = new ArrayList<>(wheel.advance(millis(10_000)));
+
+            assertThat(expired).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+            assertThat(wheel.size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("drainAll 은 만료되지 않은 항목까지 모두 꺼내고 휠을 비운다")
+    void testDrainAll() {
+        RetryTimingWheel<String> wheel = new RetryTimingWheel<>(TICK_MS, TimeUnit.MILLISECONDS, 8, START);
+        wheel.schedule("soon", 100, TimeUnit.MILLISECONDS, START);
+        wheel.schedule("later", 5_000, TimeUnit.MILLISECONDS, START);
+
+        assertThat(wheel.drainAll()).containsExactlyInAnyOrder("soon", "later");
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(millis(10_000))).isEmpty();
+    }
+}
@@ -0,0 +1,245 @@
+package com.wootecam.festivals.global.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wootecam.festivals.global.queue.exception.QueueFullException;
+import com.wootecam.festivals.global.queue.exception.QueueOperationException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RingBufferQueueTest {
+
+    @Nested
+    @DisplayName("큐 기본 동작 테스트")
+    class BasicOperationTest {
+
+        @Test
+        @DisplayName("용량은 2의 거듭제곱으로 올림된다")
+        void testCapacityRoundUp() {
+            assertEquals(1, new RingBufferQueue<Integer>(1).capacity(), "용량 1은 그대로 1이어야 합니다.");
+            assertEquals(8, new RingBufferQueue<Integer>(5).capacity(), "용량 5는 8로 올림되어야 합니다.");
+            assertEquals(16, new RingBufferQueue<Integer>(16).capacity(), "용량 16은 그대로 16이어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("용량이 0 이하이면 예외가 발생한다")
+        void testInvalidCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<Integer>(0));
+        }
+
+        @Test
+        @DisplayName("null 을 넣으면 예외가 발생한다")
+        void testOfferNull() {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(4);
+            assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+        }
+
+        @Test
+        @DisplayName("넣은 순서대로 꺼낸다")
+        void testFifo() {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(4);
+            assertTrue(queue.isEmpty(), "새로 생성된 큐는 비어있어야 합니다.");
+
+            // 버퍼를 여러 바퀴 돌면서 순서와 크기가 유지되는지 확인
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 4; i++) {
+                    queue.offer(round * 10 + i);
+                }
+                assertEquals(4, queue.size(), "요소 추가 후 큐의 크기가 정확해야 합니다.");
+                for (int i = 0; i < 4; i++) {
+                    assertEquals(round * 10 + i, queue.poll(), "넣은 순서대로 꺼내져야 합니다.");
+                }
+                assertTrue(queue.isEmpty(), "모든 요소가 제거된 후 큐는 비어있어야 합니다.");
+            }
+            assertEquals(null, queue.poll(), "빈 큐에서 poll 하면 null 이어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("clear 메소드 테스트")
+        void testClear() {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(8);
+            for (int i = 0; i < 5; i++) {
+                queue.offer(i);
+            }
+
+            queue.clear();
+
+            assertTrue(queue.isEmpty(), "clear 후 큐는 비어있어야 합니다.");
+            assertTrue(queue.tryOffer(100), "clear 후에는 다시 항목을 넣을 수 있어야 합니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("drainTo 메서드 테스트")
+    class DrainToTest {
+
+        @Test
+        @DisplayName("최대 개수만큼만 consumer 에 전달한다")
+        void testDrainToMaxItems() {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(16);
+            for (int i = 1; i <= 10; i++) {
+                queue.offer(i);
+            }
+
+            List<Integer> drained = new ArrayList<>();
+            int count = queue.drainTo(drained::add, 6);
+
+            assertEquals(6, count, "요청한 개수만큼 전달되어야 합니다.");
+            assertEquals(List.of(1, 2, 3, 4, 5, 6), drained, "넣은 순서대로 전달되어야 합니다.");
+            assertEquals(4, queue.size(), "남은 항목은 4개여야 합니다.");
+        }
+
+        @Test
+        @DisplayName("큐에 남은 항목보다 많이 요청하면 남은 항목만 전달한다")
+        void testDrainToMoreThanAvailable() {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(16);
+            for (int i = 1; i <= 3; i++) {
+                queue.offer(i);
+            }
+
+            List<Integer> drained = new ArrayList<>();
+            int count = queue.drainTo(drained::add, 10);
+
+            assertEquals(3, count, "남은 항목 수만큼 전달되어야 합니다.");
+            assertTrue(queue.isEmpty(), "drainTo 이후 큐는 비어 있어야 합니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("큐가 가득 찼을 때 동작 테스트")
+    class BackpressureTest {
+
+        @Test
+        @DisplayName("tryOffer 는 대기하지 않고 false 를 반환한다")
+        void testTryOfferWhenFull() {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(2);
+            assertTrue(queue.tryOffer(1));
+            assertTrue(queue.tryOffer(2));
+
+            assertFalse(queue.tryOffer(3), "가득 찬 큐에는 항목을 넣을 수 없어야 합니다.");
+            assertEquals(2, queue.size(), "가득 찬 큐의 크기는 용량과 같아야 합니다.");
+        }
+
+        @Test
+        @DisplayName("대기 시간 안에 자리가 나지 않으면 QueueFullException 이 발생한다")
+        void testOfferTimeout() {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(1, WaitStrategy.PARK, 5, TimeUnit.MILLISECONDS);
+            queue.offer(1);
+
+            assertThrows(QueueFullException.class, () -> queue.offer(2));
+            assertEquals(1, queue.size(), "큐는 여전히 가득 차 있어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("대기 중 소비자가 항목을 꺼내면 생산자는 예외 없이 삽입한다")
+        void testOfferWaitsForConsumer() throws InterruptedException {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(1, WaitStrategy.PARK, 2, TimeUnit.SECONDS);
+            queue.offer(1);
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicBoolean failed = new AtomicBoolean(false);
+            Thread producer = new Thread(() -> {
+                try {
+                    queue.offer(2);
+                } catch (Exception e) {
+                    failed.set(true);
+                } finally {
+                    latch.countDown();
+                }
+            });
+            producer.start();
+
+            Thread.sleep(50);
+            assertEquals(1, queue.poll());
+
+            assertTrue(latch.await(2, TimeUnit.SECONDS), "생산자는 대기 시간 안에 삽입을 마쳐야 합니다.");
+            assertFalse(failed.get(), "자리가 난 뒤에는 예외가 발생하지 않아야 합니다.");
+            assertEquals(2, queue.poll());
+        }
+
+        @Test
+        @DisplayName("대기 중 인터럽트가 발생하면 QueueOperationException 이 발생한다")
+        void testOfferInterrupted() throws InterruptedException {
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(1, WaitStrategy.YIELD, 1, TimeUnit.SECONDS);
+            queue.offer(1);
+
+            AtomicBoolean interrupted = new AtomicBoolean(false);
+            Thread testThread = new Thread(() -> {
+                Thread.currentThread().interrupt();
+                try {
+                    queue.offer(2);
+                } catch (QueueOperationException e) {
+                    interrupted.set(true);
+                }
+            });
+            testThread.start();
+            testThread.join();
+
+            assertTrue(interrupted.get(), "offer 작업 중 QueueOperationException이 발생해야 합니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성 테스트")
+    class ConcurrencyTest {
+
+        @Test
+        @DisplayName("여러 생산자와 하나의 소비자가 동시에 동작해도 항목이 유실되거나 중복되지 않는다")
+        void testMultiProducerSingleConsumer() throws InterruptedException {
+            int producerCount = 8;
+            int itemsPerProducer = 10_000;
+            RingBufferQueue<Integer> queue = new RingBufferQueue<>(64, WaitStrategy.YIELD, 5, TimeUnit.SECONDS);
+
+            ExecutorService executorService = Executors.newFixedThreadPool(producerCount);
+            CountDownLatch latch = new CountDownLatch(producerCount);
+            List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+            for (int p = 0; p < producerCount; p++) {
+                final int base = p * itemsPerProducer;
+                executorService.submit(() -> {
+                    try {
+                        for (int i = 0; i < itemsPerProducer; i++) {
+                            queue.offer(base + i);
+                        }
+                    } catch (Exception e) {
+                        exceptions.add(e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            int total = producerCount * itemsPerProducer;
+            boolean[] seen = new boolean[total];
+            int received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < total && System.nanoTime() < deadline) {
+                List<Integer> batch = new ArrayList<>();
+                queue.drainTo(batch::add, 128);
+                for (Integer item : batch) {
+                    assertFalse(seen[item], "같은 항목이 두 번 꺼내지면 안 됩니다.");
+                    seen[item] = true;
+                }
+                received += batch.size();
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            executorService.shutdown();
+
+            assertTrue(exceptions.isEmpty(), "동시성 offer 작업 중 예외가 발생하지 않아야 합니다.");
+            assertEquals(total, received, "모든 항목이 정확히 한 번씩 꺼내져야 합니다.");
+            assertTrue(queue.isEmpty(), "모든 항목을 꺼낸 후 큐는 비어 있어야 합니다.");
+        }
+    }
+}
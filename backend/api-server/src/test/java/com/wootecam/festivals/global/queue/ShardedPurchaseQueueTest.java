@@ -0,0 +1,122 @@
+package com.wootecam.festivals.global.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.exception.QueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ShardedPurchaseQueueTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ShardedPurchaseQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new ShardedPurchaseQueue(4, 8, WaitStrategy.SPIN, 1, TimeUnit.MILLISECONDS, meterRegistry);
+    }
+
+    // 서로 다른 샤드에 배정되는 티켓 ID 두 개를 찾음
+    private long[] ticketsOnDifferentShards() {
+        long hot = 1L;
+        long other = LongStream.rangeClosed(2, 100)
+                .filter(id -> queue.shardIndex(id) != queue.shardIndex(hot))
+                .findFirst()
+                .orElseThrow();
+        return new long[]{hot, other};
+    }
+
+    @Test
+    @DisplayName("샤드 수가 2의 거듭제곱이 아니면 예외가 발생한다")
+    void testInvalidShardCount() {
+        assertThatThrownBy(() -> new ShardedPurchaseQueue(3, 8, WaitStrategy.SPIN, 1, TimeUnit.MILLISECONDS,
+                meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("샤드 격리 테스트")
+    class IsolationTest {
+
+        @Test
+        @DisplayName("한 티켓의 샤드가 가득 차도 다른 샤드의 티켓은 추가할 수 있다")
+        void testHotShardDoesNotBlockOthers() {
+            long[] tickets = ticketsOnDifferentShards();
+            for (long member = 0; member < 8; member++) {
+                queue.offer(new PurchaseData(member, tickets[0], member));
+            }
+
+            assertThatThrownBy(() -> queue.offer(new PurchaseData(100L, tickets[0], 100L)))
+                    .isInstanceOf(QueueFullException.class);
+            queue.offer(new PurchaseData(100L, tickets[1], 100L));
+
+            assertThat(queue.size()).isEqualTo(9);
+            assertThat(meterRegistry.get("purchase.queue.shard.rejected")
+                    .tag("shard", String.valueOf(queue.shardIndex(tickets[0])))
+                    .counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("purchase.queue.shard.size")
+                    .tag("shard", String.valueOf(queue.shardIndex(tickets[0])))
+                    .gauge().value()).isEqualTo(8.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("드레인 테스트")
+    class DrainTest {
+
+        @Test
+        @DisplayName("항목이 몰린 샤드가 있어도 샤드마다 같은 몫을 꺼낸다")
+        void testFairDrain() {
+            long[] tickets = ticketsOnDifferentShards();
+            for (long member = 0; member < 8; member++) {
+                queue.offer(new PurchaseData(member, tickets[0], member));
+            }
+            queue.offer(new PurchaseData(100L, tickets[1], 100L));
+            queue.offer(new PurchaseData(101L, tickets[1], 101L));
+
+            List<PurchaseData> drained = queue.pollBatch(4);
+
+            assertThat(drained).hasSize(4);
+            assertThat(drained).filteredOn(data -> data.ticketId() == tickets[1]).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("샤드별 묶음으로 나눠 전달하고 전체 개수를 반환한다")
+        void testDrainPartitions() {
+            long[] tickets = ticketsOnDifferentShards();
+            queue.offer(new PurchaseData(1L, tickets[0], 1L));
+            queue.offer(new PurchaseData(2L, tickets[0], 2L));
+            queue.offer(new PurchaseData(3L, tickets[1], 3L));
+
+            List<List<PurchaseData>> batches = new ArrayList<>();
+            int drained = queue.drainPartitionsTo(batches::add, 10);
+
+            assertThat(drained).isEqualTo(3);
+            assertThat(batches).hasSize(2);
+            assertThat(batches).allSatisfy(batch ->
+                    assertThat(batch).extracting(PurchaseData::ticketId).containsOnly(batch.get(0).ticketId()));
+            assertThat(queue.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("한 샤드에서 꺼내는 순서는 넣은 순서와 같다")
+        void testFifoWithinShard() {
+            for (long member = 0; member < 5; member++) {
+                queue.offer(new PurchaseData(member, 1L, member));
+            }
+
+            assertThat(queue.pollBatch(10)).extracting(PurchaseData::memberId)
+                    .containsExactly(0L, 1L, 2L, 3L, 4L);
+        }
+    }
+}
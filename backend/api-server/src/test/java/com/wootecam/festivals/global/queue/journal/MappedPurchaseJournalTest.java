@@ -0,0 +1,145 @@
+package com.wootecam.festivals.global.queue.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MappedPurchaseJournal 테스트")
+class MappedPurchaseJournalTest {
+
+    private static final int SEGMENT_SIZE = MappedPurchaseJournal.RECORD_SIZE * 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트 크기가 레코드 크기보다 작으면 예외가 발생한다")
+    void throwsWhenSegmentSizeIsTooSmall() {
+        assertThatThrownBy(() -> new MappedPurchaseJournal(directory, MappedPurchaseJournal.RECORD_SIZE - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("recover 메서드는")
+    class Describe_recover {
+
+        @Test
+        @DisplayName("비어있는 디렉토리에서는 빈 목록을 반환한다")
+        void it_returns_empty_list_for_new_journal() {
+            MappedPurchaseJournal journal = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+
+            assertThat(journal.recover()).isEmpty();
+            journal.close();
+        }
+
+        @Test
+        @DisplayName("재시작 후 확정되지 않은 구매 데이터만 기록 순서대로 복구한다")
+        void it_recovers_only_uncommitted_purchases_in_order() {
+            PurchaseData first = new PurchaseData(1L, 10L, 100L);
+            PurchaseData second = new PurchaseData(2L, 10L, 101L);
+            PurchaseData third = new PurchaseData(3L, 10L, 102L);
+
+            MappedPurchaseJournal journal = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            journal.append(first);
+            journal.append(second);
+            journal.append(third);
+            journal.commit(List.of(second));
+            journal.close();
+
+            MappedPurchaseJournal reopened = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            assertThat(reopened.recover()).containsExactly(first, third);
+            reopened.close();
+        }
+
+        @Test
+        @DisplayName("같은 구매 데이터가 여러 번 기록되면 확정된 횟수만큼만 제외한다")
+        void it_keeps_duplicated_purchases_until_each_is_committed() {
+            PurchaseData data = new PurchaseData(1L, 10L, 100L);
+
+            MappedPurchaseJournal journal = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            journal.append(data);
+            journal.append(data);
+            journal.commit(List.of(data));
+            journal.close();
+
+            MappedPurchaseJournal reopened = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            assertThat(reopened.recover()).containsExactly(data);
+            reopened.close();
+        }
+
+        @Test
+        @DisplayName("복구된 구매 데이터를 확정하면 다음 재시작에서는 복구하지 않는다")
+        void it_does_not_recover_again_after_recovered_data_is_committed() {
+            PurchaseData data = new PurchaseData(1L, 10L, 100L);
+
+            MappedPurchaseJournal journal = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            journal.append(data);
+            journal.close();
+
+            MappedPurchaseJournal recovered = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            assertThat(recovered.recover()).containsExactly(data);
+            recovered.commit(recovered.recover());
+            recovered.close();
+
+            MappedPurchaseJournal reopened = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            assertThat(reopened.recover()).isEmpty();
+            reopened.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("세그먼트 관리는")
+    class Describe_segment {
+
+        @Test
+        @DisplayName("세그먼트가 가득 차면 다음 세그먼트에 이어서 기록한다")
+        void it_rolls_to_next_segment_when_full() throws IOException {
+            MappedPurchaseJournal journal = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            for (long i = 0; i < 10; i++) {
+                journal.append(new PurchaseData(i, 10L, i));
+            }
+            journal.close();
+
+            assertThat(countSegments()).isEqualTo(3);
+            MappedPurchaseJournal reopened = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            assertThat(reopened.recover()).hasSize(10);
+            reopened.close();
+        }
+
+        @Test
+        @DisplayName("모든 ADD 가 확정된 오래된 세그먼트는 삭제한다")
+        void it_deletes_fully_committed_segments() throws IOException {
+            MappedPurchaseJournal journal = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            List<PurchaseData> purchases = Stream.iterate(0L, i -> i + 1)
+                    .limit(8)
+                    .map(i -> new PurchaseData(i, 10L, i))
+                    .toList();
+            purchases.forEach(journal::append);
+
+            journal.commit(purchases);
+            journal.close();
+
+            // ADD 레코드만 남은 세그먼트는 모두 삭제되고 COMMIT 레코드가 쓰인 최신 세그먼트만 남음
+            assertThat(countSegments()).isEqualTo(1);
+            MappedPurchaseJournal reopened = new MappedPurchaseJournal(directory, SEGMENT_SIZE);
+            assertThat(reopened.recover()).isEmpty();
+            reopened.close();
+        }
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".journal")).count();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.wootecam.festivals.global.queue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveBatchSizeController 테스트")
+class AdaptiveBatchSizeControllerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(300);
+
+    private AdaptiveBatchSizeController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdaptiveBatchSizeController(100, 1000, 400, 100, 200, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("배치 크기 범위가 올바르지 않으면 예외가 발생한다")
+    void throwsWhenRangeIsInvalid() {
+        assertThatThrownBy(() -> new AdaptiveBatchSizeController(500, 100, 200, 10, 200, TimeUnit.MILLISECONDS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("record 메서드는")
+    class Describe_record {
+
+        @Test
+        @DisplayName("꽉 찬 배치가 목표 시간 안에 처리되면 배치 크기를 늘린다")
+        void it_increases_when_full_batch_is_fast() {
+            controller.record(400, FAST);
+
+            assertThat(controller.currentBatchSize()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("덜 찬 배치는 빠르게 처리되어도 배치 크기를 유지한다")
+        void it_keeps_size_when_partial_batch_is_fast() {
+            controller.record(10, FAST);
+
+            assertThat(controller.currentBatchSize()).isEqualTo(400);
+        }
+
+        @Test
+        @DisplayName("목표 시간을 넘기면 배치 크기를 절반으로 줄인다")
+        void it_halves_when_batch_is_slow() {
+            controller.record(400, SLOW);
+
+            assertThat(controller.currentBatchSize()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("배치 크기는 최소, 최대 범위를 벗어나지 않는다")
+        void it_stays_within_bounds() {
+            for (int i = 0; i < 10; i++) {
+                controller.record(controller.currentBatchSize(), SLOW);
+            }
+            assertThat(controller.currentBatchSize()).isEqualTo(100);
+
+            for (int i = 0; i < 20; i++) {
+                controller.record(controller.currentBatchSize(), FAST);
+            }
+            assertThat(controller.currentBatchSize()).isEqualTo(1000);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.wootecam.festivals.global.queue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PurchaseBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 회원 ID 는 항상 있을 수도 있다고 답한다")
+    void shouldContainAllPutValues() {
+        PurchaseBloomFilter filter = new PurchaseBloomFilter(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::put);
+
+        assertThat(LongStream.rangeClosed(1, 10_000).allMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 회원 ID 의 오탐률은 설정값 근처로 유지된다")
+    void shouldKeepFalsePositiveRateNearConfiguredValue() {
+        PurchaseBloomFilter filter = new PurchaseBloomFilter(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::put);
+
+        long falsePositives = LongStream.rangeClosed(1_000_001, 1_100_000)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(falsePositives).isLessThan(3_000);
+    }
+
+    @Test
+    @DisplayName("오탐률이 0과 1 사이가 아니면 예외가 발생한다")
+    void shouldRejectInvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> new PurchaseBloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
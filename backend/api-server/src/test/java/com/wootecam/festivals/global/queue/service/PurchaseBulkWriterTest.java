@@ -0,0 +1,120 @@
+package com.wootecam.festivals.global.queue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wootecam.festivals.domain.festival.entity.Festival;
+import com.wootecam.festivals.domain.member.entity.Member;
+import com.wootecam.festivals.domain.purchase.entity.Purchase;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import com.wootecam.festivals.domain.ticket.entity.Ticket;
+import com.wootecam.festivals.utils.Fixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseBulkWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Ticket ticket;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        member = Fixture.createMember("Test User", "test@example.com");
+        Festival festival = Fixture.createFestival(member, "Test Festival", "Description",
+                LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(5));
+        ticket = Fixture.createTicket(festival, 1000L, 10, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(3));
+    }
+
+    private List<Purchase> createPurchases(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Purchase.builder().ticket(ticket).member(member).purchaseTime(LocalDateTime.now())
+                        .purchaseStatus(PurchaseStatus.PURCHASED).build())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("write 메소드")
+    class WriteTest {
+
+        @Test
+        @DisplayName("구매와 체크인을 한 문장에 여러 행으로 인서트하고 중복 키는 건너뛴다")
+        void shouldInsertMultipleRowsInOneStatement() {
+            PurchaseBulkWriter writer = new PurchaseBulkWriter(jdbcTemplate, transactionManager, meterRegistry,
+                    1024 * 1024);
+
+            writer.write(createPurchases(3));
+
+            ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+            verify(jdbcTemplate, times(2)).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+            assertThat(sqlCaptor.getAllValues().get(0))
+                    .startsWith("INSERT INTO purchase")
+                    .contains("VALUES (?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?)")
+                    .endsWith("ON DUPLICATE KEY UPDATE purchase_id = purchase_id");
+            assertThat(sqlCaptor.getAllValues().get(1))
+                    .startsWith("INSERT INTO checkin")
+                    .contains("VALUES (?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?)")
+                    .endsWith("ON DUPLICATE KEY UPDATE checkin_id = checkin_id");
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("패킷 예산을 넘으면 청크로 나누고 청크마다 트랜잭션을 커밋한다")
+        void shouldSplitIntoChunksByPacketBudget() {
+            // 청크당 2행만 담을 수 있는 예산
+            PurchaseBulkWriter writer = new PurchaseBulkWriter(jdbcTemplate, transactionManager, meterRegistry,
+                    400);
+            assertThat(writer.getRowsPerChunk()).isEqualTo(2);
+
+            writer.write(createPurchases(5));
+
+            verify(jdbcTemplate, times(6)).update(anyString(), any(PreparedStatementSetter.class));
+            verify(transactionManager, times(3)).getTransaction(any(TransactionDefinition.class));
+            verify(transactionManager, times(3)).commit(any());
+            assertThat(meterRegistry.get("purchase.bulk_insert.chunk").timer().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("청크 인서트에 실패하면 해당 청크를 롤백하고 예외를 전파한다")
+        void shouldRollbackChunkWhenInsertFails() {
+            PurchaseBulkWriter writer = new PurchaseBulkWriter(jdbcTemplate, transactionManager, meterRegistry,
+                    1024 * 1024);
+            when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                    .thenThrow(new RuntimeException("DB error"));
+
+            assertThatThrownBy(() -> writer.write(createPurchases(2)))
+                    .isInstanceOf(RuntimeException.class);
+
+            verify(transactionManager).rollback(any());
+            verify(transactionManager, never()).commit(any());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.wootecam.festivals.global.queue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseDeduplicatorTest {
+
+    private static final String LOAD_SQL = "SELECT member_id FROM purchase WHERE ticket_id = ?";
+    private static final String CHECK_SQL_PREFIX = "SELECT member_id FROM purchase WHERE ticket_id = ? AND member_id IN";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PurchaseDeduplicator deduplicator;
+    // DB 에 이미 반영된 회원 ID (티켓 1)
+    private final List<Long> persistedMemberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new PurchaseDeduplicator(jdbcTemplate, true, 1_000, 0.01, 1, 60_000);
+        lenient().when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.equals(LOAD_SQL)) {
+                return List.copyOf(persistedMemberIds);
+            }
+            // 가변 인자는 펼쳐져 전달됨: sql, 타입, 티켓 ID, 회원 ID...
+            Object[] args = invocation.getArguments();
+            List<Long> found = new ArrayList<>();
+            for (int i = 3; i < args.length; i++) {
+                if (persistedMemberIds.contains((Long) args[i])) {
+                    found.add((Long) args[i]);
+                }
+            }
+            return found;
+        });
+    }
+
+    @Nested
+    @DisplayName("filterNew 메소드")
+    class FilterNewTest {
+
+        @Test
+        @DisplayName("배치 안에서 같은 회원, 티켓의 중복은 첫 항목만 남긴다")
+        void shouldRemoveDuplicatesInBatch() {
+            PurchaseData first = new PurchaseData(1L, 1L, 10L);
+            PurchaseData duplicate = new PurchaseData(1L, 1L, 11L);
+            PurchaseData other = new PurchaseData(2L, 1L, 12L);
+
+            assertThat(deduplicator.filterNew(List.of(first, duplicate, other))).containsExactly(first, other);
+        }
+
+        @Test
+        @DisplayName("티켓의 필터를 처음 만들 때 기존 구매로 채워 이미 반영된 구매를 걸러낸다")
+        void shouldSkipPurchasesAlreadyInDatabase() {
+            persistedMemberIds.add(1L);
+
+            List<PurchaseData> result = deduplicator.filterNew(
+                    List.of(new PurchaseData(1L, 1L, 1L), new PurchaseData(2L, 1L, 2L)));
+
+            assertThat(result).containsExactly(new PurchaseData(2L, 1L, 2L));
+        }
+
+        @Test
+        @DisplayName("필터에 없는 구매는 DB 조회 없이 통과시킨다")
+        void shouldNotQueryDatabaseForDefinitelyNewPurchases() {
+            deduplicator.filterNew(List.of(new PurchaseData(1L, 1L, 1L)));
+            deduplicator.filterNew(List.of(new PurchaseData(2L, 1L, 2L)));
+
+            // 필터 적재를 위한 조회 한 번만 발생
+            verify(jdbcTemplate, times(1)).queryForList(eq(LOAD_SQL), eq(Long.class), any(Object[].class));
+            verify(jdbcTemplate, never()).queryForList(startsWith(CHECK_SQL_PREFIX), eq(Long.class),
+                    any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("반영이 기록된 구매가 다시 들어오면 DB 에서 확인한 뒤 걸러낸다")
+        void shouldSkipRedeliveredPurchaseAfterMarkPersisted() {
+            PurchaseData purchase = new PurchaseData(1L, 1L, 1L);
+            deduplicator.filterNew(List.of(purchase));
+            deduplicator.markPersisted(List.of(purchase));
+            persistedMemberIds.add(1L);
+
+            assertThat(deduplicator.filterNew(List.of(purchase))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 입력을 그대로 반환한다")
+    void shouldReturnInputWhenDisabled() {
+        PurchaseDeduplicator disabled = new PurchaseDeduplicator(jdbcTemplate, false, 1_000, 0.01, 1, 60_000);
+        List<PurchaseData> purchases = List.of(new PurchaseData(1L, 1L, 1L), new PurchaseData(1L, 1L, 1L));
+
+        assertThat(disabled.filterNew(purchases)).isSameAs(purchases);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
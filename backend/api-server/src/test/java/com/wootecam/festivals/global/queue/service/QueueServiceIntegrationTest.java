@@ -13,26 +13,29 @@ import com.wootecam.festivals.domain.festival.repository.FestivalRepository;
 import com.wootecam.festivals.domain.member.entity.Member;
 import com.wootecam.festivals.domain.member.repository.MemberRepository;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseDeadLetter;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseDeadLetterRepository;
 import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.entity.TicketStock;
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockRepository;
 import com.wootecam.festivals.global.queue.CustomQueue;
-import com.wootecam.festivals.global.queue.InMemoryQueue;
+import com.wootecam.festivals.global.queue.RetryTimingWheel;
+import com.wootecam.festivals.global.queue.RingBufferQueue;
 import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.dto.PurchaseRetry;
 import com.wootecam.festivals.global.queue.exception.QueueFullException;
 import com.wootecam.festivals.global.utils.TimeProvider;
 import com.wootecam.festivals.utils.Fixture;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -57,6 +60,10 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
     private MemberRepository memberRepository;
     @Autowired
     private TicketStockRepository ticketStockRepository;
+    @Autowired
+    private PurchaseDeadLetterRepository purchaseDeadLetterRepository;
+    @Autowired
+    private PurchaseBulkWriter purchaseBulkWriter;
     @MockBean
     private TimeProvider timeProvider;
 
@@ -81,9 +88,13 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
     }
 
     private void resetQueueService() {
-        ReflectionTestUtils.setField(queueService, "queue", new InMemoryQueue<>(3000));
-        ReflectionTestUtils.setField(queueService, "errorQueue", new ConcurrentLinkedQueue<>());
-        ReflectionTestUtils.setField(queueService, "retryCount", new ConcurrentHashMap<>());
+        ReflectionTestUtils.setField(queueService, "queue", new RingBufferQueue<>(4096));
+        ReflectionTestUtils.setField(queueService, "retryWheel",
+                new RetryTimingWheel<PurchaseRetry>(100, TimeUnit.MILLISECONDS, 512));
+    }
+
+    private RetryTimingWheel<PurchaseRetry> retryWheel() {
+        return (RetryTimingWheel<PurchaseRetry>) ReflectionTestUtils.getField(queueService, "retryWheel");
     }
 
     @Test
@@ -91,7 +102,7 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
     void scheduledTasksAreExecutedPeriodically() throws InterruptedException {
         ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
         executorService.scheduleAtFixedRate(queueService::processPurchases, 0, 1, TimeUnit.SECONDS);
-        executorService.scheduleAtFixedRate(queueService::processErrorQueue, 0, 1, TimeUnit.SECONDS);
+        executorService.scheduleAtFixedRate(queueService::processRetries, 0, 100, TimeUnit.MILLISECONDS);
 
         IntStream.range(0, 50).forEach(i ->
                 queueService.addPurchase(
@@ -105,6 +116,22 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
         assertThat(purchases).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("중복 제거를 거치지 않고 같은 구매가 다시 인서트되어도 유니크 키에 걸린 행은 건너뛴다")
+    void bulkInsertSkipsRowsOnDuplicateKey() {
+        Purchase purchase = Purchase.builder()
+                .ticket(testTicket)
+                .member(testMember)
+                .purchaseTime(timeProvider.getCurrentTime())
+                .purchaseStatus(PurchaseStatus.PURCHASED)
+                .build();
+
+        purchaseBulkWriter.write(List.of(purchase));
+        purchaseBulkWriter.write(List.of(purchase, purchase));
+
+        assertThat(purchaseRepository.findAll()).hasSize(1);
+    }
+
     @Nested
     @DisplayName("addPurchase 메서드는")
     class Describe_addPurchase {
@@ -121,8 +148,8 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
         }
 
         @Test
-        @DisplayName("큐가 가득 찼을 때 에러 큐에 추가한다")
-        void it_adds_to_error_queue_when_main_queue_is_full() {
+        @DisplayName("큐가 가득 찼을 때 재시도 휠에 등록한다")
+        void it_schedules_retry_when_main_queue_is_full() {
             CustomQueue<PurchaseData> mockQueue = mock(CustomQueue.class);
             doThrow(new QueueFullException("Queue is full")).when(mockQueue).offer(any());
             ReflectionTestUtils.setField(queueService, "queue", mockQueue);
@@ -131,9 +158,7 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
                     testTicketStock.getId());
             queueService.addPurchase(purchaseData);
 
-            ConcurrentLinkedQueue<PurchaseData> errorQueue = (ConcurrentLinkedQueue<PurchaseData>) ReflectionTestUtils.getField(
-                    queueService, "errorQueue");
-            assertThat(errorQueue).contains(purchaseData);
+            assertThat(retryWheel().size()).isEqualTo(1);
         }
     }
 
@@ -145,9 +170,12 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
         @DisplayName("동적으로 배치 크기를 결정해 구매 데이터를 한 번에 처리한다")
         void it_processes_batch_size_of_purchase_data() {
             int queueSize = 150;
-            IntStream.range(0, queueSize).forEach(i ->
+            List<Member> members = memberRepository.saveAllAndFlush(IntStream.range(0, queueSize)
+                    .mapToObj(i -> Fixture.createMember("User" + i, "user" + i + "@example.com"))
+                    .toList());
+            members.forEach(member ->
                     queueService.addPurchase(
-                            new PurchaseData(testMember.getId(), testTicket.getId(), testTicketStock.getId()))
+                            new PurchaseData(member.getId(), testTicket.getId(), testTicketStock.getId()))
             );
 
             queueService.processPurchases();
@@ -163,12 +191,13 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
         @DisplayName("비동기로 처리되며 예외가 발생해도 다른 처리에 영향을 주지 않는다")
         void it_processes_asynchronously_and_handles_exceptions() {
             CustomQueue<PurchaseData> mockQueue = mock(CustomQueue.class);
-            when(mockQueue.pollBatch(anyInt())).thenReturn(
-                    List.of(
-                            new PurchaseData(testMember.getId(), testTicket.getId(), testTicketStock.getId()),
-                            new PurchaseData(-1L, -1L, -1L)  // 잘못된 데이터
-                    )
-            );
+            when(mockQueue.drainTo(any(), anyInt())).thenAnswer(invocation -> {
+                Consumer<PurchaseData> consumer = invocation.getArgument(0);
+                consumer.accept(new PurchaseData(testMember.getId(), testTicket.getId(), testTicketStock.getId()));
+                consumer.accept(new PurchaseData(-1L, -1L, -1L));  // 잘못된 데이터
+                return 2;
+            });
+            when(mockQueue.drainPartitionsTo(any(), anyInt())).thenCallRealMethod();
             ReflectionTestUtils.setField(queueService, "queue", mockQueue);
 
             queueService.processPurchases();
@@ -181,26 +210,57 @@ class QueueServiceIntegrationTest extends SpringBootTestConfig {
     }
 
     @Nested
-    @DisplayName("processErrorQueue 메서드는")
-    class Describe_processErrorQueue {
+    @DisplayName("processBatch 메서드는")
+    class Describe_processBatch {
+
         @Test
-        @DisplayName("최대 재시도 횟수를 초과한 항목은 영구 에러로 처리한다")
-        void it_handles_items_exceeding_max_retry_count() {
-            ConcurrentLinkedQueue<PurchaseData> errorQueue = (ConcurrentLinkedQueue<PurchaseData>) ReflectionTestUtils.getField(
-                    queueService, "errorQueue");
-            ConcurrentMap<PurchaseData, Integer> retryCount = (ConcurrentMap<PurchaseData, Integer>) ReflectionTestUtils.getField(
-                    queueService, "retryCount");
-
-            PurchaseData errorData = new PurchaseData(-1L, -1L, -1L);  // 잘못된 데이터
-            errorQueue.add(errorData);
-            retryCount.put(errorData, 3);  // 최대 재시도 횟수 설정
-
-            queueService.processErrorQueue();
-
-            assertThat(errorQueue).isEmpty();
-            assertThat(retryCount).doesNotContainKey(errorData);
-            // 영구 에러 저장소 확인 로직 추가 (미구현 상태라 주석 처리)
-            // assertThat(permanentErrorStorage).contains(errorData);
+        @DisplayName("같은 구매 데이터가 여러 번 전달되어도 한 번만 반영한다")
+        void it_persists_redelivered_purchase_only_once() {
+            PurchaseData purchaseData = new PurchaseData(testMember.getId(), testTicket.getId(),
+                    testTicketStock.getId());
+
+            ReflectionTestUtils.invokeMethod(queueService, "processBatch", List.of(purchaseData, purchaseData));
+            ReflectionTestUtils.invokeMethod(queueService, "processBatch", List.of(purchaseData));
+
+            assertThat(purchaseRepository.findAll()).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("processRetries 메서드는")
+    class Describe_processRetries {
+
+        @Test
+        @DisplayName("백오프 시간이 지난 항목을 DB 에 반영한다")
+        void it_processes_due_retries() {
+            retryWheel().schedule(new PurchaseRetry(
+                    new PurchaseData(testMember.getId(), testTicket.getId(), testTicketStock.getId()), 1),
+                    0, TimeUnit.MILLISECONDS);
+
+            queueService.processRetries();
+
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+                assertThat(purchaseRepository.findAll()).hasSize(1);
+                assertThat(retryWheel().size()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("최대 재시도 횟수를 초과한 항목은 dead letter 테이블에 보관한다")
+        void it_saves_items_exceeding_max_retry_count_as_dead_letter() {
+            // 존재하지 않는 회원이라 외래 키 제약으로 인서트에 실패하는 데이터
+            PurchaseData errorData = new PurchaseData(Long.MAX_VALUE, testTicket.getId(), testTicketStock.getId());
+            retryWheel().schedule(new PurchaseRetry(errorData, 3), 0, TimeUnit.MILLISECONDS);
+
+            queueService.processRetries();
+
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+                assertThat(retryWheel().size()).isZero();
+                List<PurchaseDeadLetter> deadLetters = purchaseDeadLetterRepository.findAll();
+                assertThat(deadLetters).hasSize(1);
+                assertThat(deadLetters.get(0).toPurchaseData()).isEqualTo(errorData);
+                assertThat(deadLetters.get(0).getAttemptCount()).isEqualTo(4);
+            });
         }
     }
-}
\ No newline at end of file
+}
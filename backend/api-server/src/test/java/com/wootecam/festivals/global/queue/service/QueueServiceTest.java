@@ -3,13 +3,15 @@ package com.wootecam.festivals.global.queue.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyLong;
-import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,18 +20,23 @@ import com.wootecam.festivals.domain.member.entity.Member;
 import com.wootecam.festivals.domain.member.repository.MemberRepository;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
 import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
-import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseDeadLetterRepository;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
 import com.wootecam.festivals.domain.ticket.service.TicketCacheService;
+import com.wootecam.festivals.domain.ticket.service.TicketStockReconciler;
 import com.wootecam.festivals.global.queue.CustomQueue;
+import com.wootecam.festivals.global.queue.PurchaseSpillStore;
+import com.wootecam.festivals.global.queue.RetryTimingWheel;
+import com.wootecam.festivals.global.queue.RingBufferQueue;
 import com.wootecam.festivals.global.queue.dto.PurchaseData;
+import com.wootecam.festivals.global.queue.dto.PurchaseRetry;
 import com.wootecam.festivals.global.queue.exception.QueueFullException;
+import com.wootecam.festivals.global.queue.journal.PurchaseJournal;
 import com.wootecam.festivals.global.utils.TimeProvider;
 import com.wootecam.festivals.utils.Fixture;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,25 +48,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class QueueServiceTest {
 
     @Mock
-    private PurchaseRepository purchaseRepository;
+    private PurchaseDeadLetterRepository purchaseDeadLetterRepository;
     @Mock
     private TicketRepository ticketRepository;
     @Mock
     private MemberRepository memberRepository;
     @Mock
-    private JdbcTemplate jdbcTemplate;
+    private PurchaseBulkWriter purchaseBulkWriter;
     @Mock
     private TicketCacheService ticketCacheService;
     @Mock
+    private TicketStockReconciler ticketStockReconciler;
+    @Mock
     private TimeProvider timeProvider;
+    @Mock
+    private PurchaseJournal purchaseJournal;
+    @Mock
+    private PurchaseDeduplicator purchaseDeduplicator;
+    @Mock
+    private PurchaseSpillStore purchaseSpillStore;
 
     private QueueService queueService;
     private Ticket ticket;
@@ -68,14 +81,16 @@ class QueueServiceTest {
 
     @BeforeEach
     void setUp() {
-        queueService = new QueueService(purchaseRepository, ticketRepository, memberRepository, timeProvider,
-                jdbcTemplate, ticketCacheService);
+        queueService = new QueueService(new RingBufferQueue<>(1024), purchaseJournal, purchaseDeadLetterRepository,
+                ticketRepository, memberRepository, timeProvider, purchaseBulkWriter, purchaseDeduplicator,
+                ticketCacheService, ticketStockReconciler, purchaseSpillStore);
         member = Fixture.createMember("Test User", "test@example.com");
         festival = Fixture.createFestival(member, "Test Festival", "Description", LocalDateTime.now().plusDays(3),
                 LocalDateTime.now().plusDays(5));
         ticket = Fixture.createTicket(festival, 1000L, 10, LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(3));
         lenient().when(timeProvider.getCurrentTime()).thenReturn(LocalDateTime.now());
+        lenient().when(purchaseDeduplicator.filterNew(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -124,8 +139,8 @@ class QueueServiceTest {
         }
 
         @Test
-        @DisplayName("큐가 가득 찼을 때 에러 큐에 추가된다")
-        void shouldAddToErrorQueueWhenMainQueueIsFull() throws Exception {
+        @DisplayName("큐가 가득 찼을 때 재시도 휠에 등록된다")
+        void shouldScheduleRetryWhenMainQueueIsFull() throws Exception {
             CustomQueue<PurchaseData> mockQueue = mock(CustomQueue.class);
             doThrow(new QueueFullException("Queue is full")).when(mockQueue).offer(any());
             ReflectionTestUtils.setField(queueService, "queue", mockQueue);
@@ -134,6 +149,7 @@ class QueueServiceTest {
             queueService.addPurchase(purchaseData);
 
             verify(mockQueue).offer(purchaseData);
+            assertThat(retryWheel().size()).isEqualTo(1);
         }
     }
 
@@ -154,94 +170,327 @@ class QueueServiceTest {
 
             ReflectionTestUtils.invokeMethod(queueService, "processBatch", batch);
 
-            verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+            verify(purchaseBulkWriter).write(anyList());
+            verify(purchaseJournal).commit(batch);
+            verify(ticketStockReconciler).reconcileRecently(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("벌크 인서트에 실패하면 저널에서 확정하지 않는다")
+        void shouldNotCommitJournalWhenInsertFails() {
+            List<PurchaseData> batch = List.of(new PurchaseData(1L, 1L, 1L));
+
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+            doThrow(new RuntimeException("DB error")).when(purchaseBulkWriter).write(anyList());
+
+            assertThatThrownBy(() -> ReflectionTestUtils.invokeMethod(queueService, "processBatch", batch))
+                    .isInstanceOf(RuntimeException.class);
+
+            verify(purchaseJournal, never()).commit(any());
         }
     }
 
     @Nested
-    @DisplayName("processErrorQueue 메소드")
-    class ProcessErrorQueueTest {
+    @DisplayName("드레인 루프")
+    class DrainLoopTest {
+
+        @Test
+        @DisplayName("큐에 항목이 들어오면 linger 시간 안에 깨어나 배치를 처리한다")
+        void shouldDrainQueueShortlyAfterEnqueue() {
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+            ReflectionTestUtils.invokeMethod(queueService, "startDrainLoop");
+
+            try {
+                queueService.addPurchase(new PurchaseData(1L, 1L, 1L));
+
+                await().atMost(1, TimeUnit.SECONDS).untilAsserted(() ->
+                        verify(purchaseBulkWriter).write(anyList()));
+            } finally {
+                queueService.stopDrainLoop();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("recoverQueue 메소드")
+    class RecoverQueueTest {
+
+        @Test
+        @DisplayName("저널에서 확정되지 않은 구매 데이터를 큐에 다시 넣는다")
+        void shouldOfferUncommittedPurchasesToQueue() {
+            List<PurchaseData> unprocessed = List.of(new PurchaseData(1L, 1L, 1L), new PurchaseData(2L, 2L, 2L));
+            when(purchaseJournal.recover()).thenReturn(unprocessed);
+
+            queueService.recoverQueue();
+
+            CustomQueue<PurchaseData> queue = (CustomQueue<PurchaseData>) ReflectionTestUtils.getField(queueService,
+                    "queue");
+            assertThat(queue.pollBatch(10)).containsExactlyElementsOf(unprocessed);
+            verify(purchaseJournal, never()).append(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("라이프사이클")
+    class LifecycleTest {
+
+        @Test
+        @DisplayName("시작 시 이전 인스턴스가 넘긴 구매 데이터를 큐에 넣는다")
+        void shouldIngestSpilledPurchasesOnStart() {
+            ReflectionTestUtils.setField(queueService, "drainEnabled", false);
+            List<PurchaseData> spilled = List.of(new PurchaseData(1L, 1L, 1L), new PurchaseData(2L, 2L, 2L));
+            when(purchaseJournal.recover()).thenReturn(List.of());
+            when(purchaseSpillStore.take(anyInt())).thenReturn(spilled, List.of());
+
+            queueService.start();
+
+            assertThat(queueService.isRunning()).isTrue();
+            assertThat(queue().pollBatch(10)).containsExactlyElementsOf(spilled);
+            verify(purchaseJournal).append(spilled.get(0));
+            verify(purchaseJournal).append(spilled.get(1));
+        }
 
         @Test
-        @DisplayName("에러 큐의 항목을 처리한다")
-        void shouldProcessItemsInErrorQueue() {
-            PurchaseData errorData = new PurchaseData(1L, 1L, 1L);
-            ConcurrentLinkedQueue<PurchaseData> errorQueue = new ConcurrentLinkedQueue<>();
-            errorQueue.offer(errorData);
-            ReflectionTestUtils.setField(queueService, "errorQueue", errorQueue);
+        @DisplayName("종료 시 남은 큐를 DB 에 반영하고 넘길 항목이 없으면 저장소를 사용하지 않는다")
+        void shouldFlushQueueOnStop() {
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+            queueService.addPurchase(new PurchaseData(1L, 1L, 1L));
+
+            queueService.stop();
+
+            verify(purchaseBulkWriter).write(anyList());
+            verify(purchaseSpillStore, never()).spill(anyList());
+            assertThat(queue().isEmpty()).isTrue();
+        }
 
+        @Test
+        @DisplayName("종료 시 반영에 실패한 항목과 재시도 대기 항목을 넘기고 저널에서 확정한다")
+        void shouldSpillLeftoversOnStop() {
+            PurchaseData failedData = new PurchaseData(1L, 1L, 1L);
+            PurchaseData retryData = new PurchaseData(2L, 2L, 2L);
+            queueService.addPurchase(failedData);
+            retryWheel().schedule(new PurchaseRetry(retryData, 1), 10, TimeUnit.SECONDS);
             when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
             when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
-            when(purchaseRepository.save(any(Purchase.class))).thenReturn(Purchase.builder()
-                    .member(member)
-                    .ticket(ticket)
-                    .purchaseTime(LocalDateTime.now())
-                    .purchaseStatus(PurchaseStatus.PURCHASED)
-                    .build());
+            doThrow(new RuntimeException("DB error")).when(purchaseBulkWriter).write(anyList());
 
-            queueService.processErrorQueue();
+            queueService.stop();
 
-            verify(purchaseRepository).save(any(Purchase.class));
+            verify(purchaseSpillStore).spill(List.of(failedData, retryData));
+            verify(purchaseJournal).commit(List.of(failedData, retryData));
+            assertThat(retryWheel().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("넘기기에 실패하면 저널에서 확정하지 않는다")
+        void shouldNotCommitWhenSpillFails() {
+            queueService.addPurchase(new PurchaseData(1L, 1L, 1L));
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+            doThrow(new RuntimeException("DB error")).when(purchaseBulkWriter).write(anyList());
+            doThrow(new RuntimeException("Redis error")).when(purchaseSpillStore).spill(anyList());
+
+            queueService.stop();
+
+            verify(purchaseJournal, never()).commit(any());
+        }
+
+        @Test
+        @DisplayName("종료 중에 들어온 구매는 큐에 넣지 않고 바로 넘긴다")
+        void shouldSpillPurchasesAddedWhileStopping() {
+            queueService.stop();
+            PurchaseData purchaseData = new PurchaseData(1L, 1L, 1L);
+
+            queueService.addPurchase(purchaseData);
+
+            verify(purchaseSpillStore).spill(List.of(purchaseData));
+            verify(purchaseJournal, never()).append(any());
+            assertThat(queue().isEmpty()).isTrue();
         }
     }
 
     @Nested
-    @DisplayName("createPurchase 메소드")
-    class CreatePurchaseTest {
+    @DisplayName("공유 큐를 사용하면")
+    class SharedQueueTest {
 
         @Test
-        @DisplayName("구매 엔티티를 생성한다")
-        void shouldCreatePurchaseEntity() {
+        @DisplayName("종료 시 남은 항목을 꺼내 넘기지 않고 큐에 남긴다")
+        void shouldLeaveEntriesInSharedQueueOnStop() {
+            CustomQueue<PurchaseData> sharedQueue = mock(CustomQueue.class);
+            when(sharedQueue.isShared()).thenReturn(true);
+            ReflectionTestUtils.setField(queueService, "queue", sharedQueue);
+            retryWheel().schedule(new PurchaseRetry(new PurchaseData(1L, 1L, 1L), 1), 10, TimeUnit.SECONDS);
+
+            queueService.stop();
+
+            verify(sharedQueue, never()).drainTo(any(), anyInt());
+            verify(sharedQueue, never()).drainPartitionsTo(any(), anyInt());
+            verify(sharedQueue, never()).acknowledge(anyList());
+            verify(purchaseSpillStore, never()).spill(anyList());
+            assertThat(retryWheel().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("종료 중에 들어온 구매도 큐에 넣는다")
+        void shouldOfferPurchasesAddedWhileStopping() {
+            CustomQueue<PurchaseData> sharedQueue = mock(CustomQueue.class);
+            when(sharedQueue.isShared()).thenReturn(true);
+            ReflectionTestUtils.setField(queueService, "queue", sharedQueue);
+            queueService.stop();
             PurchaseData purchaseData = new PurchaseData(1L, 1L, 1L);
+
+            queueService.addPurchase(purchaseData);
+
+            verify(sharedQueue).offer(purchaseData);
+            verify(purchaseSpillStore, never()).spill(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("pollSpilledPurchases 메소드")
+    class PollSpilledPurchasesTest {
+
+        @Test
+        @DisplayName("실행 중이면 다른 인스턴스가 넘긴 구매 데이터를 큐에 넣는다")
+        void shouldIngestSpilledPurchasesWhileRunning() {
+            ReflectionTestUtils.setField(queueService, "running", true);
+            List<PurchaseData> spilled = List.of(new PurchaseData(1L, 1L, 1L));
+            when(purchaseSpillStore.take(anyInt())).thenReturn(spilled, List.of());
+
+            queueService.pollSpilledPurchases();
+
+            assertThat(queue().pollBatch(10)).containsExactlyElementsOf(spilled);
+        }
+
+        @Test
+        @DisplayName("실행 중이 아니면 가져오지 않는다")
+        void shouldNotIngestWhenNotRunning() {
+            queueService.pollSpilledPurchases();
+
+            verify(purchaseSpillStore, never()).take(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("processRetries 메소드")
+    class ProcessRetriesTest {
+
+        @Test
+        @DisplayName("백오프 시간이 지난 항목을 배치로 다시 처리한다")
+        void shouldProcessDueRetriesInBatch() {
+            PurchaseData retryData = new PurchaseData(1L, 1L, 1L);
+            retryWheel().schedule(new PurchaseRetry(retryData, 1), 0, TimeUnit.MILLISECONDS);
+
             when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
             when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
 
-            Purchase purchase = ReflectionTestUtils.invokeMethod(queueService, "createPurchase", purchaseData);
+            queueService.processRetries();
 
-            assertThat(purchase).isNotNull();
-            assertThat(purchase.getTicket()).isEqualTo(ticket);
-            assertThat(purchase.getMember()).isEqualTo(member);
-            assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASED);
+            verify(purchaseBulkWriter).write(anyList());
+            verify(purchaseJournal).commit(List.of(retryData));
+            assertThat(retryWheel().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("재시도에 실패하면 시도 횟수를 늘려 다시 등록한다")
+        void shouldRescheduleWhenRetryFails() {
+            PurchaseData retryData = new PurchaseData(1L, 1L, 1L);
+            retryWheel().schedule(new PurchaseRetry(retryData, 1), 0, TimeUnit.MILLISECONDS);
+
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+            doThrow(new RuntimeException("DB error")).when(purchaseBulkWriter).write(anyList());
+
+            queueService.processRetries();
+
+            assertThat(retryWheel().size()).isEqualTo(1);
+            verify(purchaseDeadLetterRepository, never()).saveAll(anyList());
+            verify(purchaseJournal, never()).commit(any());
+        }
+
+        @Test
+        @DisplayName("최대 재시도 횟수를 넘기면 dead letter 로 보관하고 저널에서 확정한다")
+        void shouldSaveDeadLetterWhenMaxRetryReached() {
+            PurchaseData retryData = new PurchaseData(1L, 1L, 1L);
+            retryWheel().schedule(new PurchaseRetry(retryData, 3), 0, TimeUnit.MILLISECONDS);
+
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+            doThrow(new RuntimeException("DB error")).when(purchaseBulkWriter).write(anyList());
+
+            queueService.processRetries();
+
+            assertThat(retryWheel().size()).isZero();
+            verify(purchaseDeadLetterRepository).saveAll(anyList());
+            verify(purchaseJournal).commit(List.of(retryData));
+        }
+
+        @Test
+        @DisplayName("dead letter 저장에 실패하면 저널에서 확정하지 않고 다시 등록한다")
+        void shouldRescheduleWhenDeadLetterSaveFails() {
+            PurchaseData retryData = new PurchaseData(1L, 1L, 1L);
+            retryWheel().schedule(new PurchaseRetry(retryData, 3), 0, TimeUnit.MILLISECONDS);
+
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+            doThrow(new RuntimeException("DB error")).when(purchaseBulkWriter).write(anyList());
+            when(purchaseDeadLetterRepository.saveAll(anyList())).thenThrow(new RuntimeException("DB error"));
+
+            queueService.processRetries();
+
+            assertThat(retryWheel().size()).isEqualTo(1);
+            verify(purchaseJournal, never()).commit(any());
         }
     }
 
     @Nested
-    @DisplayName("batchInsertPurchases 메소드")
-    class BatchInsertPurchasesTest {
+    @DisplayName("backoffDelayMs 메소드")
+    class BackoffDelayTest {
 
         @Test
-        @DisplayName("구매 정보를 벌크 인서트한다")
-        void shouldBatchInsertPurchases() {
-            List<Purchase> purchases = List.of(
-                    Purchase.builder().ticket(ticket).member(member).purchaseTime(LocalDateTime.now())
-                            .purchaseStatus(PurchaseStatus.PURCHASED).build(),
-                    Purchase.builder().ticket(ticket).member(member).purchaseTime(LocalDateTime.now())
-                            .purchaseStatus(PurchaseStatus.PURCHASED).build()
-            );
-
-            ReflectionTestUtils.invokeMethod(queueService, "batchInsertPurchases", purchases);
+        @DisplayName("시도 횟수에 따라 지연 시간이 두 배씩 늘어나고 지터가 절반 범위 안에 적용된다")
+        void shouldApplyExponentialBackoffWithJitter() {
+            for (int i = 0; i < 100; i++) {
+                assertThat(QueueService.backoffDelayMs(1)).isBetween(250L, 500L);
+                assertThat(QueueService.backoffDelayMs(3)).isBetween(1000L, 2000L);
+            }
+        }
 
-            verify(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        @Test
+        @DisplayName("지연 시간은 최대 지연 시간을 넘지 않는다")
+        void shouldNotExceedMaxDelay() {
+            assertThat(QueueService.backoffDelayMs(100)).isBetween(15_000L, 30_000L);
         }
     }
 
     @Nested
-    @DisplayName("batchInsertCheckins 메소드")
-    class BatchInsertCheckinsTest {
+    @DisplayName("createPurchase 메소드")
+    class CreatePurchaseTest {
 
         @Test
-        @DisplayName("체크인 정보를 벌크 인서트한다")
-        void shouldBatchInsertCheckins() {
-            List<Purchase> purchases = List.of(
-                    Purchase.builder().ticket(ticket).member(member).purchaseTime(LocalDateTime.now())
-                            .purchaseStatus(PurchaseStatus.PURCHASED).build(),
-                    Purchase.builder().ticket(ticket).member(member).purchaseTime(LocalDateTime.now())
-                            .purchaseStatus(PurchaseStatus.PURCHASED).build()
-            );
+        @DisplayName("구매 엔티티를 생성한다")
+        void shouldCreatePurchaseEntity() {
+            PurchaseData purchaseData = new PurchaseData(1L, 1L, 1L);
+            when(ticketCacheService.getTicket(anyLong())).thenReturn(ticket);
+            when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
 
-            ReflectionTestUtils.invokeMethod(queueService, "batchInsertCheckins", purchases);
+            Purchase purchase = ReflectionTestUtils.invokeMethod(queueService, "createPurchase", purchaseData);
 
-            verify(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+            assertThat(purchase).isNotNull();
+            assertThat(purchase.getTicket()).isEqualTo(ticket);
+            assertThat(purchase.getMember()).isEqualTo(member);
+            assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.PURCHASED);
         }
     }
-}
\ No newline at end of file
+
+    private CustomQueue<PurchaseData> queue() {
+        return (CustomQueue<PurchaseData>) ReflectionTestUtils.getField(queueService, "queue");
+    }
+
+    private RetryTimingWheel<PurchaseRetry> retryWheel() {
+        return (RetryTimingWheel<PurchaseRetry>) ReflectionTestUtils.getField(queueService, "retryWheel");
+    }
+}
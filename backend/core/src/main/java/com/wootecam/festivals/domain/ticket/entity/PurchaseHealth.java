@@ -0,0 +1,34 @@
+package com.wootecam.festivals.domain.ticket.entity;
+
+import java.util.Collection;
+
+/**
+ * api-server 가 주기적으로 보고하는 구매 경로의 부하 지표
+ *
+ * @param p95LatencyMs  구매 가능 여부 확인, 구매 시작 요청의 p95 응답 시간
+ * @param inFlight      처리 중인 구매 경로 요청 수
+ * @param queueDepth    DB 반영을 기다리는 구매 큐의 크기
+ * @param hikariPending 커넥션을 기다리는 스레드 수
+ * @param cpuPercent    시스템 CPU 사용률
+ */
+public record PurchaseHealth(long p95LatencyMs, long inFlight, long queueDepth, long hikariPending, long cpuPercent) {
+
+    /**
+     * 여러 서버의 지표 중 지표별로 가장 나쁜 값을 모읍니다. 입장 속도는 가장 바쁜 서버에 맞춰야 하기 때문입니다.
+     */
+    public static PurchaseHealth worstOf(Collection<PurchaseHealth> healths) {
+        long p95LatencyMs = 0;
+        long inFlight = 0;
+        long queueDepth = 0;
+        long hikariPending = 0;
+        long cpuPercent = 0;
+        for (PurchaseHealth health : healths) {
+            p95LatencyMs = Math.max(p95LatencyMs, health.p95LatencyMs);
+            inFlight = Math.max(inFlight, health.inFlight);
+            queueDepth = Math.max(queueDepth, health.queueDepth);
+            hikariPending = Math.max(hikariPending, health.hikariPending);
+            cpuPercent = Math.max(cpuPercent, health.cpuPercent);
+        }
+        return new PurchaseHealth(p95LatencyMs, inFlight, queueDepth, hikariPending, cpuPercent);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wootecam.festivals.domain.ticket.repository;
+
+import com.wootecam.festivals.domain.ticket.entity.PurchaseHealth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * api-server 별 구매 경로 부하 지표를 관리하는 Repository
+ *
+ * Hash 로 구현되어 있으며 서버 id 별로 마지막으로 보고한 지표를 저장
+ * key : purchaseHealth
+ * hashKey : {서버 id}
+ * value : p95LatencyMs,inFlight,queueDepth,hikariPending,cpuPercent,reportedAtMillis
+ */
+@Repository
+public class PurchaseHealthRedisRepository extends RedisRepository {
+
+    private static final String KEY = "purchaseHealth";
+    private static final String DELIMITER = ",";
+
+    public PurchaseHealthRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /**
+     * 서버의 현재 지표를 저장하는 메소드
+     */
+    public void report(String serverId, PurchaseHealth health, long reportedAtMillis) {
+        String value = String.join(DELIMITER,
+                String.valueOf(health.p95LatencyMs()),
+                String.valueOf(health.inFlight()),
+                String.valueOf(health.queueDepth()),
+                String.valueOf(health.hikariPending()),
+                String.valueOf(health.cpuPercent()),
+                String.valueOf(reportedAtMillis));
+        redisTemplate.opsForHash().put(KEY, serverId, value);
+    }
+
+    /**
+     * minReportedAtMillis 이후에 보고된 지표를 반환하고, 그보다 오래된 (종료된 서버의) 지표는 삭제하는 메소드
+     */
+    public List<PurchaseHealth> findReportedSince(long minReportedAtMillis) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY);
+        List<PurchaseHealth> healths = new ArrayList<>(entries.size());
+        List<Object> staleServerIds = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String[] fields = ((String) entry.getValue()).split(DELIMITER);
+            if (Long.parseLong(fields[5]) < minReportedAtMillis) {
+                staleServerIds.add(entry.getKey());
+                continue;
+            }
+            healths.add(new PurchaseHealth(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2]), Long.parseLong(fields[3]), Long.parseLong(fields[4])));
+        }
+        if (!staleServerIds.isEmpty()) {
+            redisTemplate.opsForHash().delete(KEY, staleServerIds.toArray());
+        }
+        return healths;
+    }
+}
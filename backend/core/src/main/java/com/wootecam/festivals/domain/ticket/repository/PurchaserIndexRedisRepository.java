@@ -0,0 +1,115 @@
+package com.wootecam.festivals.domain.ticket.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    티켓을 구매한 회원을 회원 id 위치의 비트로 기록하는 Repository
+    - 구매한 회원 (Bitmap, offset: memberId): tickets:{ticketId}:purchasers
+    - 적재 완료 여부 (String): tickets:{ticketId}:purchasersLoaded
+    적재가 끝난 티켓은 비트가 0 이면 구매하지 않은 회원으로 판단할 수 있습니다.
+ */
+@Repository
+public class PurchaserIndexRedisRepository extends RedisRepository {
+
+    public static final long NOT_LOADED = -1L;
+    // Redis 비트맵 offset 의 최대값
+    public static final long MAX_MEMBER_ID = (1L << 32) - 1;
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /*
+        KEYS[1]: 구매한 회원, KEYS[2]: 적재 완료 여부
+        ARGV[1]: 회원 id
+        반환: 구매했다면 1, 아니라면 0, 적재 전이면 -1
+     */
+    private static final String CONTAINS_SCRIPT = """
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return -1
+            end
+            return redis.call('GETBIT', KEYS[1], ARGV[1])
+            """;
+
+    private static final String SET_BITS_SCRIPT = """
+            for i = 1, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+            end
+            return #ARGV
+            """;
+
+    /*
+        KEYS[1]: 임시로 적재한 구매한 회원, KEYS[2]: 실제 키, KEYS[3]: 적재 완료 여부
+        적재하는 사이에 기록된 구매를 잃지 않도록 임시 키를 실제 키에 OR 로 합칩니다. 다른 서버가 먼저 적재했다면 임시 키만 지우고 0 을 반환합니다.
+     */
+    private static final String COMMIT_LOAD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('BITOP', 'OR', KEYS[2], KEYS[2], KEYS[1])
+                redis.call('DEL', KEYS[1])
+            end
+            redis.call('SET', KEYS[3], '1')
+            return 1
+            """;
+
+    private static final RedisScript<Long> CONTAINS = RedisScript.of(CONTAINS_SCRIPT, Long.class);
+    private static final RedisScript<Long> SET_BITS = RedisScript.of(SET_BITS_SCRIPT, Long.class);
+    private static final RedisScript<Long> COMMIT_LOAD = RedisScript.of(COMMIT_LOAD_SCRIPT, Long.class);
+
+    public PurchaserIndexRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /*
+        회원의 구매 여부를 반환합니다.
+        반환: 구매했다면 1, 아니라면 0, 적재 전이면 NOT_LOADED
+     */
+    public long contains(Long ticketId, Long memberId) {
+        Long result = redisTemplate.execute(CONTAINS, List.of(createKey(ticketId), createLoadedKey(ticketId)),
+                String.valueOf(memberId));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    /*
+        회원의 구매를 기록합니다. 적재 전이라도 기록해 두면 적재할 때 합쳐집니다.
+     */
+    public void add(Long ticketId, Long memberId) {
+        redisTemplate.opsForValue().setBit(createKey(ticketId), memberId, true);
+    }
+
+    /*
+        MySQL 에 저장된 구매한 회원을 적재합니다. 적재가 끝나기 전에는 조회가 적재 전 (-1) 으로 응답받도록 임시 키에 나누어 넣은 뒤 한 번에 합칩니다.
+        이미 적재되었다면 적재하지 않고 false 를 반환합니다.
+     */
+    public boolean load(Long ticketId, List<Long> memberIds) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(createLoadedKey(ticketId)))) {
+            return false;
+        }
+
+        String tempKey = createKey(ticketId) + ":loading:" + UUID.randomUUID();
+        for (int from = 0; from < memberIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, memberIds.size()));
+            List<String> offsets = new ArrayList<>(chunk.size());
+            chunk.forEach(memberId -> offsets.add(String.valueOf(memberId)));
+            redisTemplate.execute(SET_BITS, List.of(tempKey), offsets.toArray());
+        }
+
+        Long result = redisTemplate.execute(COMMIT_LOAD,
+                List.of(tempKey, createKey(ticketId), createLoadedKey(ticketId)));
+        return result != null && result == 1;
+    }
+
+    private String createKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":purchasers";
+    }
+
+    private String createLoadedKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":purchasersLoaded";
+    }
+}
@@ -0,0 +1,83 @@
+package com.wootecam.festivals.domain.ticket.repository;
+
+import java.util.List;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    결제를 시작하지 않은 재고 점유의 만료 시각을 관리하는 Repository
+    자료 구조는 Sorted Set 을 사용
+    - key: tickets:{ticketId}:ticketStocks:expiries
+    - member: {ticketStockId}:{memberId}
+    - score: 점유를 해제할 시각 (epoch millis)
+ */
+@Repository
+public class ReservationExpiryRedisRepository extends RedisRepository {
+
+    /*
+        KEYS[1]: 만료 시각
+        ARGV[1]: 현재 시각, ARGV[2]: 최대 개수
+        만료된 점유를 최대 개수만큼 꺼내며, 꺼낸 점유는 다른 서버가 다시 꺼내지 않도록 함께 지웁니다.
+     */
+    private static final String POLL_EXPIRED_SCRIPT = """
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #expired > 0 then
+                redis.call('ZREM', KEYS[1], unpack(expired))
+            end
+            return expired
+            """;
+
+    private static final RedisScript<List> POLL_EXPIRED = RedisScript.of(POLL_EXPIRED_SCRIPT, List.class);
+
+    public ReservationExpiryRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    public void schedule(Long ticketId, Long ticketStockId, Long memberId, long expireAtMillis) {
+        redisTemplate.opsForZSet().add(createKey(ticketId), createMember(ticketStockId, memberId), expireAtMillis);
+    }
+
+    /*
+        만료 예정인 점유를 지웁니다. 이미 만료되어 꺼내졌다면 false 를 반환합니다.
+     */
+    public boolean cancel(Long ticketId, Long ticketStockId, Long memberId) {
+        Long removed = redisTemplate.opsForZSet().remove(createKey(ticketId), createMember(ticketStockId, memberId));
+        return removed != null && removed > 0;
+    }
+
+    /*
+        nowMillis 까지 만료된 점유를 최대 limit 개 꺼냅니다.
+     */
+    public List<ExpiredReservation> pollExpired(Long ticketId, long nowMillis, int limit) {
+        List<?> expired = redisTemplate.execute(POLL_EXPIRED, List.of(createKey(ticketId)),
+                String.valueOf(nowMillis), String.valueOf(limit));
+        if (expired == null) {
+            return List.of();
+        }
+        return expired.stream()
+                .map(member -> ExpiredReservation.of(String.valueOf(member)))
+                .toList();
+    }
+
+    public Long size(Long ticketId) {
+        return redisTemplate.opsForZSet().zCard(createKey(ticketId));
+    }
+
+    private String createKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":ticketStocks:expiries";
+    }
+
+    private static String createMember(Long ticketStockId, Long memberId) {
+        return ticketStockId + ":" + memberId;
+    }
+
+    public record ExpiredReservation(Long ticketStockId, Long memberId) {
+
+        private static ExpiredReservation of(String member) {
+            int separator = member.indexOf(':');
+            return new ExpiredReservation(Long.parseLong(member.substring(0, separator)),
+                    Long.parseLong(member.substring(separator + 1)));
+        }
+    }
+}
@@ -15,10 +15,14 @@ import org.springframework.util.Assert;
  *
  *   tickets:{ticketId}:startSaleTime 티켓 판매 시작 시각
  *   tickets:{ticketId}:endSaleTime 티켓 판매 종료 시각
+ *
+ *   티켓 정보가 바뀌면 ticketInfoChanged:{ticketId} 채널로 알려 각 서버의 캐시를 무효화합니다.
  */
 @Repository
 public class TicketInfoRedisRepository extends RedisRepository {
 
+    public static final String CHANGE_CHANNEL_PREFIX = "ticketInfoChanged:";
+
     public TicketInfoRedisRepository(RedisTemplate<String, String> redisTemplate) {
         super(redisTemplate);
     }
@@ -47,5 +51,6 @@ public class TicketInfoRedisRepository extends RedisRepository {
 
         redisTemplate.opsForHash().put(TICKETS_PREFIX + ticketId, TICKET_INFO_START_SALE_TIME_PREFIX, startSaleTime.toString());
         redisTemplate.opsForHash().put(TICKETS_PREFIX + ticketId, TICKET_INFO_END_SALE_TIME_PREFIX, endSaleTime.toString());
+        redisTemplate.convertAndSend(CHANGE_CHANNEL_PREFIX + ticketId, String.valueOf(ticketId));
     }
 }
@@ -45,6 +45,37 @@ public class TicketStockCountRedisRepository extends RedisRepository {
             return result
             """;
 
+    private static final String COMPARE_AND_SET_STOCK_SCRIPT = """
+            local current = redis.call('GET', KEYS[1])
+            if not current or tonumber(current) ~= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    // 재고가 minRemaining 보다 많을 때만 그 초과분 안에서 최대 requested 개를 한 번에 차감
+    private static final String LEASE_STOCK_SCRIPT = """
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if not current then
+                return 0
+            end
+            local granted = math.min(tonumber(ARGV[1]), current - tonumber(ARGV[2]))
+            if granted <= 0 then
+                return 0
+            end
+            redis.call('DECRBY', KEYS[1], granted)
+            return granted
+            """;
+
+    private static final String RETURN_STOCK_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('INCRBY', KEYS[1], ARGV[1])
+            return 1
+            """;
+
     public TicketStockCountRedisRepository(RedisTemplate<String, String> redisTemplate) {
         super(redisTemplate);
     }
@@ -96,6 +127,38 @@ public class TicketStockCountRedisRepository extends RedisRepository {
         }
     }
 
+    /*
+        lua script 를 이용해 현재 재고 수량이 expected 와 같을 때만 newCount 로 변경합니다.
+        그 사이 재고가 차감, 복구되었거나 키가 없다면 변경하지 않고 false 반환
+     */
+    public boolean compareAndSetTicketStockCount(Long ticketId, Long expected, Long newCount) {
+        RedisScript<Long> script = RedisScript.of(COMPARE_AND_SET_STOCK_SCRIPT, Long.class);
+        Long result = redisTemplate.execute(script, List.of(createKey(ticketId)), String.valueOf(expected),
+                String.valueOf(newCount));
+        return result != null && result == 1;
+    }
+
+    /*
+        lua script 를 이용해 재고를 묶음으로 임대합니다.
+        재고 중 minRemaining 을 넘는 만큼에서 최대 requested 개를 차감하고 차감한 개수를 반환 (임대할 수 없다면 0)
+     */
+    public long leaseStock(Long ticketId, long requested, long minRemaining) {
+        RedisScript<Long> script = RedisScript.of(LEASE_STOCK_SCRIPT, Long.class);
+        Long granted = redisTemplate.execute(script, List.of(createKey(ticketId)), String.valueOf(requested),
+                String.valueOf(minRemaining));
+        return granted == null ? 0 : granted;
+    }
+
+    /*
+        사용하지 않은 임대 재고를 되돌립니다.
+        재고 키가 없다면 (판매 정보가 정리된 티켓) 되돌리지 않고 false 반환
+     */
+    public boolean returnStock(Long ticketId, long count) {
+        RedisScript<Long> script = RedisScript.of(RETURN_STOCK_SCRIPT, Long.class);
+        Long result = redisTemplate.execute(script, List.of(createKey(ticketId)), String.valueOf(count));
+        return result != null && result == 1;
+    }
+
     /*
         연산의 결과를 반환
      */
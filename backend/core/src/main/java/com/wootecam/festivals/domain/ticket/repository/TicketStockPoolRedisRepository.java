@@ -0,0 +1,222 @@
+package com.wootecam.festivals.domain.ticket.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    점유되지 않은 티켓 재고 ID 와 회원별 점유 정보를 관리하는 Repository
+    - 점유 가능한 재고 ID (List): tickets:{ticketId}:ticketStocks:pool
+    - 회원별 점유한 재고 ID (Hash, memberId -> ticketStockId): tickets:{ticketId}:ticketStocks:reservations
+    - 재고별 점유한 회원 ID (Hash, ticketStockId -> memberId): tickets:{ticketId}:ticketStocks:owners
+    - 적재 완료 여부 (String): tickets:{ticketId}:ticketStocks:poolLoaded
+    MySQL 의 재고 점유 정보는 이 Repository 의 점유 결과를 비동기로 반영합니다.
+ */
+@Repository
+public class TicketStockPoolRedisRepository extends RedisRepository {
+
+    public static final long NOT_LOADED = -3L;
+    public static final long ALREADY_RESERVED = -2L;
+    public static final long NO_STOCK = -1L;
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /*
+        KEYS[1]: 점유 가능한 재고, KEYS[2]: 회원별 점유, KEYS[3]: 재고별 점유, KEYS[4]: 적재 완료 여부
+        ARGV[1]: 회원 id
+        반환: 점유한 재고 id, 적재 전이면 -3, 이미 점유했다면 -2, 재고가 없다면 -1
+     */
+    private static final String CLAIM_SCRIPT = """
+            if redis.call('EXISTS', KEYS[4]) == 0 then
+                return -3
+            end
+            if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+                return -2
+            end
+            local ticketStockId = redis.call('LPOP', KEYS[1])
+            if not ticketStockId then
+                return -1
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], ticketStockId)
+            redis.call('HSET', KEYS[3], ticketStockId, ARGV[1])
+            return tonumber(ticketStockId)
+            """;
+
+    /*
+        KEYS[1]: 점유 가능한 재고, KEYS[2]: 회원별 점유, KEYS[3]: 재고별 점유
+        ARGV[1]: 재고 id
+        점유된 재고라면 점유 정보를 지우고 다시 점유할 수 있도록 되돌립니다. (여러 번 호출되어도 한 번만 되돌림)
+     */
+    private static final String RELEASE_SCRIPT = """
+            local memberId = redis.call('HGET', KEYS[3], ARGV[1])
+            if not memberId then
+                return 0
+            end
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            redis.call('HDEL', KEYS[2], memberId)
+            redis.call('RPUSH', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    /*
+        KEYS[1]: 점유 가능한 재고, KEYS[2]: 회원별 점유, KEYS[3]: 재고별 점유
+        ARGV: 재고 id, 회원 id 를 번갈아 나열한 목록
+        재고를 주어진 회원이 점유하고 있을 때만 되돌리고, 실제로 되돌린 재고 수를 반환합니다.
+     */
+    private static final String RELEASE_ALL_SCRIPT = """
+            local released = 0
+            for i = 1, #ARGV, 2 do
+                if redis.call('HGET', KEYS[3], ARGV[i]) == ARGV[i + 1] then
+                    redis.call('HDEL', KEYS[3], ARGV[i])
+                    redis.call('HDEL', KEYS[2], ARGV[i + 1])
+                    redis.call('RPUSH', KEYS[1], ARGV[i])
+                    released = released + 1
+                end
+            end
+            return released
+            """;
+
+    /*
+        KEYS[1~3]: 임시로 적재한 점유 가능한 재고, 회원별 점유, 재고별 점유, KEYS[4~6]: 실제 키, KEYS[7]: 적재 완료 여부
+        다른 서버가 먼저 적재했다면 임시 키를 지우고 0, 아니라면 임시 키를 실제 키로 바꾸고 1 을 반환합니다.
+     */
+    private static final String COMMIT_LOAD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[7]) == 1 then
+                redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+                return 0
+            end
+            redis.call('DEL', KEYS[4], KEYS[5], KEYS[6])
+            for i = 1, 3 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('RENAME', KEYS[i], KEYS[i + 3])
+                end
+            end
+            redis.call('SET', KEYS[7], '1')
+            return 1
+            """;
+
+    private static final RedisScript<Long> CLAIM = RedisScript.of(CLAIM_SCRIPT, Long.class);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(RELEASE_SCRIPT, Long.class);
+    private static final RedisScript<Long> RELEASE_ALL = RedisScript.of(RELEASE_ALL_SCRIPT, Long.class);
+    private static final RedisScript<Long> COMMIT_LOAD = RedisScript.of(COMMIT_LOAD_SCRIPT, Long.class);
+
+    public TicketStockPoolRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    public boolean isLoaded(Long ticketId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(createLoadedKey(ticketId)));
+    }
+
+    /*
+        점유 가능한 재고 id 와 회원별 점유 정보를 적재합니다. 적재가 끝나기 전에는 점유 요청이 적재 전 (-3) 으로 응답받도록 임시 키에 나누어 넣은 뒤 한 번에 바꿉니다.
+        이미 적재되었다면 적재하지 않고 false 를 반환합니다.
+     */
+    public boolean load(Long ticketId, List<Long> unreservedStockIds, Map<Long, Long> reservedStockIdByMemberId) {
+        if (isLoaded(ticketId)) {
+            return false;
+        }
+
+        String suffix = ":loading:" + UUID.randomUUID();
+        String tempPoolKey = createPoolKey(ticketId) + suffix;
+        String tempReservationKey = createReservationKey(ticketId) + suffix;
+        String tempOwnerKey = createOwnerKey(ticketId) + suffix;
+
+        for (int from = 0; from < unreservedStockIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = unreservedStockIds.subList(from,
+                            Math.min(from + LOAD_CHUNK_SIZE, unreservedStockIds.size())).stream()
+                    .map(String::valueOf)
+                    .toList();
+            redisTemplate.opsForList().rightPushAll(tempPoolKey, chunk);
+        }
+        if (!reservedStockIdByMemberId.isEmpty()) {
+            Map<String, String> reservations = new HashMap<>();
+            Map<String, String> owners = new HashMap<>();
+            reservedStockIdByMemberId.forEach((memberId, ticketStockId) -> {
+                reservations.put(String.valueOf(memberId), String.valueOf(ticketStockId));
+                owners.put(String.valueOf(ticketStockId), String.valueOf(memberId));
+            });
+            redisTemplate.opsForHash().putAll(tempReservationKey, reservations);
+            redisTemplate.opsForHash().putAll(tempOwnerKey, owners);
+        }
+
+        Long result = redisTemplate.execute(COMMIT_LOAD,
+                List.of(tempPoolKey, tempReservationKey, tempOwnerKey, createPoolKey(ticketId),
+                        createReservationKey(ticketId), createOwnerKey(ticketId), createLoadedKey(ticketId)));
+        return result != null && result == 1;
+    }
+
+    /*
+        lua script 를 이용해 회원이 점유한 재고가 없다면 재고 하나를 꺼내 점유합니다.
+        반환: 점유한 재고 id, 적재 전이면 NOT_LOADED, 이미 점유했다면 ALREADY_RESERVED, 재고가 없다면 NO_STOCK
+     */
+    public long claim(Long ticketId, Long memberId) {
+        Long result = redisTemplate.execute(CLAIM,
+                List.of(createPoolKey(ticketId), createReservationKey(ticketId), createOwnerKey(ticketId),
+                        createLoadedKey(ticketId)),
+                String.valueOf(memberId));
+        return result == null ? NO_STOCK : result;
+    }
+
+    /*
+        점유된 재고를 다시 점유할 수 있도록 되돌립니다. 점유되지 않은 재고라면 아무것도 하지 않고 false 를 반환합니다.
+     */
+    public boolean release(Long ticketId, Long ticketStockId) {
+        Long result = redisTemplate.execute(RELEASE,
+                List.of(createPoolKey(ticketId), createReservationKey(ticketId), createOwnerKey(ticketId)),
+                String.valueOf(ticketStockId));
+        return result != null && result == 1;
+    }
+
+    /*
+        여러 재고를 한 번에 되돌리고, 실제로 되돌린 재고 수를 반환합니다.
+        다른 회원이 다시 점유한 재고는 되돌리지 않습니다.
+     */
+    public long releaseAll(Long ticketId, Map<Long, Long> memberIdByTicketStockId) {
+        if (memberIdByTicketStockId.isEmpty()) {
+            return 0;
+        }
+        List<String> args = new ArrayList<>(memberIdByTicketStockId.size() * 2);
+        memberIdByTicketStockId.forEach((ticketStockId, memberId) -> {
+            args.add(String.valueOf(ticketStockId));
+            args.add(String.valueOf(memberId));
+        });
+        Long released = redisTemplate.execute(RELEASE_ALL,
+                List.of(createPoolKey(ticketId), createReservationKey(ticketId), createOwnerKey(ticketId)),
+                args.toArray());
+        return released == null ? 0 : released;
+    }
+
+    /*
+        회원이 점유한 재고 id 를 반환하며, 없다면 null 을 반환합니다.
+     */
+    public Long getReservedStockId(Long ticketId, Long memberId) {
+        Object value = redisTemplate.opsForHash().get(createReservationKey(ticketId), String.valueOf(memberId));
+        return value == null ? null : Long.parseLong((String) value);
+    }
+
+    public Long getPoolSize(Long ticketId) {
+        return redisTemplate.opsForList().size(createPoolKey(ticketId));
+    }
+
+    private String createPoolKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":ticketStocks:pool";
+    }
+
+    private String createReservationKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":ticketStocks:reservations";
+    }
+
+    private String createOwnerKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":ticketStocks:owners";
+    }
+
+    private String createLoadedKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":ticketStocks:poolLoaded";
+    }
+}
@@ -12,6 +12,9 @@ public enum AuthErrorCode implements ErrorCode, EnumType {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "AU-0002", "인증되지 않은 사용자입니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "AU-0003", "권한이 없습니다."),
     ALREADY_LOGIN(HttpStatus.BAD_REQUEST, "AU-0004", "이미 로그인되어있습니다."),
+    INVALID_WAIT_TOKEN(HttpStatus.FORBIDDEN, "AU-0005", "유효하지 않은 대기열 토큰입니다."),
+    EXPIRED_WAIT_TOKEN(HttpStatus.FORBIDDEN, "AU-0006", "만료된 대기열 토큰입니다."),
+    WAIT_QUEUE_NOT_PASSED(HttpStatus.FORBIDDEN, "AU-0007", "대기열을 통과하지 않은 사용자입니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,19 @@
+package com.wootecam.festivals.global.auth.wait;
+
+/**
+ * 대기열 서버가 발급하는 서명된 대기 정보
+ *
+ * @param memberId         사용자 id
+ * @param ticketId         티켓 id
+ * @param waitOrder        대기 순서
+ * @param passed           대기열 통과 여부
+ * @param issuedAtMillis   발급 시각
+ * @param nextPollAtMillis 다음 조회를 허용하는 시각, 0 이면 제한 없음
+ */
+public record WaitToken(Long memberId, Long ticketId, Long waitOrder, boolean passed, long issuedAtMillis,
+                        long nextPollAtMillis) {
+
+    public boolean isIssuedFor(Long memberId, Long ticketId) {
+        return this.memberId.equals(memberId) && this.ticketId.equals(ticketId);
+    }
+}
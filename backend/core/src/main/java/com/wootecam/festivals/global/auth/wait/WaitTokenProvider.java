@@ -0,0 +1,141 @@
+package com.wootecam.festivals.global.auth.wait;
+
+import com.wootecam.festivals.global.auth.AuthErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 정보를 HMAC-SHA256 으로 서명한 토큰을 발급하고 검증하는 클래스
+ * <p>
+ * 토큰은 {keyId}.{payload}.{signature} 형식이며, 서버는 Redis 조회 없이 서명만으로 대기 순서와 대기열 통과 여부를 신뢰할 수 있습니다. 키는 "id=base64 secret"
+ * 목록으로 설정하며 첫 번째 키로 서명하고 나머지 키로는 검증만 하므로, 새 키를 앞에 추가한 뒤 이전 토큰이 만료되면 이전 키를 제거하는 방식으로 교체합니다.
+ */
+@Component
+public class WaitTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_DELIMITER = ".";
+    private static final String PAYLOAD_DELIMITER = ":";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, Mac> macs = new LinkedHashMap<>();
+    private final String signingKeyId;
+    private final long waitTokenTtlMs;
+    private final long passedTokenTtlMs;
+
+    public WaitTokenProvider(@Value("${wait.token.secrets}") String secrets,
+                             @Value("${wait.token.ttl-ms:1800000}") long waitTokenTtlMs,
+                             @Value("${wait.token.passed-ttl-ms:300000}") long passedTokenTtlMs) {
+        for (String secret : secrets.split(",")) {
+            String[] idAndSecret = secret.trim().split("=", 2);
+            if (idAndSecret.length != 2 || idAndSecret[0].isBlank() || idAndSecret[0].contains(TOKEN_DELIMITER)) {
+                throw new IllegalArgumentException("대기열 토큰 키는 id=secret 형식이어야 합니다.");
+            }
+            macs.put(idAndSecret[0], createMac(Base64.getDecoder().decode(idAndSecret[1])));
+        }
+        this.signingKeyId = macs.keySet().iterator().next();
+        this.waitTokenTtlMs = waitTokenTtlMs;
+        this.passedTokenTtlMs = passedTokenTtlMs;
+    }
+
+    public String issue(Long memberId, Long ticketId, Long waitOrder, boolean passed) {
+        return issue(memberId, ticketId, waitOrder, passed, 0L);
+    }
+
+    /**
+     * 다음 조회를 허용하는 시각을 담아 토큰을 발급합니다.
+     */
+    public String issue(Long memberId, Long ticketId, Long waitOrder, boolean passed, long nextPollAtMillis) {
+        return issue(new WaitToken(memberId, ticketId, waitOrder, passed, System.currentTimeMillis(),
+                nextPollAtMillis));
+    }
+
+    String issue(WaitToken waitToken) {
+        String payload = ENCODER.encodeToString(String.join(PAYLOAD_DELIMITER,
+                String.valueOf(waitToken.memberId()),
+                String.valueOf(waitToken.ticketId()),
+                String.valueOf(waitToken.waitOrder()),
+                waitToken.passed() ? "1" : "0",
+                String.valueOf(waitToken.issuedAtMillis()),
+                String.valueOf(waitToken.nextPollAtMillis())).getBytes(StandardCharsets.UTF_8));
+        return signingKeyId + TOKEN_DELIMITER + payload + TOKEN_DELIMITER + sign(signingKeyId, payload);
+    }
+
+    /**
+     * 토큰의 서명, 만료 여부, 발급 대상을 검증하고 대기 정보를 반환합니다.
+     */
+    public WaitToken verify(String token, Long memberId, Long ticketId) {
+        return verify(token, memberId, ticketId, System.currentTimeMillis());
+    }
+
+    WaitToken verify(String token, Long memberId, Long ticketId, long nowMillis) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 3 || !macs.containsKey(parts[0])) {
+            throw new ApiException(AuthErrorCode.INVALID_WAIT_TOKEN);
+        }
+        byte[] expected = sign(parts[0], parts[1]).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, parts[2].getBytes(StandardCharsets.US_ASCII))) {
+            throw new ApiException(AuthErrorCode.INVALID_WAIT_TOKEN);
+        }
+
+        WaitToken waitToken = parsePayload(parts[1]);
+        if (!waitToken.isIssuedFor(memberId, ticketId)) {
+            throw new ApiException(AuthErrorCode.INVALID_WAIT_TOKEN);
+        }
+        long ttlMs = waitToken.passed() ? passedTokenTtlMs : waitTokenTtlMs;
+        if (nowMillis - waitToken.issuedAtMillis() > ttlMs) {
+            throw new ApiException(AuthErrorCode.EXPIRED_WAIT_TOKEN);
+        }
+        return waitToken;
+    }
+
+    /**
+     * 대기열을 통과한 사용자의 토큰인지 검증합니다. 토큰이 없거나 비어 있다면 대기열을 통과하지 않은 것으로 봅니다.
+     */
+    public void verifyPassed(String token, Long memberId, Long ticketId) {
+        if (token == null || token.isBlank() || !verify(token, memberId, ticketId).passed()) {
+            throw new ApiException(AuthErrorCode.WAIT_QUEUE_NOT_PASSED);
+        }
+    }
+
+    private WaitToken parsePayload(String payload) {
+        try {
+            String[] fields = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(PAYLOAD_DELIMITER);
+            return new WaitToken(Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                    "1".equals(fields[3]), Long.parseLong(fields[4]), Long.parseLong(fields[5]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new ApiException(AuthErrorCode.INVALID_WAIT_TOKEN, e);
+        }
+    }
+
+    private String sign(String keyId, String payload) {
+        try {
+            // Mac 은 스레드 안전하지 않으므로 초기화된 인스턴스를 복제해 사용
+            Mac mac = (Mac) macs.get(keyId).clone();
+            byte[] signature = mac.doFinal((keyId + TOKEN_DELIMITER + payload).getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(signature);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Mac createMac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("대기열 토큰 키를 초기화할 수 없습니다.", e);
+        }
+    }
+}
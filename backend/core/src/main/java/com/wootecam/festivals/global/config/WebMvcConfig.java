@@ -2,10 +2,12 @@ package com.wootecam.festivals.global.config;
 
 import com.wootecam.festivals.global.auth.AuthArgumentResolver;
 import com.wootecam.festivals.global.interceptor.AuthInterceptor;
+import com.wootecam.festivals.global.interceptor.RateLimitInterceptor;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -17,6 +19,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final AuthInterceptor authInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -34,6 +37,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
                         , "**/actuator/**"
                         , "/health"
                         , "/error");
+        // 제한할 경로는 rate-limit.rules 로 설정
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/**");
     }
 
     @Override
@@ -42,6 +48,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000", "https://twodari.netlify.app")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(HttpHeaders.RETRY_AFTER)
                 .allowCredentials(true);
     }
 
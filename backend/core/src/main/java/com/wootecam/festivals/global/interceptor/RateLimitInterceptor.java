@@ -0,0 +1,72 @@
+package com.wootecam.festivals.global.interceptor;
+
+import com.wootecam.festivals.global.auth.Authentication;
+import com.wootecam.festivals.global.exception.GlobalErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.ratelimit.RateLimitRule;
+import com.wootecam.festivals.global.ratelimit.TokenBucketRateLimiter;
+import com.wootecam.festivals.global.utils.AuthenticationUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 경로 패턴별로 사용자당 요청 수를 제한하는 인터셉터
+ * <p>
+ * 로그인한 사용자는 회원 id, 그렇지 않은 요청은 접속 주소로 구분합니다. 제한을 넘은 요청에는 다음 토큰까지 남은 시간을 Retry-After 로 알려 줍니다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final TokenBucketRateLimiter tokenBucketRateLimiter;
+    private final List<RateLimitRule> rules;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitInterceptor(TokenBucketRateLimiter tokenBucketRateLimiter,
+                                @Value("${rate-limit.rules:}") String rules) {
+        this.tokenBucketRateLimiter = tokenBucketRateLimiter;
+        this.rules = RateLimitRule.parse(rules);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RateLimitRule rule = findRule(request.getRequestURI());
+        if (rule == null) {
+            return true;
+        }
+
+        long waitMs = tokenBucketRateLimiter.tryAcquire(rule, resolveClientKey(request));
+        if (waitMs > 0) {
+            log.debug("요청 제한 - uri: {}, 다음 요청까지: {}ms", request.getRequestURI(), waitMs);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMs + 999) / 1000));
+            throw new ApiException(GlobalErrorCode.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private RateLimitRule findRule(String requestUri) {
+        for (RateLimitRule rule : rules) {
+            if (pathMatcher.match(rule.pathPattern(), requestUri)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = AuthenticationUtils.getAuthentication();
+        if (authentication != null && authentication.memberId() != null) {
+            return "member:" + authentication.memberId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,47 @@
+package com.wootecam.festivals.global.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 패턴별 토큰 버킷 설정
+ *
+ * @param pathPattern     제한할 요청 경로 (Ant 패턴)
+ * @param capacity        버킷 크기, 연속으로 허용하는 최대 요청 수
+ * @param refillPerSecond 초당 다시 채워지는 토큰 수, 지속적으로 허용하는 요청 속도
+ */
+public record RateLimitRule(String pathPattern, long capacity, double refillPerSecond) {
+
+    public RateLimitRule {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("버킷 크기와 충전 속도는 0보다 커야합니다. - " + pathPattern);
+        }
+    }
+
+    /**
+     * "경로패턴=버킷크기:초당충전수" 를 쉼표로 구분한 설정을 읽습니다. 요청 경로에는 처음으로 일치하는 규칙 하나만 적용됩니다.
+     */
+    public static List<RateLimitRule> parse(String rules) {
+        List<RateLimitRule> parsed = new ArrayList<>();
+        if (rules == null || rules.isBlank()) {
+            return parsed;
+        }
+        for (String rule : rules.split(",")) {
+            String[] patternAndLimit = rule.trim().split("=");
+            String[] limit = patternAndLimit.length == 2 ? patternAndLimit[1].split(":") : new String[0];
+            if (limit.length != 2) {
+                throw new IllegalArgumentException("요청 제한 설정 형식이 잘못되었습니다. - " + rule);
+            }
+            parsed.add(new RateLimitRule(patternAndLimit[0].trim(), Long.parseLong(limit[0].trim()),
+                    Double.parseDouble(limit[1].trim())));
+        }
+        return parsed;
+    }
+
+    /**
+     * 빈 버킷이 가득 차기까지의 시간 (ms), 이보다 오래 요청이 없던 버킷은 가득 찬 버킷과 같음
+     */
+    public long fullRefillMs() {
+        return (long) Math.ceil(capacity * 1000 / refillPerSecond);
+    }
+}
@@ -0,0 +1,104 @@
+package com.wootecam.festivals.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 서버가 함께 사용하는 사용자별 토큰 버킷
+ * <p>
+ * 버킷은 Hash (tokens, 마지막 충전 시각) 로 저장하고, 충전과 차감을 Lua script 로 한 번에 처리합니다. Redis 에서 거절된 사용자는 토큰이 다시 채워질 때까지 이 서버에
+ * 기록해 두고 Redis 를 호출하지 않고 거절하므로, 요청을 쏟아내는 사용자가 Redis 부하를 늘리지 못합니다. Redis 를 사용할 수 없을 때는 구매 흐름을 막지 않도록 요청을
+ * 허용합니다.
+ * - key: rateLimit:{경로패턴}:{사용자}
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "rateLimit:";
+
+    /*
+        KEYS[1]: 버킷
+        ARGV[1]: 버킷 크기, ARGV[2]: ms 당 충전되는 토큰 수, ARGV[3]: 현재 시각 (ms), ARGV[4]: 버킷 만료 시간 (ms)
+        반환: { 허용 여부 (1 / 0), 다음 토큰까지 남은 시간 (ms) }
+     */
+    private static final String ACQUIRE_SCRIPT = """
+            local capacity = tonumber(ARGV[1])
+            local refillPerMs = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'refilledAt')
+            local tokens = tonumber(bucket[1]) or capacity
+            local refilledAt = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - refilledAt) * refillPerMs)
+            local allowed = 0
+            local waitMs = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                waitMs = math.ceil((1 - tokens) / refillPerMs)
+            end
+            redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'refilledAt', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return { allowed, waitMs }
+            """;
+
+    private static final RedisScript<List> ACQUIRE = RedisScript.of(ACQUIRE_SCRIPT, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    // Redis 에서 거절된 버킷별 다음 토큰 시각 (ms)
+    private final Cache<String, Long> blockedUntil;
+
+    public TokenBucketRateLimiter(RedisTemplate<String, String> redisTemplate,
+                                  @Value("${rate-limit.local-block.max-size:100000}") long localBlockMaxSize,
+                                  @Value("${rate-limit.local-block.max-duration-ms:60000}") long localBlockMaxDurationMs) {
+        this.redisTemplate = redisTemplate;
+        this.blockedUntil = Caffeine.newBuilder()
+                .maximumSize(localBlockMaxSize)
+                .expireAfterWrite(Duration.ofMillis(localBlockMaxDurationMs))
+                .build();
+    }
+
+    /**
+     * 버킷에서 토큰 하나를 꺼냅니다.
+     *
+     * @return 허용되었다면 0, 거절되었다면 다음 토큰까지 남은 시간 (ms)
+     */
+    public long tryAcquire(RateLimitRule rule, String clientKey) {
+        return tryAcquire(rule, clientKey, System.currentTimeMillis());
+    }
+
+    long tryAcquire(RateLimitRule rule, String clientKey, long nowMillis) {
+        String key = createKey(rule, clientKey);
+        Long blocked = blockedUntil.getIfPresent(key);
+        if (blocked != null && blocked > nowMillis) {
+            return blocked - nowMillis;
+        }
+
+        try {
+            List<?> result = redisTemplate.execute(ACQUIRE, List.of(key),
+                    String.valueOf(rule.capacity()), String.valueOf(rule.refillPerSecond() / 1000),
+                    String.valueOf(nowMillis), String.valueOf(rule.fullRefillMs()));
+            if (((Number) result.get(0)).longValue() == 1) {
+                return 0;
+            }
+            long waitMs = Math.max(1, ((Number) result.get(1)).longValue());
+            blockedUntil.put(key, nowMillis + waitMs);
+            return waitMs;
+        } catch (Exception e) {
+            log.warn("요청 제한 확인 실패, 요청을 허용합니다 - key: {}", key, e);
+            return 0;
+        }
+    }
+
+    private String createKey(RateLimitRule rule, String clientKey) {
+        return KEY_PREFIX + rule.pathPattern() + ":" + clientKey;
+    }
+}
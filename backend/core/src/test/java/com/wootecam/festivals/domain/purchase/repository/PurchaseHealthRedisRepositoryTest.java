@@ -0,0 +1,57 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.ticket.entity.PurchaseHealth;
+import com.wootecam.festivals.domain.ticket.repository.PurchaseHealthRedisRepository;
+import com.wootecam.festivals.utils.TestApplication;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("PurchaseHealthRedisRepository 클래스")
+class PurchaseHealthRedisRepositoryTest {
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private PurchaseHealthRedisRepository purchaseHealthRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("findReportedSince 메소드는 서버별 최근 지표를 반환한다")
+    void it_returns_recent_healths() {
+        PurchaseHealth server1 = new PurchaseHealth(120, 10, 300, 0, 55);
+        PurchaseHealth server2 = new PurchaseHealth(80, 3, 50, 2, 40);
+        purchaseHealthRedisRepository.report("server-1", server1, 1_000);
+        purchaseHealthRedisRepository.report("server-2", server2, 1_000);
+
+        List<PurchaseHealth> healths = purchaseHealthRedisRepository.findReportedSince(500);
+
+        assertThat(healths).containsExactlyInAnyOrder(server1, server2);
+        assertThat(PurchaseHealth.worstOf(healths)).isEqualTo(new PurchaseHealth(120, 10, 300, 2, 55));
+    }
+
+    @Test
+    @DisplayName("findReportedSince 메소드는 오래된 지표를 제외하고 삭제한다")
+    void it_removes_stale_healths() {
+        purchaseHealthRedisRepository.report("server-1", new PurchaseHealth(120, 10, 300, 0, 55), 1_000);
+        purchaseHealthRedisRepository.report("server-2", new PurchaseHealth(80, 3, 50, 2, 40), 5_000);
+
+        List<PurchaseHealth> healths = purchaseHealthRedisRepository.findReportedSince(2_000);
+
+        assertThat(healths).containsExactly(new PurchaseHealth(80, 3, 50, 2, 40));
+        assertThat(redisTemplate.opsForHash().hasKey("purchaseHealth", "server-1")).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.ticket.repository.PurchaserIndexRedisRepository;
+import com.wootecam.festivals.utils.TestApplication;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("PurchaserIndexRedisRepository 클래스")
+class PurchaserIndexRedisRepositoryTest {
+
+    private final Long ticketId = 1L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private PurchaserIndexRedisRepository purchaserIndexRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Nested
+    @DisplayName("contains 메소드는")
+    class Describe_contains {
+
+        @Test
+        @DisplayName("적재 전이라면 NOT_LOADED 를 반환한다")
+        void it_returns_not_loaded() {
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 100L))
+                    .isEqualTo(PurchaserIndexRedisRepository.NOT_LOADED);
+        }
+
+        @Test
+        @DisplayName("적재한 회원의 구매 여부를 반환한다")
+        void it_returns_purchased() {
+            purchaserIndexRedisRepository.load(ticketId, List.of(100L, 2_000_000L));
+
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 100L)).isEqualTo(1L);
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 2_000_000L)).isEqualTo(1L);
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 101L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("load 메소드는")
+    class Describe_load {
+
+        @Test
+        @DisplayName("적재 전에 기록된 구매를 유지한다")
+        void it_keeps_purchases_added_before_load() {
+            purchaserIndexRedisRepository.add(ticketId, 200L);
+
+            purchaserIndexRedisRepository.load(ticketId, List.of(100L));
+
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 100L)).isEqualTo(1L);
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 200L)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("구매한 회원이 없어도 적재를 완료한다")
+        void it_loads_empty_purchasers() {
+            boolean loaded = purchaserIndexRedisRepository.load(ticketId, List.of());
+
+            assertThat(loaded).isTrue();
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 100L)).isZero();
+        }
+
+        @Test
+        @DisplayName("이미 적재되었다면 다시 적재하지 않는다")
+        void it_does_not_load_twice() {
+            purchaserIndexRedisRepository.load(ticketId, List.of(100L));
+
+            assertThat(purchaserIndexRedisRepository.load(ticketId, List.of(200L))).isFalse();
+            assertThat(purchaserIndexRedisRepository.contains(ticketId, 200L)).isZero();
+        }
+    }
+}
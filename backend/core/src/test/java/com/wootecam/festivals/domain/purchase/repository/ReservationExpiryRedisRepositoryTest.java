@@ -0,0 +1,77 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.ticket.repository.ReservationExpiryRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.ReservationExpiryRedisRepository.ExpiredReservation;
+import com.wootecam.festivals.utils.TestApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("ReservationExpiryRedisRepository 클래스")
+class ReservationExpiryRedisRepositoryTest {
+
+    private final Long ticketId = 1L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private ReservationExpiryRedisRepository reservationExpiryRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Nested
+    @DisplayName("pollExpired 메소드는")
+    class Describe_pollExpired {
+
+        @Test
+        @DisplayName("만료된 점유만 만료 시각 순서로 꺼내고 지운다")
+        void it_polls_expired_reservations() {
+            reservationExpiryRedisRepository.schedule(ticketId, 11L, 101L, 2_000L);
+            reservationExpiryRedisRepository.schedule(ticketId, 10L, 100L, 1_000L);
+            reservationExpiryRedisRepository.schedule(ticketId, 12L, 102L, 3_000L);
+
+            assertThat(reservationExpiryRedisRepository.pollExpired(ticketId, 2_000L, 10))
+                    .containsExactly(new ExpiredReservation(10L, 100L), new ExpiredReservation(11L, 101L));
+            assertThat(reservationExpiryRedisRepository.pollExpired(ticketId, 2_000L, 10)).isEmpty();
+            assertThat(reservationExpiryRedisRepository.size(ticketId)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("최대 개수만큼만 꺼낸다")
+        void it_polls_up_to_limit() {
+            reservationExpiryRedisRepository.schedule(ticketId, 10L, 100L, 1_000L);
+            reservationExpiryRedisRepository.schedule(ticketId, 11L, 101L, 1_000L);
+
+            assertThat(reservationExpiryRedisRepository.pollExpired(ticketId, 1_000L, 1)).hasSize(1);
+            assertThat(reservationExpiryRedisRepository.size(ticketId)).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("cancel 메소드는")
+    class Describe_cancel {
+
+        @Test
+        @DisplayName("만료 전이라면 지우고 true 를, 이미 꺼내졌다면 false 를 반환한다")
+        void it_cancels_before_expiry() {
+            reservationExpiryRedisRepository.schedule(ticketId, 10L, 100L, 1_000L);
+            reservationExpiryRedisRepository.schedule(ticketId, 11L, 101L, 1_000L);
+            reservationExpiryRedisRepository.pollExpired(ticketId, 1_000L, 1);
+
+            assertThat(reservationExpiryRedisRepository.cancel(ticketId, 10L, 100L)).isFalse();
+            assertThat(reservationExpiryRedisRepository.cancel(ticketId, 11L, 101L)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockPoolRedisRepository;
+import com.wootecam.festivals.utils.TestApplication;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("TicketStockPoolRedisRepository 클래스")
+class TicketStockPoolRedisRepositoryTest {
+
+    private final Long ticketId = 1L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private TicketStockPoolRedisRepository ticketStockPoolRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Nested
+    @DisplayName("load 메소드는")
+    class Describe_load {
+
+        @Test
+        @DisplayName("점유 가능한 재고와 회원별 점유 정보를 적재한다")
+        void it_loads_pool() {
+            boolean loaded = ticketStockPoolRedisRepository.load(ticketId, List.of(10L, 11L), Map.of(100L, 12L));
+
+            assertThat(loaded).isTrue();
+            assertThat(ticketStockPoolRedisRepository.getPoolSize(ticketId)).isEqualTo(2L);
+            assertThat(ticketStockPoolRedisRepository.getReservedStockId(ticketId, 100L)).isEqualTo(12L);
+        }
+
+        @Test
+        @DisplayName("이미 적재되었다면 다시 적재하지 않는다")
+        void it_does_not_load_twice() {
+            ticketStockPoolRedisRepository.load(ticketId, List.of(10L, 11L), Map.of());
+
+            boolean loaded = ticketStockPoolRedisRepository.load(ticketId, List.of(10L, 11L, 12L), Map.of());
+
+            assertThat(loaded).isFalse();
+            assertThat(ticketStockPoolRedisRepository.getPoolSize(ticketId)).isEqualTo(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("claim 메소드는")
+    class Describe_claim {
+
+        @Test
+        @DisplayName("적재 전이라면 NOT_LOADED 를 반환한다")
+        void it_returns_not_loaded() {
+            assertThat(ticketStockPoolRedisRepository.claim(ticketId, 100L))
+                    .isEqualTo(TicketStockPoolRedisRepository.NOT_LOADED);
+        }
+
+        @Test
+        @DisplayName("재고 하나를 꺼내 회원의 점유로 기록한다")
+        void it_claims_stock() {
+            ticketStockPoolRedisRepository.load(ticketId, List.of(10L, 11L), Map.of());
+
+            long ticketStockId = ticketStockPoolRedisRepository.claim(ticketId, 100L);
+
+            assertThat(ticketStockId).isEqualTo(10L);
+            assertThat(ticketStockPoolRedisRepository.getReservedStockId(ticketId, 100L)).isEqualTo(10L);
+            assertThat(ticketStockPoolRedisRepository.getPoolSize(ticketId)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("이미 점유한 회원이라면 ALREADY_RESERVED 를 반환한다")
+        void it_returns_already_reserved() {
+            ticketStockPoolRedisRepository.load(ticketId, List.of(10L, 11L), Map.of());
+            ticketStockPoolRedisRepository.claim(ticketId, 100L);
+
+            assertThat(ticketStockPoolRedisRepository.claim(ticketId, 100L))
+                    .isEqualTo(TicketStockPoolRedisRepository.ALREADY_RESERVED);
+        }
+
+        @Test
+        @DisplayName("남은 재고가 없다면 NO_STOCK 을 반환한다")
+        void it_returns_no_stock() {
+            ticketStockPoolRedisRepository.load(ticketId, List.of(10L), Map.of());
+            ticketStockPoolRedisRepository.claim(ticketId, 100L);
+
+            assertThat(ticketStockPoolRedisRepository.claim(ticketId, 101L))
+                    .isEqualTo(TicketStockPoolRedisRepository.NO_STOCK);
+        }
+    }
+
+    @Nested
+    @DisplayName("release 메소드는")
+    class Describe_release {
+
+        @Test
+        @DisplayName("점유된 재고를 한 번만 되돌린다")
+        void it_releases_once() {
+            ticketStockPoolRedisRepository.load(ticketId, List.of(10L), Map.of());
+            ticketStockPoolRedisRepository.claim(ticketId, 100L);
+
+            assertThat(ticketStockPoolRedisRepository.release(ticketId, 10L)).isTrue();
+            assertThat(ticketStockPoolRedisRepository.release(ticketId, 10L)).isFalse();
+            assertThat(ticketStockPoolRedisRepository.getPoolSize(ticketId)).isEqualTo(1L);
+            assertThat(ticketStockPoolRedisRepository.getReservedStockId(ticketId, 100L)).isNull();
+        }
+
+        @Test
+        @DisplayName("여러 재고를 한 번에 되돌리고 점유되어 있던 재고 수를 반환한다")
+        void it_releases_all() {
+            ticketStockPoolRedisRepository.load(ticketId, List.of(10L, 11L), Map.of());
+            ticketStockPoolRedisRepository.claim(ticketId, 100L);
+            ticketStockPoolRedisRepository.claim(ticketId, 101L);
+            ticketStockPoolRedisRepository.release(ticketId, 10L);
+
+            long released = ticketStockPoolRedisRepository.releaseAll(ticketId, Map.of(10L, 100L, 11L, 101L));
+
+            assertThat(released).isEqualTo(1L);
+            assertThat(ticketStockPoolRedisRepository.getPoolSize(ticketId)).isEqualTo(2L);
+            assertThat(ticketStockPoolRedisRepository.getReservedStockId(ticketId, 101L)).isNull();
+        }
+
+        @Test
+        @DisplayName("다른 회원이 다시 점유한 재고는 되돌리지 않는다")
+        void it_does_not_release_stock_reclaimed_by_other_member() {
+            ticketStockPoolRedisRepository.load(ticketId, List.of(10L), Map.of());
+            ticketStockPoolRedisRepository.claim(ticketId, 100L);
+            ticketStockPoolRedisRepository.release(ticketId, 10L);
+            ticketStockPoolRedisRepository.claim(ticketId, 101L);
+
+            long released = ticketStockPoolRedisRepository.releaseAll(ticketId, Map.of(10L, 100L));
+
+            assertThat(released).isZero();
+            assertThat(ticketStockPoolRedisRepository.getReservedStockId(ticketId, 101L)).isEqualTo(10L);
+        }
+    }
+}
@@ -145,4 +145,51 @@ class TicketStockRepositoryTest {
             assertThat(result).isEqualTo(initialCount + 1);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("compareAndSetTicketStockCount 메소드는")
+    class Describe_compareAndSetTicketStockCount {
+
+        @Test
+        @DisplayName("현재 재고 수량이 기대값과 같으면 새 값으로 변경한다")
+        void it_sets_new_count_when_current_matches_expected() {
+            // Given
+            Long ticketId = 1L;
+            ticketStockRepository.setTicketStockCount(ticketId, 10L);
+
+            // When
+            boolean result = ticketStockRepository.compareAndSetTicketStockCount(ticketId, 10L, 7L);
+
+            // Then
+            assertThat(result).isTrue();
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("그 사이 재고 수량이 바뀌었다면 변경하지 않는다")
+        void it_does_not_set_when_current_differs() {
+            // Given
+            Long ticketId = 1L;
+            ticketStockRepository.setTicketStockCount(ticketId, 10L);
+            ticketStockRepository.decreaseTicketStockCount(ticketId);
+
+            // When
+            boolean result = ticketStockRepository.compareAndSetTicketStockCount(ticketId, 10L, 7L);
+
+            // Then
+            assertThat(result).isFalse();
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isEqualTo(9L);
+        }
+
+        @Test
+        @DisplayName("재고 키가 없으면 새로 만들지 않는다")
+        void it_does_not_create_missing_key() {
+            // When
+            boolean result = ticketStockRepository.compareAndSetTicketStockCount(999L, 0L, 7L);
+
+            // Then
+            assertThat(result).isFalse();
+            assertNull(ticketStockRepository.getTicketStockCount(999L));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.wootecam.festivals.global.auth.wait;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wootecam.festivals.global.auth.AuthErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WaitTokenProvider 클래스")
+class WaitTokenProviderTest {
+
+    private static final String OLD_KEY = "old=b2xkLXdhaXQtdG9rZW4tc2VjcmV0LWtleS0wMDAx";
+    private static final String NEW_KEY = "new=bmV3LXdhaXQtdG9rZW4tc2VjcmV0LWtleS0wMDAx";
+    private static final long WAIT_TTL_MS = 60_000L;
+    private static final long PASSED_TTL_MS = 10_000L;
+
+    private final Long memberId = 1L;
+    private final Long ticketId = 2L;
+    private final WaitTokenProvider waitTokenProvider = new WaitTokenProvider(NEW_KEY, WAIT_TTL_MS, PASSED_TTL_MS);
+
+    private void assertFailsWith(Runnable verification, AuthErrorCode errorCode) {
+        assertThatThrownBy(verification::run)
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+
+    @Nested
+    @DisplayName("verify 메소드는")
+    class Describe_verify {
+
+        @Test
+        @DisplayName("발급한 토큰의 대기 정보를 반환한다")
+        void it_returns_wait_token() {
+            String token = waitTokenProvider.issue(new WaitToken(memberId, ticketId, 30L, false, 1_000L, 5_000L));
+
+            WaitToken waitToken = waitTokenProvider.verify(token, memberId, ticketId, 2_000L);
+
+            assertThat(waitToken).isEqualTo(new WaitToken(memberId, ticketId, 30L, false, 1_000L, 5_000L));
+        }
+
+        @Test
+        @DisplayName("대기 순서를 바꾼 토큰은 거절한다")
+        void it_rejects_forged_token() {
+            String token = waitTokenProvider.issue(new WaitToken(memberId, ticketId, 30L, false, 1_000L, 0L));
+            String[] parts = token.split("\\.");
+            String forgedPayload = waitTokenProvider.issue(new WaitToken(memberId, ticketId, 1L, true, 1_000L, 0L))
+                    .split("\\.")[1];
+            String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+            assertFailsWith(() -> waitTokenProvider.verify(forged, memberId, ticketId, 2_000L),
+                    AuthErrorCode.INVALID_WAIT_TOKEN);
+        }
+
+        @Test
+        @DisplayName("다른 사용자나 티켓의 토큰은 거절한다")
+        void it_rejects_token_of_other_member_or_ticket() {
+            String token = waitTokenProvider.issue(new WaitToken(memberId, ticketId, 30L, false, 1_000L, 0L));
+
+            assertFailsWith(() -> waitTokenProvider.verify(token, memberId + 1, ticketId, 2_000L),
+                    AuthErrorCode.INVALID_WAIT_TOKEN);
+            assertFailsWith(() -> waitTokenProvider.verify(token, memberId, ticketId + 1, 2_000L),
+                    AuthErrorCode.INVALID_WAIT_TOKEN);
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 토큰은 거절한다")
+        void it_rejects_malformed_token() {
+            assertFailsWith(() -> waitTokenProvider.verify("new.abc", memberId, ticketId, 2_000L),
+                    AuthErrorCode.INVALID_WAIT_TOKEN);
+            assertFailsWith(() -> waitTokenProvider.verify("unknown.abc.def", memberId, ticketId, 2_000L),
+                    AuthErrorCode.INVALID_WAIT_TOKEN);
+        }
+
+        @Test
+        @DisplayName("통과 여부에 따른 유효 시간이 지난 토큰은 거절한다")
+        void it_rejects_expired_token() {
+            String waitingToken = waitTokenProvider.issue(new WaitToken(memberId, ticketId, 30L, false, 0L, 0L));
+            String passedToken = waitTokenProvider.issue(new WaitToken(memberId, ticketId, 30L, true, 0L, 0L));
+
+            assertThat(waitTokenProvider.verify(waitingToken, memberId, ticketId, PASSED_TTL_MS + 1)).isNotNull();
+            assertFailsWith(() -> waitTokenProvider.verify(passedToken, memberId, ticketId, PASSED_TTL_MS + 1),
+                    AuthErrorCode.EXPIRED_WAIT_TOKEN);
+            assertFailsWith(() -> waitTokenProvider.verify(waitingToken, memberId, ticketId, WAIT_TTL_MS + 1),
+                    AuthErrorCode.EXPIRED_WAIT_TOKEN);
+        }
+
+        @Test
+        @DisplayName("키를 교체해도 이전 키로 서명한 토큰을 검증하고, 새 토큰은 새 키로 서명한다")
+        void it_verifies_token_signed_with_previous_key() {
+            WaitTokenProvider previous = new WaitTokenProvider(OLD_KEY, WAIT_TTL_MS, PASSED_TTL_MS);
+            WaitTokenProvider rotated = new WaitTokenProvider(NEW_KEY + "," + OLD_KEY, WAIT_TTL_MS, PASSED_TTL_MS);
+            String oldToken = previous.issue(new WaitToken(memberId, ticketId, 30L, false, 1_000L, 0L));
+
+            assertThat(rotated.verify(oldToken, memberId, ticketId, 2_000L).waitOrder()).isEqualTo(30L);
+            assertThat(rotated.issue(memberId, ticketId, 30L, false)).startsWith("new.");
+            assertFailsWith(() -> waitTokenProvider.verify(oldToken, memberId, ticketId, 2_000L),
+                    AuthErrorCode.INVALID_WAIT_TOKEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("verifyPassed 메소드는")
+    class Describe_verifyPassed {
+
+        @Test
+        @DisplayName("대기열을 통과한 토큰만 허용한다")
+        void it_accepts_only_passed_token() {
+            String passedToken = waitTokenProvider.issue(memberId, ticketId, 30L, true);
+            String waitingToken = waitTokenProvider.issue(memberId, ticketId, 30L, false);
+
+            waitTokenProvider.verifyPassed(passedToken, memberId, ticketId);
+            assertFailsWith(() -> waitTokenProvider.verifyPassed(waitingToken, memberId, ticketId),
+                    AuthErrorCode.WAIT_QUEUE_NOT_PASSED);
+            assertFailsWith(() -> waitTokenProvider.verifyPassed(null, memberId, ticketId),
+                    AuthErrorCode.WAIT_QUEUE_NOT_PASSED);
+        }
+
+        @Test
+        @DisplayName("비어 있는 토큰은 형식 오류가 아닌 대기열 미통과로 거절한다")
+        void it_rejects_blank_token_as_not_passed() {
+            assertFailsWith(() -> waitTokenProvider.verifyPassed("", memberId, ticketId),
+                    AuthErrorCode.WAIT_QUEUE_NOT_PASSED);
+            assertFailsWith(() -> waitTokenProvider.verifyPassed("  ", memberId, ticketId),
+                    AuthErrorCode.WAIT_QUEUE_NOT_PASSED);
+        }
+    }
+}
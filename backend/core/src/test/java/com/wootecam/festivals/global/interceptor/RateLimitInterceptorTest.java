@@ -0,0 +1,92 @@
+package com.wootecam.festivals.global.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wootecam.festivals.global.auth.Authentication;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.ratelimit.RateLimitRule;
+import com.wootecam.festivals.global.ratelimit.TokenBucketRateLimiter;
+import com.wootecam.festivals.global.utils.AuthenticationUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitInterceptorTest {
+
+    private static final String WAIT_URI = "/api/v1/festivals/1/tickets/1/purchase/wait";
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @Mock
+    private TokenBucketRateLimiter tokenBucketRateLimiter;
+
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitInterceptor = new RateLimitInterceptor(tokenBucketRateLimiter,
+                "/api/*/festivals/*/tickets/*/purchase/wait=10:2");
+    }
+
+    @Nested
+    @DisplayName("preHandle 메소드")
+    class PreHandleMethod {
+
+        @Test
+        @DisplayName("규칙에 없는 경로는 제한하지 않는다")
+        void allowsUnmatchedPath() {
+            when(request.getRequestURI()).thenReturn("/api/v1/festivals/1");
+
+            assertTrue(rateLimitInterceptor.preHandle(request, response, null));
+            verify(tokenBucketRateLimiter, never()).tryAcquire(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("토큰이 남아 있다면 회원별 버킷에서 꺼내고 요청을 허용한다")
+        void allowsWhenTokenAcquired() {
+            try (MockedStatic<AuthenticationUtils> authUtils = mockStatic(AuthenticationUtils.class)) {
+                authUtils.when(AuthenticationUtils::getAuthentication).thenReturn(new Authentication(1L));
+                when(request.getRequestURI()).thenReturn(WAIT_URI);
+                when(tokenBucketRateLimiter.tryAcquire(any(RateLimitRule.class), anyString())).thenReturn(0L);
+
+                assertTrue(rateLimitInterceptor.preHandle(request, response, null));
+                verify(tokenBucketRateLimiter).tryAcquire(any(RateLimitRule.class), eq("member:1"));
+            }
+        }
+
+        @Test
+        @DisplayName("제한을 넘으면 Retry-After 를 설정하고 예외를 던진다")
+        void throwsExceptionWhenLimited() {
+            try (MockedStatic<AuthenticationUtils> authUtils = mockStatic(AuthenticationUtils.class)) {
+                authUtils.when(AuthenticationUtils::getAuthentication).thenReturn(null);
+                when(request.getRequestURI()).thenReturn(WAIT_URI);
+                when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+                when(tokenBucketRateLimiter.tryAcquire(any(RateLimitRule.class), anyString())).thenReturn(1_500L);
+
+                assertThrows(ApiException.class, () -> rateLimitInterceptor.preHandle(request, response, null));
+                verify(response).setHeader(HttpHeaders.RETRY_AFTER, "2");
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.wootecam.festivals.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wootecam.festivals.utils.TestApplication;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("TokenBucketRateLimiter 클래스")
+class TokenBucketRateLimiterTest {
+
+    // 거절된 사용자는 서버에 기록되므로 테스트마다 다른 사용자를 사용
+    private final RateLimitRule rule = new RateLimitRule("/api/*/wait", 3, 1);
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private TokenBucketRateLimiter tokenBucketRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Nested
+    @DisplayName("tryAcquire 메소드는")
+    class Describe_tryAcquire {
+
+        @Test
+        @DisplayName("버킷 크기만큼 연속 요청을 허용하고 이후 요청은 다음 토큰까지 남은 시간을 반환한다")
+        void it_rejects_after_capacity() {
+            for (int i = 0; i < 3; i++) {
+                assertThat(tokenBucketRateLimiter.tryAcquire(rule, "member:1", 10_000L)).isZero();
+            }
+
+            assertThat(tokenBucketRateLimiter.tryAcquire(rule, "member:1", 10_000L)).isEqualTo(1_000L);
+        }
+
+        @Test
+        @DisplayName("시간이 지나면 충전된 토큰만큼 다시 허용한다")
+        void it_refills_tokens() {
+            for (int i = 0; i < 3; i++) {
+                tokenBucketRateLimiter.tryAcquire(rule, "member:2", 10_000L);
+            }
+
+            assertThat(tokenBucketRateLimiter.tryAcquire(rule, "member:2", 11_000L)).isZero();
+            assertThat(tokenBucketRateLimiter.tryAcquire(rule, "member:2", 11_000L)).isPositive();
+        }
+
+        @Test
+        @DisplayName("거절된 사용자는 토큰이 충전될 때까지 Redis 를 조회하지 않고 거절한다")
+        void it_rejects_locally_until_refilled() {
+            for (int i = 0; i < 4; i++) {
+                tokenBucketRateLimiter.tryAcquire(rule, "member:3", 10_000L);
+            }
+            redisTemplate.getConnectionFactory().getConnection().flushAll();
+
+            assertThat(tokenBucketRateLimiter.tryAcquire(rule, "member:3", 10_500L)).isEqualTo(500L);
+        }
+
+        @Test
+        @DisplayName("사용자마다 버킷을 따로 사용한다")
+        void it_limits_each_client_separately() {
+            for (int i = 0; i < 4; i++) {
+                tokenBucketRateLimiter.tryAcquire(rule, "member:4", 10_000L);
+            }
+
+            assertThat(tokenBucketRateLimiter.tryAcquire(rule, "member:5", 10_000L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("RateLimitRule.parse 메소드는")
+    class Describe_parse {
+
+        @Test
+        @DisplayName("경로 패턴별 버킷 크기와 충전 속도를 읽는다")
+        void it_parses_rules() {
+            List<RateLimitRule> rules = RateLimitRule.parse("/a/**=5:0.5, /b=10:2");
+
+            assertThat(rules).containsExactly(new RateLimitRule("/a/**", 5, 0.5), new RateLimitRule("/b", 10, 2));
+        }
+
+        @Test
+        @DisplayName("형식이 잘못되었다면 예외를 던진다")
+        void it_throws_when_invalid() {
+            assertThatThrownBy(() -> RateLimitRule.parse("/a/**=5"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
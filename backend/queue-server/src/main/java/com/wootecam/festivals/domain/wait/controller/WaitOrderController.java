@@ -1,19 +1,33 @@
 package com.wootecam.festivals.domain.wait.controller;
 
+import com.wootecam.festivals.domain.wait.dto.WaitEstimate;
 import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
+import com.wootecam.festivals.domain.wait.exception.WaitErrorCode;
+import com.wootecam.festivals.domain.wait.service.AdmissionThroughputEstimator;
 import com.wootecam.festivals.domain.wait.service.WaitOrderService;
+import com.wootecam.festivals.domain.wait.service.WaitOrderStreamService;
+import com.wootecam.festivals.domain.wait.service.WaitPollPolicy;
 import com.wootecam.festivals.global.api.ApiResponse;
 import com.wootecam.festivals.global.auth.AuthUser;
 import com.wootecam.festivals.global.auth.Authentication;
+import com.wootecam.festivals.global.auth.wait.WaitToken;
+import com.wootecam.festivals.global.auth.wait.WaitTokenProvider;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -22,6 +36,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class WaitOrderController {
 
     private final WaitOrderService waitOrderService;
+    private final WaitOrderStreamService waitOrderStreamService;
+    private final WaitTokenProvider waitTokenProvider;
+    private final WaitPollPolicy waitPollPolicy;
+    private final AdmissionThroughputEstimator admissionThroughputEstimator;
 
     /**
      * 대기열 통과 가능 여부 및 대기 순서 조회 API
@@ -29,15 +47,74 @@ public class WaitOrderController {
      * @param festivalId
      * @param ticketId
      * @param authentication
-     * @return 대기열 통과 가능 여부, 대기 순서 응답
+     * @param waitToken      이전 응답에서 발급받은 토큰, 처음 참가하는 경우 생략
+     * @return 대기열 통과 가능 여부, 대기 순서, 새로 발급한 토큰, 다음 조회까지의 시간, 예상 대기 시간 응답
      */
     @ResponseStatus(HttpStatus.OK)
     @GetMapping
     public ApiResponse<WaitOrderResponse> getQueuePosition(@PathVariable Long festivalId,
                                                            @PathVariable Long ticketId,
                                                            @AuthUser Authentication authentication,
-                                                           @RequestParam(required = false) Long waitOrder) {
-        WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, authentication.memberId(), waitOrder);
-        return ApiResponse.of(response);
+                                                           @RequestParam(required = false) String waitToken,
+                                                           HttpServletResponse httpServletResponse) {
+        Long memberId = authentication.memberId();
+        long now = System.currentTimeMillis();
+        Long waitOrder = null;
+        // 빈 토큰은 보내지 않은 것으로 보고 처음 참가하는 사용자로 처리
+        if (StringUtils.hasText(waitToken)) {
+            WaitToken verified = waitTokenProvider.verify(waitToken, memberId, ticketId);
+            // 안내한 시각보다 이른 조회는 대기열을 조회하지 않고 거절 (이전 토큰을 다시 보내도 가장 최근에 안내한 시각 기준)
+            long allowedPollAt = waitPollPolicy.allowedPollAtMillis(memberId, ticketId, verified.nextPollAtMillis());
+            if (waitPollPolicy.isTooEarly(allowedPollAt, now)) {
+                setRetryAfter(httpServletResponse, allowedPollAt - now);
+                throw new ApiException(WaitErrorCode.TOO_EARLY_POLL);
+            }
+            waitOrder = verified.waitOrder();
+        }
+
+        WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, memberId, waitOrder);
+        if (response.purchasable()) {
+            return ApiResponse.of(response.withWaitToken(
+                    waitTokenProvider.issue(memberId, ticketId, response.absoluteWaitOrder(), true)));
+        }
+
+        WaitEstimate estimate = admissionThroughputEstimator.estimate(ticketId, response.relativeWaitOrder());
+        long nextPollDelayMs = waitPollPolicy.nextPollDelayMs(response.relativeWaitOrder(), estimate);
+        setRetryAfter(httpServletResponse, nextPollDelayMs);
+        waitPollPolicy.recordIssued(memberId, ticketId, now + nextPollDelayMs);
+        String nextWaitToken = waitTokenProvider.issue(memberId, ticketId, response.absoluteWaitOrder(), false,
+                now + nextPollDelayMs);
+        return ApiResponse.of(response.withWaitToken(nextWaitToken, nextPollDelayMs).withEstimate(estimate));
+    }
+
+    /**
+     * 대기 순서 구독 API, 입장 순서가 바뀔 때마다 wait 이벤트로 대기 순서를 보내고 통과하면 연결을 종료합니다.
+     *
+     * @param festivalId
+     * @param ticketId
+     * @param authentication
+     * @param waitToken      이전 응답에서 발급받은 토큰, 처음 참가하는 경우 생략
+     * @return 대기 순서 이벤트 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueuePosition(@PathVariable Long festivalId,
+                                          @PathVariable Long ticketId,
+                                          @AuthUser Authentication authentication,
+                                          @RequestParam(required = false) String waitToken) {
+        Long memberId = authentication.memberId();
+        return waitOrderStreamService.subscribe(ticketId, memberId, verifyWaitOrder(waitToken, memberId, ticketId));
+    }
+
+    // 서명을 검증해 위조, 다른 사용자나 티켓의 토큰을 Redis 조회 없이 거절하고 토큰에 담긴 대기 순서를 반환
+    private Long verifyWaitOrder(String waitToken, Long memberId, Long ticketId) {
+        if (!StringUtils.hasText(waitToken)) {
+            return null;
+        }
+        return waitTokenProvider.verify(waitToken, memberId, ticketId).waitOrder();
+    }
+
+    private void setRetryAfter(HttpServletResponse httpServletResponse, long delayMs) {
+        httpServletResponse.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(TimeUnit.MILLISECONDS.toSeconds(delayMs + 999)));
     }
 }
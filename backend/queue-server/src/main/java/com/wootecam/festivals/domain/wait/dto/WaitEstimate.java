@@ -0,0 +1,13 @@
+package com.wootecam.festivals.domain.wait.dto;
+
+/**
+ * 입장 범위에 들어오기까지의 예상 대기 시간
+ *
+ * @param expectedMs 예상 시간
+ * @param minMs      입장 속도가 빨라질 때의 예상 시간
+ * @param maxMs      입장 속도가 느려질 때의 예상 시간
+ */
+public record WaitEstimate(long expectedMs, long minMs, long maxMs) {
+
+    public static final WaitEstimate NOW = new WaitEstimate(0, 0, 0);
+}
@@ -1,4 +1,29 @@
 package com.wootecam.festivals.domain.wait.dto;
 
-public record WaitOrderResponse(boolean purchasable, Long relativeWaitOrder, Long absoluteWaitOrder) {
+/**
+ * @param waitToken       대기 순서와 통과 여부를 서명한 토큰, 다음 조회와 구매 가능 여부 확인 시 사용
+ * @param nextPollDelayMs 다음 조회까지 기다려야 하는 시간, 이보다 이른 조회는 거절됨
+ * @param estimate        입장 범위에 들어오기까지의 예상 대기 시간, 입장 속도를 추정하기 전에는 없음
+ */
+public record WaitOrderResponse(boolean purchasable, Long relativeWaitOrder, Long absoluteWaitOrder,
+                                String waitToken, Long nextPollDelayMs, WaitEstimate estimate) {
+
+    public WaitOrderResponse(boolean purchasable, Long relativeWaitOrder, Long absoluteWaitOrder) {
+        this(purchasable, relativeWaitOrder, absoluteWaitOrder, null, null, null);
+    }
+
+    public WaitOrderResponse withWaitToken(String waitToken) {
+        return new WaitOrderResponse(purchasable, relativeWaitOrder, absoluteWaitOrder, waitToken, nextPollDelayMs,
+                estimate);
+    }
+
+    public WaitOrderResponse withWaitToken(String waitToken, Long nextPollDelayMs) {
+        return new WaitOrderResponse(purchasable, relativeWaitOrder, absoluteWaitOrder, waitToken, nextPollDelayMs,
+                estimate);
+    }
+
+    public WaitOrderResponse withEstimate(WaitEstimate estimate) {
+        return new WaitOrderResponse(purchasable, relativeWaitOrder, absoluteWaitOrder, waitToken, nextPollDelayMs,
+                estimate);
+    }
 }
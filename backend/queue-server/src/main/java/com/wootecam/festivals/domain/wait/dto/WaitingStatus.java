@@ -0,0 +1,17 @@
+package com.wootecam.festivals.domain.wait.dto;
+
+/**
+ * 대기열 참가 스크립트 한 번으로 조회한 사용자의 대기 상태
+ *
+ * @param waitOrder  사용자의 대기 순서 (대기열에 없고 참가하지 않았다면 null)
+ * @param joined     이번 호출에서 새로 대기열에 참가했는지 여부
+ * @param passOrder  현재 입장 순서
+ * @param stockCount 남은 재고 수량 (재고 정보가 없다면 0)
+ */
+public record WaitingStatus(Long waitOrder, boolean joined, Long passOrder, Long stockCount) {
+
+    // 이번 호출 전부터 대기열에 있던 사용자인지 여부
+    public boolean isWaiting() {
+        return waitOrder != null && !joined;
+    }
+}
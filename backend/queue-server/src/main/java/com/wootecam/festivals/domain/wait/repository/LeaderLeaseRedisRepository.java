@@ -0,0 +1,64 @@
+package com.wootecam.festivals.domain.wait.repository;
+
+import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import java.util.List;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    여러 queue-server 중 하나만 작업을 수행하도록 리더 임대(lease)를 관리하는 Repository
+    임대는 String 으로 구성되며, 만료 시간이 지나면 다른 서버가 가져갈 수 있습니다.
+    - key: leaders:{name}
+    - value: 임대를 가진 서버 id
+ */
+@Repository
+public class LeaderLeaseRedisRepository extends RedisRepository {
+
+    // 임대가 없으면 획득하고, 이미 가지고 있다면 만료 시간을 연장합니다.
+    private static final String ACQUIRE_SCRIPT = """
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """;
+
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private static final RedisScript<Long> ACQUIRE = RedisScript.of(ACQUIRE_SCRIPT, Long.class);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(RELEASE_SCRIPT, Long.class);
+
+    public LeaderLeaseRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /*
+        임대를 획득하거나 연장합니다. 다른 서버가 임대를 가지고 있다면 false 반환
+     */
+    public boolean tryAcquire(String name, String ownerId, long leaseMillis) {
+        Long result = redisTemplate.execute(ACQUIRE, List.of(createKey(name)), ownerId, String.valueOf(leaseMillis));
+        return result != null && result == 1;
+    }
+
+    /*
+        자신이 가진 임대만 해제합니다.
+     */
+    public void release(String name, String ownerId) {
+        redisTemplate.execute(RELEASE, List.of(createKey(name)), ownerId);
+    }
+
+    private String createKey(String name) {
+        return "leaders:" + name;
+    }
+}
@@ -1,7 +1,9 @@
 package com.wootecam.festivals.domain.wait.repository;
 
 import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import java.util.List;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 /*
@@ -9,10 +11,53 @@ import org.springframework.stereotype.Repository;
     통과 대기열 은 String 으로 구성됩니다.
     - key: ticketId:{ticketId}
     - value: passOrder
+    입장 순서가 늘어나면 passOrder:{ticketId} 채널로 새 입장 순서를 발행합니다.
  */
 @Repository
 public class PassOrderRedisRepository extends RedisRepository {
 
+    public static final String CHANNEL_PREFIX = "passOrder:";
+
+    // ARGV[1]: 증가시킬 크기, ARGV[2]: 현재 대기열 순번, ARGV[3]: 변경을 알릴 채널
+    private static final String INCREASE_SCRIPT = """
+            local curPassOrder = tonumber(redis.call('GET', KEYS[1])) or 0
+            local newPassOrder = curPassOrder + tonumber(ARGV[1])
+            if newPassOrder <= tonumber(ARGV[2]) then
+                redis.call('SET', KEYS[1], newPassOrder)
+                redis.call('PUBLISH', ARGV[3], newPassOrder)
+                return newPassOrder
+            end
+            return curPassOrder
+            """;
+
+    /*
+        KEYS[1]: 입장 순서, KEYS[2]: 대기열
+        ARGV[1]: 입장시킬 사용자 수, ARGV[2]: 변경을 알릴 채널
+        대기열에 남은 사용자만 세어, 현재 입장 순서 다음 ARGV[1] 번째 사용자의 대기 순서까지 입장 순서를 늘립니다.
+        남은 사용자가 ARGV[1] 명보다 적다면 마지막 사용자의 대기 순서까지 늘립니다.
+     */
+    private static final String ADVANCE_SCRIPT = """
+            local curPassOrder = tonumber(redis.call('GET', KEYS[1])) or 0
+            local admitCount = tonumber(ARGV[1])
+            local target = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. curPassOrder, '+inf', 'WITHSCORES',
+                    'LIMIT', admitCount - 1, 1)
+            if not target[2] then
+                target = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. curPassOrder, '+inf', 'WITHSCORES',
+                        'LIMIT', 0, admitCount)
+            end
+            local lastScore = target[#target]
+            if lastScore then
+                local newPassOrder = tonumber(lastScore)
+                redis.call('SET', KEYS[1], newPassOrder)
+                redis.call('PUBLISH', ARGV[2], newPassOrder)
+                return newPassOrder
+            end
+            return curPassOrder
+            """;
+
+    private static final RedisScript<Long> INCREASE = RedisScript.of(INCREASE_SCRIPT, Long.class);
+    private static final RedisScript<Long> ADVANCE = RedisScript.of(ADVANCE_SCRIPT, Long.class);
+
     public PassOrderRedisRepository(RedisTemplate<String, String> redisTemplate) {
         super(redisTemplate);
     }
@@ -24,25 +69,35 @@ public class PassOrderRedisRepository extends RedisRepository {
 
     public void set(Long ticketId, Long passOrder) {
         redisTemplate.opsForValue().set(createKey(ticketId), String.valueOf(passOrder));
+        redisTemplate.convertAndSend(CHANNEL_PREFIX + ticketId, String.valueOf(passOrder));
     }
 
     /*
-        통과 대기열 범위를 증가시킵니다.
+        통과 대기열 범위를 lua script 로 원자적으로 증가시킵니다.
         - 증가된 값이 현재 대기열 순번보다 작거나 같을 경우 증가된 값을 반환합니다.
         - 증가된 값이 현재 대기열 순번보다 클 경우 값을 증가시키지 않고 현재 값을 반환합니다.
      */
     public Long increase(Long ticketId, Long passOrderChunkSize, Long curWaitOrder) {
-        String curPassOrderStr = redisTemplate.opsForValue().get(createKey(ticketId));
-        Long curPassOrder = curPassOrderStr == null ? 0 : Long.parseLong(curPassOrderStr);
-        Long newPassOrder = curPassOrder + passOrderChunkSize;
-        if (newPassOrder <= curWaitOrder) {
-            redisTemplate.opsForValue().set(createKey(ticketId), String.valueOf(newPassOrder));
-            return newPassOrder;
-        }
-        return curPassOrder;
+        return redisTemplate.execute(INCREASE, List.of(createKey(ticketId)), String.valueOf(passOrderChunkSize),
+                String.valueOf(curWaitOrder), CHANNEL_PREFIX + ticketId);
+    }
+
+    /*
+        이탈해 대기열에서 제거된 사용자의 순서는 건너뛰고, 남아 있는 사용자 admitCount 명만큼 입장 순서를 lua script 로 원자적으로 증가시킵니다.
+        - 현재 입장 순서 뒤에 남은 사용자가 admitCount 명보다 적다면 남은 사용자 중 마지막 사용자의 대기 순서까지 증가시킵니다.
+        - 현재 입장 순서 뒤에 남은 사용자가 없다면 값을 증가시키지 않고 현재 값을 반환합니다.
+     */
+    public Long advance(Long ticketId, Long admitCount) {
+        return redisTemplate.execute(ADVANCE, List.of(createKey(ticketId), createWaitingKey(ticketId)),
+                String.valueOf(admitCount), CHANNEL_PREFIX + ticketId);
     }
 
     private String createKey(Long ticketId) {
         return TICKETS_PREFIX + ticketId + ":passOrder";
     }
+
+    // WaitingRedisRepository 의 키와 같아야 함
+    private String createWaitingKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":waitings";
+    }
 }
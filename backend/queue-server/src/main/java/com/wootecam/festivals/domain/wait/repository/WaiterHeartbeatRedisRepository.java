@@ -0,0 +1,94 @@
+package com.wootecam.festivals.domain.wait.repository;
+
+import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    대기 중인 사용자의 마지막 조회 시각 관리를 위한 Repository
+    Sorted Set 으로 구현되며, 사용자 id 를 member, 마지막 조회 시각 (ms) 을 score 로 저장합니다.
+    - key: tickets:{ticketId}:waitings:heartbeats
+ */
+@Repository
+public class WaiterHeartbeatRedisRepository extends RedisRepository {
+
+    /*
+        KEYS[1]: 마지막 조회 시각, KEYS[2]: 대기열, KEYS[3]: 입장 순서
+        ARGV[1]: 이 시각 이전에 마지막으로 조회한 사용자를 이탈로 봄, ARGV[2]: 한 번에 정리할 최대 사용자 수
+        반환: { 대기열에서 제거한 사용자 수, 그중 입장 순서에 도달하기 전에 이탈한 사용자 수 }
+     */
+    private static final String SWEEP_SCRIPT = """
+            local stale = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            if #stale == 0 then
+                return { 0, 0 }
+            end
+            local passOrder = tonumber(redis.call('GET', KEYS[3])) or 0
+            local abandoned = 0
+            for _, member in ipairs(stale) do
+                local order = redis.call('ZSCORE', KEYS[2], member)
+                if order and tonumber(order) > passOrder then
+                    abandoned = abandoned + 1
+                end
+            end
+            redis.call('ZREM', KEYS[1], unpack(stale))
+            local removed = redis.call('ZREM', KEYS[2], unpack(stale))
+            return { removed, abandoned }
+            """;
+
+    private static final RedisScript<List> SWEEP = RedisScript.of(SWEEP_SCRIPT, List.class);
+
+    public WaiterHeartbeatRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /*
+        사용자별 마지막 조회 시각을 한 번의 ZADD 로 저장합니다.
+     */
+    public void touchAll(Long ticketId, Map<Long, Long> lastSeenByUserId) {
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        lastSeenByUserId.forEach((userId, lastSeen) ->
+                tuples.add(TypedTuple.of(String.valueOf(userId), lastSeen.doubleValue())));
+        redisTemplate.opsForZSet().add(createKey(ticketId), tuples);
+    }
+
+    public Double getLastSeen(Long ticketId, Long userId) {
+        return redisTemplate.opsForZSet().score(createKey(ticketId), String.valueOf(userId));
+    }
+
+    /*
+        staleBefore 이전에 마지막으로 조회한 사용자를 최대 limit 명까지 대기열에서 제거합니다.
+     */
+    public SweepResult sweep(Long ticketId, long staleBefore, int limit) {
+        List<?> result = redisTemplate.execute(SWEEP,
+                List.of(createKey(ticketId), createWaitingKey(ticketId), createPassOrderKey(ticketId)),
+                String.valueOf(staleBefore), String.valueOf(limit));
+        return new SweepResult(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue());
+    }
+
+    private String createKey(Long ticketId) {
+        return createWaitingKey(ticketId) + ":heartbeats";
+    }
+
+    // WaitingRedisRepository 의 키와 같아야 함
+    private String createWaitingKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":waitings";
+    }
+
+    // PassOrderRedisRepository 의 키와 같아야 함
+    private String createPassOrderKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":passOrder";
+    }
+
+    /**
+     * @param removed   대기열에서 제거한 사용자 수
+     * @param abandoned 입장 순서에 도달하기 전에 이탈한 사용자 수
+     */
+    public record SweepResult(long removed, long abandoned) {
+    }
+}
@@ -1,43 +1,136 @@
 package com.wootecam.festivals.domain.wait.repository;
 
 import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import com.wootecam.festivals.domain.wait.dto.WaitingStatus;
+import java.util.List;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 /*
     대기열 순번 관리를 위한 Repository
-    Waiting 은 Set 으로 구현되며, 사용자 id를 value 저장합니다.
+    Waiting 은 Sorted Set 으로 구현되며, 사용자 id 를 member, 대기 순서를 score 로 저장합니다.
+    - key: tickets:{ticketId}:waitings
+    대기 순서는 INCR 로 발급해 동시에 참가한 사용자도 서로 다른 순서를 받습니다.
+    - key: tickets:{ticketId}:waitings:sequence
  */
 @Repository
 public class WaitingRedisRepository extends RedisRepository {
 
+    /*
+        KEYS[1]: 대기열, KEYS[2]: 대기 순서 시퀀스, KEYS[3]: 입장 순서, KEYS[4]: 재고 수량
+        ARGV[1]: 사용자 id, ARGV[2]: 대기열에 없을 때 참가시킬지 여부 (1 / 0)
+        반환: { 대기 순서 (없으면 -1), 새로 참가했는지 여부, 현재 입장 순서, 재고 수량 }
+     */
+    private static final String JOIN_SCRIPT = """
+            local order = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            local joined = 0
+            if order then
+                order = tonumber(order)
+            elseif ARGV[2] == '1' then
+                order = redis.call('INCR', KEYS[2])
+                redis.call('ZADD', KEYS[1], order, ARGV[1])
+                joined = 1
+            else
+                order = -1
+            end
+            local passOrder = tonumber(redis.call('GET', KEYS[3])) or 0
+            local stockCount = tonumber(redis.call('GET', KEYS[4])) or 0
+            return { order, joined, passOrder, stockCount }
+            """;
+
+    // 대기열에서 이탈한 사용자에게 새 대기 순서를 발급합니다.
+    private static final String REJOIN_SCRIPT = """
+            local order = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[1], order, ARGV[1])
+            return order
+            """;
+
+    private static final RedisScript<List> JOIN = RedisScript.of(JOIN_SCRIPT, List.class);
+    private static final RedisScript<Long> REJOIN = RedisScript.of(REJOIN_SCRIPT, Long.class);
+
     public WaitingRedisRepository(RedisTemplate<String, String> redisTemplate) {
         super(redisTemplate);
     }
 
     /*
-        대기열에 사용자를 추가합니다.
+        대기열 참가 여부 확인, 대기 순서 발급, 입장 순서와 재고 조회를 한 번의 호출로 처리합니다.
+        joinIfAbsent 가 false 라면 대기열에 없는 사용자를 참가시키지 않습니다.
      */
-    public void addWaiting(Long ticketId, Long userId) {
-        redisTemplate.opsForSet().add(createKey(ticketId), String.valueOf(userId));
+    public WaitingStatus join(Long ticketId, Long userId, boolean joinIfAbsent) {
+        List<?> result = redisTemplate.execute(JOIN,
+                List.of(createKey(ticketId), createSequenceKey(ticketId), createPassOrderKey(ticketId),
+                        createStockCountKey(ticketId)),
+                String.valueOf(userId), joinIfAbsent ? "1" : "0");
+        long waitOrder = toLong(result.get(0));
+        return new WaitingStatus(waitOrder < 0 ? null : waitOrder, toLong(result.get(1)) == 1,
+                toLong(result.get(2)), toLong(result.get(3)));
+    }
+
+    /*
+        대기열에 사용자를 추가하고 대기 순서를 반환합니다. 이미 대기열에 있다면 기존 대기 순서를 반환합니다.
+     */
+    public Long addWaiting(Long ticketId, Long userId) {
+        return join(ticketId, userId, true).waitOrder();
+    }
+
+    /*
+        대기열에서 이탈한 사용자에게 마지막 순서 다음의 새 대기 순서를 발급합니다.
+     */
+    public Long rejoin(Long ticketId, Long userId) {
+        return redisTemplate.execute(REJOIN, List.of(createKey(ticketId), createSequenceKey(ticketId)),
+                String.valueOf(userId));
     }
 
     /*
         대기열 전체 사이즈를 반환하는 메소드
      */
     public Long getSize(Long ticketId) {
-        return redisTemplate.opsForSet().size(createKey(ticketId));
+        return redisTemplate.opsForZSet().zCard(createKey(ticketId));
+    }
+
+    /*
+        마지막으로 발급한 대기 순서를 반환하는 메소드
+     */
+    public Long getLastWaitOrder(Long ticketId) {
+        String sequence = redisTemplate.opsForValue().get(createSequenceKey(ticketId));
+        return sequence == null ? 0 : Long.parseLong(sequence);
+    }
+
+    /*
+        대기 순서가 fromWaitOrder 보다 크고 toWaitOrder 보다 작거나 같은, 대기열에 남아 있는 사용자 수를 반환하는 메소드
+        이탈해 제거된 사용자의 순서는 세지 않습니다.
+     */
+    public Long countBetween(Long ticketId, Long fromWaitOrder, Long toWaitOrder) {
+        return redisTemplate.opsForZSet().count(createKey(ticketId), fromWaitOrder + 1, toWaitOrder);
     }
 
     /*
         대기열에 존재하는지 여부를 반환하는 메소드
      */
     public Boolean exists(Long ticketId, Long userId) {
-        Boolean member = redisTemplate.opsForSet().isMember(createKey(ticketId), String.valueOf(userId));
-        return redisTemplate.opsForSet().isMember(createKey(ticketId), String.valueOf(userId));
+        return redisTemplate.opsForZSet().score(createKey(ticketId), String.valueOf(userId)) != null;
+    }
+
+    private long toLong(Object value) {
+        return ((Number) value).longValue();
     }
 
     private String createKey(Long ticketId) {
         return TICKETS_PREFIX + ticketId + ":waitings";
     }
+
+    private String createSequenceKey(Long ticketId) {
+        return createKey(ticketId) + ":sequence";
+    }
+
+    // PassOrderRedisRepository 의 키와 같아야 함
+    private String createPassOrderKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":passOrder";
+    }
+
+    // TicketStockCountRedisRepository 의 키와 같아야 함
+    private String createStockCountKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_COUNT_PREFIX;
+    }
 }
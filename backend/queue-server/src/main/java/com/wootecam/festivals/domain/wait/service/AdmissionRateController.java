@@ -0,0 +1,104 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.wootecam.festivals.domain.ticket.entity.PurchaseHealth;
+import com.wootecam.festivals.domain.ticket.repository.PurchaseHealthRedisRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * api-server 의 구매 경로 부하 지표로 입장 순서 갱신 주기마다 늘릴 크기를 조절하는 AIMD 컨트롤러
+ * <p>
+ * 가장 바쁜 api-server 의 지표 중 하나라도 목표를 넘으면 입장 크기를 절반으로 줄이고, 모두 목표 안에 있으면 increaseStep 씩 늘립니다. 보고된 지표가 없다면 판단할 근거가
+ * 없으므로 현재 크기를 유지합니다.
+ * <p>
+ * 입장 범위 근처의 사용자는 최소 조회 주기마다 조회하므로, 그 사이 최대 입장 크기로 늘어나는 입장 순서가 입장 범위 (passChunkSize) 를 넘지 않아야 조회 사이에 범위를
+ * 지나쳐 다시 대기하지 않습니다. 범위 앞뒤 폭의 절반 이하로 제한해 지터와 응답 지연에도 여유를 둡니다.
+ */
+@Slf4j
+@Component
+public class AdmissionRateController {
+
+    private final PurchaseHealthRedisRepository purchaseHealthRedisRepository;
+    private final long minBudget;
+    private final long maxBudget;
+    private final long increaseStep;
+    private final long targetP95LatencyMs;
+    private final long maxInFlight;
+    private final long maxQueueDepth;
+    private final long maxHikariPending;
+    private final long targetCpuPercent;
+    private final long signalMaxAgeMs;
+
+    private volatile long budget;
+
+    public AdmissionRateController(PurchaseHealthRedisRepository purchaseHealthRedisRepository,
+                                   @Value("${wait.queue.advance-budget:15}") long initialBudget,
+                                   @Value("${wait.queue.admission.min-budget:1}") long minBudget,
+                                   @Value("${wait.queue.admission.max-budget:75}") long maxBudget,
+                                   @Value("${wait.queue.admission.increase-step:1}") long increaseStep,
+                                   @Value("${wait.queue.admission.target-p95-latency-ms:300}") long targetP95LatencyMs,
+                                   @Value("${wait.queue.admission.max-in-flight:200}") long maxInFlight,
+                                   @Value("${wait.queue.admission.max-queue-depth:5000}") long maxQueueDepth,
+                                   @Value("${wait.queue.admission.max-hikari-pending:10}") long maxHikariPending,
+                                   @Value("${wait.queue.admission.target-cpu-percent:80}") long targetCpuPercent,
+                                   @Value("${wait.queue.admission.signal-max-age-ms:5000}") long signalMaxAgeMs,
+                                   @Value("${wait.queue.advance-interval-ms:500}") long advanceIntervalMs,
+                                   @Value("${wait.queue.pass-chunk-size}") long passChunkSize,
+                                   @Value("${wait.poll.min-interval-ms:1000}") long minPollIntervalMs) {
+        if (minBudget <= 0 || minBudget > maxBudget) {
+            throw new IllegalArgumentException("입장 크기 범위가 올바르지 않습니다.");
+        }
+        // 최소 조회 주기 동안 늘어나는 입장 순서 = maxBudget * (minPollIntervalMs / advanceIntervalMs)
+        if (maxBudget * minPollIntervalMs > passChunkSize * advanceIntervalMs) {
+            throw new IllegalArgumentException("최대 입장 크기는 최소 조회 주기 동안 입장 범위를 넘지 않아야 합니다.");
+        }
+        this.purchaseHealthRedisRepository = purchaseHealthRedisRepository;
+        this.minBudget = minBudget;
+        this.maxBudget = maxBudget;
+        this.increaseStep = increaseStep;
+        this.targetP95LatencyMs = targetP95LatencyMs;
+        this.maxInFlight = maxInFlight;
+        this.maxQueueDepth = maxQueueDepth;
+        this.maxHikariPending = maxHikariPending;
+        this.targetCpuPercent = targetCpuPercent;
+        this.signalMaxAgeMs = signalMaxAgeMs;
+        this.budget = clamp(initialBudget);
+    }
+
+    /**
+     * 최근 지표를 반영해 이번 갱신 주기의 입장 크기를 반환합니다.
+     */
+    public long nextBudget() {
+        List<PurchaseHealth> healths = purchaseHealthRedisRepository.findReportedSince(
+                System.currentTimeMillis() - signalMaxAgeMs);
+        if (healths.isEmpty()) {
+            return budget;
+        }
+
+        PurchaseHealth worst = PurchaseHealth.worstOf(healths);
+        long previous = budget;
+        budget = isOverloaded(worst) ? clamp(previous / 2) : clamp(previous + increaseStep);
+        if (budget != previous) {
+            log.debug("입장 크기 조절 - {} -> {}, 지표: {}", previous, budget, worst);
+        }
+        return budget;
+    }
+
+    public long currentBudget() {
+        return budget;
+    }
+
+    private boolean isOverloaded(PurchaseHealth health) {
+        return health.p95LatencyMs() > targetP95LatencyMs
+                || health.inFlight() > maxInFlight
+                || health.queueDepth() > maxQueueDepth
+                || health.hikariPending() > maxHikariPending
+                || health.cpuPercent() > targetCpuPercent;
+    }
+
+    private long clamp(long value) {
+        return Math.max(minBudget, Math.min(value, maxBudget));
+    }
+}
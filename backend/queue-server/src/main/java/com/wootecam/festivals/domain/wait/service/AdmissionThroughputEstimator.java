@@ -0,0 +1,150 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.wootecam.festivals.domain.wait.dto.WaitEstimate;
+import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티켓별 입장 속도 (초당 입장 순서 증가량) 를 추정해 예상 대기 시간을 계산하는 클래스
+ * <p>
+ * 모든 노드가 입장 순서 변경 채널을 구독하므로 리더가 아닌 노드도 같은 속도를 관측합니다. 변경마다 관측한 속도를 지수 가중 이동 평균으로 반영하고, 같은 방식으로 구한 분산으로
+ * 예상 시간의 범위를 계산합니다. 재고 차감에 성공한 입장은 노드별로만 알 수 있어 예상 시간에는 쓰지 않고 지표로 내보냅니다.
+ */
+@Slf4j
+@Component
+public class AdmissionThroughputEstimator implements MessageListener {
+
+    // 추정 속도에서 표준편차의 몇 배까지를 범위로 볼지
+    private static final double CONFIDENCE_Z = 2.0;
+    // 느린 쪽 범위를 계산할 때 사용할 최소 속도 비율 (속도가 0 에 가까워져 범위가 무한히 커지지 않도록)
+    private static final double MIN_RATE_RATIO = 0.1;
+
+    private final long passChunkSize;
+    private final double smoothing;
+    private final int minSamples;
+    private final long maxSampleGapMs;
+    private final Counter admittedCounter;
+
+    private final Map<Long, Throughput> throughputs = new ConcurrentHashMap<>();
+
+    public AdmissionThroughputEstimator(MeterRegistry meterRegistry,
+                                        @Value("${wait.queue.pass-chunk-size}") long passChunkSize,
+                                        @Value("${wait.eta.smoothing:0.2}") double smoothing,
+                                        @Value("${wait.eta.min-samples:3}") int minSamples,
+                                        @Value("${wait.eta.max-sample-gap-ms:10000}") long maxSampleGapMs) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("평활 계수는 0보다 크고 1 이하여야 합니다.");
+        }
+        this.passChunkSize = passChunkSize;
+        this.smoothing = smoothing;
+        this.minSamples = minSamples;
+        this.maxSampleGapMs = maxSampleGapMs;
+        this.admittedCounter = Counter.builder("wait.admission.passed")
+                .description("재고 차감에 성공해 대기열을 통과한 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Long ticketId = Long.parseLong(channel.substring(PassOrderRedisRepository.CHANNEL_PREFIX.length()));
+            long passOrder = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            recordPassOrder(ticketId, passOrder, System.currentTimeMillis());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 입장 순서 변경 메시지 - 채널: {}", channel);
+        }
+    }
+
+    /**
+     * 관측한 입장 순서로 입장 속도를 갱신합니다.
+     */
+    public void recordPassOrder(Long ticketId, long passOrder, long nowMillis) {
+        throughputs.compute(ticketId, (id, throughput) -> {
+            // 처음 관측했거나, 입장 순서가 초기화되었거나, 오래 관측하지 못했다면 새로 측정
+            if (throughput == null || passOrder < throughput.lastPassOrder
+                    || nowMillis - throughput.lastAt > maxSampleGapMs) {
+                return new Throughput(passOrder, nowMillis);
+            }
+            throughput.update(passOrder, nowMillis, smoothing);
+            return throughput;
+        });
+    }
+
+    /**
+     * 재고 차감에 성공한 입장을 기록합니다.
+     */
+    public void recordAdmission() {
+        admittedCounter.increment();
+    }
+
+    /**
+     * 상대 대기 순서로 입장 범위에 들어오기까지의 예상 대기 시간을 반환합니다. 아직 속도를 추정할 수 없다면 null 을 반환합니다.
+     */
+    public WaitEstimate estimate(Long ticketId, long relativeWaitOrder) {
+        long remainingOrders = relativeWaitOrder - passChunkSize;
+        if (remainingOrders <= 0) {
+            return WaitEstimate.NOW;
+        }
+
+        Throughput throughput = throughputs.get(ticketId);
+        if (throughput == null) {
+            return null;
+        }
+        synchronized (throughput) {
+            if (throughput.samples < minSamples || throughput.rate <= 0) {
+                return null;
+            }
+            double deviation = CONFIDENCE_Z * Math.sqrt(throughput.variance);
+            double fastRate = throughput.rate + deviation;
+            double slowRate = Math.max(throughput.rate - deviation, throughput.rate * MIN_RATE_RATIO);
+            return new WaitEstimate(toMillis(remainingOrders, throughput.rate), toMillis(remainingOrders, fastRate),
+                    toMillis(remainingOrders, slowRate));
+        }
+    }
+
+    private long toMillis(long remainingOrders, double ratePerSecond) {
+        return (long) Math.ceil(remainingOrders * 1000 / ratePerSecond);
+    }
+
+    private static final class Throughput {
+
+        private long lastPassOrder;
+        private long lastAt;
+        private double rate;
+        private double variance;
+        private int samples;
+
+        private Throughput(long lastPassOrder, long lastAt) {
+            this.lastPassOrder = lastPassOrder;
+            this.lastAt = lastAt;
+        }
+
+        private synchronized void update(long passOrder, long nowMillis, double smoothing) {
+            long elapsedMs = nowMillis - lastAt;
+            if (elapsedMs <= 0) {
+                return;
+            }
+            double sample = (passOrder - lastPassOrder) * 1000.0 / elapsedMs;
+            if (samples == 0) {
+                rate = sample;
+            } else {
+                double diff = sample - rate;
+                rate += smoothing * diff;
+                variance = (1 - smoothing) * (variance + smoothing * diff * diff);
+            }
+            samples++;
+            lastPassOrder = passOrder;
+            lastAt = nowMillis;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.wootecam.festivals.domain.wait.repository.LeaderLeaseRedisRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입장 순서 갱신을 하나의 queue-server 만 수행하도록 Redis 임대로 리더를 선출하는 클래스
+ * <p>
+ * 갱신 주기마다 임대를 획득하거나 연장하므로, 리더 서버가 종료되거나 응답하지 않으면 임대 시간이 지난 뒤 다른 서버가 리더가 됩니다.
+ */
+@Slf4j
+@Component
+public class PassOrderLeaderElector {
+
+    private static final String LEASE_NAME = "passOrder";
+
+    private final LeaderLeaseRedisRepository leaderLeaseRedisRepository;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final long leaseMillis;
+
+    private volatile boolean leader;
+
+    public PassOrderLeaderElector(LeaderLeaseRedisRepository leaderLeaseRedisRepository,
+                                  @Value("${wait.queue.leader-lease-ms:3000}") long leaseMillis) {
+        this.leaderLeaseRedisRepository = leaderLeaseRedisRepository;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * 임대를 획득하거나 연장하고 이 서버가 리더인지 반환합니다.
+     */
+    public boolean acquireLeadership() {
+        boolean acquired = leaderLeaseRedisRepository.tryAcquire(LEASE_NAME, instanceId, leaseMillis);
+        if (acquired != leader) {
+            log.info("입장 순서 갱신 리더 {} - 서버: {}", acquired ? "획득" : "상실", instanceId);
+            leader = acquired;
+        }
+        return acquired;
+    }
+
+    // 종료 시 다음 서버가 임대 만료를 기다리지 않고 리더가 되도록 임대를 해제
+    @PreDestroy
+    public void releaseLeadership() {
+        if (!leader) {
+            return;
+        }
+        try {
+            leaderLeaseRedisRepository.release(LEASE_NAME, instanceId);
+        } catch (Exception e) {
+            log.warn("입장 순서 갱신 리더 임대 해제 실패 - 서버: {}", instanceId, e);
+        }
+        leader = false;
+    }
+}
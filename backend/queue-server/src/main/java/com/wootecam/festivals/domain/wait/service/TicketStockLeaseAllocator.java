@@ -0,0 +1,161 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기열 통과 시 차감하는 Redis 재고를 노드 단위로 묶어 임대하는 클래스
+ * <p>
+ * 통과할 때마다 티켓별 재고 키 하나에 Lua 스크립트를 실행하면 모든 노드의 통과 요청이 그 키에서 직렬화됩니다. 노드는 재고를 묶음으로 임대해 로컬 카운터에서 CAS 로 차감하고,
+ * 묶음을 다 쓰면 다시 임대합니다. 다음 묶음 크기는 직전 묶음을 소진한 속도로 targetHoldMs 동안 쓸 만큼으로 조절하고, idleReturnMs 동안 차감이 없었던 임대분은
+ * Redis 로 되돌립니다.
+ * <p>
+ * Redis 재고가 minRemaining 이하로 남으면 임대하지 않고 기존처럼 하나씩 차감하므로, 판매 막바지에 다른 노드가 가진 임대분 때문에 재고가 남았는데도 통과하지 못하는 구간을
+ * 줄입니다. 임대분은 Redis 재고에서 이미 빠진 상태이므로 노드가 몇 개든 재고보다 많이 통과시키지 않습니다.
+ */
+@Slf4j
+@Service
+public class TicketStockLeaseAllocator {
+
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final long initialBlockSize;
+    private final long minBlockSize;
+    private final long maxBlockSize;
+    private final long targetHoldMs;
+    private final long minRemaining;
+
+    private final Map<Long, StockLease> leases = new ConcurrentHashMap<>();
+
+    public TicketStockLeaseAllocator(TicketStockCountRedisRepository ticketStockCountRedisRepository,
+                                     @Value("${wait.stock-lease.initial-block-size:50}") long initialBlockSize,
+                                     @Value("${wait.stock-lease.min-block-size:10}") long minBlockSize,
+                                     @Value("${wait.stock-lease.max-block-size:500}") long maxBlockSize,
+                                     @Value("${wait.stock-lease.target-hold-ms:1000}") long targetHoldMs,
+                                     @Value("${wait.stock-lease.min-remaining:100}") long minRemaining) {
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+        this.initialBlockSize = initialBlockSize;
+        this.minBlockSize = minBlockSize;
+        this.maxBlockSize = maxBlockSize;
+        this.targetHoldMs = targetHoldMs;
+        this.minRemaining = minRemaining;
+    }
+
+    /**
+     * 재고 하나를 차감합니다.
+     *
+     * @return 차감했다면 true, 재고가 없다면 false
+     */
+    public boolean tryAcquire(Long ticketId) {
+        return tryAcquire(ticketId, System.currentTimeMillis());
+    }
+
+    boolean tryAcquire(Long ticketId, long nowMillis) {
+        StockLease lease = leases.computeIfAbsent(ticketId, id -> new StockLease());
+        while (!lease.tryTake()) {
+            // 묶음을 다 쓴 경우 한 스레드만 다시 임대하고, 나머지는 임대된 재고를 이어서 차감
+            synchronized (lease) {
+                if (lease.remaining() > 0) {
+                    continue;
+                }
+                long granted = ticketStockCountRedisRepository.leaseStock(ticketId, nextBlockSize(lease, nowMillis),
+                        minRemaining);
+                if (granted <= 0) {
+                    // 남은 재고가 적어 임대하지 않고 공유 재고에서 하나씩 차감
+                    return ticketStockCountRedisRepository.checkAndDecreaseStock(ticketId);
+                }
+                lease.refill(granted, nowMillis);
+            }
+        }
+        return true;
+    }
+
+    // 직전 묶음을 소진한 속도로 targetHoldMs 동안 쓸 수 있는 크기
+    private long nextBlockSize(StockLease lease, long nowMillis) {
+        if (lease.lastGranted == 0) {
+            return initialBlockSize;
+        }
+        long elapsedMs = Math.max(1, nowMillis - lease.lastRefilledAt);
+        long blockSize = lease.lastGranted * targetHoldMs / elapsedMs;
+        return Math.max(minBlockSize, Math.min(maxBlockSize, blockSize));
+    }
+
+    /**
+     * 직전 확인 이후 차감이 없었던 티켓의 남은 임대분을 Redis 로 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${wait.stock-lease.idle-return-ms:2000}")
+    public void returnIdleLeases() {
+        leases.forEach((ticketId, lease) -> {
+            long remaining = lease.remaining();
+            if (remaining > 0 && remaining == lease.observedRemaining) {
+                returnLease(ticketId, lease);
+            }
+            lease.observedRemaining = lease.remaining();
+        });
+    }
+
+    @PreDestroy
+    public void returnAllLeases() {
+        leases.forEach(this::returnLease);
+    }
+
+    private void returnLease(Long ticketId, StockLease lease) {
+        long unused = lease.drain();
+        if (unused <= 0) {
+            return;
+        }
+        try {
+            ticketStockCountRedisRepository.returnStock(ticketId, unused);
+            log.debug("재고 임대분 반환 - ticketId: {}, 반환: {}", ticketId, unused);
+        } catch (Exception e) {
+            // 반환하지 못한 재고는 Redis 재고가 실제보다 적은 상태로 남고, api-server 의 재고 보정에서 다시 올림
+            log.warn("재고 임대분 반환 실패 - ticketId: {}, 반환: {}", ticketId, unused, e);
+        }
+    }
+
+    long getLeasedStock(Long ticketId) {
+        StockLease lease = leases.get(ticketId);
+        return lease == null ? 0 : lease.remaining();
+    }
+
+    private static final class StockLease {
+
+        private final AtomicLong remaining = new AtomicLong();
+
+        // 아래 값은 임대하는 스레드(synchronized)와 반환 스케줄러에서만 사용
+        private long lastGranted;
+        private long lastRefilledAt;
+        private volatile long observedRemaining;
+
+        private boolean tryTake() {
+            long current = remaining.get();
+            while (current > 0) {
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+                current = remaining.get();
+            }
+            return false;
+        }
+
+        private long remaining() {
+            return remaining.get();
+        }
+
+        private void refill(long granted, long nowMillis) {
+            remaining.addAndGet(granted);
+            lastGranted = granted;
+            lastRefilledAt = nowMillis;
+        }
+
+        private long drain() {
+            return remaining.getAndSet(0);
+        }
+    }
+}
@@ -2,9 +2,8 @@ package com.wootecam.festivals.domain.wait.service;
 
 import com.wootecam.festivals.domain.ticket.entity.TicketInfo;
 import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
-import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
-import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
 import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
+import com.wootecam.festivals.domain.wait.dto.WaitingStatus;
 import com.wootecam.festivals.domain.wait.exception.WaitErrorCode;
 import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
 import com.wootecam.festivals.domain.wait.repository.WaitingRedisRepository;
@@ -23,11 +22,15 @@ import org.springframework.stereotype.Service;
 public class WaitOrderService {
 
     private final WaitingRedisRepository waitingRepository;
-    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final TicketStockLeaseAllocator ticketStockLeaseAllocator;
     private final PassOrderRedisRepository passOrderRedisRepository;
-    private final TicketInfoRedisRepository ticketInfoRedisRepository;
+    private final WaitTicketCache waitTicketCache;
     private final TimeProvider timeProvider;
     private final CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    private final PassOrderLeaderElector passOrderLeaderElector;
+    private final AdmissionRateController admissionRateController;
+    private final AdmissionThroughputEstimator admissionThroughputEstimator;
+    private final WaiterHeartbeatService waiterHeartbeatService;
 
     @Value("${wait.queue.pass-chunk-size}")
     private Long passChunkSize;
@@ -43,47 +46,61 @@ public class WaitOrderService {
      */
     public WaitOrderResponse getWaitOrder(Long ticketId, Long loginMemberId, Long waitOrder) {
         validTicketSaleTime(ticketId);
+        waiterHeartbeatService.record(ticketId, loginMemberId);
+
+        // 대기 순서를 보낸 사용자가 아직 입장 범위에 들어오지 않았다면 노드 캐시만으로 응답
+        if (waitOrder != null && waitOrder >= 0) {
+            Long cachedPassOrder = waitTicketCache.getPassOrder(ticketId);
+            if (!reachedPassRange(waitOrder, cachedPassOrder)) {
+                validStockRemains(ticketId, waitTicketCache.getStockCount(ticketId));
+                return new WaitOrderResponse(false, waitOrder - cachedPassOrder, waitOrder);
+            }
+        }
 
-        Boolean isWaiting = waitingRepository.exists(ticketId, loginMemberId);
-
-        Long curWaitOrder = waitOrder;
-        validWaitOrderWithWaiter(curWaitOrder, isWaiting);
+        // 대기 순서를 보내지 않은 새 사용자는 참가시키고, 대기 여부, 입장 순서, 재고를 한 번에 조회
+        WaitingStatus status = waitingRepository.join(ticketId, loginMemberId, waitOrder == null);
+        validWaitOrderWithWaiter(waitOrder, status.isWaiting());
 
         // 대기열 참가 및 대기 순서 발급, 만약 현재 입장 순서 범위라면 대기열 통과
-        Long currentPassOrder = getCurrentPassOrder(ticketId);
-        if (!isWaiting && curWaitOrder == null) {
-            return getNewWaitOrderForNewUser(ticketId, loginMemberId, currentPassOrder);
+        Long currentPassOrder = status.passOrder();
+        if (status.joined()) {
+            waiterHeartbeatService.recordJoin();
+            return getNewWaitOrderForNewUser(ticketId, loginMemberId, status);
         }
 
-        validStockRemains(ticketId);
-
-        // 대기 순서가 현재 입장 순서 범위에 포함된다면 대기열 통과 가능
-        if (canPass(curWaitOrder, currentPassOrder)) {
-            ticketStockCountRedisRepository.checkAndDecreaseStock(ticketId);
+        Long curWaitOrder = waitOrder;
+        validStockRemains(ticketId, status.stockCount());
+
+        // 대기 순서가 현재 입장 순서 범위에 포함되거나, 범위를 지나쳤더라도 뒤로 입장한 사용자가 범위보다 적다면 대기열 통과 가능
+        if (canPass(curWaitOrder, currentPassOrder)
+                || withinRemainingWaiters(ticketId, curWaitOrder, currentPassOrder)) {
+            if (ticketStockLeaseAllocator.tryAcquire(ticketId)) {
+                admissionThroughputEstimator.recordAdmission();
+            }
             log.debug("대기열 통과 - 사용자: {}, 대기 순서: {}", loginMemberId, curWaitOrder);
             return new WaitOrderResponse(true, curWaitOrder - currentPassOrder, curWaitOrder);
         }
 
-        // 대기 순서가 현재 입장 순서 범위의 최소값보다 작거나 같다면, 이탈 유저이므로 새로운 대기 순서 발급
+        // 대기 순서가 현재 입장 순서 범위의 최소값보다 작거나 같고 뒤로 범위만큼 입장했다면, 이탈 유저이므로 새로운 대기 순서 발급
         if (curWaitOrder <= curMinPassOrder(currentPassOrder)) {
             log.debug("이탈 유저 새 대기 순서 발급 - 사용자: {}, 대기 순서: {}", loginMemberId, curWaitOrder);
-            return getNewWaitOrderForExitedUser(ticketId, currentPassOrder);
+            return getNewWaitOrderForExitedUser(ticketId, loginMemberId, currentPassOrder);
         }
 
         // 대기가 현재 입장 순서 범위에 포함되지 않는다면 대기열 통과 불가
         return new WaitOrderResponse(false, curWaitOrder - currentPassOrder, curWaitOrder);
     }
 
-    private WaitOrderResponse getNewWaitOrderForExitedUser(Long ticketId, Long currentPassOrder) {
-        Long newWaitOrder = waitingRepository.getSize(ticketId);
+    private WaitOrderResponse getNewWaitOrderForExitedUser(Long ticketId, Long loginMemberId, Long currentPassOrder) {
+        Long newWaitOrder = waitingRepository.rejoin(ticketId, loginMemberId);
         Long relativeWaitOrder = newWaitOrder - currentPassOrder;
         return new WaitOrderResponse(false, relativeWaitOrder, newWaitOrder);
     }
 
-    private WaitOrderResponse getNewWaitOrderForNewUser(Long ticketId, Long loginMemberId, Long currentPassOrder) {
-        Long curWaitOrder;
-        curWaitOrder = joinWaitOrder(ticketId, loginMemberId);
-        validStockRemains(ticketId);
+    private WaitOrderResponse getNewWaitOrderForNewUser(Long ticketId, Long loginMemberId, WaitingStatus status) {
+        Long curWaitOrder = status.waitOrder();
+        Long currentPassOrder = status.passOrder();
+        validStockRemains(ticketId, status.stockCount());
         log.debug("대기열 참가 - 사용자: {}, 대기 순서: {}", loginMemberId, curWaitOrder);
         if (canPass(curWaitOrder, currentPassOrder)) {
             return new WaitOrderResponse(true, curWaitOrder - currentPassOrder, curWaitOrder);
@@ -92,13 +109,9 @@ public class WaitOrderService {
         }
     }
 
-    private Long getCurrentPassOrder(Long ticketId) {
-        return passOrderRedisRepository.get(ticketId);
-    }
-
     // 티켓 판매 시간이 아닌 경우 예외 반환
     private void validTicketSaleTime(Long ticketId) {
-        TicketInfo ticketInfo = ticketInfoRedisRepository.getTicketInfo(ticketId);
+        TicketInfo ticketInfo = waitTicketCache.getTicketInfo(ticketId);
         if (ticketInfo == null) {
             log.warn("티켓 정보가 없습니다. ticketId: {}", ticketId);
             throw new ApiException(WaitErrorCode.INVALID_TICKET);
@@ -115,8 +128,8 @@ public class WaitOrderService {
     }
 
     // 재고가 없는 경우 예외 반환
-    private void validStockRemains(Long ticketId) {
-        if (ticketStockCountRedisRepository.getTicketStockCount(ticketId) <= 0) {
+    private void validStockRemains(Long ticketId, Long stockCount) {
+        if (stockCount <= 0) {
             log.warn("재고가 없습니다. ticketId: {}", ticketId);
             throw new ApiException(WaitErrorCode.NO_STOCK);
         }
@@ -129,22 +142,43 @@ public class WaitOrderService {
         }
     }
 
+    // 입장 범위에 들어왔거나 범위를 지나쳐 (이탈) 다시 판단해야 하는 대기 순서인지 여부
+    boolean reachedPassRange(Long waitOrder, Long currentPassOrder) {
+        return waitOrder <= currentPassOrder + passChunkSize;
+    }
+
     private boolean canPass(Long waitOrder, Long currentPassOrder) {
         return curMinPassOrder(currentPassOrder) < waitOrder && waitOrder <= currentPassOrder + passChunkSize;
     }
 
-    private Long joinWaitOrder(Long ticketId, Long userId) {
-        waitingRepository.addWaiting(ticketId, userId);
-        return waitingRepository.getSize(ticketId);
+    /*
+        입장 순서는 이탈해 제거된 사용자의 순서를 건너뛰며 늘어나므로, 대기 순서 차이만으로는 조회 사이에 범위를 지나칠 수 있습니다.
+        범위를 지나친 대기 순서라면 그 뒤로 입장한, 대기열에 남아 있는 사용자 수로 다시 판단합니다.
+     */
+    private boolean withinRemainingWaiters(Long ticketId, Long waitOrder, Long currentPassOrder) {
+        return waitOrder <= curMinPassOrder(currentPassOrder)
+                && waitingRepository.countBetween(ticketId, waitOrder, currentPassOrder) < passChunkSize;
     }
 
-    @Scheduled(fixedRate = 5000)
+    /**
+     * 진행 중인 티켓들의 입장 순서를 api-server 부하에 맞춘 크기만큼 늘립니다. 여러 서버가 함께 늘리지 않도록 리더 서버만 수행합니다. 오래 조회하지 않은 사용자는 먼저
+     * 대기열에서 제거해 입장 순서를 늘릴 때 세지 않습니다.
+     */
+    @Scheduled(fixedRateString = "${wait.queue.advance-interval-ms:500}")
     public void updateCurrentPassOrder() {
+        if (!passOrderLeaderElector.acquireLeadership()) {
+            return;
+        }
+
         List<Long> currentTicketWait = currentTicketWaitRedisRepository.getCurrentTicketWait();
+        if (currentTicketWait.isEmpty()) {
+            return;
+        }
 
+        Long advanceBudget = admissionRateController.nextBudget();
         for (Long ticketId : currentTicketWait) {
-            Long waitSize = waitingRepository.getSize(ticketId);
-            Long newPassOrder = passOrderRedisRepository.increase(ticketId, passChunkSize, waitSize);
+            waiterHeartbeatService.sweepStaleWaiters(ticketId);
+            Long newPassOrder = passOrderRedisRepository.advance(ticketId, advanceBudget);
             log.debug("대기열 업데이트 - ticketId: {}, 현재 입장 순서: {}", ticketId, newPassOrder);
         }
     }
@@ -0,0 +1,304 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.wootecam.festivals.domain.wait.dto.WaitEstimate;
+import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
+import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
+import com.wootecam.festivals.global.auth.wait.WaitTokenProvider;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 대기 순서를 SSE 로 전달하는 서비스
+ * <p>
+ * 사용자마다 주기적으로 조회하는 대신, 노드가 입장 순서 변경 채널을 한 번 구독하고 변경될 때마다 연결된 사용자에게 상대 대기 순서를 보냅니다. 입장 범위에 들어온 사용자만
+ * {@link WaitOrderService#getWaitOrder} 로 재고를 차감하고 통과시킨 뒤 연결을 종료하므로 (범위를 지나친 사용자는 새 대기 순서를 받아 계속 대기), Redis 호출은
+ * 사용자 수 x 조회 횟수가 아니라 노드 수 x 변경 횟수와 입장한 사용자 수에 비례합니다.
+ * <p>
+ * 전달은 Redis 구독 스레드가 아닌 크기가 제한된 스레드 풀에서 티켓별로 하나씩 처리하며, 처리 중 들어온 변경은 가장 최근 입장 순서 하나로 합칩니다. 상대 대기 순서가
+ * 마지막으로 보낸 값보다 충분히 줄지 않았다면 보내지 않습니다.
+ * <p>
+ * 연결된 사용자는 조회하지 않아도 대기 중인 것으로 보도록 주기적으로 SSE 주석을 보내고, 전송에 성공한 사용자의 마지막 조회 시각을 기록합니다. 주석 전송도 같은
+ * 스레드 풀에서 티켓별로 처리해, 입장 순서 갱신과 리더 임대 연장을 수행하는 스케줄러 스레드를 느린 연결이 막지 않도록 합니다.
+ */
+@Slf4j
+@Service
+public class WaitOrderStreamService implements MessageListener {
+
+    static final String WAIT_EVENT = "wait";
+    static final String ERROR_EVENT = "error";
+    static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final WaitOrderService waitOrderService;
+    private final WaitTokenProvider waitTokenProvider;
+    private final AdmissionThroughputEstimator admissionThroughputEstimator;
+    private final WaiterHeartbeatService waiterHeartbeatService;
+    private final WaitPollPolicy waitPollPolicy;
+    private final long timeoutMs;
+    private final long minPositionChange;
+    private final double minPositionChangeRatio;
+    private final ThreadPoolExecutor fanoutExecutor;
+
+    // 티켓별로 연결된 대기 사용자
+    private final Map<Long, Set<WaitStream>> streams = new ConcurrentHashMap<>();
+    // 티켓별로 아직 전달하지 않은 가장 최근 입장 순서와, 전달 작업이 예약된 티켓
+    private final Map<Long, Long> pendingPassOrders = new ConcurrentHashMap<>();
+    private final Set<Long> scheduledTickets = ConcurrentHashMap.newKeySet();
+
+    public WaitOrderStreamService(WaitOrderService waitOrderService, WaitTokenProvider waitTokenProvider,
+                                  AdmissionThroughputEstimator admissionThroughputEstimator,
+                                  WaiterHeartbeatService waiterHeartbeatService, WaitPollPolicy waitPollPolicy,
+                                  @Value("${wait.stream.timeout-ms:300000}") long timeoutMs,
+                                  @Value("${wait.stream.fanout-threads:4}") int fanoutThreads,
+                                  @Value("${wait.stream.fanout-queue-capacity:1000}") int fanoutQueueCapacity,
+                                  @Value("${wait.stream.min-position-change:10}") long minPositionChange,
+                                  @Value("${wait.stream.min-position-change-ratio:0.05}") double minPositionChangeRatio) {
+        this.waitOrderService = waitOrderService;
+        this.waitTokenProvider = waitTokenProvider;
+        this.admissionThroughputEstimator = admissionThroughputEstimator;
+        this.waiterHeartbeatService = waiterHeartbeatService;
+        this.waitPollPolicy = waitPollPolicy;
+        this.timeoutMs = timeoutMs;
+        this.minPositionChange = minPositionChange;
+        this.minPositionChangeRatio = minPositionChangeRatio;
+        this.fanoutExecutor = new ThreadPoolExecutor(fanoutThreads, fanoutThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanoutQueueCapacity));
+    }
+
+    /**
+     * 현재 대기 순서를 보내고, 아직 통과하지 못했다면 입장 순서가 바뀔 때마다 대기 순서를 보내는 연결을 엽니다.
+     */
+    public SseEmitter subscribe(Long ticketId, Long memberId, Long waitOrder) {
+        WaitOrderResponse response = getWaitOrderWithToken(ticketId, memberId, waitOrder);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        if (!send(emitter, response)) {
+            return emitter;
+        }
+        if (response.purchasable()) {
+            emitter.complete();
+            return emitter;
+        }
+
+        register(ticketId, WaitStream.of(memberId, response, emitter));
+        emitter.onCompletion(() -> unregister(ticketId, emitter));
+        emitter.onTimeout(() -> unregister(ticketId, emitter));
+        emitter.onError(e -> unregister(ticketId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 입장 순서 변경 메시지를 받아 해당 티켓을 기다리는 사용자에게 전달하도록 스레드 풀에 넘깁니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Long ticketId = Long.parseLong(channel.substring(PassOrderRedisRepository.CHANNEL_PREFIX.length()));
+            Long passOrder = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (!streams.containsKey(ticketId)) {
+                return;
+            }
+            pendingPassOrders.merge(ticketId, passOrder, Math::max);
+            schedule(ticketId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 입장 순서 변경 메시지 - 채널: {}", channel);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanoutExecutor.shutdownNow();
+    }
+
+    // 티켓마다 전달 작업을 하나만 예약해, 같은 사용자에게 보내는 이벤트의 순서가 바뀌지 않도록 함
+    private void schedule(Long ticketId) {
+        if (!scheduledTickets.add(ticketId)) {
+            return;
+        }
+        try {
+            fanoutExecutor.execute(() -> fanOut(ticketId));
+        } catch (RejectedExecutionException e) {
+            // 남은 입장 순서는 다음 변경 메시지가 올 때 함께 전달
+            scheduledTickets.remove(ticketId);
+            log.warn("입장 순서 변경 전달 지연 - 티켓 ID: {}", ticketId);
+        }
+    }
+
+    private void fanOut(Long ticketId) {
+        try {
+            Long passOrder;
+            while ((passOrder = pendingPassOrders.remove(ticketId)) != null) {
+                notifyPassOrderChanged(ticketId, passOrder);
+            }
+        } catch (Exception e) {
+            log.error("입장 순서 변경 전달 실패 - 티켓 ID: {}", ticketId, e);
+        } finally {
+            scheduledTickets.remove(ticketId);
+        }
+        // 작업을 마치는 사이 들어온 변경
+        if (pendingPassOrders.containsKey(ticketId)) {
+            schedule(ticketId);
+        }
+    }
+
+    // 대기 순서를 보낸 사용자 수를 반환
+    int notifyPassOrderChanged(Long ticketId, Long passOrder) {
+        Set<WaitStream> ticketStreams = streams.get(ticketId);
+        if (ticketStreams == null) {
+            return 0;
+        }
+        int sent = 0;
+        for (WaitStream stream : ticketStreams) {
+            if (waitOrderService.reachedPassRange(stream.waitOrder(), passOrder)) {
+                recheck(ticketId, stream);
+            } else {
+                long relativeWaitOrder = stream.waitOrder() - passOrder;
+                if (!movedEnough(stream, relativeWaitOrder)) {
+                    continue;
+                }
+                stream.lastSentRelativeWaitOrder().set(relativeWaitOrder);
+                send(stream.emitter(), new WaitOrderResponse(false, relativeWaitOrder, stream.waitOrder())
+                        .withEstimate(admissionThroughputEstimator.estimate(ticketId, relativeWaitOrder)));
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * 연결된 사용자에게 SSE 주석을 보내 연결을 유지하고, 전송에 성공한 사용자의 마지막 조회 시각을 기록하도록 티켓별로 스레드 풀에 넘깁니다.
+     */
+    @Scheduled(fixedDelayString = "${wait.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        streams.forEach((ticketId, ticketStreams) -> {
+            try {
+                fanoutExecutor.execute(() -> sendHeartbeats(ticketId, ticketStreams));
+            } catch (RejectedExecutionException e) {
+                // 다음 주기에 다시 보냄, 이탈로 보는 시간은 주석 전송 주기보다 충분히 김
+                log.warn("연결 유지 주석 전송 지연 - 티켓 ID: {}", ticketId);
+            }
+        });
+    }
+
+    private void sendHeartbeats(Long ticketId, Set<WaitStream> ticketStreams) {
+        for (WaitStream stream : ticketStreams) {
+            if (sendHeartbeat(stream.emitter())) {
+                waiterHeartbeatService.record(ticketId, stream.memberId());
+            } else {
+                ticketStreams.remove(stream);
+            }
+        }
+    }
+
+    int countStreams(Long ticketId) {
+        Set<WaitStream> ticketStreams = streams.get(ticketId);
+        return ticketStreams == null ? 0 : ticketStreams.size();
+    }
+
+    // 마지막으로 보낸 상대 대기 순서보다 minPositionChange 와 그 비율 중 큰 값 이상 줄었을 때만 보냄
+    private boolean movedEnough(WaitStream stream, long relativeWaitOrder) {
+        long lastSent = stream.lastSentRelativeWaitOrder().get();
+        return lastSent - relativeWaitOrder >= Math.max(minPositionChange, (long) (lastSent * minPositionChangeRatio));
+    }
+
+    // 입장 범위에 들어온 사용자는 재고 확인, 차감을 거쳐 통과시키고 연결을 종료, 범위를 지나친 사용자는 새 대기 순서로 계속 대기
+    private void recheck(Long ticketId, WaitStream stream) {
+        streams.get(ticketId).remove(stream);
+        try {
+            WaitOrderResponse response = getWaitOrderWithToken(ticketId, stream.memberId(), stream.waitOrder());
+            if (!send(stream.emitter(), response)) {
+                return;
+            }
+            if (response.purchasable()) {
+                stream.emitter().complete();
+            } else {
+                register(ticketId, WaitStream.of(stream.memberId(), response, stream.emitter()));
+            }
+        } catch (ApiException e) {
+            sendErrorAndComplete(stream.emitter(), e);
+        }
+    }
+
+    // 대기 순서나 통과 여부가 바뀔 수 있는 응답에만 토큰을 발급 (단순 위치 변경 이벤트는 이전 토큰을 그대로 사용)
+    private WaitOrderResponse getWaitOrderWithToken(Long ticketId, Long memberId, Long waitOrder) {
+        WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, memberId, waitOrder);
+        if (response.purchasable()) {
+            return response.withWaitToken(
+                    waitTokenProvider.issue(memberId, ticketId, response.absoluteWaitOrder(), true));
+        }
+
+        // 조회 API 로 옮겨 가더라도 조회 API 가 안내하는 주기보다 자주 조회하지 못하도록 다음 조회 허용 시각을 담음
+        WaitEstimate estimate = admissionThroughputEstimator.estimate(ticketId, response.relativeWaitOrder());
+        long nextPollAt = System.currentTimeMillis()
+                + waitPollPolicy.nextPollDelayMs(response.relativeWaitOrder(), estimate);
+        waitPollPolicy.recordIssued(memberId, ticketId, nextPollAt);
+        return response.withWaitToken(
+                        waitTokenProvider.issue(memberId, ticketId, response.absoluteWaitOrder(), false, nextPollAt))
+                .withEstimate(estimate);
+    }
+
+    private void register(Long ticketId, WaitStream stream) {
+        streams.computeIfAbsent(ticketId, id -> ConcurrentHashMap.newKeySet()).add(stream);
+    }
+
+    private void unregister(Long ticketId, SseEmitter emitter) {
+        Set<WaitStream> ticketStreams = streams.get(ticketId);
+        if (ticketStreams != null) {
+            ticketStreams.removeIf(stream -> stream.emitter() == emitter);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, WaitOrderResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(WAIT_EVENT).data(response));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 사용자가 연결을 끊은 경우
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private boolean sendHeartbeat(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void sendErrorAndComplete(SseEmitter emitter, ApiException e) {
+        try {
+            emitter.send(SseEmitter.event().name(ERROR_EVENT).data(e.getErrorCode().getCode()));
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private record WaitStream(Long memberId, Long waitOrder, SseEmitter emitter, AtomicLong lastSentRelativeWaitOrder) {
+
+        static WaitStream of(Long memberId, WaitOrderResponse response, SseEmitter emitter) {
+            return new WaitStream(memberId, response.absoluteWaitOrder(), emitter,
+                    new AtomicLong(response.relativeWaitOrder()));
+        }
+    }
+}
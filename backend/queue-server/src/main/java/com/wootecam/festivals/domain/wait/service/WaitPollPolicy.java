@@ -0,0 +1,105 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wootecam.festivals.domain.wait.dto.WaitEstimate;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 순서에 따라 다음 조회 시점을 정하는 클래스
+ * <p>
+ * 입장 범위에 들어오기까지의 예상 시간 (속도를 아직 추정하지 못했다면 남은 순서를 갱신 주기마다 늘리는 입장 크기로 나눈 값) 을 구하고, 입장 속도가 빨라지는 경우를 놓치지
+ * 않도록 그 절반 뒤에 조회하도록 안내합니다. 같은 시각에 참가한 사용자들이 같은 주기로 몰리지 않도록 지터를 더하고, 너무 이르게 다시 조회한 요청은 대기열 조회 없이 거절합니다.
+ * <p>
+ * 이전에 받은 토큰을 다시 보내 조회 간격을 우회하지 못하도록 사용자별로 가장 최근에 안내한 조회 시각을 노드 안에 기록하고, 토큰에 담긴 시각과 둘 중 늦은 시각을 기준으로
+ * 판단합니다. 노드마다 따로 기록하므로 여러 노드에 나눠 보낸 조회는 노드 수만큼까지 허용됩니다.
+ */
+@Component
+public class WaitPollPolicy {
+
+    private final AdmissionRateController admissionRateController;
+    private final long advanceIntervalMs;
+    private final long passChunkSize;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final double jitterRatio;
+    private final long earlyToleranceMs;
+    // "memberId:ticketId" 별로 가장 최근에 안내한 다음 조회 허용 시각
+    private final Cache<String, Long> latestNextPollAts;
+
+    public WaitPollPolicy(AdmissionRateController admissionRateController,
+                          @Value("${wait.queue.advance-interval-ms:500}") long advanceIntervalMs,
+                          @Value("${wait.queue.pass-chunk-size}") long passChunkSize,
+                          @Value("${wait.poll.min-interval-ms:1000}") long minIntervalMs,
+                          @Value("${wait.poll.max-interval-ms:30000}") long maxIntervalMs,
+                          @Value("${wait.poll.jitter-ratio:0.2}") double jitterRatio,
+                          @Value("${wait.poll.early-tolerance-ms:500}") long earlyToleranceMs,
+                          @Value("${wait.poll.issued-cache-size:1000000}") long issuedCacheSize) {
+        if (minIntervalMs <= 0 || minIntervalMs > maxIntervalMs) {
+            throw new IllegalArgumentException("조회 주기 범위가 올바르지 않습니다.");
+        }
+        this.admissionRateController = admissionRateController;
+        this.advanceIntervalMs = advanceIntervalMs;
+        this.passChunkSize = passChunkSize;
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.jitterRatio = jitterRatio;
+        this.earlyToleranceMs = earlyToleranceMs;
+        // 최대 주기의 두 배 동안 조회하지 않은 사용자는 이전 토큰을 다시 보내도 조회 간격을 넘지 못하므로 기록을 지움
+        this.latestNextPollAts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(maxIntervalMs * 2))
+                .maximumSize(issuedCacheSize)
+                .build();
+    }
+
+    /**
+     * 상대 대기 순서와 예상 대기 시간에 맞는 다음 조회까지의 시간을 반환합니다.
+     *
+     * @param estimate 예상 대기 시간, 입장 속도를 추정하기 전이라면 null
+     */
+    public long nextPollDelayMs(long relativeWaitOrder, WaitEstimate estimate) {
+        long remaining = relativeWaitOrder - passChunkSize;
+        if (remaining <= 0) {
+            return minIntervalMs;
+        }
+
+        double expectedMs = estimate != null
+                ? estimate.expectedMs()
+                : (double) remaining / Math.max(1, admissionRateController.currentBudget()) * advanceIntervalMs;
+        double jitter = 1 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        return clamp((long) (expectedMs / 2 * jitter));
+    }
+
+    /**
+     * 사용자에게 발급한 토큰의 다음 조회 허용 시각을 기록합니다.
+     */
+    public void recordIssued(Long memberId, Long ticketId, long nextPollAtMillis) {
+        latestNextPollAts.asMap().merge(createKey(memberId, ticketId), nextPollAtMillis, Math::max);
+    }
+
+    /**
+     * 토큰에 담긴 시각과 이 사용자에게 가장 최근에 안내한 시각 중 늦은 시각을 다음 조회 허용 시각으로 반환합니다.
+     */
+    public long allowedPollAtMillis(Long memberId, Long ticketId, long tokenNextPollAtMillis) {
+        Long latest = latestNextPollAts.getIfPresent(createKey(memberId, ticketId));
+        return latest == null ? tokenNextPollAtMillis : Math.max(latest, tokenNextPollAtMillis);
+    }
+
+    /**
+     * 허용한 시각보다 이르게 도착한 조회인지 여부를 반환합니다.
+     */
+    public boolean isTooEarly(long nextPollAtMillis, long nowMillis) {
+        return nowMillis + earlyToleranceMs < nextPollAtMillis;
+    }
+
+    private String createKey(Long memberId, Long ticketId) {
+        return memberId + ":" + ticketId;
+    }
+
+    private long clamp(long delayMs) {
+        return Math.max(minIntervalMs, Math.min(maxIntervalMs, delayMs));
+    }
+}
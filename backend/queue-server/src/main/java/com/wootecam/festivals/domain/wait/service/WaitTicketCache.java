@@ -0,0 +1,93 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wootecam.festivals.domain.ticket.entity.TicketInfo;
+import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 조회마다 읽는 티켓별 값을 노드 안에 잠깐 보관하는 캐시
+ * <p>
+ * 판매 시각은 판매 중에 바뀌지 않으므로 길게, 입장 순서와 재고 수량은 갱신 주기보다 짧게 보관합니다. 입장 순서와 티켓 정보는 변경 채널을 구독해 TTL 을 기다리지 않고 바로
+ * 반영합니다.
+ */
+@Slf4j
+@Component
+public class WaitTicketCache implements MessageListener {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+
+    private final TicketInfoRedisRepository ticketInfoRedisRepository;
+    private final PassOrderRedisRepository passOrderRedisRepository;
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    private final Cache<Long, TicketInfo> ticketInfos;
+    private final Cache<Long, Long> passOrders;
+    private final Cache<Long, Long> stockCounts;
+
+    public WaitTicketCache(TicketInfoRedisRepository ticketInfoRedisRepository,
+                           PassOrderRedisRepository passOrderRedisRepository,
+                           TicketStockCountRedisRepository ticketStockCountRedisRepository,
+                           @Value("${wait.cache.ticket-info-ttl-ms:60000}") long ticketInfoTtlMs,
+                           @Value("${wait.cache.pass-order-ttl-ms:200}") long passOrderTtlMs,
+                           @Value("${wait.cache.stock-count-ttl-ms:200}") long stockCountTtlMs) {
+        this.ticketInfoRedisRepository = ticketInfoRedisRepository;
+        this.passOrderRedisRepository = passOrderRedisRepository;
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+        this.ticketInfos = newCache(ticketInfoTtlMs);
+        this.passOrders = newCache(passOrderTtlMs);
+        this.stockCounts = newCache(stockCountTtlMs);
+    }
+
+    /**
+     * 티켓 판매 시각을 반환합니다. 존재하지 않는 티켓이라면 null 을 반환하며, 없는 결과는 캐시하지 않습니다.
+     */
+    public TicketInfo getTicketInfo(Long ticketId) {
+        return ticketInfos.get(ticketId, ticketInfoRedisRepository::getTicketInfo);
+    }
+
+    public Long getPassOrder(Long ticketId) {
+        return passOrders.get(ticketId, passOrderRedisRepository::get);
+    }
+
+    /**
+     * 남은 재고 수량을 반환합니다. 재고 정보가 없다면 0 을 반환합니다.
+     */
+    public Long getStockCount(Long ticketId) {
+        Long stockCount = stockCounts.get(ticketId, ticketStockCountRedisRepository::getTicketStockCount);
+        return stockCount == null ? 0 : stockCount;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (channel.startsWith(PassOrderRedisRepository.CHANNEL_PREFIX)) {
+                Long ticketId = Long.parseLong(channel.substring(PassOrderRedisRepository.CHANNEL_PREFIX.length()));
+                passOrders.put(ticketId, Long.parseLong(body));
+            } else if (channel.startsWith(TicketInfoRedisRepository.CHANGE_CHANNEL_PREFIX)) {
+                ticketInfos.invalidate(
+                        Long.parseLong(channel.substring(TicketInfoRedisRepository.CHANGE_CHANNEL_PREFIX.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 변경 메시지 - 채널: {}", channel);
+        }
+    }
+
+    private <V> Cache<Long, V> newCache(long ttlMs) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(MAXIMUM_SIZE)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.wootecam.festivals.domain.wait.repository.WaiterHeartbeatRedisRepository;
+import com.wootecam.festivals.domain.wait.repository.WaiterHeartbeatRedisRepository.SweepResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기 중인 사용자의 마지막 조회 시각을 기록하고, 오래 조회하지 않은 사용자를 대기열에서 제거하는 서비스
+ * <p>
+ * 조회마다 Redis 에 쓰지 않도록 노드 안에 모아 두었다가 flushIntervalMs 마다 티켓별로 한 번의 ZADD 로 저장합니다. 입장 순서를 갱신하는 리더 서버는 staleAfterMs 동안
+ * 조회하지 않은 사용자를 대기열에서 제거하므로, 입장 순서가 창을 닫은 사용자의 순서를 건너뛰어 실제로 기다리는 사용자만 입장시킵니다. 마지막 조회 시각이 한 번도 저장되지 않은
+ * 사용자는 제거하지 않습니다.
+ */
+@Slf4j
+@Service
+public class WaiterHeartbeatService {
+
+    private final WaiterHeartbeatRedisRepository waiterHeartbeatRedisRepository;
+    private final long staleAfterMs;
+    private final long sweepIntervalMs;
+    private final int sweepLimit;
+    private final Counter joinedCounter;
+    private final Counter abandonedCounter;
+
+    // 티켓별로 아직 저장하지 않은 사용자의 마지막 조회 시각
+    private final Map<Long, Map<Long, Long>> pending = new ConcurrentHashMap<>();
+    // 티켓별 마지막 정리 시각
+    private final Map<Long, Long> lastSweptAt = new ConcurrentHashMap<>();
+
+    public WaiterHeartbeatService(WaiterHeartbeatRedisRepository waiterHeartbeatRedisRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${wait.heartbeat.stale-after-ms:60000}") long staleAfterMs,
+                                  @Value("${wait.heartbeat.sweep-interval-ms:5000}") long sweepIntervalMs,
+                                  @Value("${wait.heartbeat.sweep-limit:1000}") int sweepLimit) {
+        this.waiterHeartbeatRedisRepository = waiterHeartbeatRedisRepository;
+        this.staleAfterMs = staleAfterMs;
+        this.sweepIntervalMs = sweepIntervalMs;
+        this.sweepLimit = sweepLimit;
+        this.joinedCounter = Counter.builder("wait.joined")
+                .description("대기열에 참가한 사용자 수")
+                .register(meterRegistry);
+        this.abandonedCounter = Counter.builder("wait.abandoned")
+                .description("입장 순서에 도달하기 전에 조회를 멈춰 대기열에서 제거된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    public void record(Long ticketId, Long memberId) {
+        pending.computeIfAbsent(ticketId, id -> new ConcurrentHashMap<>()).put(memberId, System.currentTimeMillis());
+    }
+
+    public void recordJoin() {
+        joinedCounter.increment();
+    }
+
+    /**
+     * 모아 둔 마지막 조회 시각을 저장합니다. 저장하는 사이에 기록된 조회 시각 일부는 다음 조회 때 다시 기록됩니다.
+     */
+    @Scheduled(fixedDelayString = "${wait.heartbeat.flush-interval-ms:1000}")
+    public void flush() {
+        for (Long ticketId : pending.keySet()) {
+            Map<Long, Long> heartbeats = pending.remove(ticketId);
+            if (heartbeats == null || heartbeats.isEmpty()) {
+                continue;
+            }
+            try {
+                waiterHeartbeatRedisRepository.touchAll(ticketId, heartbeats);
+            } catch (Exception e) {
+                log.warn("대기 사용자 조회 시각 저장 실패 - ticketId: {}", ticketId, e);
+            }
+        }
+    }
+
+    /**
+     * 최근 sweepIntervalMs 안에 정리하지 않았다면 오래 조회하지 않은 사용자를 대기열에서 제거합니다. 입장 순서를 갱신하는 리더 서버에서 호출합니다.
+     */
+    public void sweepStaleWaiters(Long ticketId) {
+        long now = System.currentTimeMillis();
+        Long last = lastSweptAt.get(ticketId);
+        if (last != null && now - last < sweepIntervalMs) {
+            return;
+        }
+        lastSweptAt.put(ticketId, now);
+
+        SweepResult result = waiterHeartbeatRedisRepository.sweep(ticketId, now - staleAfterMs, sweepLimit);
+        abandonedCounter.increment(result.abandoned());
+        if (result.removed() > 0) {
+            log.debug("이탈 사용자 정리 - ticketId: {}, 제거: {}, 입장 전 이탈: {}", ticketId, result.removed(),
+                    result.abandoned());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.wootecam.festivals.global.config;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
+import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
+import com.wootecam.festivals.domain.wait.service.AdmissionThroughputEstimator;
+import com.wootecam.festivals.domain.wait.service.WaitOrderStreamService;
+import com.wootecam.festivals.domain.wait.service.WaitTicketCache;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 노드마다 입장 순서, 티켓 정보 변경 채널을 한 번만 구독해 연결된 대기 사용자, 노드 캐시, 입장 속도 추정에 전달하도록 설정합니다.
+ */
+@Configuration
+public class WaitStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer waitStreamListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                     WaitOrderStreamService waitOrderStreamService,
+                                                                     WaitTicketCache waitTicketCache,
+                                                                     AdmissionThroughputEstimator admissionThroughputEstimator) {
+        PatternTopic passOrderTopic = new PatternTopic(PassOrderRedisRepository.CHANNEL_PREFIX + "*");
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(waitTicketCache, List.of(passOrderTopic,
+                new PatternTopic(TicketInfoRedisRepository.CHANGE_CHANNEL_PREFIX + "*")));
+        container.addMessageListener(waitOrderStreamService, passOrderTopic);
+        container.addMessageListener(admissionThroughputEstimator, passOrderTopic);
+        return container;
+    }
+}
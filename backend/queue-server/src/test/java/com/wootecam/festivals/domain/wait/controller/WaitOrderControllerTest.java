@@ -1,28 +1,48 @@
 package com.wootecam.festivals.domain.wait.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.beneathPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.wootecam.festivals.docs.utils.RestDocsSupport;
+import com.wootecam.festivals.domain.wait.dto.WaitEstimate;
 import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
+import com.wootecam.festivals.domain.wait.exception.WaitErrorCode;
+import com.wootecam.festivals.domain.wait.service.AdmissionThroughputEstimator;
 import com.wootecam.festivals.domain.wait.service.WaitOrderService;
+import com.wootecam.festivals.domain.wait.service.WaitOrderStreamService;
+import com.wootecam.festivals.domain.wait.service.WaitPollPolicy;
+import com.wootecam.festivals.global.auth.AuthErrorCode;
 import com.wootecam.festivals.global.auth.Authentication;
+import com.wootecam.festivals.global.auth.wait.WaitToken;
+import com.wootecam.festivals.global.auth.wait.WaitTokenProvider;
+import com.wootecam.festivals.global.exception.type.ApiException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @WebMvcTest(WaitOrderController.class)
 @ActiveProfiles("test")
@@ -34,10 +54,19 @@ class WaitOrderControllerTest extends RestDocsSupport {
     private final Long memberId = 1L;
     @MockBean
     private WaitOrderService waitOrderService;
+    @MockBean
+    private WaitOrderStreamService waitOrderStreamService;
+    @MockBean
+    private WaitTokenProvider waitTokenProvider;
+    @MockBean
+    private WaitPollPolicy waitPollPolicy;
+    @MockBean
+    private AdmissionThroughputEstimator admissionThroughputEstimator;
 
     @Override
     protected Object initController() {
-        return new WaitOrderController(waitOrderService);
+        return new WaitOrderController(waitOrderService, waitOrderStreamService, waitTokenProvider, waitPollPolicy,
+                admissionThroughputEstimator);
     }
 
     @Nested
@@ -45,25 +74,39 @@ class WaitOrderControllerTest extends RestDocsSupport {
     class Describe_getQueuePosition {
 
         @Test
-        @DisplayName("대기열 통과 가능 여부와 대기 순서를 반환한다")
+        @DisplayName("대기열 통과 가능 여부와 대기 순서, 다음 조회까지의 시간, 예상 대기 시간을 반환한다")
         void it_returns_wait_order_response() throws Exception {
             // Given
-            WaitOrderResponse response = new WaitOrderResponse(true, 15L, 30L);
-            when(waitOrderService.getWaitOrder(any(), any(), any())).thenReturn(response);
+            WaitOrderResponse response = new WaitOrderResponse(false, 15L, 30L);
+            when(waitTokenProvider.verify(eq("waitToken"), any(), eq(ticketId)))
+                    .thenReturn(new WaitToken(memberId, ticketId, 30L, false, System.currentTimeMillis(), 0L));
+            when(waitOrderService.getWaitOrder(eq(ticketId), any(), eq(30L))).thenReturn(response);
+            WaitEstimate estimate = new WaitEstimate(5_000L, 4_000L, 7_000L);
+            when(admissionThroughputEstimator.estimate(ticketId, 15L)).thenReturn(estimate);
+            when(waitPollPolicy.nextPollDelayMs(15L, estimate)).thenReturn(2_500L);
+            when(waitTokenProvider.issue(any(), eq(ticketId), eq(30L), eq(false), anyLong())).thenReturn("nextWaitToken");
             Authentication authentication = new Authentication(memberId);
 
             // When & Then
             mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/wait", festivalId, ticketId)
-                            .param("waitOrder", "30")
+                            .param("waitToken", "waitToken")
                             .requestAttr("authentication", authentication)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.data.purchasable").value(true))
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                    .andExpect(jsonPath("$.data.purchasable").value(false))
                     .andExpect(jsonPath("$.data.relativeWaitOrder").value(15L))
                     .andExpect(jsonPath("$.data.absoluteWaitOrder").value(30L))
+                    .andExpect(jsonPath("$.data.waitToken").value("nextWaitToken"))
+                    .andExpect(jsonPath("$.data.nextPollDelayMs").value(2_500L))
+                    .andExpect(jsonPath("$.data.estimate.expectedMs").value(5_000L))
                     .andDo(restDocs.document(
                             queryParameters(
-                                    parameterWithName("waitOrder").description("해당 사용자의 대기 번호, 대기열 통과 여부 판단 시 사용됨")
+                                    parameterWithName("waitToken").optional()
+                                            .description("이전 응답에서 발급받은 대기 순서 토큰, 처음 참가하는 경우 생략")
+                            ),
+                            responseHeaders(
+                                    headerWithName(HttpHeaders.RETRY_AFTER).description("다음 조회까지 기다려야 하는 시간 (초)")
                             ),
                             responseFields(
                                     beneathPath("data").withSubsectionId("data"),
@@ -71,8 +114,149 @@ class WaitOrderControllerTest extends RestDocsSupport {
                                     fieldWithPath("relativeWaitOrder").type(JsonFieldType.NUMBER)
                                             .description("사용자가 대기열 페이지에서 확인할 대기 번호"),
                                     fieldWithPath("absoluteWaitOrder").type(JsonFieldType.NUMBER)
-                                            .description("대기열 통과 여부 판단 시 사용되는 대기 번호"))
+                                            .description("대기열 통과 여부 판단 시 사용되는 대기 번호"),
+                                    fieldWithPath("waitToken").type(JsonFieldType.STRING)
+                                            .description("대기 순서와 통과 여부를 서명한 토큰, 다음 조회와 구매 가능 여부 확인 시 사용"),
+                                    fieldWithPath("nextPollDelayMs").type(JsonFieldType.NUMBER).optional()
+                                            .description("다음 조회까지 기다려야 하는 시간 (ms), 대기열을 통과한 경우 없음"),
+                                    fieldWithPath("estimate").type(JsonFieldType.OBJECT).optional()
+                                            .description("입장 범위에 들어오기까지의 예상 대기 시간, 입장 속도를 추정하기 전에는 없음"),
+                                    fieldWithPath("estimate.expectedMs").type(JsonFieldType.NUMBER)
+                                            .description("예상 대기 시간 (ms)"),
+                                    fieldWithPath("estimate.minMs").type(JsonFieldType.NUMBER)
+                                            .description("입장 속도가 빨라질 때의 예상 대기 시간 (ms)"),
+                                    fieldWithPath("estimate.maxMs").type(JsonFieldType.NUMBER)
+                                            .description("입장 속도가 느려질 때의 예상 대기 시간 (ms)"))
+                    ));
+            verify(waitPollPolicy).recordIssued(eq(memberId), eq(ticketId), anyLong());
+        }
+
+        @Test
+        @DisplayName("토큰이 허용한 시각보다 이른 조회는 대기열을 조회하지 않고 429를 반환한다")
+        void it_rejects_too_early_poll() throws Exception {
+            // Given
+            long nextPollAt = System.currentTimeMillis() + 10_000L;
+            when(waitTokenProvider.verify(eq("waitToken"), any(), eq(ticketId)))
+                    .thenReturn(new WaitToken(memberId, ticketId, 30L, false, System.currentTimeMillis(), nextPollAt));
+            when(waitPollPolicy.allowedPollAtMillis(any(), eq(ticketId), eq(nextPollAt))).thenReturn(nextPollAt);
+            when(waitPollPolicy.isTooEarly(eq(nextPollAt), anyLong())).thenReturn(true);
+            Authentication authentication = new Authentication(memberId);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/wait", festivalId, ticketId)
+                            .param("waitToken", "waitToken")
+                            .requestAttr("authentication", authentication)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                    .andExpect(jsonPath("$.errorCode").value(WaitErrorCode.TOO_EARLY_POLL.getCode()));
+            verify(waitOrderService, never()).getWaitOrder(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("이전에 받은 토큰을 다시 보내면 가장 최근에 안내한 시각을 기준으로 거절한다")
+        void it_rejects_replayed_older_token() throws Exception {
+            // Given
+            long latestNextPollAt = System.currentTimeMillis() + 10_000L;
+            when(waitTokenProvider.verify(eq("olderWaitToken"), any(), eq(ticketId)))
+                    .thenReturn(new WaitToken(memberId, ticketId, 30L, false, System.currentTimeMillis(), 0L));
+            when(waitPollPolicy.allowedPollAtMillis(any(), eq(ticketId), eq(0L))).thenReturn(latestNextPollAt);
+            when(waitPollPolicy.isTooEarly(eq(latestNextPollAt), anyLong())).thenReturn(true);
+            Authentication authentication = new Authentication(memberId);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/wait", festivalId, ticketId)
+                            .param("waitToken", "olderWaitToken")
+                            .requestAttr("authentication", authentication)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.errorCode").value(WaitErrorCode.TOO_EARLY_POLL.getCode()));
+            verify(waitOrderService, never()).getWaitOrder(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("검증에 실패한 토큰이면 대기열을 조회하지 않고 403을 반환한다")
+        void it_rejects_invalid_wait_token() throws Exception {
+            // Given
+            when(waitTokenProvider.verify(eq("forgedWaitToken"), any(), eq(ticketId)))
+                    .thenThrow(new ApiException(AuthErrorCode.INVALID_WAIT_TOKEN));
+            Authentication authentication = new Authentication(memberId);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/wait", festivalId, ticketId)
+                            .param("waitToken", "forgedWaitToken")
+                            .requestAttr("authentication", authentication)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.errorCode").value(AuthErrorCode.INVALID_WAIT_TOKEN.getCode()));
+            verify(waitOrderService, never()).getWaitOrder(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("빈 토큰은 보내지 않은 것으로 보고 검증하지 않은 채 처음 참가하는 사용자로 처리한다")
+        void it_treats_blank_wait_token_as_absent() throws Exception {
+            // Given
+            when(waitOrderService.getWaitOrder(eq(ticketId), any(), isNull()))
+                    .thenReturn(new WaitOrderResponse(true, 0L, 1L));
+            when(waitTokenProvider.issue(any(), eq(ticketId), eq(1L), eq(true))).thenReturn("passedWaitToken");
+            Authentication authentication = new Authentication(memberId);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/wait", festivalId, ticketId)
+                            .param("waitToken", " ")
+                            .requestAttr("authentication", authentication)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.waitToken").value("passedWaitToken"));
+            verify(waitTokenProvider, never()).verify(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("streamQueuePosition 메소드는")
+    class Describe_streamQueuePosition {
+
+        @Test
+        @DisplayName("대기 순서 이벤트 스트림을 연다")
+        void it_opens_wait_order_stream() throws Exception {
+            // Given
+            when(waitTokenProvider.verify(eq("waitToken"), any(), eq(ticketId)))
+                    .thenReturn(new WaitToken(memberId, ticketId, 30L, false, System.currentTimeMillis(), 0L));
+            when(waitOrderStreamService.subscribe(eq(ticketId), any(), eq(30L))).thenReturn(new SseEmitter());
+            Authentication authentication = new Authentication(memberId);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/wait/stream", festivalId,
+                            ticketId)
+                            .param("waitToken", "waitToken")
+                            .requestAttr("authentication", authentication)
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted())
+                    .andDo(restDocs.document(
+                            queryParameters(
+                                    parameterWithName("waitToken").optional()
+                                            .description("이전 응답에서 발급받은 대기 순서 토큰, 처음 참가하는 경우 생략")
+                            )
                     ));
         }
+
+        @Test
+        @DisplayName("빈 토큰은 보내지 않은 것으로 보고 처음 참가하는 사용자로 스트림을 연다")
+        void it_treats_blank_wait_token_as_absent() throws Exception {
+            // Given
+            when(waitOrderStreamService.subscribe(eq(ticketId), any(), isNull())).thenReturn(new SseEmitter());
+            Authentication authentication = new Authentication(memberId);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/wait/stream", festivalId,
+                            ticketId)
+                            .param("waitToken", "")
+                            .requestAttr("authentication", authentication)
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted());
+            verify(waitTokenProvider, never()).verify(any(), any(), any());
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.wootecam.festivals.domain.wait.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class LeaderLeaseRedisRepositoryTest extends SpringBootTestConfig {
+
+    private static final String NAME = "test";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private LeaderLeaseRedisRepository leaderLeaseRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("tryAcquire 메소드는 임대가 없으면 획득하고, 가진 서버는 연장할 수 있다")
+    void tryAcquire_shouldAcquireAndRenew() {
+        assertThat(leaderLeaseRedisRepository.tryAcquire(NAME, "server-1", 60_000L)).isTrue();
+        assertThat(leaderLeaseRedisRepository.tryAcquire(NAME, "server-1", 60_000L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryAcquire 메소드는 다른 서버가 임대를 가지고 있으면 실패한다")
+    void tryAcquire_shouldFailWhenOtherServerHoldsLease() {
+        leaderLeaseRedisRepository.tryAcquire(NAME, "server-1", 60_000L);
+
+        assertThat(leaderLeaseRedisRepository.tryAcquire(NAME, "server-2", 60_000L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("release 메소드는 자신이 가진 임대만 해제한다")
+    void release_shouldReleaseOnlyOwnLease() {
+        leaderLeaseRedisRepository.tryAcquire(NAME, "server-1", 60_000L);
+
+        leaderLeaseRedisRepository.release(NAME, "server-2");
+        assertThat(leaderLeaseRedisRepository.tryAcquire(NAME, "server-2", 60_000L)).isFalse();
+
+        leaderLeaseRedisRepository.release(NAME, "server-1");
+        assertThat(leaderLeaseRedisRepository.tryAcquire(NAME, "server-2", 60_000L)).isTrue();
+    }
+}
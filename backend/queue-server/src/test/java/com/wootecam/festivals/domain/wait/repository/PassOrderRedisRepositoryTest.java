@@ -16,6 +16,8 @@ class PassOrderRedisRepositoryTest extends SpringBootTestConfig {
     private RedisTemplate<String, String> redisTemplate;
     @Autowired
     private PassOrderRedisRepository passOrderRedisRepository;
+    @Autowired
+    private WaitingRedisRepository waitingRedisRepository;
 
     @BeforeEach
     void setUp() {
@@ -70,4 +72,54 @@ class PassOrderRedisRepositoryTest extends SpringBootTestConfig {
         newPassOrder = passOrderRedisRepository.increase(ticketId, passOrderChunkSize, curWaitOrder);
         assertThat(newPassOrder).isEqualTo(10L);
     }
+
+    @Test
+    @DisplayName("advance 메소드는 대기열에 남은 사용자 수만큼 입장 순서를 증가시킨다")
+    void advance_shouldIncrementPassOrderByRemainingWaiters() {
+        // Given
+        for (long userId = 1; userId <= 10; userId++) {
+            waitingRedisRepository.addWaiting(ticketId, userId);
+        }
+
+        // When
+        Long newPassOrder = passOrderRedisRepository.advance(ticketId, 5L);
+
+        // Then
+        assertThat(newPassOrder).isEqualTo(5L);
+        assertThat(passOrderRedisRepository.advance(ticketId, 5L)).isEqualTo(10L);
+        assertThat(passOrderRedisRepository.advance(ticketId, 5L)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("advance 메소드는 대기열에서 제거된 사용자의 순서를 건너뛴다")
+    void advance_shouldSkipRemovedWaiters() {
+        // Given
+        for (long userId = 1; userId <= 10; userId++) {
+            waitingRedisRepository.addWaiting(ticketId, userId);
+        }
+        redisTemplate.opsForZSet().remove("tickets:" + ticketId + ":waitings", "2", "3");
+
+        // When
+        Long newPassOrder = passOrderRedisRepository.advance(ticketId, 5L);
+
+        // Then
+        assertThat(newPassOrder).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("advance 메소드는 남은 사용자가 입장시킬 수보다 적으면 마지막 사용자의 순서까지 증가시킨다")
+    void advance_shouldAdmitAllRemainingWaitersWhenFewerThanBudget() {
+        // Given
+        for (long userId = 1; userId <= 10; userId++) {
+            waitingRedisRepository.addWaiting(ticketId, userId);
+        }
+        redisTemplate.opsForZSet().remove("tickets:" + ticketId + ":waitings", "1", "2", "3", "4", "5", "6", "8");
+
+        // When
+        Long newPassOrder = passOrderRedisRepository.advance(ticketId, 5L);
+
+        // Then
+        assertThat(newPassOrder).isEqualTo(10L);
+        assertThat(passOrderRedisRepository.get(ticketId)).isEqualTo(10L);
+    }
 }
@@ -0,0 +1,76 @@
+package com.wootecam.festivals.domain.wait.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.wait.repository.WaiterHeartbeatRedisRepository.SweepResult;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class WaiterHeartbeatRedisRepositoryTest extends SpringBootTestConfig {
+
+    private final Long ticketId = 1L;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private WaiterHeartbeatRedisRepository waiterHeartbeatRedisRepository;
+    @Autowired
+    private WaitingRedisRepository waitingRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("touchAll 메소드는 사용자별 마지막 조회 시각을 저장한다")
+    void touchAll_shouldSaveLastSeen() {
+        // When
+        waiterHeartbeatRedisRepository.touchAll(ticketId, Map.of(1L, 1_000L, 2L, 2_000L));
+
+        // Then
+        assertThat(waiterHeartbeatRedisRepository.getLastSeen(ticketId, 1L)).isEqualTo(1_000.0);
+        assertThat(waiterHeartbeatRedisRepository.getLastSeen(ticketId, 2L)).isEqualTo(2_000.0);
+    }
+
+    @Test
+    @DisplayName("sweep 메소드는 오래 조회하지 않은 사용자를 대기열에서 제거하고 입장 전에 이탈한 사용자 수를 센다")
+    void sweep_shouldRemoveStaleWaiters() {
+        // Given
+        for (long userId = 1; userId <= 4; userId++) {
+            waitingRedisRepository.addWaiting(ticketId, userId);
+        }
+        redisTemplate.opsForValue().set("tickets:" + ticketId + ":passOrder", "1");
+        waiterHeartbeatRedisRepository.touchAll(ticketId, Map.of(1L, 1_000L, 2L, 1_000L, 3L, 5_000L, 4L, 1_000L));
+
+        // When
+        SweepResult result = waiterHeartbeatRedisRepository.sweep(ticketId, 2_000L, 100);
+
+        // Then
+        assertThat(result).isEqualTo(new SweepResult(3L, 2L));
+        assertThat(waitingRedisRepository.exists(ticketId, 3L)).isTrue();
+        assertThat(waitingRedisRepository.exists(ticketId, 2L)).isFalse();
+        assertThat(waiterHeartbeatRedisRepository.getLastSeen(ticketId, 2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("sweep 메소드는 한 번에 limit 명까지만 제거한다")
+    void sweep_shouldRemoveUpToLimit() {
+        // Given
+        for (long userId = 1; userId <= 3; userId++) {
+            waitingRedisRepository.addWaiting(ticketId, userId);
+        }
+        waiterHeartbeatRedisRepository.touchAll(ticketId, Map.of(1L, 1_000L, 2L, 1_000L, 3L, 1_000L));
+
+        // When
+        SweepResult result = waiterHeartbeatRedisRepository.sweep(ticketId, 2_000L, 2);
+
+        // Then
+        assertThat(result.removed()).isEqualTo(2L);
+        assertThat(waitingRedisRepository.getSize(ticketId)).isEqualTo(1L);
+    }
+}
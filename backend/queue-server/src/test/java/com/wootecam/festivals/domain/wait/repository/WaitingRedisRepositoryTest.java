@@ -0,0 +1,135 @@
+package com.wootecam.festivals.domain.wait.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.wait.dto.WaitingStatus;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class WaitingRedisRepositoryTest extends SpringBootTestConfig {
+
+    private final Long ticketId = 1L;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private WaitingRedisRepository waitingRedisRepository;
+    @Autowired
+    private PassOrderRedisRepository passOrderRedisRepository;
+    @Autowired
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Nested
+    @DisplayName("join 메소드는")
+    class Describe_join {
+
+        @Test
+        @DisplayName("새 사용자를 참가시키고 대기 순서, 입장 순서, 재고를 함께 반환한다")
+        void it_joins_new_user_and_returns_status() {
+            passOrderRedisRepository.set(ticketId, 3L);
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 10L);
+
+            WaitingStatus first = waitingRedisRepository.join(ticketId, 1L, true);
+            WaitingStatus second = waitingRedisRepository.join(ticketId, 2L, true);
+
+            assertThat(first).isEqualTo(new WaitingStatus(1L, true, 3L, 10L));
+            assertThat(second).isEqualTo(new WaitingStatus(2L, true, 3L, 10L));
+            assertThat(waitingRedisRepository.exists(ticketId, 2L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("이미 대기 중인 사용자는 기존 대기 순서를 반환한다")
+        void it_returns_existing_wait_order() {
+            waitingRedisRepository.addWaiting(ticketId, 1L);
+            waitingRedisRepository.addWaiting(ticketId, 2L);
+
+            WaitingStatus status = waitingRedisRepository.join(ticketId, 1L, true);
+
+            assertThat(status.waitOrder()).isEqualTo(1L);
+            assertThat(status.isWaiting()).isTrue();
+            assertThat(waitingRedisRepository.getLastWaitOrder(ticketId)).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("joinIfAbsent 가 false 면 대기열에 없는 사용자를 참가시키지 않는다")
+        void it_does_not_join_when_join_if_absent_is_false() {
+            WaitingStatus status = waitingRedisRepository.join(ticketId, 1L, false);
+
+            assertThat(status.waitOrder()).isNull();
+            assertThat(status.isWaiting()).isFalse();
+            assertThat(status.stockCount()).isZero();
+            assertThat(waitingRedisRepository.exists(ticketId, 1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("동시에 참가한 사용자들은 서로 다른 대기 순서를 받는다")
+        void it_assigns_unique_wait_orders_concurrently() throws InterruptedException {
+            int userCount = 200;
+            ExecutorService executorService = Executors.newFixedThreadPool(16);
+            CountDownLatch latch = new CountDownLatch(userCount);
+            Set<Long> waitOrders = ConcurrentHashMap.newKeySet();
+
+            for (int i = 0; i < userCount; i++) {
+                long userId = i;
+                executorService.submit(() -> {
+                    try {
+                        waitOrders.add(waitingRedisRepository.addWaiting(ticketId, userId));
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            executorService.shutdown();
+            assertThat(waitOrders).hasSize(userCount);
+            assertThat(waitingRedisRepository.getSize(ticketId)).isEqualTo(userCount);
+            assertThat(waitingRedisRepository.getLastWaitOrder(ticketId)).isEqualTo(userCount);
+        }
+    }
+
+    @Test
+    @DisplayName("countBetween 메소드는 범위 안에서 대기열에 남아 있는 사용자만 센다")
+    void countBetween_counts_remaining_waiters() {
+        for (long userId = 1; userId <= 5; ++userId) {
+            waitingRedisRepository.addWaiting(ticketId, userId);
+        }
+        redisTemplate.opsForZSet().remove("tickets:" + ticketId + ":waitings", "3");
+
+        Long count = waitingRedisRepository.countBetween(ticketId, 1L, 5L);
+
+        assertThat(count).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("rejoin 메소드는 마지막 대기 순서 다음 순서를 새로 발급한다")
+    void rejoin_assigns_next_wait_order() {
+        waitingRedisRepository.addWaiting(ticketId, 1L);
+        waitingRedisRepository.addWaiting(ticketId, 2L);
+
+        Long newWaitOrder = waitingRedisRepository.rejoin(ticketId, 1L);
+
+        assertThat(newWaitOrder).isEqualTo(3L);
+        assertThat(waitingRedisRepository.join(ticketId, 1L, false).waitOrder()).isEqualTo(3L);
+        assertThat(waitingRedisRepository.getSize(ticketId)).isEqualTo(2L);
+        assertThat(List.of(waitingRedisRepository.exists(ticketId, 1L), waitingRedisRepository.exists(ticketId, 2L)))
+                .containsOnly(true);
+    }
+}
@@ -0,0 +1,83 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.wootecam.festivals.domain.ticket.entity.PurchaseHealth;
+import com.wootecam.festivals.domain.ticket.repository.PurchaseHealthRedisRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdmissionRateController 클래스")
+class AdmissionRateControllerTest {
+
+    private static final PurchaseHealth HEALTHY = new PurchaseHealth(100, 10, 100, 0, 50);
+
+    @Mock
+    private PurchaseHealthRedisRepository purchaseHealthRedisRepository;
+
+    private AdmissionRateController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdmissionRateController(purchaseHealthRedisRepository, 16, 1, 20, 2, 300, 200, 5000, 10, 80,
+                5000, 500, 40, 1000);
+    }
+
+    @Test
+    @DisplayName("최소 조회 주기 동안 최대 입장 크기로 늘어나는 입장 순서가 입장 범위를 넘으면 생성할 수 없다")
+    void it_rejects_max_budget_exceeding_pass_chunk_per_poll() {
+        // 1000ms 동안 2 번 갱신, 21 * 2 = 42 > 40
+        assertThatThrownBy(() -> new AdmissionRateController(purchaseHealthRedisRepository, 16, 1, 21, 2, 300, 200,
+                5000, 10, 80, 5000, 500, 40, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("보고된 지표가 없으면 입장 크기를 유지한다")
+    void it_keeps_budget_without_signals() {
+        when(purchaseHealthRedisRepository.findReportedSince(anyLong())).thenReturn(List.of());
+
+        assertThat(controller.nextBudget()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("모든 지표가 목표 안에 있으면 입장 크기를 늘리되 최대값을 넘지 않는다")
+    void it_increases_budget_additively_when_healthy() {
+        when(purchaseHealthRedisRepository.findReportedSince(anyLong())).thenReturn(List.of(HEALTHY));
+
+        assertThat(controller.nextBudget()).isEqualTo(18);
+        assertThat(controller.nextBudget()).isEqualTo(20);
+        assertThat(controller.nextBudget()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("한 서버라도 지표가 목표를 넘으면 입장 크기를 절반으로 줄이되 최소값보다 작아지지 않는다")
+    void it_halves_budget_when_any_server_is_overloaded() {
+        PurchaseHealth busy = new PurchaseHealth(100, 10, 100, 0, 95);
+        when(purchaseHealthRedisRepository.findReportedSince(anyLong())).thenReturn(List.of(HEALTHY, busy));
+
+        assertThat(controller.nextBudget()).isEqualTo(8);
+        for (int i = 0; i < 10; i++) {
+            controller.nextBudget();
+        }
+        assertThat(controller.currentBudget()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커넥션 대기 스레드가 많으면 입장 크기를 줄인다")
+    void it_halves_budget_when_hikari_pending_exceeds_limit() {
+        when(purchaseHealthRedisRepository.findReportedSince(anyLong()))
+                .thenReturn(List.of(new PurchaseHealth(100, 10, 100, 11, 50)));
+
+        assertThat(controller.nextBudget()).isEqualTo(8);
+    }
+}
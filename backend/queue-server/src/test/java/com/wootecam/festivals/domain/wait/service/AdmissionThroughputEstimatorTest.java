@@ -0,0 +1,79 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.wait.dto.WaitEstimate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdmissionThroughputEstimator 클래스")
+class AdmissionThroughputEstimatorTest {
+
+    private static final long PASS_CHUNK_SIZE = 10L;
+
+    private final Long ticketId = 1L;
+    private AdmissionThroughputEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new AdmissionThroughputEstimator(new SimpleMeterRegistry(), PASS_CHUNK_SIZE, 0.5, 3, 10_000L);
+    }
+
+    // 1초마다 입장 순서를 increments 만큼 늘린 것으로 기록
+    private void recordEverySecond(long... increments) {
+        long passOrder = 0;
+        long now = 0;
+        estimator.recordPassOrder(ticketId, passOrder, now);
+        for (long increment : increments) {
+            passOrder += increment;
+            now += 1_000;
+            estimator.recordPassOrder(ticketId, passOrder, now);
+        }
+    }
+
+    @Test
+    @DisplayName("관측이 충분하지 않으면 예상 시간을 반환하지 않는다")
+    void it_returns_null_before_enough_samples() {
+        recordEverySecond(10, 10);
+
+        assertThat(estimator.estimate(ticketId, 110L)).isNull();
+    }
+
+    @Test
+    @DisplayName("입장 범위 안의 사용자는 바로 입장할 수 있다")
+    void it_returns_now_within_pass_range() {
+        assertThat(estimator.estimate(ticketId, PASS_CHUNK_SIZE)).isEqualTo(WaitEstimate.NOW);
+    }
+
+    @Test
+    @DisplayName("일정한 속도라면 남은 순서를 속도로 나눈 시간을 범위 없이 반환한다")
+    void it_returns_exact_estimate_with_steady_rate() {
+        recordEverySecond(10, 10, 10);
+
+        // 입장 범위까지 100 남음, 초당 10 -> 10초
+        assertThat(estimator.estimate(ticketId, 110L)).isEqualTo(new WaitEstimate(10_000L, 10_000L, 10_000L));
+    }
+
+    @Test
+    @DisplayName("속도가 흔들리면 예상 시간 범위가 넓어진다")
+    void it_widens_band_with_unsteady_rate() {
+        recordEverySecond(10, 30, 0, 20, 10);
+
+        WaitEstimate estimate = estimator.estimate(ticketId, 110L);
+
+        assertThat(estimate.minMs()).isLessThan(estimate.expectedMs());
+        assertThat(estimate.maxMs()).isGreaterThan(estimate.expectedMs());
+    }
+
+    @Test
+    @DisplayName("오래 관측하지 못했다면 다시 측정한다")
+    void it_resets_after_long_gap() {
+        recordEverySecond(10, 10, 10);
+
+        estimator.recordPassOrder(ticketId, 1_000L, 60_000L);
+
+        assertThat(estimator.estimate(ticketId, 110L)).isNull();
+    }
+}
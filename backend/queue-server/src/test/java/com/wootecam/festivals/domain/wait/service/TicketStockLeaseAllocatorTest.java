@@ -0,0 +1,98 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketStockLeaseAllocator 클래스")
+class TicketStockLeaseAllocatorTest {
+
+    private final Long ticketId = 1L;
+
+    @Mock
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    private TicketStockLeaseAllocator ticketStockLeaseAllocator;
+
+    @BeforeEach
+    void setUp() {
+        ticketStockLeaseAllocator = new TicketStockLeaseAllocator(ticketStockCountRedisRepository, 50L, 10L, 500L,
+                1000L, 100L);
+    }
+
+    @Test
+    @DisplayName("임대한 묶음을 다 쓸 때까지 Redis 를 다시 조회하지 않는다")
+    void it_takes_from_local_lease() {
+        when(ticketStockCountRedisRepository.leaseStock(ticketId, 50L, 100L)).thenReturn(50L);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(ticketStockLeaseAllocator.tryAcquire(ticketId, 0L)).isTrue();
+        }
+
+        verify(ticketStockCountRedisRepository, times(1)).leaseStock(ticketId, 50L, 100L);
+        verify(ticketStockCountRedisRepository, never()).checkAndDecreaseStock(ticketId);
+        assertThat(ticketStockLeaseAllocator.getLeasedStock(ticketId)).isZero();
+    }
+
+    @Test
+    @DisplayName("직전 묶음을 소진한 속도에 맞춰 다음 묶음 크기를 정한다")
+    void it_adapts_block_size() {
+        when(ticketStockCountRedisRepository.leaseStock(eq(ticketId), anyLong(), eq(100L))).thenReturn(50L);
+
+        for (int i = 0; i < 50; i++) {
+            ticketStockLeaseAllocator.tryAcquire(ticketId, 0L);
+        }
+        // 50개를 250ms 만에 소진했으므로 1초 동안 쓸 200개를 임대
+        ticketStockLeaseAllocator.tryAcquire(ticketId, 250L);
+
+        verify(ticketStockCountRedisRepository).leaseStock(ticketId, 200L, 100L);
+    }
+
+    @Test
+    @DisplayName("임대할 재고가 없다면 공유 재고에서 하나씩 차감한다")
+    void it_falls_back_to_shared_stock() {
+        when(ticketStockCountRedisRepository.leaseStock(ticketId, 50L, 100L)).thenReturn(0L);
+        when(ticketStockCountRedisRepository.checkAndDecreaseStock(ticketId)).thenReturn(true, false);
+
+        assertThat(ticketStockLeaseAllocator.tryAcquire(ticketId, 0L)).isTrue();
+        assertThat(ticketStockLeaseAllocator.tryAcquire(ticketId, 0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("차감이 없었던 임대분은 Redis 로 반환한다")
+    void it_returns_idle_lease() {
+        when(ticketStockCountRedisRepository.leaseStock(ticketId, 50L, 100L)).thenReturn(50L);
+        ticketStockLeaseAllocator.tryAcquire(ticketId, 0L);
+
+        ticketStockLeaseAllocator.returnIdleLeases();
+        verify(ticketStockCountRedisRepository, never()).returnStock(eq(ticketId), anyLong());
+
+        ticketStockLeaseAllocator.returnIdleLeases();
+        verify(ticketStockCountRedisRepository).returnStock(ticketId, 49L);
+        assertThat(ticketStockLeaseAllocator.getLeasedStock(ticketId)).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 임대분을 모두 반환한다")
+    void it_returns_all_leases_on_shutdown() {
+        when(ticketStockCountRedisRepository.leaseStock(ticketId, 50L, 100L)).thenReturn(50L);
+        ticketStockLeaseAllocator.tryAcquire(ticketId, 0L);
+
+        ticketStockLeaseAllocator.returnAllLeases();
+
+        verify(ticketStockCountRedisRepository).returnStock(ticketId, 49L);
+    }
+}
@@ -8,6 +8,7 @@ import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
 import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
 import com.wootecam.festivals.domain.wait.exception.WaitErrorCode;
+import com.wootecam.festivals.domain.wait.repository.LeaderLeaseRedisRepository;
 import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
 import com.wootecam.festivals.domain.wait.repository.WaitingRedisRepository;
 import com.wootecam.festivals.global.exception.type.ApiException;
@@ -24,6 +25,7 @@ import org.springframework.test.context.TestPropertySource;
 @DisplayName("WaitOrderService 클래스")
 @TestPropertySource(properties = {
         "wait.queue.pass-chunk-size=5",
+        "wait.queue.advance-budget=5",
 })
 class WaitOrderServiceTest extends SpringBootTestConfig {
 
@@ -43,6 +45,8 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
     @Autowired
     private CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
     @Autowired
+    private LeaderLeaseRedisRepository leaderLeaseRedisRepository;
+    @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
     @BeforeEach
@@ -115,20 +119,44 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             Long loginMemberId = 10L;
             passOrderRedisRepository.set(ticketId, currentPassOrder);
             waitingRepository.addWaiting(ticketId, loginMemberId);
-            for (int i = 0; i < 5; ++i) {
+            for (int i = 0; i < 10; ++i) {
                 waitOrderService.getWaitOrder(ticketId, (long) i, null);
             }
 
             // When: 사용자가 새로운 대기열 순서를 발급받음
             WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, 5L);
 
-            // Then: 새로운 대기열 순서가 발급되었는지 확인
-            Long newWaitOrder = waitingRepository.getSize(ticketId);
+            // Then: 마지막 순서 다음의 새로운 대기열 순서가 발급되었는지 확인
+            Long newWaitOrder = waitingRepository.getLastWaitOrder(ticketId);
+            assertThat(newWaitOrder).isEqualTo(12L);
             assertThat(response.purchasable()).isFalse();
             assertThat(response.relativeWaitOrder()).isEqualTo(newWaitOrder - currentPassOrder);
             assertThat(response.absoluteWaitOrder()).isEqualTo(newWaitOrder);
         }
 
+        @Test
+        @DisplayName("이탈한 사용자가 제거되어 입장 순서가 크게 늘었더라도, 뒤로 입장한 사용자가 범위보다 적다면 다시 대기시키지 않고 통과를 반환한다.")
+        void it_returns_pass_when_pass_order_skips_swept_waiters() {
+            // Given: 대기 순서 1 의 사용자 뒤로 19 명이 참가한 뒤 그중 16 명이 이탈해 제거되고, 입장 순서가 20 까지 늘어남
+            Long loginMemberId = 100L;
+            Long waitOrder = waitingRepository.addWaiting(ticketId, loginMemberId);
+            for (int i = 0; i < 19; ++i) {
+                waitingRepository.addWaiting(ticketId, (long) i);
+            }
+            for (int i = 0; i < 16; ++i) {
+                redisTemplate.opsForZSet().remove("tickets:" + ticketId + ":waitings", String.valueOf(i));
+            }
+            passOrderRedisRepository.set(ticketId, 20L);
+
+            // When
+            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, waitOrder);
+
+            // Then: 대기 순서 차이는 범위를 넘지만 뒤로 입장한 사용자는 3 명이므로 새 대기 순서를 받지 않음
+            assertThat(response.purchasable()).isTrue();
+            assertThat(response.absoluteWaitOrder()).isEqualTo(waitOrder);
+            assertThat(waitingRepository.getLastWaitOrder(ticketId)).isEqualTo(20L);
+        }
+
         @Test
         @DisplayName("대기열에 참가하는 사용자가 대기열 통과 가능하면 통과를 반환한다.")
         void it_returns_pass_when_new_user_and_can_pass() {
@@ -254,5 +282,19 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             assertThat(newPassOrder1).isEqualTo(5L);
             assertThat(newPassOrder2).isEqualTo(10L);
         }
+
+        @Test
+        @DisplayName("다른 서버가 리더 임대를 가지고 있다면 대기열 범위를 갱신하지 않는다")
+        void it_does_not_update_when_other_server_is_leader() {
+            // given
+            passOrderRedisRepository.set(ticketId1, 0L);
+            leaderLeaseRedisRepository.tryAcquire("passOrder", "other-server", 60_000L);
+
+            // when
+            waitOrderService.updateCurrentPassOrder();
+
+            // then
+            assertThat(passOrderRedisRepository.get(ticketId1)).isZero();
+        }
     }
 }
@@ -0,0 +1,175 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
+import com.wootecam.festivals.domain.wait.exception.WaitErrorCode;
+import com.wootecam.festivals.global.auth.wait.WaitTokenProvider;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitOrderStreamService 클래스")
+class WaitOrderStreamServiceTest {
+
+    private final Long ticketId = 1L;
+    private final Long memberId = 1L;
+
+    @Mock
+    private WaitOrderService waitOrderService;
+
+    @Mock
+    private WaiterHeartbeatService waiterHeartbeatService;
+
+    @Mock
+    private WaitPollPolicy waitPollPolicy;
+
+    private WaitOrderStreamService waitOrderStreamService;
+
+    @BeforeEach
+    void setUp() {
+        waitOrderStreamService = new WaitOrderStreamService(waitOrderService,
+                new WaitTokenProvider("test=dGVzdC13YWl0LXRva2VuLXNlY3JldC1rZXktMDAwMQ==", 60_000L, 60_000L),
+                new AdmissionThroughputEstimator(new SimpleMeterRegistry(), 4L, 0.2, 3, 10_000L), waiterHeartbeatService,
+                waitPollPolicy, 60_000L, 1, 10, 5L, 0.5);
+    }
+
+    @Test
+    @DisplayName("바로 통과한 사용자는 연결을 유지하지 않는다")
+    void it_does_not_keep_stream_when_purchasable() {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(true, 0L, 1L));
+
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+
+        assertThat(waitOrderStreamService.countStreams(ticketId)).isZero();
+    }
+
+    @Test
+    @DisplayName("대기하는 사용자에게는 다음 조회 허용 시각을 담은 토큰을 발급한다")
+    void it_issues_token_with_next_poll_time() {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(false, 20L, 20L));
+        when(waitPollPolicy.nextPollDelayMs(anyLong(), any())).thenReturn(5_000L);
+        long before = System.currentTimeMillis();
+
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+
+        ArgumentCaptor<Long> nextPollAt = ArgumentCaptor.forClass(Long.class);
+        verify(waitPollPolicy).recordIssued(eq(memberId), eq(ticketId), nextPollAt.capture());
+        assertThat(nextPollAt.getValue()).isGreaterThanOrEqualTo(before + 5_000L);
+    }
+
+    @Test
+    @DisplayName("입장 범위 밖의 사용자에게는 Redis 조회 없이 대기 순서만 보낸다")
+    void it_sends_position_without_recheck_when_out_of_range() {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(false, 20L, 20L));
+        when(waitOrderService.reachedPassRange(20L, 5L)).thenReturn(false);
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+
+        waitOrderStreamService.notifyPassOrderChanged(ticketId, 5L);
+
+        verify(waitOrderService, times(1)).getWaitOrder(anyLong(), anyLong(), any());
+        assertThat(waitOrderStreamService.countStreams(ticketId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상대 대기 순서가 충분히 줄지 않았다면 대기 순서를 보내지 않는다")
+    void it_skips_position_when_not_moved_enough() {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(false, 100L, 100L));
+        when(waitOrderService.reachedPassRange(eq(100L), anyLong())).thenReturn(false);
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+
+        assertThat(waitOrderStreamService.notifyPassOrderChanged(ticketId, 10L)).isZero();
+        assertThat(waitOrderStreamService.notifyPassOrderChanged(ticketId, 50L)).isEqualTo(1);
+        assertThat(waitOrderStreamService.notifyPassOrderChanged(ticketId, 60L)).isZero();
+    }
+
+    @Test
+    @DisplayName("입장 범위에 들어온 사용자는 통과 여부를 다시 확인하고 통과하면 연결을 종료한다")
+    void it_admits_user_when_in_range() {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(false, 20L, 20L));
+        when(waitOrderService.reachedPassRange(20L, 20L)).thenReturn(true);
+        when(waitOrderService.getWaitOrder(ticketId, memberId, 20L))
+                .thenReturn(new WaitOrderResponse(true, 0L, 20L));
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+
+        waitOrderStreamService.notifyPassOrderChanged(ticketId, 20L);
+
+        verify(waitOrderService).getWaitOrder(ticketId, memberId, 20L);
+        assertThat(waitOrderStreamService.countStreams(ticketId)).isZero();
+    }
+
+    @Test
+    @DisplayName("범위를 지나쳐 새 대기 순서를 받은 사용자는 새 순서로 계속 대기한다")
+    void it_keeps_waiting_with_new_wait_order() {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(false, 20L, 20L));
+        when(waitOrderService.reachedPassRange(20L, 30L)).thenReturn(true);
+        when(waitOrderService.getWaitOrder(ticketId, memberId, 20L))
+                .thenReturn(new WaitOrderResponse(false, 10L, 40L));
+        when(waitOrderService.reachedPassRange(40L, 35L)).thenReturn(false);
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+
+        waitOrderStreamService.notifyPassOrderChanged(ticketId, 30L);
+        waitOrderStreamService.notifyPassOrderChanged(ticketId, 35L);
+
+        assertThat(waitOrderStreamService.countStreams(ticketId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고가 없어 통과할 수 없으면 연결을 종료한다")
+    void it_completes_stream_when_no_stock() {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(false, 20L, 20L));
+        when(waitOrderService.reachedPassRange(20L, 20L)).thenReturn(true);
+        when(waitOrderService.getWaitOrder(ticketId, memberId, 20L))
+                .thenThrow(new ApiException(WaitErrorCode.NO_STOCK));
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+
+        waitOrderStreamService.notifyPassOrderChanged(ticketId, 20L);
+
+        assertThat(waitOrderStreamService.countStreams(ticketId)).isZero();
+    }
+
+    @Test
+    @DisplayName("연결된 사용자에게 스케줄러 스레드가 아닌 전달 스레드에서 연결 유지 주석을 보내고 마지막 조회 시각을 기록한다")
+    void it_records_heartbeat_for_connected_users() throws InterruptedException {
+        when(waitOrderService.getWaitOrder(ticketId, memberId, null))
+                .thenReturn(new WaitOrderResponse(false, 20L, 20L));
+        waitOrderStreamService.subscribe(ticketId, memberId, null);
+        AtomicReference<Thread> recordedThread = new AtomicReference<>();
+        CountDownLatch recorded = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            recordedThread.set(Thread.currentThread());
+            recorded.countDown();
+            return null;
+        }).when(waiterHeartbeatService).record(ticketId, memberId);
+
+        waitOrderStreamService.sendHeartbeats();
+
+        assertThat(recorded.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(recordedThread.get()).isNotEqualTo(Thread.currentThread());
+        assertThat(waitOrderStreamService.countStreams(ticketId)).isEqualTo(1);
+    }
+}
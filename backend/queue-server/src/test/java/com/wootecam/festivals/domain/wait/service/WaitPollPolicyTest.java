@@ -0,0 +1,106 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+import com.wootecam.festivals.domain.wait.dto.WaitEstimate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitPollPolicy 클래스")
+class WaitPollPolicyTest {
+
+    private static final long ADVANCE_INTERVAL_MS = 500L;
+    private static final long PASS_CHUNK_SIZE = 100L;
+    private static final long MIN_INTERVAL_MS = 1_000L;
+    private static final long MAX_INTERVAL_MS = 30_000L;
+
+    @Mock
+    private AdmissionRateController admissionRateController;
+
+    private WaitPollPolicy waitPollPolicy;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(admissionRateController.currentBudget()).thenReturn(10L);
+        waitPollPolicy = new WaitPollPolicy(admissionRateController, ADVANCE_INTERVAL_MS, PASS_CHUNK_SIZE,
+                MIN_INTERVAL_MS, MAX_INTERVAL_MS, 0.2, 500L, 1_000L);
+    }
+
+    @Nested
+    @DisplayName("nextPollDelayMs 메소드는")
+    class Describe_nextPollDelayMs {
+
+        @Test
+        @DisplayName("입장 범위에 가까운 사용자에게는 최소 주기를 반환한다")
+        void it_returns_min_interval_near_pass_range() {
+            assertThat(waitPollPolicy.nextPollDelayMs(PASS_CHUNK_SIZE, null)).isEqualTo(MIN_INTERVAL_MS);
+            assertThat(waitPollPolicy.nextPollDelayMs(-5L, null)).isEqualTo(MIN_INTERVAL_MS);
+        }
+
+        @Test
+        @DisplayName("입장 속도를 추정하기 전에는 입장 크기로 구한 예상 시간의 절반을 지터와 함께 반환한다")
+        void it_returns_half_of_budget_based_time_with_jitter() {
+            // 남은 순서 100, 주기마다 10명 입장 -> 10 주기 (5초) 뒤 도달 예상, 절반인 2.5초 전후
+            long delayMs = waitPollPolicy.nextPollDelayMs(PASS_CHUNK_SIZE + 100L, null);
+
+            assertThat(delayMs).isBetween(2_000L, 3_000L);
+        }
+
+        @Test
+        @DisplayName("예상 대기 시간이 있다면 그 절반을 지터와 함께 반환한다")
+        void it_returns_half_of_estimate_with_jitter() {
+            long delayMs = waitPollPolicy.nextPollDelayMs(PASS_CHUNK_SIZE + 100L,
+                    new WaitEstimate(10_000L, 8_000L, 12_000L));
+
+            assertThat(delayMs).isBetween(4_000L, 6_000L);
+        }
+
+        @Test
+        @DisplayName("멀리 있는 사용자에게는 최대 주기를 넘지 않는 시간을 반환한다")
+        void it_returns_at_most_max_interval() {
+            assertThat(waitPollPolicy.nextPollDelayMs(1_000_000L, null)).isEqualTo(MAX_INTERVAL_MS);
+        }
+    }
+
+    @Nested
+    @DisplayName("isTooEarly 메소드는")
+    class Describe_isTooEarly {
+
+        @Test
+        @DisplayName("허용 오차를 넘어 이르게 도착한 조회만 거절한다")
+        void it_rejects_only_polls_earlier_than_tolerance() {
+            assertThat(waitPollPolicy.isTooEarly(10_000L, 9_000L)).isTrue();
+            assertThat(waitPollPolicy.isTooEarly(10_000L, 9_600L)).isFalse();
+            assertThat(waitPollPolicy.isTooEarly(0L, 9_600L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("allowedPollAtMillis 메소드는")
+    class Describe_allowedPollAtMillis {
+
+        @Test
+        @DisplayName("기록이 없다면 토큰에 담긴 시각을 반환한다")
+        void it_returns_token_time_without_record() {
+            assertThat(waitPollPolicy.allowedPollAtMillis(1L, 1L, 5_000L)).isEqualTo(5_000L);
+        }
+
+        @Test
+        @DisplayName("이전 토큰을 보내면 가장 최근에 안내한 시각을 반환한다")
+        void it_returns_latest_issued_time_for_older_token() {
+            waitPollPolicy.recordIssued(1L, 1L, 5_000L);
+            waitPollPolicy.recordIssued(1L, 1L, 10_000L);
+
+            assertThat(waitPollPolicy.allowedPollAtMillis(1L, 1L, 5_000L)).isEqualTo(10_000L);
+            assertThat(waitPollPolicy.allowedPollAtMillis(1L, 1L, 0L)).isEqualTo(10_000L);
+            assertThat(waitPollPolicy.allowedPollAtMillis(2L, 1L, 0L)).isZero();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wootecam.festivals.domain.ticket.entity.TicketInfo;
+import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitTicketCache 클래스")
+class WaitTicketCacheTest {
+
+    private final Long ticketId = 1L;
+
+    @Mock
+    private TicketInfoRedisRepository ticketInfoRedisRepository;
+    @Mock
+    private PassOrderRedisRepository passOrderRedisRepository;
+    @Mock
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    private WaitTicketCache waitTicketCache;
+
+    @BeforeEach
+    void setUp() {
+        waitTicketCache = new WaitTicketCache(ticketInfoRedisRepository, passOrderRedisRepository,
+                ticketStockCountRedisRepository, 60_000L, 60_000L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 Redis 를 다시 조회하지 않는다")
+    void it_reads_redis_once_within_ttl() {
+        TicketInfo ticketInfo = new TicketInfo(LocalDateTime.now(), LocalDateTime.now().plusHours(1));
+        when(ticketInfoRedisRepository.getTicketInfo(ticketId)).thenReturn(ticketInfo);
+        when(passOrderRedisRepository.get(ticketId)).thenReturn(5L);
+        when(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).thenReturn(10L);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(waitTicketCache.getTicketInfo(ticketId)).isEqualTo(ticketInfo);
+            assertThat(waitTicketCache.getPassOrder(ticketId)).isEqualTo(5L);
+            assertThat(waitTicketCache.getStockCount(ticketId)).isEqualTo(10L);
+        }
+
+        verify(ticketInfoRedisRepository, times(1)).getTicketInfo(ticketId);
+        verify(passOrderRedisRepository, times(1)).get(ticketId);
+        verify(ticketStockCountRedisRepository, times(1)).getTicketStockCount(ticketId);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 티켓 정보와 재고는 캐시하지 않는다")
+    void it_does_not_cache_missing_values() {
+        waitTicketCache.getTicketInfo(ticketId);
+        waitTicketCache.getTicketInfo(ticketId);
+
+        assertThat(waitTicketCache.getStockCount(ticketId)).isZero();
+        assertThat(waitTicketCache.getStockCount(ticketId)).isZero();
+        verify(ticketInfoRedisRepository, times(2)).getTicketInfo(ticketId);
+        verify(ticketStockCountRedisRepository, times(2)).getTicketStockCount(ticketId);
+    }
+
+    @Test
+    @DisplayName("입장 순서 변경 메시지를 받으면 Redis 조회 없이 새 값을 사용한다")
+    void it_updates_pass_order_from_message() {
+        waitTicketCache.onMessage(message(PassOrderRedisRepository.CHANNEL_PREFIX + ticketId, "15"), null);
+
+        assertThat(waitTicketCache.getPassOrder(ticketId)).isEqualTo(15L);
+        verify(passOrderRedisRepository, never()).get(ticketId);
+    }
+
+    @Test
+    @DisplayName("티켓 정보 변경 메시지를 받으면 캐시를 무효화한다")
+    void it_invalidates_ticket_info_from_message() {
+        when(ticketInfoRedisRepository.getTicketInfo(ticketId))
+                .thenReturn(new TicketInfo(LocalDateTime.now(), LocalDateTime.now().plusHours(1)));
+        waitTicketCache.getTicketInfo(ticketId);
+
+        waitTicketCache.onMessage(message(TicketInfoRedisRepository.CHANGE_CHANNEL_PREFIX + ticketId, "1"), null);
+        waitTicketCache.getTicketInfo(ticketId);
+
+        verify(ticketInfoRedisRepository, times(2)).getTicketInfo(ticketId);
+    }
+
+    private DefaultMessage message(String channel, String body) {
+        return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -16,7 +16,10 @@ const TicketPurchasePage = () => {
     useEffect(() => {
         const checkPurchaseAvailability = async () => {
             try {
-                const response = await apiClient.get(`/festivals/${festivalId}/tickets/${ticketId}/purchase/check`);
+                // 저장된 토큰이 없다면 파라미터를 보내지 않음 (빈 값을 보내면 서버가 토큰 형식 오류로 응답)
+                const waitToken = localStorage.getItem(`waitToken_${ticketId}`);
+                const response = await apiClient.get(`/festivals/${festivalId}/tickets/${ticketId}/purchase/check`,
+                    { params: waitToken ? { waitToken } : {} });
                 if (!response.data.data.purchasable) {
                     setError('현재 이 티켓은 구매할 수 없습니다.');
                     return;
@@ -11,58 +11,76 @@ const TicketQueuePage = () => {
     const navigate = useNavigate();
     const [waitOrders, setWaitOrders] = useRecoilState(waitOrdersState);
     const [relativeWaitOrder, setRelativeWaitOrder] = useState(null);
+    const [estimate, setEstimate] = useState(null);
     const [error, setError] = useState(null);
     const [isSoldOut, setIsSoldOut] = useState(false);
 
     // 로컬 스토리지 키 생성 함수
-    const getStorageKey = useCallback((ticketId) => `waitOrder_${ticketId}`, []);
+    const getStorageKey = useCallback((ticketId) => `waitToken_${ticketId}`, []);
 
-    // 로컬 스토리지에서 대기 순서를 가져오는 함수
-    const getWaitOrder = useCallback((ticketId) => {
+    // 로컬 스토리지에서 대기 순서가 담긴 토큰을 가져오는 함수
+    const getWaitToken = useCallback((ticketId) => {
         const key = getStorageKey(ticketId);
         return localStorage.getItem(key);
     }, [getStorageKey]);
 
-    // 로컬 스토리지에 대기 순서를 설정하는 함수
-    const setWaitOrder = useCallback((ticketId, order) => {
+    // 로컬 스토리지에 서버가 발급한 토큰을 설정하는 함수
+    const setWaitToken = useCallback((ticketId, token) => {
         const key = getStorageKey(ticketId);
-        localStorage.setItem(key, order);
+        localStorage.setItem(key, token);
     }, [getStorageKey]);
 
     const checkQueueStatus = useCallback(async () => {
         try {
             const url = `/festivals/${festivalId}/tickets/${ticketId}/purchase/wait`;
-            const currentWaitOrder = getWaitOrder(ticketId);
-            const fullUrl = currentWaitOrder ? `${url}?waitOrder=${currentWaitOrder}` : url;
+            const currentWaitToken = getWaitToken(ticketId);
+            const fullUrl = currentWaitToken ? `${url}?waitToken=${encodeURIComponent(currentWaitToken)}` : url;
 
             const response = await waitClient.get(fullUrl);
-            const { purchasable, relativeWaitOrder, absoluteWaitOrder } = response.data.data;
+            const { purchasable, relativeWaitOrder, waitToken, nextPollDelayMs, estimate } = response.data.data;
 
             console.log('대기열 상태:', response.data.data);
 
             setRelativeWaitOrder(relativeWaitOrder);
-
-            if (!currentWaitOrder) {
-                setWaitOrder(ticketId, absoluteWaitOrder);
-            }
+            setEstimate(estimate);
+            // 서버가 매 응답마다 새 토큰을 발급하므로 항상 갱신 (통과 시 구매 페이지에서 사용)
+            setWaitToken(ticketId, waitToken);
 
             if (purchasable) {
                 navigate(`/festivals/${festivalId}/tickets/${ticketId}/purchase`);
+                return null;
             }
+            // 서버가 안내한 시간 뒤에 다시 조회
+            return nextPollDelayMs;
         } catch (err) {
+            if (err.response && err.response.data.errorCode === 'WT-0008') {
+                // 너무 이르게 조회한 경우 Retry-After 만큼 기다린 뒤 다시 조회
+                return Number(err.response.headers['retry-after'] || 1) * 1000;
+            }
             if (err.response && err.response.data.errorCode === 'WT-0005') {
                 setIsSoldOut(true);
             } else {
                 setError('대기열 상태 확인 중 오류가 발생했습니다.');
                 console.error('대기열 상태 확인 오류:', err);
+                return 3000;
             }
         }
-    }, [festivalId, ticketId, navigate, getWaitOrder, setWaitOrder]);
+    }, [festivalId, ticketId, navigate, getWaitToken, setWaitToken]);
 
     useEffect(() => {
-        checkQueueStatus();
-        const intervalId = setInterval(checkQueueStatus, 3000);
-        return () => clearInterval(intervalId);
+        let timeoutId;
+        let cancelled = false;
+        const poll = async () => {
+            const delay = await checkQueueStatus();
+            if (!cancelled && delay != null) {
+                timeoutId = setTimeout(poll, delay);
+            }
+        };
+        poll();
+        return () => {
+            cancelled = true;
+            clearTimeout(timeoutId);
+        };
     }, [checkQueueStatus]);
 
     useEffect(() => {
@@ -110,6 +128,12 @@ const TicketQueuePage = () => {
                 {relativeWaitOrder !== null ? (
                     <>
                         <p className="text-lg mb-4">대기 순서: {relativeWaitOrder}번째</p>
+                        {estimate && (
+                            <p className="mb-4 text-gray-600">
+                                예상 대기 시간: 약 {Math.ceil(estimate.expectedMs / 60000)}분
+                                ({Math.ceil(estimate.minMs / 60000)}~{Math.ceil(estimate.maxMs / 60000)}분)
+                            </p>
+                        )}
                         <div className="w-full bg-gray-200 rounded-full h-2.5 dark:bg-gray-700">
                             <div
                                 className="bg-teal-600 h-2.5 rounded-full"